@@ -3,6 +3,9 @@ plugins {
     id("org.springframework.boot") version "3.2.2"
     id("io.spring.dependency-management") version "1.1.4"
     id("com.gorylenko.gradle-git-properties") version "2.4.1"
+    id("com.google.protobuf") version "0.9.4"
+    id("me.champeau.jmh") version "0.7.2"
+    id("org.graalvm.buildtools.native") version "0.9.28" apply false
 }
 
 group = "com.retailer"
@@ -18,6 +21,16 @@ repositories {
     mavenCentral()
 }
 
+// -Paot applies the GraalVM plugin, which makes Spring Boot run AOT processing for bootJar and enables nativeCompile
+val aotEnabled = providers.gradleProperty("aot").isPresent
+
+if (aotEnabled) {
+    apply(plugin = "org.graalvm.buildtools.native")
+}
+
+val protobufVersion = "3.25.1"
+val grpcVersion = "1.60.1"
+
 dependencies {
     // Spring Boot Starters
     implementation("org.springframework.boot:spring-boot-starter-web")
@@ -25,6 +38,17 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-actuator")
 
+    // Binary wire formats
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
+    implementation("com.google.protobuf:protobuf-java:$protobufVersion")
+
+    // gRPC
+    implementation("io.grpc:grpc-netty-shaded:$grpcVersion")
+    implementation("io.grpc:grpc-protobuf:$grpcVersion")
+    implementation("io.grpc:grpc-stub:$grpcVersion")
+    compileOnly("org.apache.tomcat:annotations-api:6.0.53")
+
     // OpenAPI / Swagger
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.3.0")
 
@@ -41,7 +65,15 @@ dependencies {
     implementation("org.flywaydb:flyway-core:10.7.1")
     runtimeOnly("org.flywaydb:flyway-database-postgresql:10.7.1")
 
+    // API payloads, shared with the reactive service
+    implementation(project(":sku-api"))
+
+    // Catalog snapshot format, shared with store-side readers
+    implementation(project(":catalog-snapshot"))
+
     // Utilities
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("org.crac:crac:1.4.0")
     compileOnly("org.projectlombok:lombok")
     annotationProcessor("org.projectlombok:lombok")
     implementation("org.mapstruct:mapstruct:1.5.5.Final")
@@ -52,13 +84,75 @@ dependencies {
     testImplementation("org.springframework.boot:spring-boot-testcontainers")
     testImplementation("org.testcontainers:junit-jupiter")
     testImplementation("org.testcontainers:postgresql")
+    testImplementation("io.grpc:grpc-inprocess:$grpcVersion")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
+protobuf {
+    protoc {
+        artifact = "com.google.protobuf:protoc:$protobufVersion"
+    }
+    plugins {
+        create("grpc") {
+            artifact = "io.grpc:protoc-gen-grpc-java:$grpcVersion"
+        }
+    }
+    generateProtoTasks {
+        all().forEach {
+            it.plugins {
+                create("grpc")
+            }
+        }
+    }
+}
+
+jmh {
+    warmupIterations = 2
+    iterations = 5
+    fork = 1
+}
+
 tasks.withType<Test> {
     useJUnitPlatform()
 }
 
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("startup")
+    }
+}
+
+tasks.register<Test>("startupTest") {
+    description = "Measures time-to-first-request for the images given as -PstartupImages=mode=image,..."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("startup")
+    }
+    systemProperty("startup.images", providers.gradleProperty("startupImages").getOrElse(""))
+    outputs.upToDateWhen { false }
+}
+
+tasks.register<JavaExec>("analyzeRecording") {
+    description = "Summarizes SKU operation events per operation in the flight recording given as -Precording=<file.jfr>"
+    group = "application"
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass = "com.retailer.sku.jfr.RecordingAnalyzer"
+    args(providers.gradleProperty("recording").getOrElse(""))
+}
+
+plugins.withId("org.graalvm.buildtools.native") {
+    configure<org.graalvm.buildtools.gradle.dsl.GraalVMExtension> {
+        metadataRepository {
+            enabled.set(true)
+        }
+        binaries.named("main") {
+            imageName.set("sku-service")
+        }
+    }
+}
+
 tasks.register<Exec>("generateOpenApiSpec") {
     dependsOn("bootRun")
     commandLine("curl", "-o", "docs/openapi/openapi.json",
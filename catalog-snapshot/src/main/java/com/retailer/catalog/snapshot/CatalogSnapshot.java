@@ -0,0 +1,238 @@
+package com.retailer.catalog.snapshot;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+import static com.retailer.catalog.snapshot.SnapshotFormat.*;
+
+/**
+ * Read-only view of a catalog snapshot file. The file is memory-mapped and lookups binary-search the key
+ * indexes in place, so opening is independent of catalog size and nothing is copied onto the heap until a
+ * field is read. Instances are safe for concurrent use.
+ *
+ * <p>The mappings are released when the instance is garbage collected; the JDK has no explicit unmap.
+ */
+public final class CatalogSnapshot {
+
+    private final Path file;
+    private final int formatVersion;
+    private final int recordCount;
+    private final int upcCount;
+    private final long createdAt;
+    private final long catalogVersion;
+    private final int[] checksums;
+    private final ByteBuffer records;
+    private final ByteBuffer skuCodes;
+    private final ByteBuffer upcs;
+    private final ByteBuffer heap;
+
+    private CatalogSnapshot(Path file, FileChannel channel) throws IOException {
+        this.file = file;
+        long size = channel.size();
+        if (size < HEADER_BYTES) {
+            throw new IOException(file + " is too short to be a catalog snapshot");
+        }
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+        if (header.getLong(MAGIC_AT) != MAGIC) {
+            throw new IOException(file + " is not a catalog snapshot");
+        }
+        formatVersion = header.getInt(VERSION_AT);
+        if (formatVersion != VERSION || header.getInt(RECORD_BYTES_AT) != RECORD_BYTES) {
+            throw new IOException(file + " uses snapshot format " + formatVersion + ", this reader supports " + VERSION);
+        }
+        recordCount = header.getInt(RECORD_COUNT_AT);
+        upcCount = header.getInt(UPC_COUNT_AT);
+        createdAt = header.getLong(CREATED_AT);
+        catalogVersion = header.getLong(CATALOG_VERSION_AT);
+        long heapBytes = header.getLong(HEAP_BYTES_AT);
+        checksums = new int[]{header.getInt(RECORDS_CRC_AT), header.getInt(SKU_CODES_CRC_AT),
+                header.getInt(UPCS_CRC_AT), header.getInt(HEAP_CRC_AT)};
+        if (recordCount < 0 || upcCount < 0 || heapBytes < 0 || heapBytes > Integer.MAX_VALUE
+                || heapAt(recordCount, upcCount) + heapBytes != size) {
+            throw new IOException(file + " is truncated or has an inconsistent header");
+        }
+
+        records = map(channel, recordsAt(), (long) recordCount * RECORD_BYTES);
+        skuCodes = map(channel, skuCodesAt(recordCount), (long) recordCount * Integer.BYTES);
+        upcs = map(channel, upcsAt(recordCount), (long) upcCount * Integer.BYTES);
+        heap = map(channel, heapAt(recordCount, upcCount), heapBytes);
+    }
+
+    public static CatalogSnapshot open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new CatalogSnapshot(file, channel);
+        }
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    public int formatVersion() {
+        return formatVersion;
+    }
+
+    public int size() {
+        return recordCount;
+    }
+
+    public int upcCount() {
+        return upcCount;
+    }
+
+    public Instant createdAt() {
+        return Instant.ofEpochMilli(createdAt);
+    }
+
+    public long catalogVersion() {
+        return catalogVersion;
+    }
+
+    /**
+     * Identifies the snapshot by its content: snapshots written from the same catalog on different hosts or at
+     * different times share it. Only the header's write time is not covered.
+     */
+    public String contentId() {
+        return String.format("%d-%x-%08x%08x%08x%08x", formatVersion, catalogVersion, checksums[0], checksums[1],
+                checksums[2], checksums[3]);
+    }
+
+    public Optional<SnapshotRecord> findByUpc(String upc) {
+        int index = indexOfUpc(upc);
+        return index < 0 ? Optional.empty() : Optional.of(record(index));
+    }
+
+    public Optional<SnapshotRecord> findBySkuCode(String skuCode) {
+        int index = indexOfSkuCode(skuCode);
+        return index < 0 ? Optional.empty() : Optional.of(record(index));
+    }
+
+    /**
+     * Record index for a UPC, or -1 if the snapshot does not contain it.
+     */
+    public int indexOfUpc(String upc) {
+        byte[] key = upc.getBytes(StandardCharsets.US_ASCII);
+        int low = 0;
+        int high = upcCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int index = upcs.getInt(middle * Integer.BYTES);
+            int position = index * RECORD_BYTES + UPC_AT;
+            int comparison = compare(records, position, upcLength(position), key);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Record index for a SKU code, or -1 if the snapshot does not contain it.
+     */
+    public int indexOfSkuCode(String skuCode) {
+        byte[] key = skuCode.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = recordCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int index = skuCodes.getInt(middle * Integer.BYTES);
+            int offset = records.getInt(index * RECORD_BYTES + SKU_CODE_AT);
+            int comparison = compare(heap, offset + Short.BYTES, Short.toUnsignedInt(heap.getShort(offset)), key);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    public SnapshotRecord record(int index) {
+        if (index < 0 || index >= recordCount) {
+            throw new IndexOutOfBoundsException("Record " + index + " of " + recordCount);
+        }
+        return new SnapshotRecord(this, index);
+    }
+
+    /**
+     * Recomputes the section checksums written by the producer; reads the whole file.
+     */
+    public void verify() throws IOException {
+        ByteBuffer[] sections = {records, skuCodes, upcs, heap};
+        String[] names = {"records", "SKU code index", "UPC index", "string heap"};
+        for (int i = 0; i < sections.length; i++) {
+            CRC32C crc = new CRC32C();
+            crc.update(sections[i].duplicate().clear());
+            if ((int) crc.getValue() != checksums[i]) {
+                throw new IOException(file + " is corrupt: " + names[i] + " checksum mismatch");
+            }
+        }
+    }
+
+    UUID id(int index) {
+        int position = index * RECORD_BYTES + ID_AT;
+        return new UUID(records.getLong(position), records.getLong(position + Long.BYTES));
+    }
+
+    String upc(int index) {
+        int position = index * RECORD_BYTES + UPC_AT;
+        int length = upcLength(position);
+        if (length == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        records.get(position, bytes);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    String string(int index, int field) {
+        int offset = records.getInt(index * RECORD_BYTES + field);
+        if (offset == NO_STRING) {
+            return null;
+        }
+        byte[] bytes = new byte[Short.toUnsignedInt(heap.getShort(offset))];
+        heap.get(offset + Short.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    BigDecimal price(int index) {
+        long unscaled = records.getLong(index * RECORD_BYTES + PRICE_AT);
+        return unscaled == NO_PRICE ? null : BigDecimal.valueOf(unscaled, PRICE_SCALE);
+    }
+
+    Instant updatedAt(int index) {
+        long millis = records.getLong(index * RECORD_BYTES + UPDATED_AT);
+        return millis == 0 ? null : Instant.ofEpochMilli(millis);
+    }
+
+    private int upcLength(int position) {
+        int length = 0;
+        while (length < UPC_BYTES && records.get(position + length) != 0) {
+            length++;
+        }
+        return length;
+    }
+
+    private static ByteBuffer map(FileChannel channel, long position, long length) throws IOException {
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot section of " + length + " bytes exceeds 2 GiB");
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+    }
+}
@@ -0,0 +1,264 @@
+package com.retailer.catalog.snapshot;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+import static com.retailer.catalog.snapshot.SnapshotFormat.*;
+
+/**
+ * Streams a snapshot to disk in one pass: every section has a fixed position once the record and UPC counts
+ * are known, so records, both key indexes and the string heap are written as they arrive, with nothing but
+ * write buffers held in memory. Index entries must be appended in ascending key order.
+ * The file only appears under its final name once {@link #commit(long)} succeeds.
+ */
+public final class CatalogSnapshotWriter implements Closeable {
+
+    private static final int BUFFER_BYTES = 1 << 20;
+    private static final int MAX_INTERNED = 1 << 16;
+
+    private final Path target;
+    private final Path temp;
+    private final FileChannel channel;
+    private final int recordCount;
+    private final int upcCount;
+    private final Section records;
+    private final Section skuCodes;
+    private final Section upcs;
+    private final Section heap;
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_BYTES);
+    // Brands, categories and statuses repeat across the catalog; each distinct value is stored once
+    private final Map<String, Integer> interned = new HashMap<>();
+
+    private int appended;
+    private int skuCodesWritten;
+    private int upcsWritten;
+    private byte[] previousSkuCode;
+    private byte[] previousUpc;
+    private boolean committed;
+
+    private CatalogSnapshotWriter(Path target, int recordCount, int upcCount) throws IOException {
+        if (recordCount < 0 || upcCount < 0 || upcCount > recordCount) {
+            throw new IllegalArgumentException("Invalid counts: " + recordCount + " records, " + upcCount + " UPCs");
+        }
+        if ((long) recordCount * RECORD_BYTES > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(recordCount + " records exceed the 2 GiB record area");
+        }
+        this.target = target;
+        this.temp = target.resolveSibling(target.getFileName() + ".tmp");
+        this.channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        this.recordCount = recordCount;
+        this.upcCount = upcCount;
+        this.records = new Section(channel, recordsAt());
+        this.skuCodes = new Section(channel, skuCodesAt(recordCount));
+        this.upcs = new Section(channel, upcsAt(recordCount));
+        this.heap = new Section(channel, heapAt(recordCount, upcCount));
+    }
+
+    public static CatalogSnapshotWriter create(Path target, int recordCount, int upcCount) throws IOException {
+        return new CatalogSnapshotWriter(target, recordCount, upcCount);
+    }
+
+    /**
+     * Appends a SKU and returns its record index.
+     */
+    public int append(UUID id, String upc, String skuCode, String name, String brand, String category,
+                      String status, BigDecimal price, Instant updatedAt) throws IOException {
+        if (appended == recordCount) {
+            throw new IllegalStateException("Snapshot was sized for " + recordCount + " records");
+        }
+        Arrays.fill(record.array(), (byte) 0);
+        record.putLong(ID_AT, id.getMostSignificantBits());
+        record.putLong(ID_AT + 8, id.getLeastSignificantBits());
+        if (upc != null) {
+            record.put(UPC_AT, upcBytes(upc));
+        }
+        record.putInt(SKU_CODE_AT, string(skuCode, false));
+        record.putInt(NAME_AT, string(name, false));
+        record.putInt(BRAND_AT, string(brand, true));
+        record.putInt(CATEGORY_AT, string(category, true));
+        record.putInt(STATUS_AT, string(status, true));
+        record.putLong(PRICE_AT, price == null ? NO_PRICE
+                : price.setScale(PRICE_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+        record.putLong(UPDATED_AT, updatedAt == null ? 0 : updatedAt.toEpochMilli());
+        records.put(record.array());
+        return appended++;
+    }
+
+    public void appendSkuCodeIndex(String skuCode, int recordIndex) throws IOException {
+        byte[] key = skuCode.getBytes(StandardCharsets.UTF_8);
+        checkIndexEntry(previousSkuCode, key, recordIndex, skuCodesWritten, recordCount, "SKU code " + skuCode);
+        previousSkuCode = key;
+        skuCodes.putInt(recordIndex);
+        skuCodesWritten++;
+    }
+
+    public void appendUpcIndex(String upc, int recordIndex) throws IOException {
+        byte[] key = upcBytes(upc);
+        checkIndexEntry(previousUpc, key, recordIndex, upcsWritten, upcCount, "UPC " + upc);
+        previousUpc = key;
+        upcs.putInt(recordIndex);
+        upcsWritten++;
+    }
+
+    /**
+     * Writes the header, syncs the file and moves it into place.
+     */
+    public Path commit(long catalogVersion) throws IOException {
+        if (appended != recordCount || skuCodesWritten != recordCount || upcsWritten != upcCount) {
+            throw new IllegalStateException("Incomplete snapshot: " + appended + "/" + recordCount + " records, "
+                    + skuCodesWritten + "/" + recordCount + " SKU codes, " + upcsWritten + "/" + upcCount + " UPCs");
+        }
+        records.flush();
+        skuCodes.flush();
+        upcs.flush();
+        heap.flush();
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putLong(MAGIC_AT, MAGIC);
+        header.putInt(VERSION_AT, VERSION);
+        header.putInt(RECORD_BYTES_AT, RECORD_BYTES);
+        header.putInt(RECORD_COUNT_AT, recordCount);
+        header.putInt(UPC_COUNT_AT, upcCount);
+        header.putLong(CREATED_AT, System.currentTimeMillis());
+        header.putLong(CATALOG_VERSION_AT, catalogVersion);
+        header.putLong(HEAP_BYTES_AT, heap.written);
+        header.putInt(RECORDS_CRC_AT, (int) records.crc.getValue());
+        header.putInt(SKU_CODES_CRC_AT, (int) skuCodes.crc.getValue());
+        header.putInt(UPCS_CRC_AT, (int) upcs.crc.getValue());
+        header.putInt(HEAP_CRC_AT, (int) heap.crc.getValue());
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+        channel.force(true);
+        channel.close();
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        committed = true;
+        return target;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!committed) {
+            channel.close();
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static byte[] upcBytes(String upc) {
+        if (upc.isEmpty() || upc.length() > UPC_BYTES || !upc.chars().allMatch(c -> c > 0 && c < 0x80)) {
+            throw new IllegalArgumentException("UPC must be 1 to " + UPC_BYTES + " ASCII characters: " + upc);
+        }
+        return upc.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private void checkIndexEntry(byte[] previous, byte[] key, int recordIndex, int written, int capacity,
+                                 String description) {
+        if (written == capacity) {
+            throw new IllegalStateException("Index was sized for " + capacity + " entries");
+        }
+        if (recordIndex < 0 || recordIndex >= recordCount) {
+            throw new IllegalArgumentException("Record index " + recordIndex + " out of range for " + description);
+        }
+        if (previous != null && compare(previous, key) >= 0) {
+            throw new IllegalArgumentException(description + " is not in ascending unsigned byte order");
+        }
+    }
+
+    private int string(String value, boolean intern) throws IOException {
+        if (value == null) {
+            return NO_STRING;
+        }
+        if (intern) {
+            Integer offset = interned.get(value);
+            if (offset != null) {
+                return offset;
+            }
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_BYTES) {
+            throw new IllegalArgumentException("String of " + bytes.length + " bytes exceeds the snapshot limit");
+        }
+        if (heap.written + 2 + bytes.length > Integer.MAX_VALUE) {
+            throw new IllegalStateException("String heap exceeds 2 GiB");
+        }
+        int offset = (int) heap.written;
+        heap.putShort(bytes.length);
+        heap.put(bytes);
+        if (intern && interned.size() < MAX_INTERNED) {
+            interned.put(value, offset);
+        }
+        return offset;
+    }
+
+    private static final class Section {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+        private final CRC32C crc = new CRC32C();
+        private long position;
+        private long written;
+
+        Section(FileChannel channel, long position) {
+            this.channel = channel;
+            this.position = position;
+        }
+
+        void putInt(int value) throws IOException {
+            ensure(Integer.BYTES);
+            buffer.putInt(value);
+            written += Integer.BYTES;
+        }
+
+        void putShort(int value) throws IOException {
+            ensure(Short.BYTES);
+            buffer.putShort((short) value);
+            written += Short.BYTES;
+        }
+
+        void put(byte[] bytes) throws IOException {
+            if (bytes.length > buffer.capacity()) {
+                flush();
+                write(ByteBuffer.wrap(bytes));
+            } else {
+                ensure(bytes.length);
+                buffer.put(bytes);
+            }
+            written += bytes.length;
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            write(buffer);
+            buffer.clear();
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        private void write(ByteBuffer source) throws IOException {
+            crc.update(source.duplicate());
+            while (source.hasRemaining()) {
+                position += channel.write(source, position);
+            }
+        }
+    }
+}
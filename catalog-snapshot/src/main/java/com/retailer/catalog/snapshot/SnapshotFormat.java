@@ -0,0 +1,90 @@
+package com.retailer.catalog.snapshot;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Layout of a catalog snapshot file. All integers are big-endian.
+ *
+ * <pre>
+ * header      HEADER_BYTES, see the *_AT offsets below
+ * records     recordCount x RECORD_BYTES, fixed width, in skuCode order
+ * skuCodes    recordCount x int record index, sorted by skuCode
+ * upcs        upcCount x int record index, sorted by UPC
+ * heap        strings as unsigned short length + UTF-8 bytes, referenced by int offset (-1 for null)
+ * </pre>
+ *
+ * Keys compare as unsigned bytes, which is the order of Postgres' "C" collation.
+ */
+final class SnapshotFormat {
+
+    static final long MAGIC = 0x534B55534E415031L; // "SKUSNAP1"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 128;
+
+    static final int MAGIC_AT = 0;
+    static final int VERSION_AT = 8;
+    static final int RECORD_BYTES_AT = 12;
+    static final int RECORD_COUNT_AT = 16;
+    static final int UPC_COUNT_AT = 20;
+    static final int CREATED_AT = 24;
+    static final int CATALOG_VERSION_AT = 32;
+    static final int HEAP_BYTES_AT = 40;
+    static final int RECORDS_CRC_AT = 48;
+    static final int SKU_CODES_CRC_AT = 52;
+    static final int UPCS_CRC_AT = 56;
+    static final int HEAP_CRC_AT = 60;
+
+    static final int RECORD_BYTES = 64;
+    static final int ID_AT = 0;
+    static final int UPC_AT = 16;
+    static final int UPC_BYTES = 12;
+    static final int SKU_CODE_AT = 28;
+    static final int NAME_AT = 32;
+    static final int BRAND_AT = 36;
+    static final int CATEGORY_AT = 40;
+    static final int STATUS_AT = 44;
+    static final int PRICE_AT = 48;
+    static final int UPDATED_AT = 56;
+
+    static final int NO_STRING = -1;
+    static final long NO_PRICE = Long.MIN_VALUE;
+    static final int PRICE_SCALE = 2;
+    static final int MAX_STRING_BYTES = 0xFFFF;
+
+    private SnapshotFormat() {
+    }
+
+    static long recordsAt() {
+        return HEADER_BYTES;
+    }
+
+    static long skuCodesAt(int recordCount) {
+        return recordsAt() + (long) recordCount * RECORD_BYTES;
+    }
+
+    static long upcsAt(int recordCount) {
+        return skuCodesAt(recordCount) + (long) recordCount * Integer.BYTES;
+    }
+
+    static long heapAt(int recordCount, int upcCount) {
+        return upcsAt(recordCount) + (long) upcCount * Integer.BYTES;
+    }
+
+    /**
+     * Compares {@code length} bytes at {@code position} with {@code key}, a shorter run sorting first.
+     */
+    static int compare(ByteBuffer buffer, int position, int length, byte[] key) {
+        int common = Math.min(length, key.length);
+        for (int i = 0; i < common; i++) {
+            int difference = (buffer.get(position + i) & 0xFF) - (key[i] & 0xFF);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return length - key.length;
+    }
+
+    static int compare(byte[] left, byte[] right) {
+        return compare(ByteBuffer.wrap(left), 0, left.length, right);
+    }
+}
@@ -0,0 +1,64 @@
+package com.retailer.catalog.snapshot;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Flyweight over one record of a {@link CatalogSnapshot}; each accessor decodes its field from the mapping.
+ */
+public final class SnapshotRecord {
+
+    private final CatalogSnapshot snapshot;
+    private final int index;
+
+    SnapshotRecord(CatalogSnapshot snapshot, int index) {
+        this.snapshot = snapshot;
+        this.index = index;
+    }
+
+    public int index() {
+        return index;
+    }
+
+    public UUID id() {
+        return snapshot.id(index);
+    }
+
+    public String upc() {
+        return snapshot.upc(index);
+    }
+
+    public String skuCode() {
+        return snapshot.string(index, SnapshotFormat.SKU_CODE_AT);
+    }
+
+    public String name() {
+        return snapshot.string(index, SnapshotFormat.NAME_AT);
+    }
+
+    public String brand() {
+        return snapshot.string(index, SnapshotFormat.BRAND_AT);
+    }
+
+    public String category() {
+        return snapshot.string(index, SnapshotFormat.CATEGORY_AT);
+    }
+
+    public String status() {
+        return snapshot.string(index, SnapshotFormat.STATUS_AT);
+    }
+
+    public BigDecimal price() {
+        return snapshot.price(index);
+    }
+
+    public Instant updatedAt() {
+        return snapshot.updatedAt(index);
+    }
+
+    @Override
+    public String toString() {
+        return "SnapshotRecord[" + skuCode() + ", upc=" + upc() + ", name=" + name() + "]";
+    }
+}
@@ -0,0 +1,117 @@
+package com.retailer.catalog.snapshot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CatalogSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void open_WrittenSnapshot_FindsRecordsByBothKeys() throws IOException {
+        UUID id = UUID.randomUUID();
+        Instant updatedAt = Instant.parse("2024-01-15T10:30:00Z");
+        Path file = directory.resolve("catalog.snap");
+
+        try (CatalogSnapshotWriter writer = CatalogSnapshotWriter.create(file, 3, 2)) {
+            // Records arrive in SKU code order, so the SKU code index is the record order itself
+            int first = writer.append(UUID.randomUUID(), "555000000001", "THD-HRD-0000001", "Hinge", "Acme", "HRD",
+                    "ACTIVE", new BigDecimal("3.10"), updatedAt);
+            int second = writer.append(id, "012345678901", "THD-LBR-0000001", "Stud – Kiln Dried", "WeatherShield",
+                    "LBR", "ACTIVE", new BigDecimal("8.99"), updatedAt);
+            int third = writer.append(UUID.randomUUID(), null, "THD-LBR-0000002", "Plank", null, "LBR",
+                    "DISCONTINUED", null, null);
+            writer.appendSkuCodeIndex("THD-HRD-0000001", first);
+            writer.appendSkuCodeIndex("THD-LBR-0000001", second);
+            writer.appendSkuCodeIndex("THD-LBR-0000002", third);
+            writer.appendUpcIndex("012345678901", second);
+            writer.appendUpcIndex("555000000001", first);
+            writer.commit(42L);
+        }
+
+        CatalogSnapshot snapshot = CatalogSnapshot.open(file);
+        snapshot.verify();
+
+        assertThat(snapshot.size()).isEqualTo(3);
+        assertThat(snapshot.catalogVersion()).isEqualTo(42L);
+        SnapshotRecord lumber = snapshot.findByUpc("012345678901").orElseThrow();
+        assertThat(lumber.id()).isEqualTo(id);
+        assertThat(lumber.skuCode()).isEqualTo("THD-LBR-0000001");
+        assertThat(lumber.name()).isEqualTo("Stud – Kiln Dried");
+        assertThat(lumber.price()).isEqualByComparingTo("8.99");
+        assertThat(lumber.updatedAt()).isEqualTo(updatedAt);
+
+        SnapshotRecord plank = snapshot.findBySkuCode("THD-LBR-0000002").orElseThrow();
+        assertThat(plank.upc()).isNull();
+        assertThat(plank.brand()).isNull();
+        assertThat(plank.price()).isNull();
+        assertThat(plank.status()).isEqualTo("DISCONTINUED");
+
+        assertThat(snapshot.findByUpc("01234567890")).isEmpty();
+        assertThat(snapshot.findBySkuCode("THD-LBR-0000003")).isEmpty();
+        assertThat(Files.exists(directory.resolve("catalog.snap.tmp"))).isFalse();
+    }
+
+    @Test
+    void appendUpcIndex_OutOfOrder_ThrowsException() throws IOException {
+        try (CatalogSnapshotWriter writer = CatalogSnapshotWriter.create(directory.resolve("catalog.snap"), 2, 2)) {
+            writer.appendUpcIndex("555000000001", 0);
+
+            assertThatThrownBy(() -> writer.appendUpcIndex("012345678901", 1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+        assertThat(Files.list(directory)).isEmpty();
+    }
+
+    @Test
+    void contentId_SameCatalogWrittenTwice_IsEqual() throws IOException, InterruptedException {
+        UUID id = UUID.randomUUID();
+        CatalogSnapshot first = CatalogSnapshot.open(writeSingle(directory.resolve("first.snap"), id, "Hinge"));
+        Thread.sleep(5);
+        CatalogSnapshot second = CatalogSnapshot.open(writeSingle(directory.resolve("second.snap"), id, "Hinge"));
+        CatalogSnapshot renamed = CatalogSnapshot.open(writeSingle(directory.resolve("third.snap"), id, "Door Hinge"));
+
+        assertThat(second.createdAt()).isAfter(first.createdAt());
+        assertThat(second.contentId()).isEqualTo(first.contentId());
+        assertThat(renamed.contentId()).isNotEqualTo(first.contentId());
+    }
+
+    @Test
+    void verify_CorruptedHeap_ThrowsException() throws IOException {
+        Path file = directory.resolve("catalog.snap");
+        try (CatalogSnapshotWriter writer = CatalogSnapshotWriter.create(file, 1, 0)) {
+            writer.appendSkuCodeIndex("THD-HRD-0000001", writer.append(UUID.randomUUID(), null, "THD-HRD-0000001",
+                    "Hinge", null, "HRD", "ACTIVE", BigDecimal.ONE, null));
+            writer.commit(1L);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{'X'}), channel.size() - 1);
+        }
+
+        CatalogSnapshot snapshot = CatalogSnapshot.open(file);
+
+        assertThatThrownBy(snapshot::verify).isInstanceOf(IOException.class).hasMessageContaining("string heap");
+    }
+
+    private static Path writeSingle(Path file, UUID id, String name) throws IOException {
+        try (CatalogSnapshotWriter writer = CatalogSnapshotWriter.create(file, 1, 0)) {
+            writer.appendSkuCodeIndex("THD-HRD-0000001", writer.append(id, null, "THD-HRD-0000001", name, null,
+                    "HRD", "ACTIVE", BigDecimal.ONE, null));
+            return writer.commit(1L);
+        }
+    }
+}
@@ -1 +1,6 @@
 rootProject.name = "sku-service"
+
+include("sku-api")
+include("catalog-snapshot")
+include("sku-client")
+include("sku-service-reactive")
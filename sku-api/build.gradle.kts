@@ -0,0 +1,28 @@
+plugins {
+    `java-library`
+}
+
+group = "com.retailer"
+version = "1.0.0-SNAPSHOT"
+
+// Request/response payloads and the exceptions both service stacks map to problem details, so the servlet
+// and reactive services serve the same contract
+java {
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(21)
+    }
+    withSourcesJar()
+}
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    api(platform("org.springframework.boot:spring-boot-dependencies:3.2.2"))
+    api("jakarta.validation:jakarta.validation-api")
+    api("com.fasterxml.jackson.core:jackson-annotations")
+    api("io.swagger.core.v3:swagger-annotations-jakarta:2.2.19")
+    compileOnly("org.projectlombok:lombok")
+    annotationProcessor("org.projectlombok:lombok")
+}
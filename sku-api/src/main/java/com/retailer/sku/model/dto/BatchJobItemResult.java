@@ -0,0 +1,36 @@
+package com.retailer.sku.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of a single item in a batch create job")
+public class BatchJobItemResult {
+
+    public static final String CREATED = "CREATED";
+    public static final String FAILED = "FAILED";
+    public static final String INDETERMINATE = "INDETERMINATE";
+
+    @Schema(description = "Position of the item in the submitted batch", example = "0")
+    private int index;
+
+    @Schema(description = "Outcome of the item", example = "CREATED", allowableValues = {"CREATED", "FAILED", "INDETERMINATE"})
+    private String outcome;
+
+    @Schema(description = "Internal unique identifier of the created SKU", example = "550e8400-e29b-41d4-a716-446655440000")
+    private UUID id;
+
+    @Schema(description = "External SKU code of the created SKU", example = "THD-LBR-0001234")
+    private String skuCode;
+
+    @Schema(description = "Reason the item failed", example = "SKU with UPC 012345678901 already exists")
+    private String error;
+}
@@ -0,0 +1,26 @@
+package com.retailer.sku.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request payload for an asynchronous batch create job")
+public class BatchJobRequest {
+
+    @Schema(description = "List of SKUs to create", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty(message = "At least one SKU is required")
+    @Size(max = 50000, message = "Maximum 50000 SKUs per job")
+    @Valid
+    private List<SkuRequest> skus;
+}
@@ -0,0 +1,50 @@
+package com.retailer.sku.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Status and progress of an asynchronous batch create job")
+public class BatchJobResponse {
+
+    @Schema(description = "Job identifier", example = "2f1c7a9e-8d4b-4f3e-9a61-0c5d2b7e8f10")
+    private UUID jobId;
+
+    @Schema(description = "Job status", example = "RUNNING",
+            allowableValues = {"QUEUED", "RUNNING", "COMPLETED", "COMPLETED_WITH_ERRORS", "FAILED"})
+    private String status;
+
+    @Schema(description = "Number of SKUs submitted", example = "5000")
+    private int totalItems;
+
+    @Schema(description = "Number of SKUs processed so far", example = "2500")
+    private int processedItems;
+
+    @Schema(description = "Number of SKUs created", example = "2498")
+    private int succeeded;
+
+    @Schema(description = "Number of SKUs that failed", example = "2")
+    private int failed;
+
+    @Schema(description = "Submission timestamp")
+    private Instant submittedAt;
+
+    @Schema(description = "Processing start timestamp")
+    private Instant startedAt;
+
+    @Schema(description = "Completion timestamp")
+    private Instant completedAt;
+
+    @Schema(description = "Per-item results for the items processed so far")
+    private List<BatchJobItemResult> results;
+}
@@ -0,0 +1,58 @@
+package com.retailer.sku.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Price and status change for a single SKU, addressed by id or SKU code")
+public class BulkSkuUpdateItem {
+
+    @Schema(description = "Internal SKU id (use either id or skuCode)", example = "550e8400-e29b-41d4-a716-446655440000")
+    private UUID id;
+
+    @Schema(description = "External SKU code (use either id or skuCode)", example = "THD-LBR-0001234")
+    @Size(max = 50, message = "SKU code must not exceed 50 characters")
+    private String skuCode;
+
+    @Schema(description = "New retail price", example = "8.99")
+    @DecimalMin(value = "0.0", inclusive = false, message = "Price must be positive")
+    @Digits(integer = 8, fraction = 2, message = "Price must have at most 8 integer digits and 2 decimal places")
+    private BigDecimal price;
+
+    @Schema(description = "New wholesale cost", example = "5.50")
+    @DecimalMin(value = "0.0", inclusive = false, message = "Cost must be positive")
+    @Digits(integer = 8, fraction = 2, message = "Cost must have at most 8 integer digits and 2 decimal places")
+    private BigDecimal cost;
+
+    @Schema(description = "New SKU status", example = "SEASONAL", allowableValues = {"ACTIVE", "DISCONTINUED", "SEASONAL"})
+    @Pattern(regexp = "^(ACTIVE|DISCONTINUED|SEASONAL)$", message = "Status must be ACTIVE, DISCONTINUED, or SEASONAL")
+    private String status;
+
+    @Schema(description = "Only apply the change if the SKU is still at this version", example = "3")
+    private Long expectedVersion;
+
+    @JsonIgnore
+    @Schema(hidden = true)
+    @AssertTrue(message = "Exactly one of id or skuCode is required")
+    public boolean isKeyValid() {
+        return (id == null) != (skuCode == null || skuCode.isBlank());
+    }
+
+    @JsonIgnore
+    @Schema(hidden = true)
+    @AssertTrue(message = "At least one of price, cost or status is required")
+    public boolean isChangePresent() {
+        return price != null || cost != null || status != null;
+    }
+}
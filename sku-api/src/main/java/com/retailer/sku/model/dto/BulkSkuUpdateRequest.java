@@ -0,0 +1,26 @@
+package com.retailer.sku.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request payload for bulk price, cost and status updates")
+public class BulkSkuUpdateRequest {
+
+    @Schema(description = "Changes to apply", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty(message = "At least one update is required")
+    @Size(max = 10000, message = "Maximum 10000 updates per request")
+    @Valid
+    private List<BulkSkuUpdateItem> items;
+}
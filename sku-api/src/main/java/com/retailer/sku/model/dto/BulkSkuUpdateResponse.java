@@ -0,0 +1,29 @@
+package com.retailer.sku.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Per-item results of a bulk update")
+public class BulkSkuUpdateResponse {
+
+    @Schema(description = "Number of SKUs updated", example = "998")
+    private int updated;
+
+    @Schema(description = "Number of items skipped because the expected version did not match", example = "1")
+    private int conflicts;
+
+    @Schema(description = "Number of items whose SKU does not exist", example = "1")
+    private int notFound;
+
+    @Schema(description = "Outcome for each item, in request order")
+    private List<BulkSkuUpdateResult> results;
+}
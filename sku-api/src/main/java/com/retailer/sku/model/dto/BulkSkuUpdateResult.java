@@ -0,0 +1,36 @@
+package com.retailer.sku.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of a single bulk update item")
+public class BulkSkuUpdateResult {
+
+    public static final String UPDATED = "UPDATED";
+    public static final String CONFLICT = "CONFLICT";
+    public static final String NOT_FOUND = "NOT_FOUND";
+
+    @Schema(description = "Position of the item in the request", example = "0")
+    private int index;
+
+    @Schema(description = "Internal unique identifier", example = "550e8400-e29b-41d4-a716-446655440000")
+    private UUID id;
+
+    @Schema(description = "External SKU code", example = "THD-LBR-0001234")
+    private String skuCode;
+
+    @Schema(description = "Outcome of the update", example = "UPDATED", allowableValues = {"UPDATED", "CONFLICT", "NOT_FOUND"})
+    private String outcome;
+
+    @Schema(description = "Version after the update, or the current version on conflict", example = "4")
+    private Long version;
+}
@@ -0,0 +1,42 @@
+package com.retailer.sku.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Catalog snapshot file available for download")
+public class CatalogSnapshotResponse {
+
+    @Schema(description = "File name of the snapshot", example = "catalog-1705314600000.snap")
+    private String fileName;
+
+    @Schema(description = "Binary format version, checked by the reader library", example = "1")
+    private int formatVersion;
+
+    @Schema(description = "Number of SKUs in the snapshot", example = "1250000")
+    private int skus;
+
+    @Schema(description = "Number of SKUs with a UPC", example = "1180000")
+    private int upcs;
+
+    @Schema(description = "File size in bytes", example = "142606336")
+    private long bytes;
+
+    @Schema(description = "Latest SKU update included, as epoch milliseconds", example = "1705314598123")
+    private long catalogVersion;
+
+    @Schema(description = "Identifies the snapshot content; equal on every instance that wrote the same catalog",
+            example = "1-18d0cf1a76b-3f2a9c1e0b7d44a2e19c0f5582b6d013")
+    private String contentId;
+
+    @Schema(description = "When the snapshot was written", example = "2024-01-15T10:30:00Z")
+    private Instant createdAt;
+}
@@ -0,0 +1,32 @@
+package com.retailer.sku.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Point-of-sale view of a SKU, as scanned at the register")
+public class PosSkuResponse {
+
+    @Schema(description = "Universal Product Code", example = "012345678901")
+    private String upc;
+
+    @Schema(description = "External SKU code", example = "THD-LBR-0001234")
+    private String skuCode;
+
+    @Schema(description = "Product name", example = "2x4x8 Pressure Treated Lumber")
+    private String name;
+
+    @Schema(description = "Retail price", example = "8.99")
+    private BigDecimal price;
+
+    @Schema(description = "SKU status", example = "ACTIVE")
+    private String status;
+}
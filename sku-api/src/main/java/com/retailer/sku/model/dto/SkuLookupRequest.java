@@ -0,0 +1,27 @@
+package com.retailer.sku.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Keys of the SKUs to fetch in one round trip")
+public class SkuLookupRequest {
+
+    @Schema(description = "Internal SKU ids", example = "[\"550e8400-e29b-41d4-a716-446655440000\"]")
+    @Size(max = 500, message = "Maximum 500 ids per lookup")
+    private List<UUID> ids;
+
+    @Schema(description = "External SKU codes", example = "[\"THD-LBR-0001234\"]")
+    @Size(max = 500, message = "Maximum 500 SKU codes per lookup")
+    private List<String> skuCodes;
+}
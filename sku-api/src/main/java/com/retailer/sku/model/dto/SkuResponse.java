@@ -75,4 +75,7 @@ public class SkuResponse {
 
     @Schema(description = "Last update timestamp", example = "2024-01-15T10:30:00Z")
     private Instant updatedAt;
+
+    @Schema(description = "Optimistic-locking version, incremented on every change", example = "3")
+    private Long version;
 }
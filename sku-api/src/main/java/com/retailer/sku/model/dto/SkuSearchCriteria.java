@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 
 @Data
 @Builder
@@ -39,4 +40,13 @@ public class SkuSearchCriteria {
 
     @Schema(description = "Filter by tags (any match)", example = "[\"outdoor\", \"treated\"]")
     private List<String> tags;
+
+    @Schema(description = "Attribute values that must match exactly", example = "{\"grade\": \"#2\"}")
+    private Map<String, String> attributes;
+
+    @Schema(description = "Inclusive lower bounds on numeric attribute values", example = "{\"voltage\": 110}")
+    private Map<String, BigDecimal> minAttributes;
+
+    @Schema(description = "Inclusive upper bounds on numeric attribute values", example = "{\"voltage\": 240}")
+    private Map<String, BigDecimal> maxAttributes;
 }
@@ -0,0 +1,36 @@
+package com.retailer.sku.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Typeahead suggestion for a search prefix")
+public class SkuSuggestion {
+
+    public static final String NAME = "NAME";
+    public static final String SKU_CODE = "SKU_CODE";
+    public static final String BRAND = "BRAND";
+
+    @Schema(description = "What the suggestion matched", example = "NAME", allowableValues = {"NAME", "SKU_CODE", "BRAND"})
+    private String type;
+
+    @Schema(description = "Suggested text", example = "Pressure Treated Lumber 2x4x8")
+    private String text;
+
+    @Schema(description = "Internal unique identifier, absent for brands", example = "550e8400-e29b-41d4-a716-446655440000")
+    private UUID id;
+
+    @Schema(description = "External SKU code, absent for brands", example = "THD-LBR-0001234")
+    private String skuCode;
+
+    @Schema(description = "Popularity weight used for ranking", example = "1520")
+    private long score;
+}
@@ -0,0 +1,38 @@
+plugins {
+    `java-library`
+}
+
+group = "com.retailer"
+version = "1.0.0-SNAPSHOT"
+
+// Published for internal consumers; depends on nothing from the service, only the JDK HTTP client,
+// Jackson, Caffeine and Micrometer at the versions the service itself runs with
+java {
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(21)
+    }
+    withSourcesJar()
+}
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    implementation(platform("org.springframework.boot:spring-boot-dependencies:3.2.2"))
+    api("io.micrometer:micrometer-core")
+    implementation("com.fasterxml.jackson.core:jackson-databind")
+    implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
+    testImplementation(platform("org.junit:junit-bom:5.10.1"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testImplementation("org.assertj:assertj-core:3.24.2")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+tasks.test {
+    useJUnitPlatform()
+    // -PskuServiceUrl=http://localhost:8080 also runs SkuClientIT against a locally started service
+    systemProperty("sku.service.url", providers.gradleProperty("skuServiceUrl").getOrElse(""))
+}
@@ -0,0 +1,97 @@
+package com.retailer.sku.client;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+/**
+ * Collects single-key loads for up to {@code window} and dispatches them as one call, DataLoader-style.
+ * A batch goes out early once it reaches {@code maxBatchSize}; loads of a key already waiting share its future.
+ */
+final class BatchLoader<K, V> {
+
+    private final Function<List<K>, CompletableFuture<Map<K, V>>> loadAll;
+    private final ScheduledExecutorService scheduler;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final IntConsumer batchSizes;
+
+    // Guarded by this
+    private Map<K, CompletableFuture<Optional<V>>> pending = new LinkedHashMap<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    BatchLoader(Function<List<K>, CompletableFuture<Map<K, V>>> loadAll, ScheduledExecutorService scheduler,
+                long windowNanos, int maxBatchSize, IntConsumer batchSizes) {
+        this.loadAll = loadAll;
+        this.scheduler = scheduler;
+        this.windowNanos = windowNanos;
+        this.maxBatchSize = maxBatchSize;
+        this.batchSizes = batchSizes;
+    }
+
+    CompletableFuture<Optional<V>> load(K key) {
+        CompletableFuture<Optional<V>> future;
+        Map<K, CompletableFuture<Optional<V>>> full = null;
+        synchronized (this) {
+            future = pending.get(key);
+            if (future != null) {
+                return future;
+            }
+            future = new CompletableFuture<>();
+            pending.put(key, future);
+            if (pending.size() >= maxBatchSize) {
+                full = take();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = scheduler.schedule(this::flush, windowNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+        return future;
+    }
+
+    void flush() {
+        Map<K, CompletableFuture<Optional<V>>> batch;
+        synchronized (this) {
+            batch = take();
+        }
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+        }
+    }
+
+    private Map<K, CompletableFuture<Optional<V>>> take() {
+        Map<K, CompletableFuture<Optional<V>>> batch = pending;
+        pending = new LinkedHashMap<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void dispatch(Map<K, CompletableFuture<Optional<V>>> batch) {
+        batchSizes.accept(batch.size());
+        CompletableFuture<Map<K, V>> loaded;
+        try {
+            loaded = loadAll.apply(List.copyOf(batch.keySet()));
+        } catch (RuntimeException e) {
+            loaded = CompletableFuture.failedFuture(e);
+        }
+        loaded.whenComplete((found, error) -> batch.forEach((key, future) -> {
+            if (error != null) {
+                future.completeExceptionally(error);
+            } else {
+                future.complete(Optional.ofNullable(found.get(key)));
+            }
+        }));
+    }
+}
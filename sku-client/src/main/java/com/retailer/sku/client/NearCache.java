@@ -0,0 +1,70 @@
+package com.retailer.sku.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.UUID;
+
+/**
+ * Bounded cache of SKUs by id, plus a SKU code to id map for code lookups. Entries older than the TTL are
+ * kept so they can be revalidated by version instead of refetched, and an entry is never replaced by an
+ * older version of the same SKU that arrives late.
+ */
+final class NearCache {
+
+    record Entry(Sku sku, long fetchedAt) {
+    }
+
+    private final Cache<UUID, Entry> skus;
+    private final Cache<String, UUID> idsByCode;
+    private final long ttlNanos;
+
+    NearCache(long maximumSize, long ttlNanos) {
+        this.skus = Caffeine.newBuilder().maximumSize(maximumSize).build();
+        this.idsByCode = Caffeine.newBuilder().maximumSize(maximumSize).build();
+        this.ttlNanos = ttlNanos;
+    }
+
+    Entry get(UUID id) {
+        return skus.getIfPresent(id);
+    }
+
+    UUID idForCode(String skuCode) {
+        return idsByCode.getIfPresent(skuCode);
+    }
+
+    boolean isFresh(Entry entry) {
+        return System.nanoTime() - entry.fetchedAt() < ttlNanos;
+    }
+
+    void put(Sku sku) {
+        Entry fetched = new Entry(sku, System.nanoTime());
+        skus.asMap().merge(sku.id(), fetched, (current, candidate) -> isNewer(current.sku(), candidate.sku())
+                ? current : candidate);
+        if (sku.skuCode() != null) {
+            idsByCode.put(sku.skuCode(), sku.id());
+        }
+    }
+
+    /**
+     * Marks an entry as just confirmed current by the service.
+     */
+    void touch(Entry entry) {
+        skus.asMap().replace(entry.sku().id(), entry, new Entry(entry.sku(), System.nanoTime()));
+    }
+
+    void invalidate(UUID id) {
+        Entry removed = skus.asMap().remove(id);
+        if (removed != null && removed.sku().skuCode() != null) {
+            idsByCode.asMap().remove(removed.sku().skuCode(), id);
+        }
+    }
+
+    long size() {
+        return skus.estimatedSize();
+    }
+
+    private static boolean isNewer(Sku current, Sku candidate) {
+        return current.version() != null && candidate.version() != null && current.version() > candidate.version();
+    }
+}
@@ -0,0 +1,36 @@
+package com.retailer.sku.client;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A SKU as returned by the service. Fields the service adds later are ignored until this record grows them.
+ */
+public record Sku(
+        UUID id,
+        String skuCode,
+        String upc,
+        String name,
+        String description,
+        String brand,
+        String category,
+        String subcategory,
+        BigDecimal price,
+        BigDecimal cost,
+        String unitOfMeasure,
+        Integer quantityPerUnit,
+        BigDecimal weight,
+        Dimensions dimensions,
+        String status,
+        List<String> tags,
+        Map<String, String> attributes,
+        Instant createdAt,
+        Instant updatedAt,
+        Long version) {
+
+    public record Dimensions(BigDecimal length, BigDecimal width, BigDecimal height) {
+    }
+}
@@ -0,0 +1,375 @@
+package com.retailer.sku.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+
+/**
+ * Read client for the SKU service.
+ *
+ * <p>Lookups by id and SKU code are served from a bounded near-cache while fresh. Misses issued within the
+ * batch window are coalesced into one {@code POST /api/v1/skus/lookup}, and stale entries are revalidated
+ * with {@code If-None-Match} on their version, which the service answers with a 304 when nothing changed.
+ * Requests go over one HTTP/2 connection where the service offers it and pooled HTTP/1.1 connections
+ * otherwise.
+ *
+ * <p>Meters: {@code sku.client.requests} (timer by operation and status), {@code sku.client.cache}
+ * (counter by result) and {@code sku.client.batch.size}.
+ */
+public final class SkuClient implements AutoCloseable {
+
+    private static final String API_PATH = "/api/v1/skus";
+    private static final int MAX_LOOKUP_KEYS = 500;
+    private static final TypeReference<List<Sku>> SKU_LIST = new TypeReference<>() {
+    };
+
+    private final URI baseUri;
+    private final HttpClient httpClient;
+    private final boolean ownsHttpClient;
+    private final Duration requestTimeout;
+    private final ObjectMapper objectMapper;
+    private final NearCache cache;
+    private final ScheduledExecutorService scheduler;
+    private final BatchLoader<UUID, Sku> byId;
+    private final BatchLoader<String, Sku> bySkuCode;
+    private final Map<UUID, CompletableFuture<Optional<Sku>>> revalidations = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+    private final Counter notModified;
+    private final Counter modified;
+
+    private SkuClient(Builder builder) {
+        this.baseUri = builder.baseUri;
+        this.ownsHttpClient = builder.httpClient == null;
+        this.httpClient = ownsHttpClient
+                ? HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_2)
+                        .connectTimeout(builder.connectTimeout)
+                        .build()
+                : builder.httpClient;
+        this.requestTimeout = builder.requestTimeout;
+        this.objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.cache = new NearCache(builder.cacheMaximumSize, builder.cacheTtl.toNanos());
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sku-client-batch");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.meterRegistry = builder.meterRegistry;
+        this.cacheHits = cacheCounter("hit");
+        this.cacheMisses = cacheCounter("miss");
+        this.notModified = cacheCounter("not_modified");
+        this.modified = cacheCounter("modified");
+        meterRegistry.gauge("sku.client.cache.size", cache, NearCache::size);
+        DistributionSummary batchSizes = DistributionSummary.builder("sku.client.batch.size")
+                .description("Keys per coalesced lookup request")
+                .register(meterRegistry);
+
+        long windowNanos = builder.batchWindow.toNanos();
+        this.byId = new BatchLoader<>(ids -> lookup("ids", ids, Sku::id), scheduler, windowNanos,
+                builder.maxBatchSize, batchSizes::record);
+        this.bySkuCode = new BatchLoader<>(codes -> lookup("skuCodes", codes, Sku::skuCode), scheduler, windowNanos,
+                builder.maxBatchSize, batchSizes::record);
+    }
+
+    public static Builder builder(URI baseUri) {
+        return new Builder(baseUri);
+    }
+
+    public CompletableFuture<Optional<Sku>> findById(UUID id) {
+        Objects.requireNonNull(id, "id");
+        NearCache.Entry entry = cache.get(id);
+        if (entry == null) {
+            cacheMisses.increment();
+            return byId.load(id);
+        }
+        if (cache.isFresh(entry)) {
+            cacheHits.increment();
+            return CompletableFuture.completedFuture(Optional.of(entry.sku()));
+        }
+        return revalidate(entry);
+    }
+
+    public CompletableFuture<Optional<Sku>> findBySkuCode(String skuCode) {
+        Objects.requireNonNull(skuCode, "skuCode");
+        UUID id = cache.idForCode(skuCode);
+        if (id != null && cache.get(id) != null) {
+            return findById(id);
+        }
+        cacheMisses.increment();
+        return bySkuCode.load(skuCode);
+    }
+
+    /**
+     * UPC lookups always go to the service; the result still warms the cache for id and code lookups.
+     */
+    public CompletableFuture<Optional<Sku>> findByUpc(String upc) {
+        Objects.requireNonNull(upc, "upc");
+        HttpRequest request = request(API_PATH + "/upc/" + URLEncoder.encode(upc, StandardCharsets.UTF_8))
+                .GET()
+                .build();
+        return send("upc", request).thenApply(response -> switch (response.statusCode()) {
+            case 200 -> {
+                Sku sku = read(response.body(), Sku.class);
+                cache.put(sku);
+                yield Optional.of(sku);
+            }
+            case 404 -> Optional.<Sku>empty();
+            default -> throw unexpected(response);
+        });
+    }
+
+    /**
+     * Loads every id, coalescing the misses with concurrent callers'. Unknown ids are absent from the result.
+     */
+    public CompletableFuture<Map<UUID, Sku>> findAllById(Collection<UUID> ids) {
+        Map<UUID, CompletableFuture<Optional<Sku>>> futures = new LinkedHashMap<>();
+        for (UUID id : ids) {
+            futures.computeIfAbsent(id, this::findById);
+        }
+        return CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    Map<UUID, Sku> found = new LinkedHashMap<>();
+                    futures.forEach((id, future) -> future.join().ifPresent(sku -> found.put(id, sku)));
+                    return found;
+                });
+    }
+
+    /**
+     * Drops a SKU from the near-cache, e.g. after the caller changed it through another channel.
+     */
+    public void invalidate(UUID id) {
+        cache.invalidate(id);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        if (ownsHttpClient) {
+            httpClient.close();
+        }
+    }
+
+    private CompletableFuture<Optional<Sku>> revalidate(NearCache.Entry entry) {
+        UUID id = entry.sku().id();
+        if (entry.sku().version() == null) {
+            cacheMisses.increment();
+            return byId.load(id);
+        }
+        HttpRequest request = request(API_PATH + "/" + id)
+                .header("If-None-Match", "W/\"" + entry.sku().version() + "\"")
+                .GET()
+                .build();
+        // Concurrent callers holding the same stale entry share one conditional request
+        CompletableFuture<Optional<Sku>> revalidation = new CompletableFuture<>();
+        CompletableFuture<Optional<Sku>> inFlight = revalidations.putIfAbsent(id, revalidation);
+        if (inFlight != null) {
+            return inFlight;
+        }
+        send("get", request).thenApply(response -> switch (response.statusCode()) {
+            case 304 -> {
+                notModified.increment();
+                cache.touch(entry);
+                yield Optional.of(entry.sku());
+            }
+            case 200 -> {
+                modified.increment();
+                Sku sku = read(response.body(), Sku.class);
+                cache.put(sku);
+                yield Optional.of(sku);
+            }
+            case 404 -> {
+                cache.invalidate(id);
+                yield Optional.<Sku>empty();
+            }
+            default -> throw unexpected(response);
+        }).whenComplete((result, error) -> {
+            revalidations.remove(id, revalidation);
+            if (error != null) {
+                revalidation.completeExceptionally(error);
+            } else {
+                revalidation.complete(result);
+            }
+        });
+        return revalidation;
+    }
+
+    private <K> CompletableFuture<Map<K, Sku>> lookup(String field, List<K> keys, Function<Sku, K> keyOf) {
+        HttpRequest request = request(API_PATH + "/lookup")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(write(Map.of(field, keys))))
+                .build();
+        return send("lookup", request).thenApply(response -> {
+            if (response.statusCode() != 200) {
+                throw unexpected(response);
+            }
+            Map<K, Sku> found = new HashMap<>();
+            for (Sku sku : read(response.body(), SKU_LIST)) {
+                cache.put(sku);
+                found.put(keyOf.apply(sku), sku);
+            }
+            return found;
+        });
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(requestTimeout)
+                .header("Accept", "application/json");
+    }
+
+    private CompletableFuture<HttpResponse<byte[]>> send(String operation, HttpRequest request) {
+        long started = System.nanoTime();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((response, error) -> Timer.builder("sku.client.requests")
+                        .description("Latency of SKU service calls as seen by the client")
+                        .tag("operation", operation)
+                        .tag("status", response != null ? Integer.toString(response.statusCode())
+                                : error.getClass().getSimpleName())
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)
+                        .record(Duration.ofNanos(System.nanoTime() - started)));
+    }
+
+    private Counter cacheCounter(String result) {
+        return Counter.builder("sku.client.cache")
+                .description("Near-cache lookups by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private byte[] write(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private <T> T read(byte[] body, Class<T> type) {
+        try {
+            return objectMapper.readValue(body, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private <T> T read(byte[] body, TypeReference<T> type) {
+        try {
+            return objectMapper.readValue(body, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static SkuClientException unexpected(HttpResponse<byte[]> response) {
+        return new SkuClientException(response.statusCode(), response.request().method() + " "
+                + response.request().uri().getPath() + " returned " + response.statusCode() + ": "
+                + new String(response.body(), StandardCharsets.UTF_8));
+    }
+
+    public static final class Builder {
+
+        private final URI baseUri;
+        private HttpClient httpClient;
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        private Duration requestTimeout = Duration.ofSeconds(5);
+        private long cacheMaximumSize = 10_000;
+        private Duration cacheTtl = Duration.ofSeconds(30);
+        private Duration batchWindow = Duration.ofMillis(2);
+        private int maxBatchSize = 100;
+        private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
+        private Builder(URI baseUri) {
+            this.baseUri = Objects.requireNonNull(baseUri, "baseUri");
+        }
+
+        /**
+         * Shares an existing client, which the SKU client will not close.
+         */
+        public Builder httpClient(HttpClient httpClient) {
+            this.httpClient = httpClient;
+            return this;
+        }
+
+        public Builder connectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+            return this;
+        }
+
+        public Builder requestTimeout(Duration requestTimeout) {
+            this.requestTimeout = requestTimeout;
+            return this;
+        }
+
+        public Builder cacheMaximumSize(long cacheMaximumSize) {
+            this.cacheMaximumSize = cacheMaximumSize;
+            return this;
+        }
+
+        /**
+         * How long an entry is served without asking the service; older entries are revalidated.
+         */
+        public Builder cacheTtl(Duration cacheTtl) {
+            this.cacheTtl = cacheTtl;
+            return this;
+        }
+
+        public Builder batchWindow(Duration batchWindow) {
+            this.batchWindow = batchWindow;
+            return this;
+        }
+
+        public Builder maxBatchSize(int maxBatchSize) {
+            if (maxBatchSize < 1 || maxBatchSize > MAX_LOOKUP_KEYS) {
+                throw new IllegalArgumentException("maxBatchSize must be between 1 and " + MAX_LOOKUP_KEYS);
+            }
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        public Builder meterRegistry(MeterRegistry meterRegistry) {
+            this.meterRegistry = meterRegistry;
+            return this;
+        }
+
+        public SkuClient build() {
+            return new SkuClient(this);
+        }
+    }
+}
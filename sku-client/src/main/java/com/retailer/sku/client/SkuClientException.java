@@ -0,0 +1,18 @@
+package com.retailer.sku.client;
+
+/**
+ * The service answered with a status the client does not map to a result.
+ */
+public class SkuClientException extends RuntimeException {
+
+    private final int statusCode;
+
+    public SkuClientException(int statusCode, String message) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+
+    public int statusCode() {
+        return statusCode;
+    }
+}
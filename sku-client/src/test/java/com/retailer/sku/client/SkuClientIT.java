@@ -0,0 +1,118 @@
+package com.retailer.sku.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against a service started locally, e.g. {@code docker compose up} then
+ * {@code ./gradlew :sku-client:test -PskuServiceUrl=http://localhost:8080}.
+ */
+@EnabledIfSystemProperty(named = "sku.service.url", matches = ".+")
+class SkuClientIT {
+
+    private static final Pattern ID = Pattern.compile("\"id\":\"([^\"]+)\"");
+
+    private static URI baseUri;
+    private static HttpClient http;
+    private static String upc;
+    private static UUID id;
+
+    @BeforeAll
+    static void createSku() throws Exception {
+        baseUri = URI.create(System.getProperty("sku.service.url"));
+        http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build();
+        upc = String.format("9%011d", ThreadLocalRandom.current().nextLong(100_000_000_000L));
+        HttpResponse<String> created = send("POST", "/api/v1/skus",
+                "{\"name\":\"SDK Test Hammer\",\"category\":\"TOL\",\"upc\":\"" + upc + "\",\"price\":\"14.99\"}");
+        assertThat(created.statusCode()).isEqualTo(201);
+        Matcher matcher = ID.matcher(created.body());
+        assertThat(matcher.find()).isTrue();
+        id = UUID.fromString(matcher.group(1));
+    }
+
+    @AfterAll
+    static void deleteSku() throws Exception {
+        if (id != null) {
+            send("DELETE", "/api/v1/skus/" + id, null);
+        }
+        http.close();
+    }
+
+    @Test
+    void lookups_RunningService_ResolveAndCache() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        try (SkuClient client = SkuClient.builder(baseUri).meterRegistry(meterRegistry).build()) {
+            Sku byUpc = client.findByUpc(upc).join().orElseThrow();
+            assertThat(byUpc.id()).isEqualTo(id);
+            assertThat(byUpc.price()).isEqualByComparingTo(new BigDecimal("14.99"));
+
+            assertThat(client.findById(id).join()).contains(byUpc);
+            assertThat(client.findBySkuCode(byUpc.skuCode()).join()).contains(byUpc);
+            assertThat(meterRegistry.get("sku.client.cache").tag("result", "hit").counter().count()).isEqualTo(2.0);
+            assertThat(client.findByUpc("000000000000").join()).isEmpty();
+        }
+    }
+
+    @Test
+    void findAllById_ColdCache_BatchesAndOmitsUnknown() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        try (SkuClient client = SkuClient.builder(baseUri)
+                .batchWindow(Duration.ofMillis(10))
+                .meterRegistry(meterRegistry)
+                .build()) {
+            Map<UUID, Sku> found = client.findAllById(List.of(id, UUID.randomUUID(), UUID.randomUUID())).join();
+
+            assertThat(found).containsOnlyKeys(id);
+            assertThat(meterRegistry.get("sku.client.requests").tag("operation", "lookup").timer().count())
+                    .isEqualTo(1);
+        }
+    }
+
+    @Test
+    void findById_ChangedOnService_RevalidationPicksUpNewVersion() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        try (SkuClient client = SkuClient.builder(baseUri).cacheTtl(Duration.ZERO).meterRegistry(meterRegistry).build()) {
+            Sku before = client.findById(id).join().orElseThrow();
+            assertThat(client.findById(id).join()).contains(before);
+
+            assertThat(send("PATCH", "/api/v1/skus/" + id, "{\"price\":\"15.49\"}").statusCode()).isEqualTo(200);
+            Sku after = client.findById(id).join().orElseThrow();
+
+            assertThat(after.version()).isGreaterThan(before.version());
+            assertThat(after.price()).isEqualByComparingTo(new BigDecimal("15.49"));
+            assertThat(meterRegistry.get("sku.client.cache").tag("result", "not_modified").counter().count())
+                    .isEqualTo(1.0);
+            assertThat(meterRegistry.get("sku.client.cache").tag("result", "modified").counter().count())
+                    .isEqualTo(1.0);
+        }
+    }
+
+    private static HttpResponse<String> send(String method, String path, String json) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Accept", "application/json");
+        if (json != null) {
+            request.header("Content-Type", "application/json");
+        }
+        request.method(method, json == null
+                ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(json));
+        return http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,126 @@
+package com.retailer.sku.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SkuClientTest {
+
+    private static final UUID KNOWN = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+    private static final String SKU_JSON = "{\"id\":\"" + KNOWN + "\",\"skuCode\":\"THD-LBR-0000001\","
+            + "\"upc\":\"012345678901\",\"name\":\"2x4x8 Lumber\",\"price\":8.99,\"status\":\"ACTIVE\","
+            + "\"updatedAt\":\"2024-01-15T10:30:00Z\",\"version\":3,\"addedLater\":true}";
+
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private HttpServer server;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/v1/skus/lookup", exchange -> {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            requests.add("lookup " + body);
+            respond(exchange, 200, body.contains(KNOWN.toString()) || body.contains("THD-LBR-0000001")
+                    ? "[" + SKU_JSON + "]" : "[]");
+        });
+        server.createContext("/api/v1/skus/" + KNOWN, exchange -> {
+            String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+            requests.add("get " + ifNoneMatch);
+            if ("W/\"3\"".equals(ifNoneMatch)) {
+                respond(exchange, 304, null);
+            } else {
+                respond(exchange, 200, SKU_JSON);
+            }
+        });
+        server.start();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void findById_ConcurrentMisses_CoalescedIntoOneLookup() {
+        UUID unknown = UUID.randomUUID();
+        try (SkuClient client = client(Duration.ofMinutes(1))) {
+            CompletableFuture<Optional<Sku>> first = client.findById(KNOWN);
+            CompletableFuture<Optional<Sku>> duplicate = client.findById(KNOWN);
+            CompletableFuture<Optional<Sku>> missing = client.findById(unknown);
+
+            assertThat(first.join()).map(Sku::skuCode).contains("THD-LBR-0000001");
+            assertThat(duplicate.join()).isEqualTo(first.join());
+            assertThat(missing.join()).isEmpty();
+            assertThat(requests).containsExactly("lookup {\"ids\":[\"" + KNOWN + "\",\"" + unknown + "\"]}");
+
+            assertThat(client.findBySkuCode("THD-LBR-0000001").join()).isEqualTo(first.join());
+            assertThat(requests).hasSize(1);
+            assertThat(meterRegistry.get("sku.client.cache").tag("result", "hit").counter().count()).isEqualTo(1.0);
+            assertThat(meterRegistry.get("sku.client.requests").tag("operation", "lookup").timer().count())
+                    .isEqualTo(1);
+        }
+    }
+
+    @Test
+    void findById_StaleEntry_RevalidatesWithVersion() {
+        try (SkuClient client = client(Duration.ZERO)) {
+            Sku loaded = client.findById(KNOWN).join().orElseThrow();
+
+            assertThat(client.findById(KNOWN).join()).containsSame(loaded);
+            assertThat(requests).containsExactly("lookup {\"ids\":[\"" + KNOWN + "\"]}", "get W/\"3\"");
+            assertThat(meterRegistry.get("sku.client.cache").tag("result", "not_modified").counter().count())
+                    .isEqualTo(1.0);
+        }
+    }
+
+    @Test
+    void findAllById_MoreKeysThanBatch_SplitsRequests() {
+        List<UUID> ids = List.of(KNOWN, UUID.randomUUID(), UUID.randomUUID());
+        try (SkuClient client = SkuClient.builder(baseUri()).maxBatchSize(2).meterRegistry(meterRegistry).build()) {
+            Map<UUID, Sku> found = client.findAllById(ids).join();
+
+            assertThat(found).containsOnlyKeys(KNOWN);
+            assertThat(requests).hasSize(2);
+            assertThat(meterRegistry.get("sku.client.batch.size").summary().totalAmount()).isEqualTo(3.0);
+        }
+    }
+
+    private SkuClient client(Duration cacheTtl) {
+        return SkuClient.builder(baseUri())
+                .cacheTtl(cacheTtl)
+                .batchWindow(Duration.ofMillis(20))
+                .meterRegistry(meterRegistry)
+                .build();
+    }
+
+    private URI baseUri() {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body == null ? new byte[0] : body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+}
@@ -0,0 +1,71 @@
+plugins {
+    java
+    id("org.springframework.boot")
+    id("io.spring.dependency-management")
+}
+
+group = "com.retailer"
+version = "1.0.0-SNAPSHOT"
+
+// Same API and schema as the servlet service, served by WebFlux on Netty over R2DBC
+java {
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(21)
+    }
+}
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    implementation(project(":sku-api"))
+
+    implementation("org.springframework.boot:spring-boot-starter-webflux")
+    implementation("org.springframework.boot:spring-boot-starter-data-r2dbc")
+    implementation("org.springframework.boot:spring-boot-starter-validation")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("org.springdoc:springdoc-openapi-starter-webflux-ui:2.3.0")
+    implementation("org.postgresql:r2dbc-postgresql")
+
+    // Flyway has no R2DBC support; migrations run over JDBC before the R2DBC pool opens
+    implementation("org.flywaydb:flyway-core:10.7.1")
+    runtimeOnly("org.flywaydb:flyway-database-postgresql:10.7.1")
+    runtimeOnly("org.postgresql:postgresql")
+
+    compileOnly("org.projectlombok:lombok")
+    annotationProcessor("org.projectlombok:lombok")
+
+    testImplementation("org.springframework.boot:spring-boot-starter-test")
+    testImplementation("io.projectreactor:reactor-test")
+    testImplementation("org.testcontainers:junit-jupiter")
+    testImplementation("org.testcontainers:postgresql")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+// One set of migrations for both stacks
+tasks.processResources {
+    from(rootProject.file("src/main/resources/db/migration")) {
+        into("db/migration")
+    }
+}
+
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("load")
+    }
+}
+
+tasks.register<Test>("loadTest") {
+    description = "Compares the images given as -PloadImages=servlet=image,reactive=image under concurrent load"
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("load")
+    }
+    systemProperty("load.images", providers.gradleProperty("loadImages").getOrElse(""))
+    systemProperty("load.concurrency", providers.gradleProperty("loadConcurrency").getOrElse("2000"))
+    systemProperty("load.duration", providers.gradleProperty("loadDuration").getOrElse("PT30S"))
+    outputs.upToDateWhen { false }
+}
@@ -0,0 +1,12 @@
+package com.retailer.sku.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class ReactiveSkuServiceApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveSkuServiceApplication.class, args);
+    }
+}
@@ -0,0 +1,23 @@
+package com.retailer.sku.reactive.config;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.servers.Server;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+public class OpenApiConfig {
+
+    @Bean
+    public OpenAPI customOpenAPI() {
+        return new OpenAPI()
+                .info(new Info()
+                        .title("SKU Management API (reactive)")
+                        .version("1.0.0")
+                        .description("The SKU Management API served by WebFlux and R2DBC"))
+                .servers(List.of(new Server().url("http://localhost:8081").description("Local")));
+    }
+}
@@ -0,0 +1,285 @@
+package com.retailer.sku.reactive.controller;
+
+import com.retailer.sku.model.dto.BatchSkuRequest;
+import com.retailer.sku.model.dto.SkuRequest;
+import com.retailer.sku.model.dto.SkuResponse;
+import com.retailer.sku.model.dto.SkuSearchCriteria;
+import com.retailer.sku.model.dto.SkuUpdateRequest;
+import com.retailer.sku.reactive.service.ReactiveSkuService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The servlet service's SKU API on WebFlux. List and search also stream every match as
+ * {@code application/x-ndjson}, written as rows arrive and paced by how fast the client reads.
+ */
+@RestController
+@RequestMapping("/api/v1/skus")
+@Tag(name = "SKU Management", description = "Operations for managing Stock Keeping Units")
+@RequiredArgsConstructor
+public class ReactiveSkuController {
+
+    private final ReactiveSkuService skuService;
+
+    @Operation(
+            summary = "Create a new SKU",
+            description = "Creates a new Stock Keeping Unit with auto-generated SKU code"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "SKU created successfully",
+                    content = @Content(schema = @Schema(implementation = SkuResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "409", description = "SKU with UPC already exists")
+    })
+    @PostMapping
+    public Mono<ResponseEntity<SkuResponse>> createSku(
+            @Valid @RequestBody SkuRequest request) {
+        return skuService.createSku(request)
+                .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+    }
+
+    @Operation(
+            summary = "Batch create SKUs",
+            description = "Creates multiple SKUs in a single request"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "SKUs created successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "409", description = "One or more SKUs have duplicate UPCs")
+    })
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<List<SkuResponse>>> createSkusBatch(
+            @Valid @RequestBody BatchSkuRequest request) {
+        return skuService.createSkusBatch(request.getSkus())
+                .map(responses -> ResponseEntity.status(HttpStatus.CREATED).body(responses));
+    }
+
+    @Operation(
+            summary = "Get all SKUs",
+            description = "Retrieves a paginated list of all SKUs with optional filtering"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved SKUs")
+    })
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<Page<SkuResponse>>> getAllSkus(
+            @Parameter(description = "Filter by category") @RequestParam(required = false) String category,
+            @Parameter(description = "Filter by status") @RequestParam(required = false) String status,
+            @Parameter(description = "Filter by brand") @RequestParam(required = false) String brand,
+            @Parameter(description = "Minimum price filter") @RequestParam(required = false) BigDecimal minPrice,
+            @Parameter(description = "Maximum price filter") @RequestParam(required = false) BigDecimal maxPrice,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        return skuService.searchSkus(filters(category, status, brand, minPrice, maxPrice), pageable)
+                .map(ResponseEntity::ok);
+    }
+
+    @Operation(
+            summary = "Stream all SKUs",
+            description = "Streams every SKU matching the filters as newline-delimited JSON, without paging"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Matching SKUs, one JSON object per line")
+    })
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<SkuResponse> streamAllSkus(
+            @Parameter(description = "Filter by category") @RequestParam(required = false) String category,
+            @Parameter(description = "Filter by status") @RequestParam(required = false) String status,
+            @Parameter(description = "Filter by brand") @RequestParam(required = false) String brand,
+            @Parameter(description = "Minimum price filter") @RequestParam(required = false) BigDecimal minPrice,
+            @Parameter(description = "Maximum price filter") @RequestParam(required = false) BigDecimal maxPrice,
+            @SortDefault(sort = "createdAt", direction = Sort.Direction.DESC) Sort sort) {
+        return skuService.streamSkus(filters(category, status, brand, minPrice, maxPrice), sort);
+    }
+
+    @Operation(
+            summary = "Get SKU by ID",
+            description = "Retrieves a single SKU by its internal UUID"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved SKU",
+                    content = @Content(schema = @Schema(implementation = SkuResponse.class))),
+            @ApiResponse(responseCode = "304", description = "SKU unchanged since the version in If-None-Match"),
+            @ApiResponse(responseCode = "404", description = "SKU not found")
+    })
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<SkuResponse>> getSkuById(
+            @Parameter(description = "SKU UUID") @PathVariable UUID id, ServerWebExchange exchange) {
+        return skuService.getSkuById(id).map(response -> {
+            if (response.getVersion() == null) {
+                return ResponseEntity.ok(response);
+            }
+            String etag = versionEtag(response.getVersion());
+            if (exchange.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).<SkuResponse>build();
+            }
+            return ResponseEntity.ok().eTag(etag).body(response);
+        });
+    }
+
+    @Operation(
+            summary = "Get SKU by code",
+            description = "Retrieves a single SKU by its external SKU code"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved SKU",
+                    content = @Content(schema = @Schema(implementation = SkuResponse.class))),
+            @ApiResponse(responseCode = "404", description = "SKU not found")
+    })
+    @GetMapping("/code/{skuCode}")
+    public Mono<ResponseEntity<SkuResponse>> getSkuByCode(
+            @Parameter(description = "External SKU code") @PathVariable String skuCode) {
+        return skuService.getSkuByCode(skuCode).map(ResponseEntity::ok);
+    }
+
+    @Operation(
+            summary = "Get SKU by UPC",
+            description = "Retrieves a single SKU by its Universal Product Code"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved SKU",
+                    content = @Content(schema = @Schema(implementation = SkuResponse.class))),
+            @ApiResponse(responseCode = "404", description = "SKU not found")
+    })
+    @GetMapping("/upc/{upc}")
+    public Mono<ResponseEntity<SkuResponse>> getSkuByUpc(
+            @Parameter(description = "Universal Product Code") @PathVariable String upc) {
+        return skuService.getSkuByUpc(upc).map(ResponseEntity::ok);
+    }
+
+    @Operation(
+            summary = "Search SKUs",
+            description = "Search SKUs by various criteria"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved matching SKUs")
+    })
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<Page<SkuResponse>>> searchSkus(
+            @Parameter(description = "Search query for name or description") @RequestParam(required = false) String query,
+            @Parameter(description = "Filter by category") @RequestParam(required = false) String category,
+            @Parameter(description = "Filter by subcategory") @RequestParam(required = false) String subcategory,
+            @Parameter(description = "Filter by brand") @RequestParam(required = false) String brand,
+            @Parameter(description = "Filter by status") @RequestParam(required = false) String status,
+            @Parameter(description = "Minimum price") @RequestParam(required = false) BigDecimal minPrice,
+            @Parameter(description = "Maximum price") @RequestParam(required = false) BigDecimal maxPrice,
+            @PageableDefault(size = 20, sort = "name", direction = Sort.Direction.ASC) Pageable pageable) {
+        SkuSearchCriteria criteria = criteria(query, category, subcategory, brand, status, minPrice, maxPrice);
+        return skuService.searchSkus(criteria, pageable).map(ResponseEntity::ok);
+    }
+
+    @Operation(
+            summary = "Stream SKU search results",
+            description = "Streams every SKU matching the search criteria as newline-delimited JSON, without paging"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Matching SKUs, one JSON object per line")
+    })
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<SkuResponse> streamSearchSkus(
+            @Parameter(description = "Search query for name or description") @RequestParam(required = false) String query,
+            @Parameter(description = "Filter by category") @RequestParam(required = false) String category,
+            @Parameter(description = "Filter by subcategory") @RequestParam(required = false) String subcategory,
+            @Parameter(description = "Filter by brand") @RequestParam(required = false) String brand,
+            @Parameter(description = "Filter by status") @RequestParam(required = false) String status,
+            @Parameter(description = "Minimum price") @RequestParam(required = false) BigDecimal minPrice,
+            @Parameter(description = "Maximum price") @RequestParam(required = false) BigDecimal maxPrice,
+            @SortDefault(sort = "name", direction = Sort.Direction.ASC) Sort sort) {
+        SkuSearchCriteria criteria = criteria(query, category, subcategory, brand, status, minPrice, maxPrice);
+        return skuService.streamSkus(criteria, sort);
+    }
+
+    @Operation(
+            summary = "Full update of SKU",
+            description = "Replaces all fields of an existing SKU"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "SKU updated successfully",
+                    content = @Content(schema = @Schema(implementation = SkuResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "404", description = "SKU not found"),
+            @ApiResponse(responseCode = "409", description = "UPC already exists for another SKU")
+    })
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<SkuResponse>> updateSku(
+            @Parameter(description = "SKU UUID") @PathVariable UUID id,
+            @Valid @RequestBody SkuRequest request) {
+        return skuService.updateSku(id, request).map(ResponseEntity::ok);
+    }
+
+    @Operation(
+            summary = "Partial update of SKU",
+            description = "Updates only the provided fields of an existing SKU"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "SKU updated successfully",
+                    content = @Content(schema = @Schema(implementation = SkuResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "404", description = "SKU not found"),
+            @ApiResponse(responseCode = "409", description = "UPC already exists for another SKU")
+    })
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<SkuResponse>> partialUpdateSku(
+            @Parameter(description = "SKU UUID") @PathVariable UUID id,
+            @Valid @RequestBody SkuUpdateRequest request) {
+        return skuService.partialUpdateSku(id, request).map(ResponseEntity::ok);
+    }
+
+    @Operation(
+            summary = "Soft delete SKU",
+            description = "Marks a SKU as discontinued (soft delete)"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "SKU deleted successfully"),
+            @ApiResponse(responseCode = "404", description = "SKU not found")
+    })
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteSku(
+            @Parameter(description = "SKU UUID") @PathVariable UUID id) {
+        return skuService.deleteSku(id).then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    private static SkuSearchCriteria filters(String category, String status, String brand,
+                                             BigDecimal minPrice, BigDecimal maxPrice) {
+        return criteria(null, category, null, brand, status, minPrice, maxPrice);
+    }
+
+    private static SkuSearchCriteria criteria(String query, String category, String subcategory, String brand,
+                                              String status, BigDecimal minPrice, BigDecimal maxPrice) {
+        return SkuSearchCriteria.builder()
+                .query(query)
+                .category(category)
+                .subcategory(subcategory)
+                .brand(brand)
+                .status(status)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .build();
+    }
+
+    private static String versionEtag(long version) {
+        return "W/\"" + version + "\"";
+    }
+}
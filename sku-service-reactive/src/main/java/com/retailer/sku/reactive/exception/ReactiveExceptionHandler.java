@@ -0,0 +1,123 @@
+package com.retailer.sku.reactive.exception;
+
+import com.retailer.sku.exception.DuplicateSkuException;
+import com.retailer.sku.exception.ProblemDetail;
+import com.retailer.sku.exception.SkuNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The servlet service's problem details for the errors the reactive endpoints can raise.
+ */
+@RestControllerAdvice
+@Slf4j
+public class ReactiveExceptionHandler {
+
+    private static final String PROBLEM_BASE_URI = "https://api.retailer.com/problems/";
+
+    @ExceptionHandler(SkuNotFoundException.class)
+    public ResponseEntity<ProblemDetail> handleSkuNotFoundException(
+            SkuNotFoundException ex, ServerHttpRequest request) {
+
+        log.warn("SKU not found: {}", ex.getMessage());
+
+        return problem(HttpStatus.NOT_FOUND, "not-found", "SKU Not Found", ex.getMessage(), request, null);
+    }
+
+    @ExceptionHandler(DuplicateSkuException.class)
+    public ResponseEntity<ProblemDetail> handleDuplicateSkuException(
+            DuplicateSkuException ex, ServerHttpRequest request) {
+
+        log.warn("Duplicate SKU: {}", ex.getMessage());
+
+        return problem(HttpStatus.CONFLICT, "duplicate", "Duplicate SKU", ex.getMessage(), request, null);
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ProblemDetail> handleDataIntegrityViolationException(
+            DataIntegrityViolationException ex, ServerHttpRequest request) {
+
+        log.warn("Constraint violation: {}", ex.getMostSpecificCause().getMessage());
+
+        return problem(HttpStatus.CONFLICT, "duplicate", "Duplicate SKU",
+                "SKU conflicts with an existing record", request, null);
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ProblemDetail> handleValidationException(
+            WebExchangeBindException ex, ServerHttpRequest request) {
+
+        log.warn("Validation failed: {}", ex.getMessage());
+
+        Map<String, Object> errors = new HashMap<>();
+        ex.getBindingResult().getAllErrors().forEach(error -> {
+            String fieldName = ((FieldError) error).getField();
+            String errorMessage = error.getDefaultMessage();
+            errors.put(fieldName, errorMessage);
+        });
+
+        return problem(HttpStatus.BAD_REQUEST, "validation-error", "Validation Failed",
+                "One or more fields failed validation", request, errors);
+    }
+
+    @ExceptionHandler({IllegalArgumentException.class, ServerWebInputException.class})
+    public ResponseEntity<ProblemDetail> handleIllegalArgumentException(
+            Exception ex, ServerHttpRequest request) {
+
+        log.warn("Invalid argument: {}", ex.getMessage());
+
+        String detail = ex instanceof ServerWebInputException input ? input.getReason() : ex.getMessage();
+        return problem(HttpStatus.BAD_REQUEST, "invalid-argument", "Invalid Argument", detail, request, null);
+    }
+
+    // Routing and content negotiation failures (405, 406, 415) keep their status instead of becoming a 500
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ProblemDetail> handleResponseStatusException(
+            ResponseStatusException ex, ServerHttpRequest request) {
+
+        log.warn("Request rejected: {}", ex.getMessage());
+
+        HttpStatus status = HttpStatus.valueOf(ex.getStatusCode().value());
+        return problem(status, "invalid-request", status.getReasonPhrase(), ex.getReason(), request, null);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ProblemDetail> handleGenericException(
+            Exception ex, ServerHttpRequest request) {
+
+        log.error("Unexpected error occurred", ex);
+
+        return problem(HttpStatus.INTERNAL_SERVER_ERROR, "internal-error", "Internal Server Error",
+                "An unexpected error occurred. Please try again later.", request, null);
+    }
+
+    private static ResponseEntity<ProblemDetail> problem(HttpStatus status, String type, String title,
+                                                         String detail, ServerHttpRequest request,
+                                                         Map<String, Object> errors) {
+        ProblemDetail problem = ProblemDetail.builder()
+                .type(URI.create(PROBLEM_BASE_URI + type))
+                .title(title)
+                .status(status.value())
+                .detail(detail)
+                .instance(URI.create(request.getPath().value()))
+                .timestamp(Instant.now())
+                .errors(errors)
+                .build();
+
+        return ResponseEntity.status(status).body(problem);
+    }
+}
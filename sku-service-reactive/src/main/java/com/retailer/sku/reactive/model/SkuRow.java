@@ -0,0 +1,73 @@
+package com.retailer.sku.reactive.model;
+
+import io.r2dbc.postgresql.codec.Json;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A row of the partitioned {@code skus} table. Dimensions are flattened into their columns and the JSONB
+ * columns are kept as raw JSON; {@link com.retailer.sku.reactive.service.SkuRowMapper} converts both.
+ */
+@Table("skus")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SkuRow {
+
+    @Id
+    private UUID id;
+
+    private String skuCode;
+
+    private String upc;
+
+    private String name;
+
+    private String description;
+
+    private String brand;
+
+    private String category;
+
+    private String subcategory;
+
+    private BigDecimal price;
+
+    private BigDecimal cost;
+
+    private String unitOfMeasure;
+
+    private Integer quantityPerUnit;
+
+    private BigDecimal weight;
+
+    private BigDecimal dimensionLength;
+
+    private BigDecimal dimensionWidth;
+
+    private BigDecimal dimensionHeight;
+
+    @Builder.Default
+    private String status = "ACTIVE";
+
+    private Json tags;
+
+    private Json attributes;
+
+    private Instant createdAt;
+
+    private Instant updatedAt;
+
+    @Version
+    private Long version;
+}
@@ -0,0 +1,49 @@
+package com.retailer.sku.reactive.repository;
+
+import com.retailer.sku.model.dto.SkuSearchCriteria;
+import org.springframework.data.relational.core.query.Criteria;
+
+import static org.springframework.data.relational.core.query.Criteria.where;
+
+/**
+ * The R2DBC counterpart of the servlet service's {@code SkuSpecifications}: only criteria that are set end up
+ * in the SQL, so a category filter still prunes the partitions.
+ */
+public class SkuRowCriteria {
+
+    public static Criteria withSearchCriteria(SkuSearchCriteria criteria) {
+        Criteria result = Criteria.empty();
+
+        if (criteria.getQuery() != null && !criteria.getQuery().isBlank()) {
+            String searchPattern = "%" + criteria.getQuery().toLowerCase() + "%";
+            result = result.and(where("name").like(searchPattern).ignoreCase(true)
+                    .or(where("description").like(searchPattern).ignoreCase(true)));
+        }
+
+        if (criteria.getCategory() != null && !criteria.getCategory().isBlank()) {
+            result = result.and(where("category").is(criteria.getCategory()));
+        }
+
+        if (criteria.getSubcategory() != null && !criteria.getSubcategory().isBlank()) {
+            result = result.and(where("subcategory").is(criteria.getSubcategory()));
+        }
+
+        if (criteria.getBrand() != null && !criteria.getBrand().isBlank()) {
+            result = result.and(where("brand").is(criteria.getBrand()));
+        }
+
+        if (criteria.getStatus() != null && !criteria.getStatus().isBlank()) {
+            result = result.and(where("status").is(criteria.getStatus()));
+        }
+
+        if (criteria.getMinPrice() != null) {
+            result = result.and(where("price").greaterThanOrEquals(criteria.getMinPrice()));
+        }
+
+        if (criteria.getMaxPrice() != null) {
+            result = result.and(where("price").lessThanOrEquals(criteria.getMaxPrice()));
+        }
+
+        return result;
+    }
+}
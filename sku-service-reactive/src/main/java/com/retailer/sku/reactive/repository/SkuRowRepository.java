@@ -0,0 +1,35 @@
+package com.retailer.sku.reactive.repository;
+
+import com.retailer.sku.reactive.model.SkuRow;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Repository
+public interface SkuRowRepository extends R2dbcRepository<SkuRow, UUID> {
+
+    // Same partition-aware key lookups as the JPA repository: sku_keys supplies the category,
+    // so only one partition's index is probed.
+    @Override
+    @Query("SELECT s.* FROM skus s WHERE s.id = :id "
+            + "AND s.category = (SELECT k.category FROM sku_keys k WHERE k.id = :id)")
+    Mono<SkuRow> findById(UUID id);
+
+    @Query("SELECT s.* FROM skus s WHERE s.sku_code = :skuCode "
+            + "AND s.category = (SELECT k.category FROM sku_keys k WHERE k.sku_code = :skuCode)")
+    Mono<SkuRow> findBySkuCode(String skuCode);
+
+    @Query("SELECT s.* FROM skus s WHERE s.upc = :upc "
+            + "AND s.category = (SELECT k.category FROM sku_keys k WHERE k.upc = :upc)")
+    Mono<SkuRow> findByUpc(String upc);
+
+    @Query("SELECT EXISTS (SELECT 1 FROM sku_keys WHERE upc = :upc)")
+    Mono<Boolean> existsByUpc(String upc);
+
+    @Query("SELECT COALESCE(MAX(CAST(SUBSTRING(k.sku_code FROM LENGTH(:prefix) + 2) AS integer)), 0) "
+            + "FROM sku_keys k WHERE k.sku_code LIKE :prefix || '-%'")
+    Mono<Integer> findMaxSequenceByPrefix(String prefix);
+}
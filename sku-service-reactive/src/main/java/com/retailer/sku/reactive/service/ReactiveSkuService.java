@@ -0,0 +1,40 @@
+package com.retailer.sku.reactive.service;
+
+import com.retailer.sku.model.dto.SkuRequest;
+import com.retailer.sku.model.dto.SkuResponse;
+import com.retailer.sku.model.dto.SkuSearchCriteria;
+import com.retailer.sku.model.dto.SkuUpdateRequest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ReactiveSkuService {
+
+    Mono<SkuResponse> createSku(SkuRequest request);
+
+    Mono<List<SkuResponse>> createSkusBatch(List<SkuRequest> requests);
+
+    Mono<SkuResponse> getSkuById(UUID id);
+
+    Mono<SkuResponse> getSkuByCode(String skuCode);
+
+    Mono<SkuResponse> getSkuByUpc(String upc);
+
+    Mono<Page<SkuResponse>> searchSkus(SkuSearchCriteria criteria, Pageable pageable);
+
+    /**
+     * Every matching SKU in the given order, fetched from the database as the subscriber requests them.
+     */
+    Flux<SkuResponse> streamSkus(SkuSearchCriteria criteria, Sort sort);
+
+    Mono<SkuResponse> updateSku(UUID id, SkuRequest request);
+
+    Mono<SkuResponse> partialUpdateSku(UUID id, SkuUpdateRequest request);
+
+    Mono<Void> deleteSku(UUID id);
+}
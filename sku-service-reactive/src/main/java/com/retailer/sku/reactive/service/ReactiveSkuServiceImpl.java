@@ -0,0 +1,208 @@
+package com.retailer.sku.reactive.service;
+
+import com.retailer.sku.exception.DuplicateSkuException;
+import com.retailer.sku.exception.SkuNotFoundException;
+import com.retailer.sku.model.dto.SkuRequest;
+import com.retailer.sku.model.dto.SkuResponse;
+import com.retailer.sku.model.dto.SkuSearchCriteria;
+import com.retailer.sku.model.dto.SkuUpdateRequest;
+import com.retailer.sku.reactive.model.SkuRow;
+import com.retailer.sku.reactive.repository.SkuRowCriteria;
+import com.retailer.sku.reactive.repository.SkuRowRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Same semantics as the servlet service's {@code SkuServiceImpl}: generated SKU codes, UPC uniqueness checked
+ * before writing, optimistic versioning on every update and soft deletes. Single-statement reads run without
+ * a transaction.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveSkuServiceImpl implements ReactiveSkuService {
+
+    private static final String RETAILER_PREFIX = "THD";
+
+    private final SkuRowRepository skuRowRepository;
+    private final R2dbcEntityTemplate entityTemplate;
+    private final SkuRowMapper skuRowMapper;
+
+    private final Map<String, AtomicInteger> sequenceCounters = new ConcurrentHashMap<>();
+
+    @Override
+    @Transactional
+    public Mono<SkuResponse> createSku(SkuRequest request) {
+        return validateUpcUniqueness(request.getUpc())
+                .then(newRow(request))
+                .flatMap(skuRowRepository::save)
+                .doOnNext(saved -> log.info("Created SKU with code: {}", saved.getSkuCode()))
+                .map(skuRowMapper::toResponse);
+    }
+
+    @Override
+    @Transactional
+    public Mono<List<SkuResponse>> createSkusBatch(List<SkuRequest> requests) {
+        return Flux.fromIterable(requests)
+                .concatMap(request -> validateUpcUniqueness(request.getUpc()).then(newRow(request)))
+                .collectList()
+                .flatMapMany(skuRowRepository::saveAll)
+                .map(skuRowMapper::toResponse)
+                .collectList()
+                .doOnNext(saved -> log.info("Created {} SKUs in batch", saved.size()));
+    }
+
+    @Override
+    public Mono<SkuResponse> getSkuById(UUID id) {
+        return skuRowRepository.findById(id)
+                .map(skuRowMapper::toResponse)
+                .switchIfEmpty(Mono.error(() -> new SkuNotFoundException("SKU not found with id: " + id)));
+    }
+
+    @Override
+    public Mono<SkuResponse> getSkuByCode(String skuCode) {
+        return skuRowRepository.findBySkuCode(skuCode)
+                .map(skuRowMapper::toResponse)
+                .switchIfEmpty(Mono.error(() -> new SkuNotFoundException("SKU not found with code: " + skuCode)));
+    }
+
+    @Override
+    public Mono<SkuResponse> getSkuByUpc(String upc) {
+        return skuRowRepository.findByUpc(upc)
+                .map(skuRowMapper::toResponse)
+                .switchIfEmpty(Mono.error(() -> new SkuNotFoundException("SKU not found with UPC: " + upc)));
+    }
+
+    @Override
+    public Mono<Page<SkuResponse>> searchSkus(SkuSearchCriteria criteria, Pageable pageable) {
+        Criteria where = SkuRowCriteria.withSearchCriteria(criteria);
+        return entityTemplate.select(Query.query(where).with(pageable), SkuRow.class)
+                .map(skuRowMapper::toResponse)
+                .collectList()
+                .flatMap(content -> {
+                    // As in PageableExecutionUtils: a short page already tells the total, so only count otherwise
+                    if (pageable.isUnpaged()) {
+                        return Mono.just(new PageImpl<>(content, pageable, content.size()));
+                    }
+                    if (content.size() < pageable.getPageSize() && (pageable.getOffset() == 0 || !content.isEmpty())) {
+                        return Mono.just(new PageImpl<>(content, pageable, pageable.getOffset() + content.size()));
+                    }
+                    return entityTemplate.count(Query.query(where), SkuRow.class)
+                            .map(total -> new PageImpl<>(content, pageable, total));
+                });
+    }
+
+    @Override
+    public Flux<SkuResponse> streamSkus(SkuSearchCriteria criteria, Sort sort) {
+        // Rows are fetched in chunks of spring.r2dbc.properties.fetchSize as downstream demand allows
+        return entityTemplate.select(Query.query(SkuRowCriteria.withSearchCriteria(criteria)).sort(sort), SkuRow.class)
+                .map(skuRowMapper::toResponse);
+    }
+
+    @Override
+    @Transactional
+    public Mono<SkuResponse> updateSku(UUID id, SkuRequest request) {
+        return findExisting(id)
+                .flatMap(existing -> validateUpcChange(existing, request.getUpc()).then(Mono.fromSupplier(() -> {
+                    SkuRow updated = skuRowMapper.toRow(request);
+                    updated.setId(existing.getId());
+                    updated.setSkuCode(existing.getSkuCode());
+                    updated.setVersion(existing.getVersion());
+                    updated.setCreatedAt(existing.getCreatedAt());
+                    updated.setUpdatedAt(Instant.now());
+                    return updated;
+                })))
+                .flatMap(skuRowRepository::save)
+                .doOnNext(saved -> log.info("Updated SKU: {}", saved.getSkuCode()))
+                .map(skuRowMapper::toResponse);
+    }
+
+    @Override
+    @Transactional
+    public Mono<SkuResponse> partialUpdateSku(UUID id, SkuUpdateRequest request) {
+        return findExisting(id)
+                .flatMap(existing -> validateUpcChange(existing, request.getUpc()).then(Mono.fromSupplier(() -> {
+                    skuRowMapper.updateRowFromRequest(request, existing);
+                    existing.setUpdatedAt(Instant.now());
+                    return existing;
+                })))
+                .flatMap(skuRowRepository::save)
+                .doOnNext(saved -> log.info("Partially updated SKU: {}", saved.getSkuCode()))
+                .map(skuRowMapper::toResponse);
+    }
+
+    @Override
+    @Transactional
+    public Mono<Void> deleteSku(UUID id) {
+        return findExisting(id)
+                .flatMap(sku -> {
+                    sku.setStatus("DISCONTINUED");
+                    sku.setUpdatedAt(Instant.now());
+                    return skuRowRepository.save(sku);
+                })
+                .doOnNext(sku -> log.info("Soft deleted SKU: {}", sku.getSkuCode()))
+                .then();
+    }
+
+    private Mono<SkuRow> findExisting(UUID id) {
+        return skuRowRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new SkuNotFoundException("SKU not found with id: " + id)));
+    }
+
+    private Mono<SkuRow> newRow(SkuRequest request) {
+        return generateSkuCode(request.getCategory()).map(skuCode -> {
+            SkuRow row = skuRowMapper.toRow(request);
+            row.setSkuCode(skuCode);
+            Instant now = Instant.now();
+            row.setCreatedAt(now);
+            row.setUpdatedAt(now);
+            return row;
+        });
+    }
+
+    private Mono<String> generateSkuCode(String category) {
+        String prefix = RETAILER_PREFIX + "-" + category;
+
+        // Deferred so the counter is looked up at subscription, after any earlier write seeded it
+        return Mono.defer(() -> {
+            AtomicInteger counter = sequenceCounters.get(prefix);
+            return counter != null
+                    ? Mono.just(counter)
+                    : skuRowRepository.findMaxSequenceByPrefix(prefix)
+                            .defaultIfEmpty(0)
+                            .map(maxSequence -> sequenceCounters.computeIfAbsent(prefix, k -> new AtomicInteger(maxSequence)));
+        }).map(sequence -> String.format("%s-%07d", prefix, sequence.incrementAndGet()));
+    }
+
+    private Mono<Void> validateUpcChange(SkuRow existing, String upc) {
+        return upc != null && !upc.equals(existing.getUpc()) ? validateUpcUniqueness(upc) : Mono.empty();
+    }
+
+    private Mono<Void> validateUpcUniqueness(String upc) {
+        if (upc == null) {
+            return Mono.empty();
+        }
+        return skuRowRepository.existsByUpc(upc)
+                .flatMap(exists -> exists
+                        ? Mono.error(new DuplicateSkuException("SKU with UPC " + upc + " already exists"))
+                        : Mono.empty());
+    }
+}
@@ -0,0 +1,168 @@
+package com.retailer.sku.reactive.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.retailer.sku.model.dto.DimensionsDto;
+import com.retailer.sku.model.dto.SkuRequest;
+import com.retailer.sku.model.dto.SkuResponse;
+import com.retailer.sku.model.dto.SkuUpdateRequest;
+import com.retailer.sku.reactive.model.SkuRow;
+import io.r2dbc.postgresql.codec.Json;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps between the API payloads and {@link SkuRow} the same way the servlet service's MapStruct mapper maps
+ * them onto its entity: a full update replaces every field and resets the status to ACTIVE, a partial update
+ * only applies non-null fields.
+ */
+@Component
+@RequiredArgsConstructor
+public class SkuRowMapper {
+
+    private static final TypeReference<List<String>> TAGS = new TypeReference<>() {
+    };
+    private static final TypeReference<Map<String, String>> ATTRIBUTES = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+
+    public SkuRow toRow(SkuRequest request) {
+        SkuRow row = new SkuRow();
+        row.setUpc(request.getUpc());
+        row.setName(request.getName());
+        row.setDescription(request.getDescription());
+        row.setBrand(request.getBrand());
+        row.setCategory(request.getCategory());
+        row.setSubcategory(request.getSubcategory());
+        row.setPrice(request.getPrice());
+        row.setCost(request.getCost());
+        row.setUnitOfMeasure(request.getUnitOfMeasure());
+        row.setQuantityPerUnit(request.getQuantityPerUnit());
+        row.setWeight(request.getWeight());
+        setDimensions(row, request.getDimensions());
+        row.setStatus("ACTIVE");
+        row.setTags(toJson(request.getTags()));
+        row.setAttributes(toJson(request.getAttributes()));
+        return row;
+    }
+
+    public void updateRowFromRequest(SkuUpdateRequest request, SkuRow row) {
+        if (request.getUpc() != null) {
+            row.setUpc(request.getUpc());
+        }
+        if (request.getName() != null) {
+            row.setName(request.getName());
+        }
+        if (request.getDescription() != null) {
+            row.setDescription(request.getDescription());
+        }
+        if (request.getBrand() != null) {
+            row.setBrand(request.getBrand());
+        }
+        if (request.getCategory() != null) {
+            row.setCategory(request.getCategory());
+        }
+        if (request.getSubcategory() != null) {
+            row.setSubcategory(request.getSubcategory());
+        }
+        if (request.getPrice() != null) {
+            row.setPrice(request.getPrice());
+        }
+        if (request.getCost() != null) {
+            row.setCost(request.getCost());
+        }
+        if (request.getUnitOfMeasure() != null) {
+            row.setUnitOfMeasure(request.getUnitOfMeasure());
+        }
+        if (request.getQuantityPerUnit() != null) {
+            row.setQuantityPerUnit(request.getQuantityPerUnit());
+        }
+        if (request.getWeight() != null) {
+            row.setWeight(request.getWeight());
+        }
+        if (request.getDimensions() != null) {
+            setDimensions(row, request.getDimensions());
+        }
+        if (request.getStatus() != null) {
+            row.setStatus(request.getStatus());
+        }
+        if (request.getTags() != null) {
+            row.setTags(toJson(request.getTags()));
+        }
+        if (request.getAttributes() != null) {
+            row.setAttributes(toJson(request.getAttributes()));
+        }
+    }
+
+    public SkuResponse toResponse(SkuRow row) {
+        return SkuResponse.builder()
+                .id(row.getId())
+                .skuCode(row.getSkuCode())
+                .upc(row.getUpc())
+                .name(row.getName())
+                .description(row.getDescription())
+                .brand(row.getBrand())
+                .category(row.getCategory())
+                .subcategory(row.getSubcategory())
+                .price(row.getPrice())
+                .cost(row.getCost())
+                .unitOfMeasure(row.getUnitOfMeasure())
+                .quantityPerUnit(row.getQuantityPerUnit())
+                .weight(row.getWeight())
+                .dimensions(toDimensionsDto(row))
+                .status(row.getStatus())
+                .tags(fromJson(row.getTags(), TAGS))
+                .attributes(fromJson(row.getAttributes(), ATTRIBUTES))
+                .createdAt(row.getCreatedAt())
+                .updatedAt(row.getUpdatedAt())
+                .version(row.getVersion())
+                .build();
+    }
+
+    private static void setDimensions(SkuRow row, DimensionsDto dimensions) {
+        row.setDimensionLength(dimensions != null ? dimensions.getLength() : null);
+        row.setDimensionWidth(dimensions != null ? dimensions.getWidth() : null);
+        row.setDimensionHeight(dimensions != null ? dimensions.getHeight() : null);
+    }
+
+    // Like an all-null embeddable in the JPA entity, a row without dimensions has no dimensions object
+    private static DimensionsDto toDimensionsDto(SkuRow row) {
+        if (row.getDimensionLength() == null && row.getDimensionWidth() == null && row.getDimensionHeight() == null) {
+            return null;
+        }
+        return DimensionsDto.builder()
+                .length(row.getDimensionLength())
+                .width(row.getDimensionWidth())
+                .height(row.getDimensionHeight())
+                .build();
+    }
+
+    private Json toJson(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Json.of(objectMapper.writeValueAsBytes(value));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private <T> T fromJson(Json json, TypeReference<T> type) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json.asArray(), type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
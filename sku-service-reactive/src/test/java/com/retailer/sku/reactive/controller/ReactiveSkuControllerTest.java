@@ -0,0 +1,159 @@
+package com.retailer.sku.reactive.controller;
+
+import com.retailer.sku.exception.SkuNotFoundException;
+import com.retailer.sku.model.dto.SkuRequest;
+import com.retailer.sku.model.dto.SkuResponse;
+import com.retailer.sku.model.dto.SkuSearchCriteria;
+import com.retailer.sku.reactive.exception.ReactiveExceptionHandler;
+import com.retailer.sku.reactive.service.ReactiveSkuService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.ReactivePageableHandlerMethodArgumentResolver;
+import org.springframework.data.web.ReactiveSortHandlerMethodArgumentResolver;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveSkuControllerTest {
+
+    @Mock
+    private ReactiveSkuService skuService;
+
+    @InjectMocks
+    private ReactiveSkuController skuController;
+
+    private WebTestClient webTestClient;
+    private SkuResponse skuResponse;
+    private UUID skuId;
+
+    @BeforeEach
+    void setUp() {
+        webTestClient = WebTestClient.bindToController(skuController)
+                .controllerAdvice(new ReactiveExceptionHandler())
+                .argumentResolvers(configurer -> configurer.addCustomResolver(
+                        new ReactivePageableHandlerMethodArgumentResolver(),
+                        new ReactiveSortHandlerMethodArgumentResolver()))
+                .build();
+
+        skuId = UUID.randomUUID();
+
+        skuResponse = SkuResponse.builder()
+                .id(skuId)
+                .skuCode("THD-LBR-0000001")
+                .name("Test Product")
+                .category("LBR")
+                .price(new BigDecimal("10.99"))
+                .upc("012345678901")
+                .status("ACTIVE")
+                .version(3L)
+                .build();
+    }
+
+    @Test
+    void createSku_ValidRequest_Returns201() {
+        when(skuService.createSku(any(SkuRequest.class))).thenReturn(Mono.just(skuResponse));
+
+        webTestClient.post().uri("/api/v1/skus")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(SkuRequest.builder().name("Test Product").category("LBR").build())
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.skuCode").isEqualTo("THD-LBR-0000001");
+    }
+
+    @Test
+    void createSku_MissingName_Returns400WithFieldErrors() {
+        webTestClient.post().uri("/api/v1/skus")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(SkuRequest.builder().category("LBR").build())
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Validation Failed")
+                .jsonPath("$.errors.name").exists();
+
+        verifyNoInteractions(skuService);
+    }
+
+    @Test
+    void getSkuById_MatchingVersion_Returns304() {
+        when(skuService.getSkuById(skuId)).thenReturn(Mono.just(skuResponse));
+
+        webTestClient.get().uri("/api/v1/skus/{id}", skuId)
+                .header("If-None-Match", "W/\"3\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals("ETag", "W/\"3\"")
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    void getSkuById_NotFound_Returns404Problem() {
+        when(skuService.getSkuById(skuId)).thenReturn(Mono.error(new SkuNotFoundException("SKU not found with id: " + skuId)));
+
+        webTestClient.get().uri("/api/v1/skus/{id}", skuId)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("SKU Not Found")
+                .jsonPath("$.instance").isEqualTo("/api/v1/skus/" + skuId);
+    }
+
+    @Test
+    void getAllSkus_JsonAccept_ReturnsPageWithDefaultSort() {
+        when(skuService.searchSkus(any(SkuSearchCriteria.class), any(Pageable.class)))
+                .thenReturn(Mono.just(new PageImpl<>(List.of(skuResponse), PageRequest.of(0, 20), 1)));
+
+        webTestClient.get().uri("/api/v1/skus?category=LBR")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content[0].skuCode").isEqualTo("THD-LBR-0000001")
+                .jsonPath("$.totalElements").isEqualTo(1);
+
+        verify(skuService).searchSkus(argThat(criteria -> "LBR".equals(criteria.getCategory())),
+                eq(PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"))));
+    }
+
+    @Test
+    void getAllSkus_NdjsonAccept_StreamsEveryMatch() {
+        SkuResponse second = SkuResponse.builder().id(UUID.randomUUID()).skuCode("THD-LBR-0000002").build();
+        when(skuService.streamSkus(any(SkuSearchCriteria.class), eq(Sort.by(Sort.Direction.ASC, "price"))))
+                .thenReturn(Flux.just(skuResponse, second));
+
+        List<SkuResponse> streamed = webTestClient.get().uri("/api/v1/skus?sort=price,asc")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(SkuResponse.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertThat(streamed).extracting(SkuResponse::getSkuCode).containsExactly("THD-LBR-0000001", "THD-LBR-0000002");
+        verify(skuService, never()).searchSkus(any(), any());
+    }
+}
@@ -0,0 +1,272 @@
+package com.retailer.sku.reactive.load;
+
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.model.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+/**
+ * Holds {@code load.concurrency} connections open against each image, every one issuing lookups back to back,
+ * and reports throughput, p99 latency, JVM threads and how much container memory each connection costs over
+ * the idle baseline. Both stacks run with the same memory limit against the same database, e.g.
+ * {@code ./gradlew :sku-service-reactive:loadTest -PloadImages=servlet=sku-service:latest,reactive=sku-service-reactive:latest}.
+ */
+@Tag("load")
+class StackComparisonLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 2000);
+    private static final Duration DURATION = Duration.parse(System.getProperty("load.duration", "PT30S"));
+    private static final Duration WARMUP = Duration.ofSeconds(10);
+    private static final long MEMORY_LIMIT = 1L << 30;
+    private static final int CATALOG_SIZE = 500;
+    private static final Pattern ID = Pattern.compile("\"id\":\"([0-9a-f-]{36})\"");
+    private static final Pattern VALUE = Pattern.compile("\"value\":([0-9.E]+)");
+
+    private static Network network;
+    private static PostgreSQLContainer<?> postgres;
+
+    @BeforeAll
+    static void startDatabase() {
+        network = Network.newNetwork();
+        postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+                .withNetwork(network)
+                .withNetworkAliases("postgres")
+                .withDatabaseName("skudb")
+                .withUsername("sku_user")
+                .withPassword("sku_password")
+                .withCommand("postgres", "-c", "max_connections=200");
+        postgres.start();
+    }
+
+    @AfterAll
+    static void stopDatabase() {
+        postgres.stop();
+        network.close();
+    }
+
+    static Stream<String> images() {
+        String images = System.getProperty("load.images", "");
+        assumeFalse(images.isBlank(), "No images given, set -PloadImages=servlet=sku-service:latest,...");
+        return Arrays.stream(images.split(",")).map(String::trim).filter(image -> !image.isEmpty());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("images")
+    void lookupsUnderConcurrentConnections(String stackAndImage) throws Exception {
+        String[] parts = stackAndImage.split("=", 2);
+        String stack = parts.length == 2 ? parts[0] : stackAndImage;
+        String image = parts.length == 2 ? parts[1] : stackAndImage;
+
+        try (GenericContainer<?> app = new GenericContainer<>(image)
+                .withNetwork(network)
+                .withEnv("SERVER_PORT", "8080")
+                .withEnv("SPRING_DATASOURCE_URL", "jdbc:postgresql://postgres:5432/skudb")
+                .withEnv("SPRING_DATASOURCE_USERNAME", "sku_user")
+                .withEnv("SPRING_DATASOURCE_PASSWORD", "sku_password")
+                .withEnv("SPRING_R2DBC_URL", "r2dbc:postgresql://postgres:5432/skudb")
+                .withEnv("SPRING_R2DBC_USERNAME", "sku_user")
+                .withEnv("SPRING_R2DBC_PASSWORD", "sku_password")
+                .withEnv("OTEL_SDK_DISABLED", "true")
+                .withEnv("MANAGEMENT_OTLP_METRICS_EXPORT_ENABLED", "false")
+                .withCreateContainerCmdModifier(cmd -> cmd.getHostConfig().withMemory(MEMORY_LIMIT))
+                .withExposedPorts(8080)
+                .waitingFor(Wait.forHttp("/actuator/health").forStatusCode(200)
+                        .withStartupTimeout(Duration.ofMinutes(2)))) {
+            app.start();
+            URI base = URI.create("http://" + app.getHost() + ":" + app.getMappedPort(8080));
+
+            // HTTP/1.1 so every in-flight request holds its own connection
+            HttpClient http = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build();
+            List<String> ids = seedCatalog(http, base);
+
+            run(http, base, ids, Math.min(CONCURRENCY, 50), WARMUP, null);
+            long idleMemory = memoryUsage(app);
+            long idleThreads = liveThreads(http, base);
+
+            long[] underLoad = new long[2];
+            Result result = run(http, base, ids, CONCURRENCY, DURATION, () -> {
+                underLoad[0] = memoryUsage(app);
+                underLoad[1] = liveThreads(http, base);
+            });
+
+            long perConnection = Math.max(0, underLoad[0] - idleMemory) / CONCURRENCY;
+            System.out.printf("load stack=%s image=%s concurrency=%d requests/s=%.0f p50.ms=%.1f p99.ms=%.1f "
+                            + "failed=%d memory.idle.mib=%d memory.load.mib=%d memory.per.connection.kib=%d "
+                            + "threads.idle=%d threads.load=%d%n",
+                    stack, image, CONCURRENCY, result.throughput(), result.percentile(0.50), result.percentile(0.99),
+                    result.failed(), idleMemory >> 20, underLoad[0] >> 20, perConnection >> 10,
+                    idleThreads, underLoad[1]);
+            assertThat(result.succeeded()).isPositive();
+        }
+    }
+
+    private static List<String> seedCatalog(HttpClient http, URI base) throws Exception {
+        List<String> ids = ids(send(http, base, "GET", "/api/v1/skus?size=" + CATALOG_SIZE, null).body());
+        if (ids.size() >= CATALOG_SIZE) {
+            return ids;
+        }
+        StringBuilder batch = new StringBuilder("{\"skus\":[");
+        for (int i = 0; i < 100; i++) {
+            batch.append(i > 0 ? "," : "")
+                    .append("{\"name\":\"Load Test Item ").append(i)
+                    .append("\",\"category\":\"HRD\",\"price\":\"").append(1 + i % 50).append(".99\"}");
+        }
+        batch.append("]}");
+        for (int created = ids.size(); created < CATALOG_SIZE; created += 100) {
+            assertThat(send(http, base, "POST", "/api/v1/skus/batch", batch.toString()).statusCode()).isEqualTo(201);
+        }
+        return ids(send(http, base, "GET", "/api/v1/skus?size=" + CATALOG_SIZE, null).body());
+    }
+
+    private static Result run(HttpClient http, URI base, List<String> ids, int connections, Duration duration,
+                              Sampler midpointSampler) throws Exception {
+        LongAdder failed = new LongAdder();
+        List<long[]> latencies = new ArrayList<>();
+        long started = System.nanoTime();
+        long deadline = started + duration.toNanos();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<CompletableFuture<long[]>> futures = new ArrayList<>();
+            for (int i = 0; i < connections; i++) {
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    long[] samples = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        String id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+                        long sent = System.nanoTime();
+                        try {
+                            int status = send(http, base, "GET", "/api/v1/skus/" + id, null).statusCode();
+                            if (status != 200) {
+                                failed.increment();
+                                continue;
+                            }
+                        } catch (Exception e) {
+                            failed.increment();
+                            continue;
+                        }
+                        if (count == samples.length) {
+                            samples = Arrays.copyOf(samples, count * 2);
+                        }
+                        samples[count++] = System.nanoTime() - sent;
+                    }
+                    return Arrays.copyOf(samples, count);
+                }, workers));
+            }
+            if (midpointSampler != null) {
+                TimeUnit.NANOSECONDS.sleep(duration.toNanos() / 2);
+                midpointSampler.sample();
+            }
+            for (CompletableFuture<long[]> future : futures) {
+                latencies.add(future.join());
+            }
+        }
+
+        long[] all = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Result(all, failed.sum(), Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    private static HttpResponse<String> send(HttpClient http, URI base, String method, String path, String json)
+            throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(base.resolve(path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Accept", "application/json");
+        if (json != null) {
+            request.header("Content-Type", "application/json");
+        }
+        request.method(method, json == null
+                ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(json));
+        return http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static List<String> ids(String body) {
+        List<String> ids = new ArrayList<>();
+        Matcher matcher = ID.matcher(body);
+        while (matcher.find()) {
+            ids.add(matcher.group(1));
+        }
+        return ids;
+    }
+
+    private static long liveThreads(HttpClient http, URI base) {
+        try {
+            Matcher matcher = VALUE.matcher(send(http, base, "GET", "/actuator/metrics/jvm.threads.live", null).body());
+            return matcher.find() ? (long) Double.parseDouble(matcher.group(1)) : -1;
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    private static long memoryUsage(GenericContainer<?> app) {
+        CompletableFuture<Statistics> stats = new CompletableFuture<>();
+        DockerClientFactory.instance().client().statsCmd(app.getContainerId()).withNoStream(true)
+                .exec(new ResultCallback.Adapter<>() {
+                    @Override
+                    public void onNext(Statistics statistics) {
+                        stats.complete(statistics);
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        stats.completeExceptionally(throwable);
+                    }
+                });
+        Long usage = stats.orTimeout(10, TimeUnit.SECONDS).join().getMemoryStats().getUsage();
+        return usage != null ? usage : -1;
+    }
+
+    @FunctionalInterface
+    private interface Sampler {
+        void sample();
+    }
+
+    private record Result(long[] sortedLatencies, long failed, Duration elapsed) {
+
+        long succeeded() {
+            return sortedLatencies.length;
+        }
+
+        double throughput() {
+            return sortedLatencies.length / (elapsed.toNanos() / 1e9);
+        }
+
+        double percentile(double quantile) {
+            if (sortedLatencies.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.ceil(quantile * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, index)] / 1e6;
+        }
+    }
+}
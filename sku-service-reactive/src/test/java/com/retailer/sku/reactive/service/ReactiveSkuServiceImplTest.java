@@ -0,0 +1,145 @@
+package com.retailer.sku.reactive.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.retailer.sku.exception.DuplicateSkuException;
+import com.retailer.sku.exception.SkuNotFoundException;
+import com.retailer.sku.model.dto.SkuRequest;
+import com.retailer.sku.model.dto.SkuUpdateRequest;
+import com.retailer.sku.reactive.model.SkuRow;
+import com.retailer.sku.reactive.repository.SkuRowRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveSkuServiceImplTest {
+
+    @Mock
+    private SkuRowRepository skuRowRepository;
+
+    @Mock
+    private R2dbcEntityTemplate entityTemplate;
+
+    private ReactiveSkuServiceImpl skuService;
+    private SkuRow existing;
+    private UUID skuId;
+
+    @BeforeEach
+    void setUp() {
+        skuService = new ReactiveSkuServiceImpl(skuRowRepository, entityTemplate, new SkuRowMapper(new ObjectMapper()));
+
+        skuId = UUID.randomUUID();
+        existing = SkuRow.builder()
+                .id(skuId)
+                .skuCode("THD-LBR-0000007")
+                .upc("012345678901")
+                .name("2x4x8 Lumber")
+                .category("LBR")
+                .price(new BigDecimal("8.99"))
+                .status("ACTIVE")
+                .createdAt(Instant.parse("2024-01-15T10:30:00Z"))
+                .updatedAt(Instant.parse("2024-01-15T10:30:00Z"))
+                .version(4L)
+                .build();
+    }
+
+    @Test
+    void createSku_NewCategory_SeedsSequenceFromDatabase() {
+        SkuRequest request = SkuRequest.builder()
+                .name("Deck Screws")
+                .category("HRD")
+                .price(new BigDecimal("9.99"))
+                .tags(List.of("outdoor"))
+                .build();
+        when(skuRowRepository.findMaxSequenceByPrefix("THD-HRD")).thenReturn(Mono.just(41));
+        when(skuRowRepository.save(any(SkuRow.class))).thenAnswer(invocation -> {
+            SkuRow row = invocation.getArgument(0);
+            row.setId(UUID.randomUUID());
+            row.setVersion(0L);
+            return Mono.just(row);
+        });
+
+        StepVerifier.create(skuService.createSku(request).concatWith(skuService.createSku(request)))
+                .assertNext(created -> {
+                    assertThat(created.getSkuCode()).isEqualTo("THD-HRD-0000042");
+                    assertThat(created.getStatus()).isEqualTo("ACTIVE");
+                    assertThat(created.getTags()).containsExactly("outdoor");
+                })
+                .assertNext(created -> assertThat(created.getSkuCode()).isEqualTo("THD-HRD-0000043"))
+                .verifyComplete();
+
+        verify(skuRowRepository, times(1)).findMaxSequenceByPrefix("THD-HRD");
+    }
+
+    @Test
+    void createSku_UpcTaken_FailsWithoutSaving() {
+        SkuRequest request = SkuRequest.builder().name("Copy").category("LBR").upc("012345678901").build();
+        when(skuRowRepository.existsByUpc("012345678901")).thenReturn(Mono.just(true));
+
+        StepVerifier.create(skuService.createSku(request))
+                .expectError(DuplicateSkuException.class)
+                .verify();
+
+        verify(skuRowRepository, never()).save(any());
+    }
+
+    @Test
+    void updateSku_ExistingSku_KeepsIdentityAndVersionForOptimisticCheck() {
+        SkuRequest request = SkuRequest.builder()
+                .name("2x4x8 Lumber, Premium")
+                .category("LBR")
+                .upc("012345678901")
+                .price(new BigDecimal("9.49"))
+                .build();
+        when(skuRowRepository.findById(skuId)).thenReturn(Mono.just(existing));
+        when(skuRowRepository.save(any(SkuRow.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.create(skuService.updateSku(skuId, request))
+                .assertNext(updated -> {
+                    assertThat(updated.getId()).isEqualTo(skuId);
+                    assertThat(updated.getSkuCode()).isEqualTo("THD-LBR-0000007");
+                    assertThat(updated.getVersion()).isEqualTo(4L);
+                    assertThat(updated.getCreatedAt()).isEqualTo(existing.getCreatedAt());
+                    assertThat(updated.getUpdatedAt()).isAfter(existing.getUpdatedAt());
+                })
+                .verifyComplete();
+
+        // Unchanged UPC is not re-checked
+        verify(skuRowRepository, never()).existsByUpc(any());
+    }
+
+    @Test
+    void partialUpdateSku_ConcurrentChange_PropagatesOptimisticLockFailure() {
+        when(skuRowRepository.findById(skuId)).thenReturn(Mono.just(existing));
+        when(skuRowRepository.save(any(SkuRow.class)))
+                .thenReturn(Mono.error(new OptimisticLockingFailureException("Failed to update table [skus]")));
+
+        StepVerifier.create(skuService.partialUpdateSku(skuId, SkuUpdateRequest.builder().price(BigDecimal.ONE).build()))
+                .expectError(OptimisticLockingFailureException.class)
+                .verify();
+    }
+
+    @Test
+    void deleteSku_UnknownId_FailsWithNotFound() {
+        when(skuRowRepository.findById(skuId)).thenReturn(Mono.empty());
+
+        StepVerifier.create(skuService.deleteSku(skuId))
+                .expectError(SkuNotFoundException.class)
+                .verify();
+    }
+}
@@ -0,0 +1,128 @@
+package com.retailer.sku.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repository query shapes against a seeded database, run once with the schema migrated up to V2
+ * ({@code spring.flyway.target=2}, single skus heap) and once after V4 (partitioned by category), e.g.
+ * {@code ./gradlew jmh -Pjmh.includes=CategoryPartitionBenchmark -Pjmh.params=jdbcUrl=jdbc:postgresql://localhost:5432/skudb}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CategoryPartitionBenchmark {
+
+    @Param({"jdbc:postgresql://localhost:5432/skudb"})
+    public String jdbcUrl;
+
+    @Param({"sku_user"})
+    public String user;
+
+    @Param({"sku_password"})
+    public String password;
+
+    private Connection connection;
+    private PreparedStatement categoryPage;
+    private PreparedStatement categoryPriceCount;
+    private PreparedStatement upcLookup;
+    private PreparedStatement idLookup;
+    private List<String> categories;
+    private List<String> upcs;
+    private List<UUID> ids;
+    private int keyParameters;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(jdbcUrl, user, password);
+        categories = column("SELECT DISTINCT category FROM skus", String.class);
+        upcs = column("SELECT upc FROM skus WHERE upc IS NOT NULL ORDER BY random() LIMIT 1000", String.class);
+        ids = column("SELECT id FROM skus ORDER BY random() LIMIT 1000", UUID.class);
+
+        // Lookups go through sku_keys once it exists, the same way SkuRepository routes them
+        boolean routed = column("SELECT to_regclass('sku_keys') IS NOT NULL", Boolean.class).get(0);
+        keyParameters = routed ? 2 : 1;
+        categoryPage = connection.prepareStatement(
+                "SELECT * FROM skus WHERE category = ? AND status = 'ACTIVE' ORDER BY created_at DESC LIMIT 20");
+        categoryPriceCount = connection.prepareStatement(
+                "SELECT COUNT(*) FROM skus WHERE category = ? AND price BETWEEN ? AND ?");
+        upcLookup = connection.prepareStatement(routed
+                ? "SELECT * FROM skus s WHERE s.upc = ? AND s.category = (SELECT k.category FROM sku_keys k WHERE k.upc = ?)"
+                : "SELECT * FROM skus WHERE upc = ?");
+        idLookup = connection.prepareStatement(routed
+                ? "SELECT * FROM skus s WHERE s.id = ? AND s.category = (SELECT k.category FROM sku_keys k WHERE k.id = ?)"
+                : "SELECT * FROM skus WHERE id = ?");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public int categoryPage() throws SQLException {
+        categoryPage.setString(1, random(categories));
+        return drain(categoryPage);
+    }
+
+    @Benchmark
+    public int categoryPriceRangeCount() throws SQLException {
+        int low = ThreadLocalRandom.current().nextInt(0, 500);
+        categoryPriceCount.setString(1, random(categories));
+        categoryPriceCount.setInt(2, low);
+        categoryPriceCount.setInt(3, low + 50);
+        return drain(categoryPriceCount);
+    }
+
+    @Benchmark
+    public int upcLookup() throws SQLException {
+        String upc = random(upcs);
+        for (int i = 1; i <= keyParameters; i++) {
+            upcLookup.setString(i, upc);
+        }
+        return drain(upcLookup);
+    }
+
+    @Benchmark
+    public int idLookup() throws SQLException {
+        UUID id = random(ids);
+        for (int i = 1; i <= keyParameters; i++) {
+            idLookup.setObject(i, id);
+        }
+        return drain(idLookup);
+    }
+
+    private static int drain(PreparedStatement statement) throws SQLException {
+        int rows = 0;
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private <T> List<T> column(String sql, Class<T> type) throws SQLException {
+        List<T> values = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(sql); ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                values.add(rs.getObject(1, type));
+            }
+        }
+        return values;
+    }
+
+    private static <T> T random(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+}
@@ -0,0 +1,76 @@
+package com.retailer.sku.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * First page of the box fit query for random boxes against a seeded database, e.g.
+ * {@code ./gradlew jmh -Pjmh.includes=FitSearchBenchmark -Pjmh.params=jdbcUrl=jdbc:postgresql://localhost:5432/skudb}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FitSearchBenchmark {
+
+    private static final String FIT_QUERY = "SELECT s.* FROM skus s WHERE s.status = 'ACTIVE' "
+            + "AND sku_fit_point(s.dimension_length, s.dimension_width, s.dimension_height, s.weight) "
+            + "<@ cube(CAST(ARRAY[0, 0, 0, 0] AS float8[]), CAST(ARRAY[?, ?, ?, ?] AS float8[])) "
+            + "ORDER BY sku_fit_point(s.dimension_length, s.dimension_width, s.dimension_height, s.weight) "
+            + "<-> cube(CAST(ARRAY[?, ?, ?, ?] AS float8[])) LIMIT 21";
+
+    @Param({"jdbc:postgresql://localhost:5432/skudb"})
+    public String jdbcUrl;
+
+    @Param({"sku_user"})
+    public String user;
+
+    @Param({"sku_password"})
+    public String password;
+
+    @Param({"48"})
+    public int maxDimension;
+
+    private Connection connection;
+    private PreparedStatement fit;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(jdbcUrl, user, password);
+        fit = connection.prepareStatement(FIT_QUERY);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public int fitFirstPage() throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double[] box = {random.nextDouble(1, maxDimension), random.nextDouble(1, maxDimension),
+                random.nextDouble(1, maxDimension)};
+        Arrays.sort(box);
+        double maxWeight = random.nextDouble(1, 100);
+        for (int i = 0; i < 2; i++) {
+            for (int j = 0; j < 3; j++) {
+                fit.setDouble(i * 4 + j + 1, box[j]);
+            }
+            fit.setDouble(i * 4 + 4, maxWeight);
+        }
+        int rows = 0;
+        try (ResultSet rs = fit.executeQuery()) {
+            while (rs.next()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,113 @@
+package com.retailer.sku.benchmark;
+
+import com.retailer.sku.proto.v1.LookupRequest;
+import com.retailer.sku.proto.v1.LookupResponse;
+import com.retailer.sku.proto.v1.Sku;
+import com.retailer.sku.proto.v1.SkuKey;
+import com.retailer.sku.proto.v1.SkuServiceGrpc;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.stub.StreamObserver;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load test of UPC lookups over REST and gRPC against a running instance. Seed the catalog first and
+ * pass the UPCs to use, e.g.
+ * {@code ./gradlew jmh -Pjmh.includes=LookupLoadBenchmark -Pjmh.threads=32 -Pjmh.params=upcs=012345678901,...}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LookupLoadBenchmark {
+
+    // Lookups per stream; also the operation count JMH divides each stream's time by
+    private static final int STREAM_BATCH_SIZE = 100;
+
+    @Param({"http://localhost:8080"})
+    public String restUrl;
+
+    @Param({"localhost:9090"})
+    public String grpcTarget;
+
+    @Param({"012345678901"})
+    public String upcs;
+
+    private String[] upcList;
+    private HttpClient httpClient;
+    private ManagedChannel channel;
+    private SkuServiceGrpc.SkuServiceBlockingStub blockingStub;
+    private SkuServiceGrpc.SkuServiceStub asyncStub;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        upcList = upcs.split(",");
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        channel = ManagedChannelBuilder.forTarget(grpcTarget).usePlaintext().build();
+        blockingStub = SkuServiceGrpc.newBlockingStub(channel);
+        asyncStub = SkuServiceGrpc.newStub(channel);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        channel.shutdown().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public int restGetByUpc() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(restUrl + "/api/v1/skus/upc/" + nextUpc()))
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray()).body().length;
+    }
+
+    @Benchmark
+    public Sku grpcGetByUpc() {
+        return blockingStub.getSku(SkuKey.newBuilder().setUpc(nextUpc()).build());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STREAM_BATCH_SIZE)
+    public int grpcStreamLookup() throws InterruptedException {
+        AtomicInteger resolved = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(1);
+        StreamObserver<LookupRequest> requests = asyncStub.streamLookup(new StreamObserver<>() {
+            @Override
+            public void onNext(LookupResponse value) {
+                resolved.incrementAndGet();
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                done.countDown();
+            }
+
+            @Override
+            public void onCompleted() {
+                done.countDown();
+            }
+        });
+        for (int i = 0; i < STREAM_BATCH_SIZE; i++) {
+            requests.onNext(LookupRequest.newBuilder()
+                    .setCorrelationId(Integer.toString(i))
+                    .setKey(SkuKey.newBuilder().setUpc(nextUpc()))
+                    .build());
+        }
+        requests.onCompleted();
+        done.await(30, TimeUnit.SECONDS);
+        return resolved.get();
+    }
+
+    private String nextUpc() {
+        return upcList[ThreadLocalRandom.current().nextInt(upcList.length)];
+    }
+}
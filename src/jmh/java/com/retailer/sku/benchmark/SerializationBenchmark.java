@@ -0,0 +1,110 @@
+package com.retailer.sku.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.retailer.sku.model.dto.DimensionsDto;
+import com.retailer.sku.model.dto.SkuResponse;
+import com.retailer.sku.proto.SkuProtoMapper;
+import com.retailer.sku.proto.v1.SkuList;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode/decode cost of a bulk SKU response in each negotiated wire format.
+ * Payload sizes are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+
+    private static final TypeReference<List<SkuResponse>> SKU_LIST = new TypeReference<>() {
+    };
+
+    @Param({"json", "cbor", "smile", "protobuf"})
+    public String format;
+
+    @Param({"100"})
+    public int batchSize;
+
+    private final SkuProtoMapper protoMapper = new SkuProtoMapper();
+    private ObjectMapper mapper;
+    private List<SkuResponse> skus;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper = switch (format) {
+            case "cbor" -> builder.factory(new CBORFactory()).build();
+            case "smile" -> builder.factory(new SmileFactory()).build();
+            default -> builder.build();
+        };
+
+        skus = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            skus.add(sampleSku(i));
+        }
+        encoded = encode();
+        System.out.printf("%n[%s] %d SKUs -> %d bytes%n", format, batchSize, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        if ("protobuf".equals(format)) {
+            return protoMapper.toProtoList(skus).toByteArray();
+        }
+        return mapper.writeValueAsBytes(skus);
+    }
+
+    @Benchmark
+    public Object decode() throws Exception {
+        if ("protobuf".equals(format)) {
+            return SkuList.parseFrom(encoded).getSkusList().stream()
+                    .map(protoMapper::fromProto)
+                    .toList();
+        }
+        return mapper.readValue(encoded, SKU_LIST);
+    }
+
+    private static SkuResponse sampleSku(int i) {
+        Instant now = Instant.parse("2024-01-15T10:30:00Z").plusSeconds(i);
+        return SkuResponse.builder()
+                .id(UUID.nameUUIDFromBytes(("sku-" + i).getBytes()))
+                .skuCode(String.format("THD-LBR-%07d", i))
+                .upc(String.format("%012d", 12345678901L + i))
+                .name("2x4x8 Pressure Treated Lumber #" + i)
+                .description("Premium pressure treated lumber suitable for outdoor use")
+                .brand("WeatherShield")
+                .category("LBR")
+                .subcategory("PRESSURE_TREATED")
+                .price(new BigDecimal("8.99"))
+                .cost(new BigDecimal("5.50"))
+                .unitOfMeasure("EACH")
+                .quantityPerUnit(1)
+                .weight(new BigDecimal("12.50"))
+                .dimensions(DimensionsDto.builder()
+                        .length(new BigDecimal("96.00"))
+                        .width(new BigDecimal("3.50"))
+                        .height(new BigDecimal("1.50"))
+                        .build())
+                .status("ACTIVE")
+                .tags(List.of("outdoor", "treated", "lumber"))
+                .attributes(Map.of("treatment_type", "ACQ", "grade", "#2"))
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.retailer.sku.batch;
+
+import com.retailer.sku.model.dto.BatchJobItemResult;
+import com.retailer.sku.model.dto.BatchJobResponse;
+import com.retailer.sku.model.dto.SkuRequest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class BatchJob {
+
+    static final String QUEUED = "QUEUED";
+    static final String RUNNING = "RUNNING";
+    static final String COMPLETED = "COMPLETED";
+    static final String COMPLETED_WITH_ERRORS = "COMPLETED_WITH_ERRORS";
+    static final String FAILED = "FAILED";
+
+    private final UUID id = UUID.randomUUID();
+    private final Instant submittedAt = Instant.now();
+    private final int totalItems;
+    private final AtomicInteger processed = new AtomicInteger();
+    private final AtomicInteger succeeded = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+
+    private List<SkuRequest> requests;
+    private volatile String status = QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant completedAt;
+
+    BatchJob(List<SkuRequest> requests) {
+        this.requests = List.copyOf(requests);
+        this.totalItems = requests.size();
+    }
+
+    UUID getId() {
+        return id;
+    }
+
+    List<SkuRequest> getRequests() {
+        return requests;
+    }
+
+    void start() {
+        startedAt = Instant.now();
+        status = RUNNING;
+    }
+
+    void record(BatchJobItemResult result) {
+        if (BatchJobItemResult.CREATED.equals(result.getOutcome())) {
+            succeeded.incrementAndGet();
+        } else {
+            failed.incrementAndGet();
+        }
+        processed.incrementAndGet();
+    }
+
+    void complete() {
+        if (failed.get() == 0) {
+            finish(COMPLETED);
+        } else {
+            finish(succeeded.get() > 0 ? COMPLETED_WITH_ERRORS : FAILED);
+        }
+    }
+
+    void fail() {
+        finish(FAILED);
+    }
+
+    private void finish(String finalStatus) {
+        requests = null;
+        completedAt = Instant.now();
+        status = finalStatus;
+    }
+
+    BatchJobResponse toResponse() {
+        return BatchJobResponse.builder()
+                .jobId(id)
+                .status(status)
+                .totalItems(totalItems)
+                .processedItems(processed.get())
+                .succeeded(succeeded.get())
+                .failed(failed.get())
+                .submittedAt(submittedAt)
+                .startedAt(startedAt)
+                .completedAt(completedAt)
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.retailer.sku.batch;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "sku.batch-jobs")
+public class BatchJobProperties {
+
+    private int chunkSize = 500;
+
+    private int workerThreads = 2;
+
+    private int queueCapacity = 16;
+
+    // How long a finished job and its results stay readable
+    private Duration retention = Duration.ofHours(1);
+
+    // How often jobs queued or running on this instance prove it is still alive; well under stallTimeout
+    private Duration heartbeatInterval = Duration.ofSeconds(10);
+
+    // A job without a heartbeat for this long lost its instance and is marked failed
+    private Duration stallTimeout = Duration.ofMinutes(2);
+
+    private Duration cleanupInterval = Duration.ofMinutes(1);
+
+    private Duration retryAfter = Duration.ofSeconds(30);
+
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,180 @@
+package com.retailer.sku.batch;
+
+import com.retailer.sku.exception.BatchJobNotFoundException;
+import com.retailer.sku.exception.BatchJobRejectedException;
+import com.retailer.sku.exception.BulkheadRejectedException;
+import com.retailer.sku.exception.DuplicateSkuException;
+import com.retailer.sku.model.dto.BatchJobItemResult;
+import com.retailer.sku.model.dto.BatchJobResponse;
+import com.retailer.sku.model.dto.SkuRequest;
+import com.retailer.sku.service.SkuService;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+@Slf4j
+@EnableConfigurationProperties(BatchJobProperties.class)
+public class BatchJobService {
+
+    private final SkuService skuService;
+    private final BatchJobStore store;
+    private final Tracer tracer;
+    private final BatchJobProperties properties;
+    private final ThreadPoolExecutor executor;
+
+    public BatchJobService(SkuService skuService, BatchJobStore store, Tracer tracer, BatchJobProperties properties) {
+        this.skuService = skuService;
+        this.store = store;
+        this.tracer = tracer;
+        this.properties = properties;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                properties.getWorkerThreads(), properties.getWorkerThreads(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> new Thread(runnable, "sku-batch-job-" + threadCount.incrementAndGet()));
+    }
+
+    public BatchJobResponse submit(List<SkuRequest> requests) {
+        BatchJob job = new BatchJob(requests);
+        Context parent = Context.current();
+        store.create(job);
+        try {
+            executor.execute(() -> run(job, parent));
+        } catch (RejectedExecutionException e) {
+            store.delete(job.getId());
+            throw new BatchJobRejectedException(
+                    "Batch job queue is full, retry later", properties.getRetryAfter());
+        }
+
+        log.info("Queued batch job {} with {} SKUs", job.getId(), requests.size());
+        return job.toResponse();
+    }
+
+    public BatchJobResponse getJob(UUID jobId, boolean includeResults) {
+        return store.find(jobId, includeResults)
+                .orElseThrow(() -> new BatchJobNotFoundException("Batch job not found with id: " + jobId));
+    }
+
+    private void run(BatchJob job, Context parent) {
+        List<SkuRequest> requests = job.getRequests();
+        Span span = tracer.spanBuilder("sku.batch.job")
+                .setParent(parent)
+                .setAttribute("batch.job.id", job.getId().toString())
+                .setAttribute(AttributeKey.longKey("batch.size"), (long) requests.size())
+                .startSpan();
+
+        try (Scope scope = span.makeCurrent()) {
+            job.start();
+            store.start(job);
+            int chunkSize = properties.getChunkSize();
+            for (int from = 0; from < requests.size(); from += chunkSize) {
+                List<SkuRequest> chunk = requests.subList(from, Math.min(from + chunkSize, requests.size()));
+                processChunk(job, chunk, from);
+                span.addEvent("batch.chunk.committed");
+            }
+            job.complete();
+            store.finish(job);
+
+            log.info("Batch job {} finished: {}", job.getId(), job.toResponse().getStatus());
+        } catch (Exception e) {
+            job.fail();
+            span.recordException(e);
+            span.setStatus(StatusCode.ERROR, e.getMessage());
+            log.error("Batch job {} failed", job.getId(), e);
+            store.finish(job);
+        } finally {
+            span.end();
+        }
+    }
+
+    private void processChunk(BatchJob job, List<SkuRequest> chunk, int offset) {
+        List<BatchJobItemResult> results = new ArrayList<>(chunk.size());
+        try {
+            collect(results, skuService.createSkusChunk(chunk), offset);
+        } catch (DataIntegrityViolationException | DuplicateSkuException | IllegalArgumentException e) {
+            // The chunk transaction rolled back, so none of its items exist and each can be retried alone
+            log.warn("Chunk at offset {} of batch job {} failed, retrying item by item: {}",
+                    offset, job.getId(), e.getMessage());
+            for (int i = 0; i < chunk.size(); i++) {
+                processItem(job, chunk.get(i), offset + i, results);
+            }
+        } catch (RuntimeException e) {
+            log.error("Chunk at offset {} of batch job {} failed", offset, job.getId(), e);
+            for (int i = 0; i < chunk.size(); i++) {
+                results.add(failure(offset + i, e));
+            }
+        }
+        results.forEach(job::record);
+        store.recordChunk(job, results);
+    }
+
+    private void processItem(BatchJob job, SkuRequest request, int index, List<BatchJobItemResult> results) {
+        try {
+            collect(results, skuService.createSkusChunk(List.of(request)), index);
+        } catch (DataIntegrityViolationException e) {
+            results.add(failure(index, BatchJobItemResult.FAILED, "SKU conflicts with an existing record"));
+        } catch (DuplicateSkuException | IllegalArgumentException e) {
+            results.add(failure(index, BatchJobItemResult.FAILED, e.getMessage()));
+        } catch (RuntimeException e) {
+            log.error("Item {} of batch job {} failed", index, job.getId(), e);
+            results.add(failure(index, e));
+        }
+    }
+
+    private static void collect(List<BatchJobItemResult> results, List<BatchJobItemResult> created, int offset) {
+        for (BatchJobItemResult result : created) {
+            result.setIndex(offset + result.getIndex());
+            results.add(result);
+        }
+    }
+
+    private static BatchJobItemResult failure(int index, RuntimeException e) {
+        if (e instanceof BulkheadRejectedException rejected && rejected.isIndeterminate()) {
+            return failure(index, BatchJobItemResult.INDETERMINATE,
+                    "Create did not complete in time and may still have committed; look the SKU up before resubmitting");
+        }
+        return failure(index, BatchJobItemResult.FAILED, "Unexpected error while creating SKU");
+    }
+
+    private static BatchJobItemResult failure(int index, String outcome, String error) {
+        return BatchJobItemResult.builder()
+                .index(index)
+                .outcome(outcome)
+                .error(error)
+                .build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(properties.getShutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Batch jobs still running after {}, interrupting", properties.getShutdownTimeout());
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        store.abandonOwned();
+    }
+}
@@ -0,0 +1,196 @@
+package com.retailer.sku.batch;
+
+import com.retailer.sku.bulkhead.Workload;
+import com.retailer.sku.bulkhead.WorkloadRoutingDataSource;
+import com.retailer.sku.model.dto.BatchJobItemResult;
+import com.retailer.sku.model.dto.BatchJobResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Batch job progress and per-item results in the shared tables, so any instance can answer for a job and a
+ * finished job outlives the instance that ran it. Jobs queued or running here are kept alive on a heartbeat;
+ * a job whose instance died without finishing it is marked failed once its heartbeat lapses. Progress is
+ * written on the write pool alongside the job's SKUs, status reads on the lookup pool.
+ */
+@Component
+@Slf4j
+public class BatchJobStore {
+
+    private final BatchJobProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<UUID> owned = ConcurrentHashMap.newKeySet();
+
+    public BatchJobStore(BatchJobProperties properties, JdbcTemplate jdbcTemplate,
+                         TransactionTemplate transactionTemplate) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    void create(BatchJob job) {
+        BatchJobResponse state = job.toResponse();
+        WorkloadRoutingDataSource.runWith(Workload.WRITE, () -> jdbcTemplate.update("""
+                INSERT INTO batch_jobs (id, status, total_items, submitted_at) VALUES (?, ?, ?, ?)
+                """, state.getJobId(), state.getStatus(), state.getTotalItems(), timestamp(state.getSubmittedAt())));
+        owned.add(job.getId());
+    }
+
+    /**
+     * Removes a job that never ran, such as one the worker queue rejected.
+     */
+    void delete(UUID jobId) {
+        owned.remove(jobId);
+        WorkloadRoutingDataSource.runWith(Workload.WRITE,
+                () -> jdbcTemplate.update("DELETE FROM batch_jobs WHERE id = ?", jobId));
+    }
+
+    void start(BatchJob job) {
+        BatchJobResponse state = job.toResponse();
+        WorkloadRoutingDataSource.runWith(Workload.WRITE, () -> jdbcTemplate.update(
+                "UPDATE batch_jobs SET status = ?, started_at = ?, heartbeat_at = NOW() WHERE id = ?",
+                state.getStatus(), timestamp(state.getStartedAt()), state.getJobId()));
+    }
+
+    /**
+     * Stores the outcomes of a finished chunk together with the job's counters, so readers never see counts
+     * that disagree with the stored results.
+     */
+    void recordChunk(BatchJob job, List<BatchJobItemResult> results) {
+        BatchJobResponse state = job.toResponse();
+        WorkloadRoutingDataSource.runWith(Workload.WRITE, () -> transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate("""
+                    INSERT INTO batch_job_results (job_id, item_index, outcome, sku_id, sku_code, error)
+                    VALUES (?, ?, ?, ?, ?, ?)
+                    ON CONFLICT (job_id, item_index) DO UPDATE
+                    SET outcome = EXCLUDED.outcome, sku_id = EXCLUDED.sku_id, sku_code = EXCLUDED.sku_code,
+                        error = EXCLUDED.error
+                    """, results.stream().map(result -> new Object[]{state.getJobId(), result.getIndex(),
+                    result.getOutcome(), result.getId(), result.getSkuCode(), result.getError()}).toList());
+            jdbcTemplate.update("""
+                    UPDATE batch_jobs SET processed_items = ?, succeeded = ?, failed = ?, heartbeat_at = NOW()
+                    WHERE id = ?
+                    """, state.getProcessedItems(), state.getSucceeded(), state.getFailed(), state.getJobId());
+        }));
+    }
+
+    void finish(BatchJob job) {
+        // Released first: if the update fails, the stall timeout settles the job instead of a heartbeat keeping
+        // it running forever
+        owned.remove(job.getId());
+        BatchJobResponse state = job.toResponse();
+        WorkloadRoutingDataSource.runWith(Workload.WRITE, () -> jdbcTemplate.update("""
+                UPDATE batch_jobs
+                SET status = ?, processed_items = ?, succeeded = ?, failed = ?, completed_at = ?, expires_at = ?
+                WHERE id = ?
+                """, state.getStatus(), state.getProcessedItems(), state.getSucceeded(), state.getFailed(),
+                timestamp(state.getCompletedAt()), timestamp(state.getCompletedAt().plus(properties.getRetention())),
+                state.getJobId()));
+    }
+
+    Optional<BatchJobResponse> find(UUID jobId, boolean includeResults) {
+        return WorkloadRoutingDataSource.callWith(Workload.LOOKUP, () -> load(jobId, includeResults));
+    }
+
+    private Optional<BatchJobResponse> load(UUID jobId, boolean includeResults) {
+        Optional<BatchJobResponse> job = jdbcTemplate.query("""
+                SELECT id, status, total_items, processed_items, succeeded, failed, submitted_at, started_at,
+                       completed_at
+                FROM batch_jobs WHERE id = ? AND (expires_at IS NULL OR expires_at > NOW())
+                """, (rs, rowNum) -> BatchJobResponse.builder()
+                .jobId(rs.getObject("id", UUID.class))
+                .status(rs.getString("status"))
+                .totalItems(rs.getInt("total_items"))
+                .processedItems(rs.getInt("processed_items"))
+                .succeeded(rs.getInt("succeeded"))
+                .failed(rs.getInt("failed"))
+                .submittedAt(instant(rs, "submitted_at"))
+                .startedAt(instant(rs, "started_at"))
+                .completedAt(instant(rs, "completed_at"))
+                .build(), jobId).stream().findFirst();
+        if (includeResults) {
+            job.ifPresent(response -> response.setResults(jdbcTemplate.query("""
+                    SELECT item_index, outcome, sku_id, sku_code, error
+                    FROM batch_job_results WHERE job_id = ? ORDER BY item_index
+                    """, (rs, rowNum) -> BatchJobItemResult.builder()
+                    .index(rs.getInt("item_index"))
+                    .outcome(rs.getString("outcome"))
+                    .id(rs.getObject("sku_id", UUID.class))
+                    .skuCode(rs.getString("sku_code"))
+                    .error(rs.getString("error"))
+                    .build(), jobId)));
+        }
+        return job;
+    }
+
+    /**
+     * Marks jobs this instance will not finish, such as those still queued at shutdown, as failed right away
+     * instead of leaving them to the stall timeout.
+     */
+    void abandonOwned() {
+        List<Object[]> jobs = owned.stream().map(id -> new Object[]{properties.getRetention().toMillis(), id})
+                .toList();
+        owned.clear();
+        if (!jobs.isEmpty()) {
+            WorkloadRoutingDataSource.runWith(Workload.MAINTENANCE, () -> jdbcTemplate.batchUpdate("""
+                    UPDATE batch_jobs
+                    SET status = 'FAILED', completed_at = NOW(), expires_at = NOW() + ? * INTERVAL '1 millisecond'
+                    WHERE id = ? AND completed_at IS NULL
+                    """, jobs));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${sku.batch-jobs.heartbeat-interval:PT10S}")
+    public void renewHeartbeats() {
+        if (owned.isEmpty()) {
+            return;
+        }
+        List<Object[]> jobs = owned.stream().map(id -> new Object[]{id}).toList();
+        WorkloadRoutingDataSource.runWith(Workload.MAINTENANCE, () -> jdbcTemplate.batchUpdate(
+                "UPDATE batch_jobs SET heartbeat_at = NOW() WHERE id = ? AND completed_at IS NULL", jobs));
+    }
+
+    @Scheduled(initialDelayString = "${sku.batch-jobs.cleanup-interval:PT1M}",
+            fixedDelayString = "${sku.batch-jobs.cleanup-interval:PT1M}")
+    public void purgeExpired() {
+        WorkloadRoutingDataSource.runWith(Workload.MAINTENANCE, this::settleAndPurge);
+    }
+
+    private void settleAndPurge() {
+        int stalled = jdbcTemplate.update("""
+                UPDATE batch_jobs
+                SET status = 'FAILED', completed_at = NOW(), expires_at = NOW() + ? * INTERVAL '1 millisecond'
+                WHERE completed_at IS NULL AND heartbeat_at < NOW() - ? * INTERVAL '1 millisecond'
+                """, properties.getRetention().toMillis(), properties.getStallTimeout().toMillis());
+        if (stalled > 0) {
+            log.warn("Marked {} batch jobs failed after their instance stopped reporting", stalled);
+        }
+        int purged = jdbcTemplate.update("DELETE FROM batch_jobs WHERE expires_at <= NOW()");
+        if (purged > 0) {
+            log.debug("Purged {} expired batch jobs", purged);
+        }
+    }
+
+    private static Timestamp timestamp(Instant instant) {
+        return instant != null ? Timestamp.from(instant) : null;
+    }
+
+    private static Instant instant(ResultSet rs, String column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column);
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.retailer.sku.bulkhead;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Bulkhead {
+
+    Workload value();
+
+    /**
+     * Runs the call on the caller's thread, admitted by one of the workload's permits instead of handed to its
+     * executor, and without the pool timeout. For calls that write to the caller's response as they go.
+     */
+    boolean inline() default false;
+}
@@ -0,0 +1,26 @@
+package com.retailer.sku.bulkhead;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 100)
+@RequiredArgsConstructor
+public class BulkheadAspect {
+
+    private final BulkheadExecutors executors;
+
+    @Around("@annotation(bulkhead)")
+    public Object route(ProceedingJoinPoint joinPoint, Bulkhead bulkhead) throws Throwable {
+        if (WorkloadRoutingDataSource.currentWorkload() != null) {
+            return joinPoint.proceed();
+        }
+        return bulkhead.inline()
+                ? executors.callInline(bulkhead.value(), joinPoint::proceed)
+                : executors.call(bulkhead.value(), joinPoint::proceed);
+    }
+}
@@ -0,0 +1,62 @@
+package com.retailer.sku.bulkhead;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(prefix = "sku.bulkheads", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties({BulkheadProperties.class, DataSourceProperties.class})
+public class BulkheadConfig {
+
+    @Bean
+    public WorkloadRoutingDataSource dataSource(DataSourceProperties dataSourceProperties,
+                                                BulkheadProperties properties, MeterRegistry meterRegistry) {
+        Map<Object, Object> pools = new HashMap<>();
+        for (Workload workload : Workload.values()) {
+            BulkheadProperties.Pool pool = properties.pool(workload);
+            HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .build();
+            dataSource.setPoolName("sku-" + workload.name().toLowerCase());
+            dataSource.setMaximumPoolSize(pool.getConnections());
+            dataSource.setMinimumIdle(pool.getMinimumIdle());
+            dataSource.setConnectionTimeout(pool.getConnectionTimeout().toMillis());
+            if (pool.getStatementTimeout() != null) {
+                dataSource.setConnectionInitSql("SET statement_timeout = " + pool.getStatementTimeout().toMillis());
+            }
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            pools.put(workload, dataSource);
+        }
+
+        WorkloadRoutingDataSource routing = new WorkloadRoutingDataSource();
+        routing.setTargetDataSources(pools);
+        routing.setDefaultTargetDataSource(pools.get(properties.getDefaultWorkload()));
+        return routing;
+    }
+
+    @Bean
+    @ConditionalOnClass(name = "org.crac.Resource")
+    public BulkheadPoolsLifecycle bulkheadPoolsLifecycle(WorkloadRoutingDataSource dataSource) {
+        return new BulkheadPoolsLifecycle(dataSource);
+    }
+
+    @Bean(destroyMethod = "close")
+    public BulkheadExecutors bulkheadExecutors(BulkheadProperties properties, MeterRegistry meterRegistry) {
+        return new BulkheadExecutors(properties, meterRegistry);
+    }
+
+    @Bean
+    public BulkheadAspect bulkheadAspect(BulkheadExecutors bulkheadExecutors) {
+        return new BulkheadAspect(bulkheadExecutors);
+    }
+}
@@ -0,0 +1,177 @@
+package com.retailer.sku.bulkhead;
+
+import com.retailer.sku.exception.BulkheadRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.opentelemetry.context.Context;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+public class BulkheadExecutors implements AutoCloseable {
+
+    @FunctionalInterface
+    public interface Invocation {
+        Object proceed() throws Throwable;
+    }
+
+    // Drain time at shutdown for pools that let calls run to completion
+    private static final Duration UNBOUNDED_DRAIN = Duration.ofSeconds(30);
+
+    private final BulkheadProperties properties;
+    private final Map<Workload, ThreadPoolExecutor> executors = new EnumMap<>(Workload.class);
+    // Inline calls get as many permits as the pool has threads and share its connections
+    private final Map<Workload, Semaphore> permits = new EnumMap<>(Workload.class);
+    private final Map<Workload, Counter> rejected = new EnumMap<>(Workload.class);
+    private final Map<Workload, Counter> timedOut = new EnumMap<>(Workload.class);
+    private final Map<Workload, Timer> queueWait = new EnumMap<>(Workload.class);
+
+    public BulkheadExecutors(BulkheadProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        for (Workload workload : Workload.values()) {
+            BulkheadProperties.Pool pool = properties.pool(workload);
+            String name = workload.name().toLowerCase();
+            AtomicInteger threadCount = new AtomicInteger();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                    pool.getThreads(), pool.getThreads(), 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(pool.getQueueCapacity()),
+                    runnable -> new Thread(runnable, "sku-" + name + "-" + threadCount.incrementAndGet()));
+            executors.put(workload, executor);
+            Semaphore inline = new Semaphore(pool.getThreads());
+            permits.put(workload, inline);
+
+            Gauge.builder("sku.bulkhead.active", executor, ThreadPoolExecutor::getActiveCount)
+                    .description("Bulkhead threads currently running a call")
+                    .tag("workload", name)
+                    .register(meterRegistry);
+            Gauge.builder("sku.bulkhead.queued", executor, e -> e.getQueue().size())
+                    .description("Calls waiting for a bulkhead thread")
+                    .tag("workload", name)
+                    .register(meterRegistry);
+            Gauge.builder("sku.bulkhead.saturation", executor,
+                            e -> (double) (e.getActiveCount() + e.getQueue().size())
+                                    / (e.getMaximumPoolSize() + pool.getQueueCapacity()))
+                    .description("Fraction of bulkhead threads and queue slots in use")
+                    .tag("workload", name)
+                    .register(meterRegistry);
+            Gauge.builder("sku.bulkhead.inline.active", inline, p -> pool.getThreads() - p.availablePermits())
+                    .description("Inline bulkhead calls currently running on their caller's thread")
+                    .tag("workload", name)
+                    .register(meterRegistry);
+            rejected.put(workload, Counter.builder("sku.bulkhead.rejected")
+                    .description("Calls rejected because the bulkhead queue or its inline permits were exhausted")
+                    .tag("workload", name)
+                    .register(meterRegistry));
+            timedOut.put(workload, Counter.builder("sku.bulkhead.timeouts")
+                    .description("Calls abandoned after exceeding the bulkhead timeout")
+                    .tag("workload", name)
+                    .register(meterRegistry));
+            queueWait.put(workload, Timer.builder("sku.bulkhead.queue.wait")
+                    .description("Time calls spent queued before a bulkhead thread picked them up")
+                    .tag("workload", name)
+                    .register(meterRegistry));
+        }
+    }
+
+    public Object call(Workload workload, Invocation invocation) throws Throwable {
+        long submittedAt = System.nanoTime();
+        Callable<Object> task = Context.current().wrap(() -> {
+            queueWait.get(workload).record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+            WorkloadRoutingDataSource.setCurrentWorkload(workload);
+            try {
+                return invocation.proceed();
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new UndeclaredThrowableException(t);
+            } finally {
+                WorkloadRoutingDataSource.setCurrentWorkload(null);
+            }
+        });
+
+        Future<Object> future;
+        try {
+            future = executors.get(workload).submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.get(workload).increment();
+            throw new BulkheadRejectedException(
+                    "The " + workload.name().toLowerCase() + " bulkhead is full, retry later",
+                    properties.getRetryAfter());
+        }
+
+        BulkheadProperties.Pool pool = properties.pool(workload);
+        try {
+            // Without a timeout the caller waits for the outcome; the call is bounded by its transaction timeout
+            return pool.getTimeout() != null
+                    ? future.get(pool.getTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                    : future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.get(workload).increment();
+            throw new BulkheadRejectedException(
+                    "The " + workload.name().toLowerCase() + " call did not complete within " + pool.getTimeout(),
+                    properties.getRetryAfter(), true);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    /**
+     * Runs the call on the calling thread against the workload's pool. Nothing abandons it part way, so output
+     * it has already written is never followed by an error from here; its transaction bounds how long it runs.
+     */
+    public Object callInline(Workload workload, Invocation invocation) throws Throwable {
+        Semaphore semaphore = permits.get(workload);
+        if (!semaphore.tryAcquire()) {
+            rejected.get(workload).increment();
+            throw new BulkheadRejectedException(
+                    "The " + workload.name().toLowerCase() + " bulkhead is full, retry later",
+                    properties.getRetryAfter());
+        }
+        WorkloadRoutingDataSource.setCurrentWorkload(workload);
+        try {
+            return invocation.proceed();
+        } finally {
+            WorkloadRoutingDataSource.setCurrentWorkload(null);
+            semaphore.release();
+        }
+    }
+
+    @Override
+    public void close() {
+        executors.values().forEach(ThreadPoolExecutor::shutdown);
+        for (Map.Entry<Workload, ThreadPoolExecutor> entry : executors.entrySet()) {
+            try {
+                Duration timeout = properties.pool(entry.getKey()).getTimeout();
+                if (!entry.getValue().awaitTermination((timeout != null ? timeout : UNBOUNDED_DRAIN).toMillis(),
+                        TimeUnit.MILLISECONDS)) {
+                    log.warn("{} bulkhead did not drain before shutdown", entry.getKey());
+                    entry.getValue().shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                entry.getValue().shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.retailer.sku.bulkhead;
+
+import org.springframework.boot.jdbc.HikariCheckpointRestoreLifecycle;
+import org.springframework.context.Lifecycle;
+
+import java.util.List;
+
+public class BulkheadPoolsLifecycle implements Lifecycle {
+
+    private final List<HikariCheckpointRestoreLifecycle> pools;
+
+    public BulkheadPoolsLifecycle(WorkloadRoutingDataSource dataSource) {
+        this.pools = dataSource.getResolvedDataSources().values().stream()
+                .map(HikariCheckpointRestoreLifecycle::new)
+                .toList();
+    }
+
+    @Override
+    public void start() {
+        pools.forEach(Lifecycle::start);
+    }
+
+    @Override
+    public void stop() {
+        pools.forEach(Lifecycle::stop);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return pools.stream().allMatch(Lifecycle::isRunning);
+    }
+}
@@ -0,0 +1,54 @@
+package com.retailer.sku.bulkhead;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "sku.bulkheads")
+public class BulkheadProperties {
+
+    private boolean enabled = true;
+
+    // Pool for database access that names no workload; keeps anything unrouted off the request pools
+    private Workload defaultWorkload = Workload.MAINTENANCE;
+
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    private Map<Workload, Pool> pools = new EnumMap<>(Map.of(
+            Workload.LOOKUP, new Pool(6, 2, Duration.ofSeconds(1), 32, 256, Duration.ofSeconds(2), Duration.ofSeconds(2)),
+            Workload.SEARCH, new Pool(3, 1, Duration.ofSeconds(5), 8, 32, Duration.ofSeconds(10), Duration.ofSeconds(10)),
+            Workload.WRITE, new Pool(4, 1, Duration.ofSeconds(10), 8, 64, null, null),
+            Workload.MAINTENANCE, new Pool(5, 0, Duration.ofSeconds(10), 4, 8, null, null)));
+
+    public Pool pool(Workload workload) {
+        return pools.getOrDefault(workload, new Pool());
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Pool {
+
+        private int connections = 4;
+
+        private int minimumIdle = 1;
+
+        private Duration connectionTimeout = Duration.ofSeconds(5);
+
+        private int threads = 8;
+
+        private int queueCapacity = 64;
+
+        // After this the caller gets a retryable 503 while the call is cancelled, which JDBC may not honour.
+        // Only safe for reads: a write left running can still commit, so unset means wait for the outcome.
+        private Duration timeout;
+
+        private Duration statementTimeout;
+    }
+}
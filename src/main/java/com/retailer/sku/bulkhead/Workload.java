@@ -0,0 +1,9 @@
+package com.retailer.sku.bulkhead;
+
+public enum Workload {
+    LOOKUP,
+    SEARCH,
+    WRITE,
+    // Index rebuilds and syncs, snapshots and other scheduled work, kept off the pools serving requests
+    MAINTENANCE
+}
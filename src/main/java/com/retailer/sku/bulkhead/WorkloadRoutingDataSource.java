@@ -0,0 +1,66 @@
+package com.retailer.sku.bulkhead;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.function.Supplier;
+
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    static Workload currentWorkload() {
+        return CURRENT.get();
+    }
+
+    static void setCurrentWorkload(Workload workload) {
+        if (workload == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(workload);
+        }
+    }
+
+    /**
+     * Runs {@code work} on the calling thread against the workload's pool, for database access that does not go
+     * through a {@link Bulkhead} call, such as scheduled work. Work already bound to a pool keeps it.
+     */
+    public static <T> T callWith(Workload workload, Supplier<T> work) {
+        if (CURRENT.get() != null) {
+            return work.get();
+        }
+        CURRENT.set(workload);
+        try {
+            return work.get();
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    public static void runWith(Workload workload, Runnable work) {
+        callWith(workload, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * The pool serving {@code workload}, for work that runs outside any bulkhead call.
+     */
+    public DataSource dataSource(Workload workload) {
+        return getResolvedDataSources().get(workload);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return CURRENT.get();
+    }
+
+    public void close() throws Exception {
+        for (DataSource dataSource : getResolvedDataSources().values()) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.retailer.sku.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "sku.response-cache")
+public class ResponseCacheProperties {
+
+    private boolean enabled = true;
+
+    private long maxEntries = 100_000;
+
+    private boolean gzipEnabled = true;
+
+    private int gzipMinSize = 2048;
+}
@@ -0,0 +1,65 @@
+package com.retailer.sku.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+@Component
+@EnableConfigurationProperties(ResponseCacheProperties.class)
+public class SkuResponseBodyCache {
+
+    public record CachedBody(long version, byte[] identity, byte[] gzip) {
+    }
+
+    private final ResponseCacheProperties properties;
+    private final Cache<UUID, CachedBody> cache;
+
+    public SkuResponseBodyCache(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "sku.response.body");
+    }
+
+    // One entry per SKU: a lookup only hits when the stored version matches the current one,
+    // so any version bump invalidates the entry and the next miss overwrites it.
+    public CachedBody get(UUID id, long version) {
+        CachedBody cached = cache.getIfPresent(id);
+        return cached != null && cached.version() == version ? cached : null;
+    }
+
+    public void put(UUID id, long version, byte[] body) {
+        byte[] gzip = properties.isGzipEnabled() && body.length >= properties.getGzipMinSize() ? gzip(body) : null;
+        cache.asMap().merge(id, new CachedBody(version, body, gzip),
+                (existing, candidate) -> existing.version() > candidate.version() ? existing : candidate);
+    }
+
+    public void evict(UUID id) {
+        cache.invalidate(id);
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+}
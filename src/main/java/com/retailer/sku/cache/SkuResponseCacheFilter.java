@@ -0,0 +1,147 @@
+package com.retailer.sku.cache;
+
+import com.retailer.sku.exception.BulkheadRejectedException;
+import com.retailer.sku.exception.SkuNotFoundException;
+import com.retailer.sku.service.SkuService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+@RequiredArgsConstructor
+public class SkuResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final Pattern SKU_BY_ID = Pattern.compile(
+            "^/api/v1/skus/([0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12})$");
+
+    private final SkuResponseBodyCache responseBodyCache;
+    private final SkuService skuService;
+    private final ResponseCacheProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || !HttpMethod.GET.matches(request.getMethod())
+                || !SKU_BY_ID.matcher(request.getRequestURI()).matches()
+                || !acceptsJson(request.getHeader(HttpHeaders.ACCEPT));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Matcher matcher = SKU_BY_ID.matcher(request.getRequestURI());
+        UUID id = matcher.matches() ? UUID.fromString(matcher.group(1)) : null;
+        Optional<Long> version = id != null ? currentVersion(id) : Optional.empty();
+        if (version.isEmpty()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        // Same weak tag the controller sets, so a client revalidating a version it holds gets a 304 for
+        // the cost of the version lookup
+        String etag = "W/\"" + version.get() + "\"";
+        if (matchesEtag(request.getHeader(HttpHeaders.IF_NONE_MATCH), version.get())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            response.setHeader(HttpHeaders.ETAG, etag);
+            return;
+        }
+
+        SkuResponseBodyCache.CachedBody cached = responseBodyCache.get(id, version.get());
+        if (cached != null) {
+            response.setHeader(HttpHeaders.ETAG, etag);
+            writeCached(request, response, cached);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, wrapper);
+            if (wrapper.getStatus() == HttpServletResponse.SC_OK && isJson(wrapper.getContentType())) {
+                responseBodyCache.put(id, version.get(), wrapper.getContentAsByteArray());
+            }
+        } finally {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    // Probed on the lookup bulkhead like the lookup itself; when there is no version to serve from, the
+    // controller answers, including the 404 or 503
+    private Optional<Long> currentVersion(UUID id) {
+        try {
+            return Optional.of(skuService.getSkuVersion(id));
+        } catch (SkuNotFoundException | BulkheadRejectedException e) {
+            return Optional.empty();
+        }
+    }
+
+    private void writeCached(HttpServletRequest request, HttpServletResponse response,
+                             SkuResponseBodyCache.CachedBody cached) throws IOException {
+        byte[] body = cached.identity();
+        if (cached.gzip() != null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                body = cached.gzip();
+            }
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        ServletOutputStream out = response.getOutputStream();
+        out.write(body);
+        out.flush();
+    }
+
+    private static boolean acceptsJson(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream()
+                    .max(Comparator.comparingDouble(MediaType::getQualityValue))
+                    .map(preferred -> preferred.includes(MediaType.APPLICATION_JSON))
+                    .orElse(true);
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    private static boolean matchesEtag(String ifNoneMatch, long version) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String quoted = "\"" + version + "\"";
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(quoted) || tag.equals("W/" + quoted)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        return acceptEncoding != null && acceptEncoding.contains("gzip");
+    }
+
+    private static boolean isJson(String contentType) {
+        return contentType != null && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+    }
+}
@@ -0,0 +1,52 @@
+package com.retailer.sku.config;
+
+import com.google.protobuf.Descriptors;
+import com.retailer.sku.exception.ProblemDetail;
+import com.retailer.sku.model.dto.BatchJobItemResult;
+import com.retailer.sku.model.dto.BatchJobResponse;
+import com.retailer.sku.model.dto.BulkSkuUpdateResponse;
+import com.retailer.sku.model.dto.BulkSkuUpdateResult;
+import com.retailer.sku.proto.v1.SkuProto;
+import com.retailer.sku.proto.v1.SkuServiceProto;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.util.List;
+
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.SkuRuntimeHints.class)
+@RegisterReflectionForBinding({
+        ProblemDetail.class,
+        BatchJobResponse.class,
+        BatchJobItemResult.class,
+        BulkSkuUpdateResponse.class,
+        BulkSkuUpdateResult.class
+})
+public class NativeHintsConfig {
+
+    static class SkuRuntimeHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            hints.resources().registerPattern("db/migration/*.sql");
+
+            // Protobuf resolves generated accessors reflectively for toString() and descriptor-based access.
+            for (Descriptors.FileDescriptor file : List.of(SkuProto.getDescriptor(), SkuServiceProto.getDescriptor())) {
+                String javaPackage = file.getOptions().getJavaPackage();
+                for (Descriptors.Descriptor message : file.getMessageTypes()) {
+                    for (String suffix : List.of("", "$Builder")) {
+                        hints.reflection().registerType(
+                                TypeReference.of(javaPackage + "." + message.getName() + suffix),
+                                MemberCategory.INVOKE_PUBLIC_METHODS,
+                                MemberCategory.INVOKE_DECLARED_METHODS);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.retailer.sku.controller;
+
+import com.retailer.sku.batch.BatchJobService;
+import com.retailer.sku.model.dto.BatchJobRequest;
+import com.retailer.sku.model.dto.BatchJobResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/skus/batch-jobs")
+@Tag(name = "SKU Management", description = "Operations for managing Stock Keeping Units")
+@RequiredArgsConstructor
+public class BatchJobController {
+
+    private final BatchJobService batchJobService;
+
+    @Operation(
+            summary = "Submit batch create job",
+            description = "Queues a large batch of SKUs for asynchronous creation in independently committed chunks"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Job accepted",
+                    content = @Content(schema = @Schema(implementation = BatchJobResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "503", description = "Job queue is full")
+    })
+    @PostMapping
+    public ResponseEntity<BatchJobResponse> submitBatchJob(
+            @Valid @RequestBody BatchJobRequest request) {
+        BatchJobResponse response = batchJobService.submit(request.getSkus());
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentRequest()
+                        .path("/{jobId}")
+                        .buildAndExpand(response.getJobId())
+                        .toUri())
+                .body(response);
+    }
+
+    @Operation(
+            summary = "Get batch create job",
+            description = "Retrieves progress, final status and per-item results of a batch create job"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Job found",
+                    content = @Content(schema = @Schema(implementation = BatchJobResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Job not found or expired")
+    })
+    @GetMapping("/{jobId}")
+    public ResponseEntity<BatchJobResponse> getBatchJob(
+            @Parameter(description = "Job identifier") @PathVariable UUID jobId,
+            @Parameter(description = "Include per-item results") @RequestParam(defaultValue = "true") boolean includeResults) {
+        return ResponseEntity.ok(batchJobService.getJob(jobId, includeResults));
+    }
+}
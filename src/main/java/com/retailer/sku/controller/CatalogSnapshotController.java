@@ -0,0 +1,93 @@
+package com.retailer.sku.controller;
+
+import com.retailer.sku.model.dto.CatalogSnapshotResponse;
+import com.retailer.sku.snapshot.CatalogSnapshotService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api/v1/skus/snapshots")
+@Tag(name = "SKU Management", description = "Operations for managing Stock Keeping Units")
+@RequiredArgsConstructor
+public class CatalogSnapshotController {
+
+    private final CatalogSnapshotService catalogSnapshotService;
+
+    @Operation(
+            summary = "Request a catalog snapshot",
+            description = "Starts writing a new catalog snapshot in the background unless one is already in progress"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Snapshot generation started")
+    })
+    @PostMapping
+    public ResponseEntity<Void> requestSnapshot() {
+        catalogSnapshotService.requestGeneration();
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentRequest().path("/latest").build().toUri())
+                .build();
+    }
+
+    @Operation(
+            summary = "Describe the latest catalog snapshot",
+            description = "Size, format version and catalog version of the most recent snapshot file"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Snapshot available"),
+            @ApiResponse(responseCode = "404", description = "No snapshot generated yet")
+    })
+    @GetMapping("/latest")
+    public ResponseEntity<CatalogSnapshotResponse> getLatestSnapshot() {
+        return ResponseEntity.ok(catalogSnapshotService.latest());
+    }
+
+    @Operation(
+            summary = "Download the latest catalog snapshot",
+            description = "Binary snapshot for the catalog-snapshot reader library. Supports If-None-Match, Range and "
+                    + "If-Range"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Snapshot file"),
+            @ApiResponse(responseCode = "304", description = "The caller already has this snapshot"),
+            @ApiResponse(responseCode = "404", description = "No snapshot generated yet")
+    })
+    @GetMapping("/latest/file")
+    public ResponseEntity<Resource> downloadLatestSnapshot(WebRequest request) throws IOException {
+        CatalogSnapshotResponse latest = catalogSnapshotService.latest();
+        // Every instance writes its own file, so the tag comes from the content rather than the file name; a
+        // download started against one instance can be resumed against any other that wrote the same catalog
+        String etag = "\"" + latest.getContentId() + "\"";
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        Resource file = new FileSystemResource(catalogSnapshotService.file(latest));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(latest.getFileName()).build().toString());
+        // Ranges are only served from the snapshot the caller already holds part of; a stream body is not
+        // range-processed, so any other If-Range gets the whole file
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag)) {
+            return response.contentLength(file.contentLength()).body(new InputStreamResource(file.getInputStream()));
+        }
+        return response.body(file);
+    }
+}
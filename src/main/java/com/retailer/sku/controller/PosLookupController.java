@@ -0,0 +1,45 @@
+package com.retailer.sku.controller;
+
+import com.retailer.sku.model.dto.PosSkuResponse;
+import com.retailer.sku.model.dto.SkuResponse;
+import com.retailer.sku.service.SkuService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/skus/pos")
+@Tag(name = "SKU Management", description = "Operations for managing Stock Keeping Units")
+@RequiredArgsConstructor
+public class PosLookupController {
+
+    private final SkuService skuService;
+
+    // Indexed UPCs are answered by PosLookupFilter before they reach this handler
+    @Operation(
+            summary = "Look up a SKU for the register",
+            description = "Returns the point-of-sale fields for a scanned UPC. JSON responses for 12-digit UPCs are "
+                    + "served from an in-memory index; other UPCs and formats are read from the database"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "SKU found"),
+            @ApiResponse(responseCode = "404", description = "SKU not found")
+    })
+    @GetMapping("/{upc}")
+    public ResponseEntity<PosSkuResponse> getPosSkuByUpc(
+            @Parameter(description = "Universal Product Code") @PathVariable String upc) {
+        SkuResponse sku = skuService.getSkuByUpc(upc);
+        return ResponseEntity.ok(PosSkuResponse.builder()
+                .upc(sku.getUpc())
+                .skuCode(sku.getSkuCode())
+                .name(sku.getName())
+                .price(sku.getPrice())
+                .status(sku.getStatus())
+                .build());
+    }
+}
@@ -2,26 +2,39 @@ package com.retailer.sku.controller;
 
 import com.retailer.sku.model.dto.*;
 import com.retailer.sku.service.SkuService;
+import com.retailer.sku.stream.SkuListStreamer;
+import com.retailer.sku.writebehind.WriteBehindBuffer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Parameters;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 
 @RestController
 @RequestMapping("/api/v1/skus")
@@ -29,7 +42,11 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class SkuController {
 
+    private static final Pattern ATTRIBUTE_KEY = Pattern.compile("[A-Za-z0-9_.-]{1,50}");
+
     private final SkuService skuService;
+    private final WriteBehindBuffer writeBehindBuffer;
+    private final SkuListStreamer skuListStreamer;
 
     @Operation(
             summary = "Create a new SKU",
@@ -86,6 +103,37 @@ public class SkuController {
         return ResponseEntity.ok(skuService.getAllSkus(pageable));
     }
 
+    @Operation(
+            summary = "Get all SKUs as a lean stream",
+            description = "Selected with envelope=lean; same filters as the regular list. Rows are written as they "
+                    + "are read from the database, inside an envelope of items, page, size, numberOfElements and "
+                    + "hasNext; no total is counted"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved SKUs", content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE)),
+            @ApiResponse(responseCode = "400", description = "Unknown sort property")
+    })
+    @GetMapping(params = "envelope=lean")
+    public void getAllSkusLean(
+            @Parameter(description = "Filter by category") @RequestParam(required = false) String category,
+            @Parameter(description = "Filter by status") @RequestParam(required = false) String status,
+            @Parameter(description = "Filter by brand") @RequestParam(required = false) String brand,
+            @Parameter(description = "Minimum price filter") @RequestParam(required = false) BigDecimal minPrice,
+            @Parameter(description = "Maximum price filter") @RequestParam(required = false) BigDecimal maxPrice,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            HttpServletResponse response) throws IOException {
+        SkuSearchCriteria criteria = SkuSearchCriteria.builder()
+                .category(category)
+                .status(status)
+                .brand(brand)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .build();
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        skuListStreamer.search(criteria, pageable, response.getOutputStream());
+    }
+
     @Operation(
             summary = "Get SKU by ID",
             description = "Retrieves a single SKU by its internal UUID"
@@ -93,12 +141,22 @@ public class SkuController {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Successfully retrieved SKU",
                     content = @Content(schema = @Schema(implementation = SkuResponse.class))),
+            @ApiResponse(responseCode = "304", description = "SKU unchanged since the version in If-None-Match"),
             @ApiResponse(responseCode = "404", description = "SKU not found")
     })
     @GetMapping("/{id}")
     public ResponseEntity<SkuResponse> getSkuById(
-            @Parameter(description = "SKU UUID") @PathVariable UUID id) {
-        return ResponseEntity.ok(skuService.getSkuById(id));
+            @Parameter(description = "SKU UUID") @PathVariable UUID id, WebRequest webRequest) {
+        SkuResponse response = skuService.getSkuById(id);
+        if (response.getVersion() == null) {
+            return ResponseEntity.ok(response);
+        }
+        // Weak because JSON, CBOR and protobuf bodies of the same version share the tag
+        String etag = versionEtag(response.getVersion());
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(response);
     }
 
     @Operation(
@@ -131,12 +189,37 @@ public class SkuController {
         return ResponseEntity.ok(skuService.getSkuByUpc(upc));
     }
 
+    @Operation(
+            summary = "Look up SKUs by key",
+            description = "Fetches up to 500 SKUs by id and 500 by SKU code in one request. Unknown keys are "
+                    + "omitted from the result"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "SKUs found for the given keys"),
+            @ApiResponse(responseCode = "400", description = "Too many keys")
+    })
+    @PostMapping("/lookup")
+    public ResponseEntity<List<SkuResponse>> lookupSkus(
+            @Valid @RequestBody SkuLookupRequest request) {
+        return ResponseEntity.ok(skuService.lookupSkus(request.getIds(), request.getSkuCodes()));
+    }
+
     @Operation(
             summary = "Search SKUs",
-            description = "Search SKUs by various criteria"
+            description = "Search SKUs by various criteria. Attribute filters take key:value and may be repeated; "
+                    + "bounds compare numerically and skip SKUs whose value is not a number"
     )
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Successfully retrieved matching SKUs")
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved matching SKUs"),
+            @ApiResponse(responseCode = "400", description = "Malformed attribute filter")
+    })
+    @Parameters({
+            @Parameter(name = "attribute", in = ParameterIn.QUERY, description = "Attribute equality filter",
+                    example = "grade:#2"),
+            @Parameter(name = "attributeMin", in = ParameterIn.QUERY, description = "Inclusive numeric lower bound",
+                    example = "voltage:110"),
+            @Parameter(name = "attributeMax", in = ParameterIn.QUERY, description = "Inclusive numeric upper bound",
+                    example = "voltage:240")
     })
     @GetMapping("/search")
     public ResponseEntity<Page<SkuResponse>> searchSkus(
@@ -147,21 +230,64 @@ public class SkuController {
             @Parameter(description = "Filter by status") @RequestParam(required = false) String status,
             @Parameter(description = "Minimum price") @RequestParam(required = false) BigDecimal minPrice,
             @Parameter(description = "Maximum price") @RequestParam(required = false) BigDecimal maxPrice,
-            @PageableDefault(size = 20, sort = "name", direction = Sort.Direction.ASC) Pageable pageable) {
-
-        SkuSearchCriteria criteria = SkuSearchCriteria.builder()
-                .query(query)
-                .category(category)
-                .subcategory(subcategory)
-                .brand(brand)
-                .status(status)
-                .minPrice(minPrice)
-                .maxPrice(maxPrice)
-                .build();
+            @PageableDefault(size = 20, sort = "name", direction = Sort.Direction.ASC) Pageable pageable,
+            WebRequest webRequest) {
 
+        SkuSearchCriteria criteria = searchCriteria(query, category, subcategory, brand, status, minPrice, maxPrice,
+                webRequest);
         return ResponseEntity.ok(skuService.searchSkus(criteria, pageable));
     }
 
+    @Operation(
+            summary = "Search SKUs as a lean stream",
+            description = "Selected with envelope=lean; same filters as the regular search. Rows are written as they "
+                    + "are read from the database, inside an envelope of items, page, size, numberOfElements and "
+                    + "hasNext; no total is counted"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Matching SKUs", content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE)),
+            @ApiResponse(responseCode = "400", description = "Malformed attribute filter or unknown sort property")
+    })
+    @GetMapping(value = "/search", params = "envelope=lean")
+    public void searchSkusLean(
+            @Parameter(description = "Search query for name or description") @RequestParam(required = false) String query,
+            @Parameter(description = "Filter by category") @RequestParam(required = false) String category,
+            @Parameter(description = "Filter by subcategory") @RequestParam(required = false) String subcategory,
+            @Parameter(description = "Filter by brand") @RequestParam(required = false) String brand,
+            @Parameter(description = "Filter by status") @RequestParam(required = false) String status,
+            @Parameter(description = "Minimum price") @RequestParam(required = false) BigDecimal minPrice,
+            @Parameter(description = "Maximum price") @RequestParam(required = false) BigDecimal maxPrice,
+            @PageableDefault(size = 20, sort = "name", direction = Sort.Direction.ASC) Pageable pageable,
+            WebRequest webRequest,
+            HttpServletResponse response) throws IOException {
+        SkuSearchCriteria criteria = searchCriteria(query, category, subcategory, brand, status, minPrice, maxPrice,
+                webRequest);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        skuListStreamer.search(criteria, pageable, response.getOutputStream());
+    }
+
+    @Operation(
+            summary = "Find SKUs that fit in a box",
+            description = "Finds ACTIVE SKUs whose dimensions fit in a box of the given size in any orientation "
+                    + "and that weigh at most maxWeight, snuggest fits first. SKUs without recorded dimensions "
+                    + "or weight are never returned"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved fitting SKUs"),
+            @ApiResponse(responseCode = "400", description = "Invalid box dimensions or weight")
+    })
+    @GetMapping("/fit")
+    public ResponseEntity<Slice<SkuResponse>> findSkusThatFit(
+            @Parameter(description = "Box length") @RequestParam BigDecimal length,
+            @Parameter(description = "Box width") @RequestParam BigDecimal width,
+            @Parameter(description = "Box height") @RequestParam BigDecimal height,
+            @Parameter(description = "Maximum weight") @RequestParam BigDecimal maxWeight,
+            @Parameter(description = "Filter by category") @RequestParam(required = false) String category,
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(skuService.findSkusThatFit(length, width, height, maxWeight, category, pageable));
+    }
+
     @Operation(
             summary = "Full update of SKU",
             description = "Replaces all fields of an existing SKU"
@@ -182,11 +308,14 @@ public class SkuController {
 
     @Operation(
             summary = "Partial update of SKU",
-            description = "Updates only the provided fields of an existing SKU"
+            description = "Updates only the provided fields of an existing SKU. With Prefer: respond-async and "
+                    + "write-behind enabled, updates that only set write-behind fields are journaled, merged with "
+                    + "other pending updates for the SKU and applied within the flush interval"
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "SKU updated successfully",
                     content = @Content(schema = @Schema(implementation = SkuResponse.class))),
+            @ApiResponse(responseCode = "202", description = "Update buffered for write-behind"),
             @ApiResponse(responseCode = "400", description = "Invalid input"),
             @ApiResponse(responseCode = "404", description = "SKU not found"),
             @ApiResponse(responseCode = "409", description = "UPC already exists for another SKU")
@@ -194,10 +323,33 @@ public class SkuController {
     @PatchMapping("/{id}")
     public ResponseEntity<SkuResponse> partialUpdateSku(
             @Parameter(description = "SKU UUID") @PathVariable UUID id,
+            @Parameter(description = "respond-async allows the update to be buffered")
+            @RequestHeader(value = "Prefer", required = false) String prefer,
             @Valid @RequestBody SkuUpdateRequest request) {
+        if (prefersAsync(prefer) && writeBehindBuffer.submit(id, request)) {
+            return ResponseEntity.accepted()
+                    .header("Preference-Applied", "respond-async")
+                    .build();
+        }
         return ResponseEntity.ok(skuService.partialUpdateSku(id, request));
     }
 
+    @Operation(
+            summary = "Bulk update prices and status",
+            description = "Applies price, cost and status changes to many SKUs using set-based updates. "
+                    + "Each item is reported as UPDATED, CONFLICT (expected version mismatch) or NOT_FOUND"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Bulk update processed",
+                    content = @Content(schema = @Schema(implementation = BulkSkuUpdateResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input")
+    })
+    @PostMapping("/bulk-update")
+    public ResponseEntity<BulkSkuUpdateResponse> bulkUpdateSkus(
+            @Valid @RequestBody BulkSkuUpdateRequest request) {
+        return ResponseEntity.ok(skuService.bulkUpdateSkus(request.getItems()));
+    }
+
     @Operation(
             summary = "Soft delete SKU",
             description = "Marks a SKU as discontinued (soft delete)"
@@ -212,4 +364,62 @@ public class SkuController {
         skuService.deleteSku(id);
         return ResponseEntity.noContent().build();
     }
+
+    private static String versionEtag(long version) {
+        return "W/\"" + version + "\"";
+    }
+
+    // Attribute filters are read raw so a single value containing a comma is not split into several filters
+    private static SkuSearchCriteria searchCriteria(String query, String category, String subcategory, String brand,
+                                                    String status, BigDecimal minPrice, BigDecimal maxPrice,
+                                                    WebRequest webRequest) {
+        return SkuSearchCriteria.builder()
+                .query(query)
+                .category(category)
+                .subcategory(subcategory)
+                .brand(brand)
+                .status(status)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .attributes(attributeFilters(webRequest.getParameterValues("attribute"), value -> value))
+                .minAttributes(attributeFilters(webRequest.getParameterValues("attributeMin"), SkuController::number))
+                .maxAttributes(attributeFilters(webRequest.getParameterValues("attributeMax"), SkuController::number))
+                .build();
+    }
+
+    private static <T> Map<String, T> attributeFilters(String[] filters, Function<String, T> parser) {
+        if (filters == null) {
+            return null;
+        }
+        Map<String, T> parsed = new LinkedHashMap<>();
+        for (String filter : filters) {
+            int separator = filter.indexOf(':');
+            if (separator < 0 || !ATTRIBUTE_KEY.matcher(filter.substring(0, separator)).matches()) {
+                throw new IllegalArgumentException("Attribute filter must be key:value with a key of letters, "
+                        + "digits, '_', '.' or '-': " + filter);
+            }
+            try {
+                parsed.put(filter.substring(0, separator), parser.apply(filter.substring(separator + 1)));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Attribute bound must be a number: " + filter);
+            }
+        }
+        return parsed;
+    }
+
+    private static BigDecimal number(String value) {
+        return new BigDecimal(value.trim());
+    }
+
+    private static boolean prefersAsync(String prefer) {
+        if (prefer == null) {
+            return false;
+        }
+        for (String preference : prefer.split(",")) {
+            if (preference.trim().equalsIgnoreCase("respond-async")) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
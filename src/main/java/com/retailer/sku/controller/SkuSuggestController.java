@@ -0,0 +1,38 @@
+package com.retailer.sku.controller;
+
+import com.retailer.sku.model.dto.SkuSuggestion;
+import com.retailer.sku.suggest.SkuSuggestIndex;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/skus/suggest")
+@Tag(name = "SKU Management", description = "Operations for managing Stock Keeping Units")
+@RequiredArgsConstructor
+public class SkuSuggestController {
+
+    private final SkuSuggestIndex skuSuggestIndex;
+
+    @Operation(
+            summary = "Suggest SKUs for a prefix",
+            description = "Typeahead suggestions for names, brands and SKU codes with a word starting with the prefix, "
+                    + "most requested first. Served from memory; new writes are visible once committed"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Suggestions, possibly empty")
+    })
+    @GetMapping
+    public ResponseEntity<List<SkuSuggestion>> suggest(
+            @Parameter(description = "Prefix typed so far") @RequestParam String prefix,
+            @Parameter(description = "Maximum number of suggestions") @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(skuSuggestIndex.suggest(prefix, limit));
+    }
+}
@@ -0,0 +1,16 @@
+package com.retailer.sku.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class BatchJobRejectedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public BatchJobRejectedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
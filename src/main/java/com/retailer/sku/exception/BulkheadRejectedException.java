@@ -0,0 +1,26 @@
+package com.retailer.sku.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class BulkheadRejectedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    /**
+     * True when the call was already running when the caller gave up on it, so it may still complete.
+     */
+    private final boolean indeterminate;
+
+    public BulkheadRejectedException(String message, Duration retryAfter) {
+        this(message, retryAfter, false);
+    }
+
+    public BulkheadRejectedException(String message, Duration retryAfter, boolean indeterminate) {
+        super(message);
+        this.retryAfter = retryAfter;
+        this.indeterminate = indeterminate;
+    }
+}
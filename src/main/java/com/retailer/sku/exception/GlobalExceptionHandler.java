@@ -3,12 +3,18 @@ package com.retailer.sku.exception;
 import io.opentelemetry.api.trace.Span;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.TransactionTimedOutException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.net.URI;
 import java.time.Instant;
@@ -19,6 +25,12 @@ import java.util.Map;
 @Slf4j
 public class GlobalExceptionHandler {
 
+    /**
+     * Request attribute set when the request failed without knowing whether its writes committed, e.g. a timed
+     * out call that may still be running. Filters must not treat such a response as a clean failure.
+     */
+    public static final String OUTCOME_UNKNOWN_ATTRIBUTE = GlobalExceptionHandler.class.getName() + ".OUTCOME_UNKNOWN";
+
     private static final String PROBLEM_BASE_URI = "https://api.retailer.com/problems/";
 
     @ExceptionHandler(SkuNotFoundException.class)
@@ -40,6 +52,109 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(problem);
     }
 
+    @ExceptionHandler(BatchJobNotFoundException.class)
+    public ResponseEntity<ProblemDetail> handleBatchJobNotFoundException(
+            BatchJobNotFoundException ex, HttpServletRequest request) {
+
+        log.warn("Batch job not found: {}", ex.getMessage());
+
+        ProblemDetail problem = ProblemDetail.builder()
+                .type(URI.create(PROBLEM_BASE_URI + "not-found"))
+                .title("Batch Job Not Found")
+                .status(HttpStatus.NOT_FOUND.value())
+                .detail(ex.getMessage())
+                .instance(URI.create(request.getRequestURI()))
+                .traceId(getTraceId())
+                .timestamp(Instant.now())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(problem);
+    }
+
+    @ExceptionHandler(SnapshotNotFoundException.class)
+    public ResponseEntity<ProblemDetail> handleSnapshotNotFoundException(
+            SnapshotNotFoundException ex, HttpServletRequest request) {
+
+        log.warn("Catalog snapshot not found: {}", ex.getMessage());
+
+        ProblemDetail problem = ProblemDetail.builder()
+                .type(URI.create(PROBLEM_BASE_URI + "not-found"))
+                .title("Snapshot Not Found")
+                .status(HttpStatus.NOT_FOUND.value())
+                .detail(ex.getMessage())
+                .instance(URI.create(request.getRequestURI()))
+                .traceId(getTraceId())
+                .timestamp(Instant.now())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(problem);
+    }
+
+    @ExceptionHandler(BatchJobRejectedException.class)
+    public ResponseEntity<ProblemDetail> handleBatchJobRejectedException(
+            BatchJobRejectedException ex, HttpServletRequest request) {
+
+        log.warn("Batch job rejected: {}", ex.getMessage());
+
+        ProblemDetail problem = ProblemDetail.builder()
+                .type(URI.create(PROBLEM_BASE_URI + "service-unavailable"))
+                .title("Service Unavailable")
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .detail(ex.getMessage())
+                .instance(URI.create(request.getRequestURI()))
+                .traceId(getTraceId())
+                .timestamp(Instant.now())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfter().toSeconds()))
+                .body(problem);
+    }
+
+    @ExceptionHandler(BulkheadRejectedException.class)
+    public ResponseEntity<ProblemDetail> handleBulkheadRejectedException(
+            BulkheadRejectedException ex, HttpServletRequest request) {
+
+        log.warn("Bulkhead rejected call: {}", ex.getMessage());
+        if (ex.isIndeterminate()) {
+            request.setAttribute(OUTCOME_UNKNOWN_ATTRIBUTE, true);
+        }
+
+        ProblemDetail problem = ProblemDetail.builder()
+                .type(URI.create(PROBLEM_BASE_URI + "service-unavailable"))
+                .title("Service Unavailable")
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .detail(ex.getMessage())
+                .instance(URI.create(request.getRequestURI()))
+                .traceId(getTraceId())
+                .timestamp(Instant.now())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfter().toSeconds()))
+                .body(problem);
+    }
+
+    @ExceptionHandler({QueryTimeoutException.class, TransactionTimedOutException.class})
+    public ResponseEntity<ProblemDetail> handleQueryTimeoutException(
+            Exception ex, HttpServletRequest request) {
+
+        log.warn("Query exceeded its time budget on {}: {}", request.getRequestURI(), ex.getMessage());
+        request.setAttribute(OUTCOME_UNKNOWN_ATTRIBUTE, true);
+
+        ProblemDetail problem = ProblemDetail.builder()
+                .type(URI.create(PROBLEM_BASE_URI + "query-timeout"))
+                .title("Query Timeout")
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .detail("The request exceeded its time budget. Narrow the query or retry later.")
+                .instance(URI.create(request.getRequestURI()))
+                .traceId(getTraceId())
+                .timestamp(Instant.now())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(problem);
+    }
+
     @ExceptionHandler(DuplicateSkuException.class)
     public ResponseEntity<ProblemDetail> handleDuplicateSkuException(
             DuplicateSkuException ex, HttpServletRequest request) {
@@ -59,6 +174,25 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(problem);
     }
 
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ProblemDetail> handleDataIntegrityViolationException(
+            DataIntegrityViolationException ex, HttpServletRequest request) {
+
+        log.warn("Constraint violation: {}", ex.getMostSpecificCause().getMessage());
+
+        ProblemDetail problem = ProblemDetail.builder()
+                .type(URI.create(PROBLEM_BASE_URI + "duplicate"))
+                .title("Duplicate SKU")
+                .status(HttpStatus.CONFLICT.value())
+                .detail("SKU conflicts with an existing record")
+                .instance(URI.create(request.getRequestURI()))
+                .traceId(getTraceId())
+                .timestamp(Instant.now())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(problem);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ProblemDetail> handleValidationException(
             MethodArgumentNotValidException ex, HttpServletRequest request) {
@@ -86,9 +220,10 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problem);
     }
 
-    @ExceptionHandler(IllegalArgumentException.class)
+    @ExceptionHandler({IllegalArgumentException.class, MissingServletRequestParameterException.class,
+            MethodArgumentTypeMismatchException.class})
     public ResponseEntity<ProblemDetail> handleIllegalArgumentException(
-            IllegalArgumentException ex, HttpServletRequest request) {
+            Exception ex, HttpServletRequest request) {
 
         log.warn("Invalid argument: {}", ex.getMessage());
 
@@ -0,0 +1,8 @@
+package com.retailer.sku.exception;
+
+public class SnapshotNotFoundException extends RuntimeException {
+
+    public SnapshotNotFoundException(String message) {
+        super(message);
+    }
+}
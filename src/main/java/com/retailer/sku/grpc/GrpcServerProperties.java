@@ -0,0 +1,23 @@
+package com.retailer.sku.grpc;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "sku.grpc")
+public class GrpcServerProperties {
+
+    private boolean enabled = true;
+
+    private int port = 9090;
+
+    private int executorThreads = 32;
+
+    private int maxInboundMessageSize = 4 * 1024 * 1024;
+
+    private int lookupPrefetch = 16;
+
+    private Duration shutdownGracePeriod = Duration.ofSeconds(20);
+}
@@ -0,0 +1,38 @@
+package com.retailer.sku.grpc;
+
+import io.grpc.stub.ServerCallStreamObserver;
+
+/**
+ * Manual inbound flow control for the lookup stream: the server only asks the client for more keys
+ * while its own outbound buffer is writable, so a slow reader throttles the sender instead of
+ * queueing resolved SKUs in memory. gRPC serializes the callbacks of a call, so no locking is needed.
+ */
+class LookupFlowControl {
+
+    private final ServerCallStreamObserver<?> serverObserver;
+    private final int prefetch;
+    private int outstanding;
+
+    LookupFlowControl(ServerCallStreamObserver<?> serverObserver, int prefetch) {
+        this.serverObserver = serverObserver;
+        this.prefetch = Math.max(prefetch, 1);
+    }
+
+    void onReady() {
+        requestMoreIfReady();
+    }
+
+    void onProcessed() {
+        if (outstanding > 0) {
+            outstanding--;
+        }
+        requestMoreIfReady();
+    }
+
+    private void requestMoreIfReady() {
+        if (outstanding == 0 && serverObserver.isReady() && !serverObserver.isCancelled()) {
+            outstanding = prefetch;
+            serverObserver.request(prefetch);
+        }
+    }
+}
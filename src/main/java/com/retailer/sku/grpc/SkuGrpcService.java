@@ -0,0 +1,260 @@
+package com.retailer.sku.grpc;
+
+import com.google.protobuf.Empty;
+import com.retailer.sku.exception.BulkheadRejectedException;
+import com.retailer.sku.exception.DuplicateSkuException;
+import com.retailer.sku.exception.SkuNotFoundException;
+import com.retailer.sku.model.dto.SkuRequest;
+import com.retailer.sku.model.dto.SkuResponse;
+import com.retailer.sku.model.dto.SkuSearchCriteria;
+import com.retailer.sku.model.dto.SkuUpdateRequest;
+import com.retailer.sku.proto.SkuProtoMapper;
+import com.retailer.sku.proto.v1.*;
+import com.retailer.sku.service.SkuService;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionTimedOutException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SkuGrpcService extends SkuServiceGrpc.SkuServiceImplBase {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 2000;
+
+    private final SkuService skuService;
+    private final SkuProtoMapper protoMapper;
+    private final Validator validator;
+    private final GrpcServerProperties properties;
+
+    @Override
+    public void createSku(SkuInput request, StreamObserver<Sku> responseObserver) {
+        respond(responseObserver, () -> {
+            SkuRequest skuRequest = validated(protoMapper.toSkuRequest(request));
+            return protoMapper.toProto(skuService.createSku(skuRequest));
+        });
+    }
+
+    @Override
+    public void createSkusBatch(CreateSkusBatchRequest request, StreamObserver<SkuList> responseObserver) {
+        respond(responseObserver, () -> {
+            if (request.getSkusCount() == 0 || request.getSkusCount() > 100) {
+                throw new IllegalArgumentException("Batch must contain between 1 and 100 SKUs");
+            }
+            List<SkuRequest> skuRequests = new ArrayList<>(request.getSkusCount());
+            request.getSkusList().forEach(input -> skuRequests.add(validated(protoMapper.toSkuRequest(input))));
+            return protoMapper.toProtoList(skuService.createSkusBatch(skuRequests));
+        });
+    }
+
+    @Override
+    public void getSku(SkuKey request, StreamObserver<Sku> responseObserver) {
+        respond(responseObserver, () -> protoMapper.toProto(lookup(request)));
+    }
+
+    @Override
+    public void listSkus(ListSkusRequest request, StreamObserver<SkuPage> responseObserver) {
+        respond(responseObserver, () -> {
+            Pageable pageable = toPageable(request.getPage(), Sort.by(Sort.Direction.DESC, "createdAt"));
+            boolean filtered = request.hasCategory() || request.hasStatus() || request.hasBrand()
+                    || request.hasMinPrice() || request.hasMaxPrice();
+            if (!filtered) {
+                return protoMapper.toProtoPage(skuService.getAllSkus(pageable));
+            }
+            return protoMapper.toProtoPage(skuService.getSkusByFilters(
+                    request.hasCategory() ? request.getCategory() : null,
+                    request.hasStatus() ? request.getStatus() : null,
+                    request.hasBrand() ? request.getBrand() : null,
+                    request.hasMinPrice() ? protoMapper.toDecimal(request.getMinPrice()) : null,
+                    request.hasMaxPrice() ? protoMapper.toDecimal(request.getMaxPrice()) : null,
+                    pageable));
+        });
+    }
+
+    @Override
+    public void searchSkus(SearchSkusRequest request, StreamObserver<SkuPage> responseObserver) {
+        respond(responseObserver, () -> {
+            SkuSearchCriteria criteria = SkuSearchCriteria.builder()
+                    .query(request.hasQuery() ? request.getQuery() : null)
+                    .category(request.hasCategory() ? request.getCategory() : null)
+                    .subcategory(request.hasSubcategory() ? request.getSubcategory() : null)
+                    .brand(request.hasBrand() ? request.getBrand() : null)
+                    .status(request.hasStatus() ? request.getStatus() : null)
+                    .minPrice(request.hasMinPrice() ? protoMapper.toDecimal(request.getMinPrice()) : null)
+                    .maxPrice(request.hasMaxPrice() ? protoMapper.toDecimal(request.getMaxPrice()) : null)
+                    .build();
+            Pageable pageable = toPageable(request.getPage(), Sort.by(Sort.Direction.ASC, "name"));
+            return protoMapper.toProtoPage(skuService.searchSkus(criteria, pageable));
+        });
+    }
+
+    @Override
+    public void updateSku(UpdateSkuRequest request, StreamObserver<Sku> responseObserver) {
+        respond(responseObserver, () -> {
+            SkuRequest skuRequest = validated(protoMapper.toSkuRequest(request.getSku()));
+            return protoMapper.toProto(skuService.updateSku(toUuid(request.getId()), skuRequest));
+        });
+    }
+
+    @Override
+    public void partialUpdateSku(UpdateSkuRequest request, StreamObserver<Sku> responseObserver) {
+        respond(responseObserver, () -> {
+            SkuUpdateRequest updateRequest = validated(protoMapper.toSkuUpdateRequest(request.getSku()));
+            return protoMapper.toProto(skuService.partialUpdateSku(toUuid(request.getId()), updateRequest));
+        });
+    }
+
+    @Override
+    public void deleteSku(SkuKey request, StreamObserver<Empty> responseObserver) {
+        respond(responseObserver, () -> {
+            if (request.getKeyCase() != SkuKey.KeyCase.ID) {
+                throw new IllegalArgumentException("SKUs can only be deleted by id");
+            }
+            skuService.deleteSku(toUuid(request.getId()));
+            return Empty.getDefaultInstance();
+        });
+    }
+
+    @Override
+    public StreamObserver<LookupRequest> streamLookup(StreamObserver<LookupResponse> responseObserver) {
+        ServerCallStreamObserver<LookupResponse> serverObserver =
+                (ServerCallStreamObserver<LookupResponse>) responseObserver;
+        LookupFlowControl flowControl = new LookupFlowControl(serverObserver, properties.getLookupPrefetch());
+
+        serverObserver.disableAutoRequest();
+        serverObserver.setOnReadyHandler(flowControl::onReady);
+        serverObserver.setOnCancelHandler(() -> log.debug("Lookup stream cancelled by client"));
+
+        return new StreamObserver<>() {
+            @Override
+            public void onNext(LookupRequest request) {
+                if (serverObserver.isCancelled()) {
+                    return;
+                }
+                serverObserver.onNext(resolve(request));
+                flowControl.onProcessed();
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                log.debug("Lookup stream aborted by client: {}", t.getMessage());
+            }
+
+            @Override
+            public void onCompleted() {
+                if (!serverObserver.isCancelled()) {
+                    serverObserver.onCompleted();
+                }
+            }
+        };
+    }
+
+    private LookupResponse resolve(LookupRequest request) {
+        LookupResponse.Builder response = LookupResponse.newBuilder()
+                .setCorrelationId(request.getCorrelationId());
+        try {
+            response.setSku(protoMapper.toProto(lookup(request.getKey())));
+        } catch (Exception e) {
+            Status status = toStatus(e);
+            response.setError(LookupError.newBuilder()
+                    .setCode(status.getCode().name())
+                    .setMessage(status.getDescription() != null ? status.getDescription() : ""));
+        }
+        return response.build();
+    }
+
+    private SkuResponse lookup(SkuKey key) {
+        return switch (key.getKeyCase()) {
+            case ID -> skuService.getSkuById(toUuid(key.getId()));
+            case SKU_CODE -> skuService.getSkuByCode(key.getSkuCode());
+            case UPC -> skuService.getSkuByUpc(key.getUpc());
+            case KEY_NOT_SET -> throw new IllegalArgumentException("One of id, sku_code or upc is required");
+        };
+    }
+
+    private <T> T validated(T request) {
+        Set<ConstraintViolation<T>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return request;
+    }
+
+    private static <T> void respond(StreamObserver<T> responseObserver, Supplier<T> call) {
+        T response;
+        try {
+            response = call.get();
+        } catch (Exception e) {
+            responseObserver.onError(toStatus(e).asRuntimeException());
+            return;
+        }
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+
+    private static Status toStatus(Exception e) {
+        if (e instanceof SkuNotFoundException) {
+            return Status.NOT_FOUND.withDescription(e.getMessage());
+        }
+        if (e instanceof DuplicateSkuException) {
+            return Status.ALREADY_EXISTS.withDescription(e.getMessage());
+        }
+        if (e instanceof DataIntegrityViolationException) {
+            return Status.ALREADY_EXISTS.withDescription("SKU conflicts with an existing record");
+        }
+        if (e instanceof QueryTimeoutException || e instanceof TransactionTimedOutException) {
+            return Status.DEADLINE_EXCEEDED.withDescription("The request exceeded its time budget");
+        }
+        if (e instanceof BulkheadRejectedException) {
+            return Status.UNAVAILABLE.withDescription(e.getMessage());
+        }
+        if (e instanceof ConstraintViolationException || e instanceof IllegalArgumentException) {
+            return Status.INVALID_ARGUMENT.withDescription(e.getMessage());
+        }
+        log.error("Unexpected error in gRPC call", e);
+        return Status.INTERNAL.withDescription("An unexpected error occurred. Please try again later.");
+    }
+
+    private static UUID toUuid(String id) {
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid SKU id: " + id);
+        }
+    }
+
+    private static Pageable toPageable(com.retailer.sku.proto.v1.PageRequest page, Sort defaultSort) {
+        int size = page.getSize() > 0 ? Math.min(page.getSize(), MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+        Sort sort = defaultSort;
+        if (page.getSortCount() > 0) {
+            List<Sort.Order> orders = new ArrayList<>();
+            for (String expression : page.getSortList()) {
+                String[] parts = expression.split(",");
+                Sort.Direction direction = parts.length > 1
+                        ? Sort.Direction.fromString(parts[1].trim())
+                        : Sort.Direction.ASC;
+                orders.add(new Sort.Order(direction, parts[0].trim()));
+            }
+            sort = Sort.by(orders);
+        }
+        return org.springframework.data.domain.PageRequest.of(Math.max(page.getPage(), 0), size, sort);
+    }
+}
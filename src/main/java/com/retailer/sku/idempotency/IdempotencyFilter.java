@@ -0,0 +1,368 @@
+package com.retailer.sku.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.retailer.sku.exception.GlobalExceptionHandler;
+import com.retailer.sku.exception.ProblemDetail;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.api.trace.Span;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Makes create requests carrying an idempotency key safe to retry. The first attempt for a key runs and its
+ * response is recorded; a retry with the same key and payload gets that response back without running again,
+ * and a duplicate that arrives while the first attempt is still running waits for it.
+ */
+@Component
+// Ahead of the concurrency limiter, so replays and waiting duplicates do not take permits from real work
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Set<String> IDEMPOTENT_PATHS = Set.of(
+            "/api/v1/skus", "/api/v1/skus/batch", "/api/v1/skus/batch-jobs");
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final String PROBLEM_BASE_URI = "https://api.retailer.com/problems/";
+
+    private record InFlight(byte[] requestHash, CompletableFuture<IdempotencyStore.Entry> result) {
+    }
+
+    private final IdempotencyStore store;
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+    private final ConcurrentHashMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter mismatched;
+    private final Counter inProgress;
+
+    public IdempotencyFilter(IdempotencyStore store, IdempotencyProperties properties, ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry) {
+        this.store = store;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.executed = requests(meterRegistry, "executed");
+        this.replayed = requests(meterRegistry, "replayed");
+        this.mismatched = requests(meterRegistry, "mismatched");
+        this.inProgress = requests(meterRegistry, "in_progress");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || !HttpMethod.POST.matches(request.getMethod())
+                || !IDEMPOTENT_PATHS.contains(request.getRequestURI())
+                || request.getHeader(properties.getHeader()) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = request.getHeader(properties.getHeader()).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            problem(request, response, HttpStatus.BAD_REQUEST, "invalid-idempotency-key", "Invalid Idempotency Key",
+                    properties.getHeader() + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        byte[] body = StreamUtils.copyToByteArray(request.getInputStream());
+        byte[] requestHash = hash(request, body);
+        HttpServletRequest replayable = new CachedBodyRequest(request, body);
+
+        while (true) {
+            IdempotencyStore.Entry cached = store.cached(key);
+            if (cached != null) {
+                respond(request, response, cached, requestHash);
+                return;
+            }
+
+            InFlight attempt = new InFlight(requestHash, new CompletableFuture<>());
+            InFlight first = inFlight.putIfAbsent(key, attempt);
+            if (first == null) {
+                IdempotencyStore.Entry entry = null;
+                try {
+                    entry = execute(key, requestHash, replayable, response, chain);
+                } finally {
+                    inFlight.remove(key, attempt);
+                    attempt.result().complete(entry);
+                }
+                return;
+            }
+
+            if (!MessageDigest.isEqual(first.requestHash(), requestHash)) {
+                respond(request, response, new IdempotencyStore.Entry(first.requestHash(), null), requestHash);
+                return;
+            }
+            IdempotencyStore.Entry entry;
+            try {
+                entry = first.result().get(properties.getLockTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                respond(request, response, new IdempotencyStore.Entry(requestHash, null), requestHash);
+                return;
+            } catch (ExecutionException e) {
+                entry = null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServletException("Interrupted waiting for the first attempt of idempotency key " + key, e);
+            }
+            if (entry != null) {
+                respond(request, response, entry, requestHash);
+                return;
+            }
+            // The first attempt left nothing to replay, so this one runs in its place
+        }
+    }
+
+    /**
+     * Claims the key and runs the request, or answers from whatever another instance recorded for it. Returns
+     * the entry duplicates on this instance should be answered with, or null if they should try themselves.
+     */
+    private IdempotencyStore.Entry execute(String key, byte[] requestHash, HttpServletRequest request,
+                                           HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long deadline = System.nanoTime() + properties.getLockTimeout().toNanos();
+        while (!store.claim(key, requestHash)) {
+            IdempotencyStore.Entry existing = store.find(key).orElse(null);
+            if (existing != null
+                    && (existing.isComplete() || !existing.matches(requestHash) || System.nanoTime() >= deadline)) {
+                respond(request, response, existing, requestHash);
+                return existing.isComplete() ? existing : null;
+            }
+            try {
+                Thread.sleep(properties.getPollInterval().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServletException("Interrupted waiting for idempotency key " + key, e);
+            }
+        }
+
+        executed.increment();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        IdempotencyStore.Entry entry = null;
+        boolean outcomeUnknown = false;
+        try {
+            chain.doFilter(request, wrapper);
+            if (request.getAttribute(GlobalExceptionHandler.OUTCOME_UNKNOWN_ATTRIBUTE) != null) {
+                outcomeUnknown = true;
+            } else if (isReplayable(wrapper.getStatus())) {
+                entry = new IdempotencyStore.Entry(requestHash, new IdempotencyStore.StoredResponse(
+                        wrapper.getStatus(), wrapper.getContentType(), wrapper.getHeader(HttpHeaders.LOCATION),
+                        wrapper.getContentAsByteArray()));
+                store.complete(key, entry);
+            }
+        } catch (RuntimeException e) {
+            if (entry == null) {
+                throw e;
+            }
+            // The request itself succeeded; the claim lapses and a retry on another instance runs again
+            log.warn("Could not record response for idempotency key {}: {}", key, e.getMessage());
+        } finally {
+            if (outcomeUnknown) {
+                hold(key, requestHash);
+            } else if (entry == null) {
+                release(key);
+            }
+            wrapper.copyBodyToResponse();
+        }
+        // Duplicates of an attempt that may still commit are told it is in progress rather than run again
+        return outcomeUnknown ? new IdempotencyStore.Entry(requestHash, null) : entry;
+    }
+
+    // Server errors and shed requests may succeed on retry, so only their claim is dropped; failures whose
+    // outcome is unknown never get here
+    private static boolean isReplayable(int status) {
+        return status < HttpStatus.INTERNAL_SERVER_ERROR.value() && status != HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    private void hold(String key, byte[] requestHash) {
+        try {
+            store.hold(key, requestHash);
+        } catch (RuntimeException e) {
+            log.warn("Could not hold idempotency key {}: {}", key, e.getMessage());
+        }
+    }
+
+    private void release(String key) {
+        try {
+            store.release(key);
+        } catch (RuntimeException e) {
+            log.warn("Could not release idempotency key {}: {}", key, e.getMessage());
+        }
+    }
+
+    private void respond(HttpServletRequest request, HttpServletResponse response, IdempotencyStore.Entry entry,
+                         byte[] requestHash) throws IOException {
+        if (!entry.matches(requestHash)) {
+            mismatched.increment();
+            problem(request, response, HttpStatus.UNPROCESSABLE_ENTITY, "idempotency-key-reused",
+                    "Idempotency Key Reused",
+                    "This idempotency key was already used for a different request");
+            return;
+        }
+        if (!entry.isComplete()) {
+            inProgress.increment();
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            problem(request, response, HttpStatus.CONFLICT, "idempotency-key-in-progress", "Request In Progress",
+                    "A request with this idempotency key is still being processed, retry later");
+            return;
+        }
+
+        replayed.increment();
+        IdempotencyStore.StoredResponse stored = entry.response();
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.location() != null) {
+            response.setHeader(HttpHeaders.LOCATION, stored.location());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void problem(HttpServletRequest request, HttpServletResponse response, HttpStatus status, String type,
+                         String title, String detail) throws IOException {
+        ProblemDetail problem = ProblemDetail.builder()
+                .type(URI.create(PROBLEM_BASE_URI + type))
+                .title(title)
+                .status(status.value())
+                .detail(detail)
+                .instance(URI.create(request.getRequestURI()))
+                .traceId(traceId())
+                .timestamp(Instant.now())
+                .build();
+
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), problem);
+    }
+
+    // The path is part of the hash, so one key cannot replay a response recorded for another endpoint
+    private static byte[] hash(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + " " + request.getRequestURI() + "\n").getBytes(StandardCharsets.UTF_8));
+            return digest.digest(body);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String traceId() {
+        Span currentSpan = Span.current();
+        return currentSpan.getSpanContext().isValid() ? currentSpan.getSpanContext().getTraceId() : null;
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("sku.idempotency.requests")
+                .description("Requests carrying an idempotency key")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Serves a body that was already read for hashing to everything downstream.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // The whole body is already in memory, so it is available and fully read at once
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.retailer.sku.idempotency;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "sku.idempotency")
+public class IdempotencyProperties {
+
+    private boolean enabled = true;
+
+    private String header = "Idempotency-Key";
+
+    // How long a stored response is replayed for the same key
+    private Duration ttl = Duration.ofHours(24);
+
+    // Completed responses kept in memory in front of the table
+    private int maxCachedResponses = 10_000;
+
+    // How long a duplicate waits for the first attempt, and how long a claim is honoured without a heartbeat
+    // before another instance may take over a key whose first attempt never finished
+    private Duration lockTimeout = Duration.ofSeconds(30);
+
+    // How often claims of attempts still running on this instance are extended; well under lockTimeout
+    private Duration heartbeatInterval = Duration.ofSeconds(10);
+
+    // How long a claim stays locked after its attempt ended without a known outcome, such as a timed out write;
+    // longer than the write transaction budget, so a retry after it sees whatever committed
+    private Duration outcomeHold = Duration.ofMinutes(2);
+
+    private Duration pollInterval = Duration.ofMillis(100);
+
+    private Duration cleanupInterval = Duration.ofMinutes(15);
+
+    private int cleanupBatchSize = 5000;
+}
@@ -0,0 +1,171 @@
+package com.retailer.sku.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.retailer.sku.bulkhead.Workload;
+import com.retailer.sku.bulkhead.WorkloadRoutingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Idempotency keys and the responses recorded for them. A key is claimed in the shared table before the
+ * request runs, so only one attempt executes across instances; completed responses are also kept in memory
+ * so retries landing on the same instance are answered without a database round trip. Claims held by attempts
+ * still running here are renewed on a heartbeat, so a slow attempt is never taken over by another instance.
+ * Claims and responses are bookkeeping for the writes they guard, so they share the write pool.
+ */
+@Component
+@Slf4j
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyStore {
+
+    public record StoredResponse(int status, String contentType, String location, byte[] body) {
+    }
+
+    /**
+     * The request a key was first used for, and its response once that attempt has finished.
+     */
+    public record Entry(byte[] requestHash, StoredResponse response) {
+
+        public boolean matches(byte[] hash) {
+            return MessageDigest.isEqual(requestHash, hash);
+        }
+
+        public boolean isComplete() {
+            return response != null;
+        }
+    }
+
+    private final IdempotencyProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<String, Entry> completed;
+    private final Set<String> held = ConcurrentHashMap.newKeySet();
+
+    public IdempotencyStore(IdempotencyProperties properties, JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxCachedResponses())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, completed, "sku.idempotency.responses");
+    }
+
+    public Entry cached(String key) {
+        return completed.getIfPresent(key);
+    }
+
+    /**
+     * Claims the key for a new attempt. Succeeds if the key is unused, expired, or held by an attempt whose
+     * claim has lapsed without a response; returns false if another attempt holds or has completed it.
+     */
+    public boolean claim(String key, byte[] requestHash) {
+        boolean claimed = WorkloadRoutingDataSource.callWith(Workload.WRITE, () -> jdbcTemplate.update("""
+                INSERT INTO idempotency_keys (idempotency_key, request_hash, locked_until, expires_at)
+                VALUES (?, ?, NOW() + ? * INTERVAL '1 millisecond', NOW() + ? * INTERVAL '1 millisecond')
+                ON CONFLICT (idempotency_key) DO UPDATE
+                SET request_hash = EXCLUDED.request_hash, status_code = NULL, content_type = NULL, location = NULL,
+                    response_body = NULL, locked_until = EXCLUDED.locked_until, created_at = NOW(),
+                    expires_at = EXCLUDED.expires_at
+                WHERE idempotency_keys.expires_at <= NOW()
+                   OR (idempotency_keys.status_code IS NULL AND idempotency_keys.locked_until <= NOW())
+                """, key, requestHash, properties.getLockTimeout().toMillis(), properties.getTtl().toMillis())) > 0;
+        if (claimed) {
+            held.add(key);
+        }
+        return claimed;
+    }
+
+    public Optional<Entry> find(String key) {
+        return WorkloadRoutingDataSource.callWith(Workload.WRITE, () -> jdbcTemplate.query("""
+                SELECT request_hash, status_code, content_type, location, response_body
+                FROM idempotency_keys WHERE idempotency_key = ? AND expires_at > NOW()
+                """, (rs, rowNum) -> {
+            int status = rs.getInt("status_code");
+            StoredResponse response = rs.wasNull() ? null : new StoredResponse(status,
+                    rs.getString("content_type"), rs.getString("location"), rs.getBytes("response_body"));
+            return new Entry(rs.getBytes("request_hash"), response);
+        }, key)).stream().findFirst();
+    }
+
+    public void complete(String key, Entry entry) {
+        held.remove(key);
+        completed.put(key, entry);
+        StoredResponse response = entry.response();
+        WorkloadRoutingDataSource.runWith(Workload.WRITE, () -> jdbcTemplate.update("""
+                UPDATE idempotency_keys
+                SET status_code = ?, content_type = ?, location = ?, response_body = ?
+                WHERE idempotency_key = ? AND request_hash = ?
+                """, response.status(), response.contentType(), response.location(), response.body(),
+                key, entry.requestHash()));
+    }
+
+    /**
+     * Drops a claim whose attempt produced nothing worth replaying, so a retry executes again.
+     */
+    public void release(String key) {
+        held.remove(key);
+        WorkloadRoutingDataSource.runWith(Workload.WRITE, () -> jdbcTemplate.update(
+                "DELETE FROM idempotency_keys WHERE idempotency_key = ? AND status_code IS NULL", key));
+    }
+
+    /**
+     * Keeps the claim of an attempt that ended without a known outcome locked for the outcome hold, so retries
+     * are told it is still in progress until whatever it started has committed or rolled back.
+     */
+    public void hold(String key, byte[] requestHash) {
+        held.remove(key);
+        WorkloadRoutingDataSource.runWith(Workload.WRITE, () -> jdbcTemplate.update("""
+                UPDATE idempotency_keys SET locked_until = NOW() + ? * INTERVAL '1 millisecond'
+                WHERE idempotency_key = ? AND request_hash = ? AND status_code IS NULL
+                """, properties.getOutcomeHold().toMillis(), key, requestHash));
+    }
+
+    @Scheduled(fixedDelayString = "${sku.idempotency.heartbeat-interval:PT10S}")
+    public void renewClaims() {
+        if (held.isEmpty()) {
+            return;
+        }
+        long lockMillis = properties.getLockTimeout().toMillis();
+        List<Object[]> claims = held.stream().map(key -> new Object[]{lockMillis, key}).toList();
+        WorkloadRoutingDataSource.runWith(Workload.MAINTENANCE, () -> jdbcTemplate.batchUpdate("""
+                UPDATE idempotency_keys SET locked_until = NOW() + ? * INTERVAL '1 millisecond'
+                WHERE idempotency_key = ? AND status_code IS NULL
+                """, claims));
+    }
+
+    @Scheduled(initialDelayString = "${sku.idempotency.cleanup-interval:PT15M}",
+            fixedDelayString = "${sku.idempotency.cleanup-interval:PT15M}")
+    public void purgeExpired() {
+        WorkloadRoutingDataSource.runWith(Workload.MAINTENANCE, this::purgeBatches);
+    }
+
+    private void purgeBatches() {
+        int purged = 0;
+        int deleted;
+        do {
+            // Batched so a backlog of expired keys never holds one long delete against live claims
+            deleted = jdbcTemplate.update("""
+                    DELETE FROM idempotency_keys WHERE idempotency_key IN (
+                        SELECT idempotency_key FROM idempotency_keys WHERE expires_at <= NOW() LIMIT ?)
+                    """, properties.getCleanupBatchSize());
+            purged += deleted;
+        } while (deleted >= properties.getCleanupBatchSize());
+
+        if (purged > 0) {
+            log.debug("Purged {} expired idempotency keys", purged);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.retailer.sku.jfr;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "sku.flight-recorder", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(FlightRecorderProperties.class)
+public class FlightRecorderConfig {
+
+    @Bean
+    public RollingFlightRecording rollingFlightRecording(FlightRecorderProperties properties) {
+        return new RollingFlightRecording(properties);
+    }
+
+    @Bean
+    public FlightRecordingEndpoint flightRecordingEndpoint(RollingFlightRecording recording,
+                                                           FlightRecorderProperties properties) {
+        return new FlightRecordingEndpoint(recording, properties);
+    }
+
+    // Emits into any recording that enables the event, including ones started with jcmd
+    @Bean
+    public SkuOperationEventAspect skuOperationEventAspect() {
+        return new SkuOperationEventAspect();
+    }
+}
@@ -0,0 +1,32 @@
+package com.retailer.sku.jfr;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "sku.flight-recorder")
+public class FlightRecorderProperties {
+
+    private boolean enabled = true;
+
+    // JDK settings file the rolling recording starts from: "default" (about 1% overhead) or "profile"
+    private String settings = "default";
+
+    // The rolling recording keeps at most this much history, whichever limit is reached first
+    private Duration maxAge = Duration.ofMinutes(30);
+
+    private DataSize maxSize = DataSize.ofMegabytes(250);
+
+    // Operations faster than this are not recorded
+    private Duration operationThreshold = Duration.ZERO;
+
+    private Path directory = Path.of("flight-recordings");
+
+    private Duration defaultDumpWindow = Duration.ofMinutes(5);
+
+    private int retainedDumps = 10;
+}
@@ -0,0 +1,41 @@
+package com.retailer.sku.jfr;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Endpoint(id = "flightrecording")
+@RequiredArgsConstructor
+public class FlightRecordingEndpoint {
+
+    private final RollingFlightRecording recording;
+    private final FlightRecorderProperties properties;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return Map.of(
+                "state", recording.state(),
+                "settings", properties.getSettings(),
+                "maxAge", properties.getMaxAge(),
+                "maxSize", properties.getMaxSize().toBytes(),
+                "directory", properties.getDirectory().toAbsolutePath().toString());
+    }
+
+    /**
+     * Dumps the last {@code minutes} (default sku.flight-recorder.default-dump-window) to a file on the
+     * instance; summarize it with {@code ./gradlew analyzeRecording -Precording=<file>}.
+     */
+    @WriteOperation
+    public RollingFlightRecording.Dump dump(@Nullable Integer minutes) {
+        Duration window = minutes != null ? Duration.ofMinutes(minutes) : properties.getDefaultDumpWindow();
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("minutes must be positive");
+        }
+        return recording.dump(window.compareTo(properties.getMaxAge()) > 0 ? properties.getMaxAge() : window);
+    }
+}
@@ -0,0 +1,126 @@
+package com.retailer.sku.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Summarizes the SKU operation events in a flight recording per operation, slowest total first. Run with
+ * {@code ./gradlew analyzeRecording -Precording=<file.jfr>}.
+ */
+public final class RecordingAnalyzer {
+
+    public record OperationSummary(String operation, long count, long failed, double p50Millis, double p95Millis,
+                                   double p99Millis, double maxMillis, double totalMillis, double dbMillis,
+                                   long statements, long rows, long batchItems) {
+
+        public double dbShare() {
+            return totalMillis > 0 ? dbMillis / totalMillis : 0;
+        }
+    }
+
+    private RecordingAnalyzer() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1 || args[0].isBlank()) {
+            System.err.println("Usage: RecordingAnalyzer <recording.jfr>");
+            System.exit(2);
+        }
+        Path file = Path.of(args[0]);
+        if (!Files.isRegularFile(file)) {
+            System.err.println("No such recording: " + file);
+            System.exit(2);
+        }
+        print(summarize(file), System.out);
+    }
+
+    public static List<OperationSummary> summarize(Path file) throws IOException {
+        Map<String, Accumulator> byOperation = new HashMap<>();
+        try (RecordingFile recording = new RecordingFile(file)) {
+            while (recording.hasMoreEvents()) {
+                RecordedEvent event = recording.readEvent();
+                if (event.getEventType().getName().equals(SkuOperationEvent.NAME)) {
+                    byOperation.computeIfAbsent(event.getString("operation"), key -> new Accumulator()).add(event);
+                }
+            }
+        }
+
+        List<OperationSummary> summaries = new ArrayList<>();
+        byOperation.forEach((operation, accumulator) -> summaries.add(accumulator.summarize(operation)));
+        summaries.sort(Comparator.comparingDouble(OperationSummary::totalMillis).reversed());
+        return summaries;
+    }
+
+    static void print(List<OperationSummary> summaries, PrintStream out) {
+        if (summaries.isEmpty()) {
+            out.println("No " + SkuOperationEvent.NAME + " events in the recording");
+            return;
+        }
+        out.printf("%-24s %8s %6s %9s %9s %9s %9s %11s %5s %9s %9s %7s%n", "operation", "count", "failed",
+                "p50 ms", "p95 ms", "p99 ms", "max ms", "total ms", "db %", "stmts/op", "rows/op", "batch");
+        for (OperationSummary summary : summaries) {
+            out.printf("%-24s %8d %6d %9.2f %9.2f %9.2f %9.2f %11.1f %5.0f %9.1f %9.1f %7.1f%n",
+                    summary.operation(), summary.count(), summary.failed(), summary.p50Millis(),
+                    summary.p95Millis(), summary.p99Millis(), summary.maxMillis(), summary.totalMillis(),
+                    summary.dbShare() * 100, (double) summary.statements() / summary.count(),
+                    (double) summary.rows() / summary.count(), (double) summary.batchItems() / summary.count());
+        }
+    }
+
+    private static final class Accumulator {
+
+        private long[] durations = new long[64];
+        private int count;
+        private long failed;
+        private long dbNanos;
+        private long statements;
+        private long rows;
+        private long batchItems;
+
+        void add(RecordedEvent event) {
+            if (count == durations.length) {
+                durations = Arrays.copyOf(durations, count * 2);
+            }
+            durations[count++] = event.getDuration().toNanos();
+            if (event.getBoolean("failed")) {
+                failed++;
+            }
+            dbNanos += event.getLong("dbTime");
+            statements += event.getLong("statements");
+            rows += event.getLong("rows");
+            batchItems += event.getInt("batchSize");
+        }
+
+        OperationSummary summarize(String operation) {
+            long[] sorted = Arrays.copyOf(durations, count);
+            Arrays.sort(sorted);
+            long total = 0;
+            for (long duration : sorted) {
+                total += duration;
+            }
+            return new OperationSummary(operation, count, failed, millis(percentile(sorted, 0.50)),
+                    millis(percentile(sorted, 0.95)), millis(percentile(sorted, 0.99)),
+                    millis(sorted[count - 1]), millis(total), millis(dbNanos), statements, rows, batchItems);
+        }
+
+        // Nearest-rank percentile
+        private static long percentile(long[] sorted, double quantile) {
+            return sorted[Math.max(0, (int) Math.ceil(quantile * sorted.length) - 1)];
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.retailer.sku.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Always-on flight recording with bounded history, so the minutes before a latency spike can be dumped after
+ * the fact instead of starting a recording and hoping it happens again. Closed on stop, which includes a CRaC
+ * checkpoint, and started again on restore.
+ */
+@Slf4j
+public class RollingFlightRecording implements SmartLifecycle {
+
+    public record Dump(String file, long bytes, Instant from, Instant to) {
+    }
+
+    private static final String RECORDING_NAME = "sku-rolling";
+    private static final String FILE_PREFIX = "sku-";
+    private static final String FILE_SUFFIX = ".jfr";
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS")
+            .withZone(ZoneOffset.UTC);
+
+    private final FlightRecorderProperties properties;
+
+    private volatile Recording recording;
+
+    public RollingFlightRecording(FlightRecorderProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public synchronized void start() {
+        Recording started;
+        try {
+            started = new Recording(Configuration.getConfiguration(properties.getSettings()));
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Cannot load flight recorder settings " + properties.getSettings(), e);
+        }
+        started.setName(RECORDING_NAME);
+        started.setToDisk(true);
+        started.setMaxAge(properties.getMaxAge());
+        started.setMaxSize(properties.getMaxSize().toBytes());
+        started.enable(SkuOperationEvent.class).withThreshold(properties.getOperationThreshold());
+        started.start();
+        recording = started;
+        log.info("Started rolling flight recording ({} settings, last {} or {})", properties.getSettings(),
+                properties.getMaxAge(), properties.getMaxSize());
+    }
+
+    public RecordingState state() {
+        Recording current = recording;
+        return current != null ? current.getState() : RecordingState.CLOSED;
+    }
+
+    /**
+     * Writes the events of the last {@code window} to a new file in the dump directory, leaving the rolling
+     * recording running.
+     */
+    public synchronized Dump dump(Duration window) {
+        if (recording == null) {
+            throw new IllegalStateException("The rolling flight recording is not running");
+        }
+        Instant to = Instant.now();
+        Instant from = to.minus(window);
+        try {
+            Files.createDirectories(properties.getDirectory());
+            Path target = properties.getDirectory().resolve(FILE_PREFIX + FILE_TIME.format(to) + FILE_SUFFIX);
+            Path whole = Files.createTempFile(properties.getDirectory(), "rolling-", ".tmp");
+            try {
+                recording.dump(whole);
+                // The repository holds up to max-age of chunks; keep only events that overlap the window
+                try (RecordingFile file = new RecordingFile(whole)) {
+                    file.write(target, event -> !event.getEndTime().isBefore(from));
+                }
+            } finally {
+                Files.deleteIfExists(whole);
+            }
+            prune();
+            Dump dump = new Dump(target.toAbsolutePath().toString(), Files.size(target), from, to);
+            log.info("Dumped flight recording of the last {} to {} ({} bytes)", window, dump.file(), dump.bytes());
+            return dump;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to dump flight recording", e);
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recording != null;
+    }
+
+    private void prune() throws IOException {
+        List<Path> dumps;
+        try (Stream<Path> files = Files.list(properties.getDirectory())) {
+            // The timestamp in the name sorts oldest first
+            dumps = files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+        for (Path stale : dumps.subList(0, Math.max(0, dumps.size() - properties.getRetainedDumps()))) {
+            Files.deleteIfExists(stale);
+        }
+    }
+}
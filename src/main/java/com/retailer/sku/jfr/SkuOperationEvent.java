@@ -0,0 +1,51 @@
+package com.retailer.sku.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * One call into {@code SkuService}, emitted on the thread that ran it. Database fields come from the query
+ * profiler's JDBC proxy and stay zero when the profiler is disabled.
+ */
+@Name(SkuOperationEvent.NAME)
+@Label("SKU Operation")
+@Category({"Retailer", "SKU Service"})
+@Description("A SKU service operation with the database work done on its thread")
+@StackTrace(false)
+public class SkuOperationEvent extends Event {
+
+    public static final String NAME = "com.retailer.sku.Operation";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Category")
+    @Description("Product category the call was scoped to, 'mixed' for batches spanning several")
+    String category;
+
+    @Label("Batch Size")
+    @Description("Items in the collection arguments, 1 for single-SKU calls")
+    int batchSize;
+
+    @Label("Database Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long dbTime;
+
+    @Label("Statements")
+    long statements;
+
+    @Label("Rows")
+    @Description("Rows read from result sets plus rows reported by updates")
+    long rows;
+
+    @Label("Failed")
+    boolean failed;
+
+    @Label("Exception")
+    String exception;
+}
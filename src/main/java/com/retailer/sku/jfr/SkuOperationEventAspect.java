@@ -0,0 +1,101 @@
+package com.retailer.sku.jfr;
+
+import com.retailer.sku.model.dto.SkuRequest;
+import com.retailer.sku.model.dto.SkuSearchCriteria;
+import com.retailer.sku.profiler.JdbcActivity;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Inside the bulkhead advice, so the event runs on the thread doing the database work and its duration is the
+ * operation itself, not the time spent queued for a bulkhead slot.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 200)
+public class SkuOperationEventAspect {
+
+    private static final String MIXED = "mixed";
+
+    @Around("execution(public * com.retailer.sku.service.SkuService.*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        SkuOperationEvent event = new SkuOperationEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        JdbcActivity activity = JdbcActivity.begin();
+        event.begin();
+        Throwable failure = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable t) {
+            failure = t;
+            throw t;
+        } finally {
+            event.end();
+            activity.end();
+            if (event.shouldCommit()) {
+                event.operation = joinPoint.getSignature().getName();
+                event.category = category(joinPoint);
+                event.batchSize = batchSize(joinPoint.getArgs());
+                event.dbTime = activity.nanos();
+                event.statements = activity.statements();
+                event.rows = activity.rows();
+                event.failed = failure != null;
+                event.exception = failure != null ? failure.getClass().getName() : null;
+                event.commit();
+            }
+        }
+    }
+
+    private static String category(ProceedingJoinPoint joinPoint) {
+        String[] names = ((MethodSignature) joinPoint.getSignature()).getParameterNames();
+        Object[] args = joinPoint.getArgs();
+        String category = null;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof String value && names != null && "category".equals(names[i])) {
+                category = merge(category, value);
+            } else if (args[i] instanceof SkuRequest request) {
+                category = merge(category, request.getCategory());
+            } else if (args[i] instanceof SkuSearchCriteria criteria) {
+                category = merge(category, criteria.getCategory());
+            } else if (args[i] instanceof Collection<?> items) {
+                for (Object item : items) {
+                    if (item instanceof SkuRequest request) {
+                        category = merge(category, request.getCategory());
+                    }
+                }
+            }
+        }
+        return category;
+    }
+
+    private static String merge(String current, String next) {
+        if (next == null || next.equals(current)) {
+            return current;
+        }
+        return current == null ? next : MIXED;
+    }
+
+    private static int batchSize(Object[] args) {
+        int size = 0;
+        boolean batched = false;
+        for (Object arg : args) {
+            if (arg instanceof Collection<?> items) {
+                size += items.size();
+                batched = true;
+            } else if (arg instanceof Map<?, ?> items) {
+                size += items.size();
+                batched = true;
+            }
+        }
+        return batched ? size : 1;
+    }
+}
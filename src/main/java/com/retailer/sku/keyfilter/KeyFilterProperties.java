@@ -0,0 +1,30 @@
+package com.retailer.sku.keyfilter;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "sku.key-filter")
+public class KeyFilterProperties {
+
+    private boolean enabled = true;
+
+    private long expectedInsertions = 1_000_000;
+
+    private double falsePositiveRate = 0.01;
+
+    private Duration rebuildInterval = Duration.ofHours(1);
+
+    // Longest a key written by another instance can be reported absent
+    private Duration syncInterval = Duration.ofSeconds(1);
+
+    // Must exceed the longest write transaction, or keys it commits late are missed until the next rebuild
+    private Duration syncOverlap = Duration.ofSeconds(30);
+
+    // Without a successful sync for this long, lookups stop trusting filter misses
+    private Duration maxStaleness = Duration.ofSeconds(10);
+
+    private int fetchSize = 10_000;
+}
@@ -0,0 +1,200 @@
+package com.retailer.sku.keyfilter;
+
+import com.retailer.sku.bulkhead.Workload;
+import com.retailer.sku.bulkhead.WorkloadRoutingDataSource;
+import com.retailer.sku.model.entity.Sku;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bloom filter over every SKU code and UPC, used to answer lookups for unknown keys without a query. Besides
+ * the keys this instance writes, it polls sku_keys for keys written anywhere else, so a key can be reported
+ * absent for at most the sync interval after it is committed. If syncing stops succeeding for longer than
+ * max-staleness, every key is reported as possibly present. Callers must not rely on a miss where even the sync
+ * interval is unacceptable, such as uniqueness checks.
+ */
+@Component
+@Slf4j
+@EnableConfigurationProperties(KeyFilterProperties.class)
+public class SkuKeyIndex {
+
+    private static final String UPC_PREFIX = "u:";
+    private static final String SKU_CODE_PREFIX = "c:";
+
+    private final KeyFilterProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter absent;
+    private final Counter present;
+    private final Counter falsePositives;
+
+    private volatile BloomFilter filter;
+    private volatile Set<String> recentKeys = ConcurrentHashMap.newKeySet();
+    // Database time up to which sku_keys changes are known to be in the filter
+    private volatile Timestamp syncedThrough;
+    private volatile long syncedAtNanos;
+
+    public SkuKeyIndex(KeyFilterProperties properties, JdbcTemplate jdbcTemplate,
+                       TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+
+        absent = Counter.builder("sku.keyfilter.checks")
+                .description("Key filter checks")
+                .tag("result", "absent")
+                .register(meterRegistry);
+        present = Counter.builder("sku.keyfilter.checks")
+                .description("Key filter checks")
+                .tag("result", "present")
+                .register(meterRegistry);
+        falsePositives = Counter.builder("sku.keyfilter.false.positives")
+                .description("Keys reported as present by the filter but missing from the database")
+                .register(meterRegistry);
+        Gauge.builder("sku.keyfilter.fpp.observed", this, SkuKeyIndex::observedFalsePositiveRate)
+                .description("Observed false-positive rate of the key filter")
+                .register(meterRegistry);
+        Gauge.builder("sku.keyfilter.fpp.expected", this,
+                        index -> index.filter != null ? index.filter.expectedFalsePositiveRate() : 0)
+                .description("Theoretical false-positive rate for the current fill level")
+                .register(meterRegistry);
+        Gauge.builder("sku.keyfilter.keys", this, index -> index.filter != null ? index.filter.insertions() : 0)
+                .description("Keys inserted into the key filter")
+                .register(meterRegistry);
+    }
+
+    public boolean mightContainUpc(String upc) {
+        return mightContain(UPC_PREFIX + upc);
+    }
+
+    public boolean mightContainSkuCode(String skuCode) {
+        return mightContain(SKU_CODE_PREFIX + skuCode);
+    }
+
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    public void add(Sku sku) {
+        if (sku.getUpc() != null) {
+            put(UPC_PREFIX + sku.getUpc());
+        }
+        if (sku.getSkuCode() != null) {
+            put(SKU_CODE_PREFIX + sku.getSkuCode());
+        }
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${sku.key-filter.rebuild-interval:PT1H}")
+    public void rebuild() {
+        if (properties.isEnabled()) {
+            WorkloadRoutingDataSource.runWith(Workload.MAINTENANCE, this::rebuildFilter);
+        }
+    }
+
+    private void rebuildFilter() {
+        long started = System.nanoTime();
+        Timestamp scanStarted = jdbcTemplate.queryForObject("SELECT now()", Timestamp.class);
+        Set<String> previousKeys = recentKeys;
+        Set<String> currentKeys = ConcurrentHashMap.newKeySet();
+        recentKeys = currentKeys;
+
+        Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM sku_keys", Long.class);
+        long expected = Math.max(properties.getExpectedInsertions(), 2 * (rows != null ? rows : 0));
+        BloomFilter rebuilt = new BloomFilter(expected, properties.getFalsePositiveRate());
+
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement("SELECT upc, sku_code FROM sku_keys",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(properties.getFetchSize());
+            return statement;
+        }, (ResultSet rs) -> {
+            String upc = rs.getString(1);
+            if (upc != null) {
+                rebuilt.put(UPC_PREFIX + upc);
+            }
+            rebuilt.put(SKU_CODE_PREFIX + rs.getString(2));
+        }));
+
+        // Keys written while the scan was running may not be visible to it.
+        previousKeys.forEach(rebuilt::put);
+        currentKeys.forEach(rebuilt::put);
+        filter = rebuilt;
+        if (syncedThrough == null || scanStarted.after(syncedThrough)) {
+            syncedThrough = scanStarted;
+            syncedAtNanos = started;
+        }
+
+        log.info("Rebuilt SKU key filter with {} keys in {} ms",
+                rebuilt.insertions(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Adds keys written since the last sync by any instance. Keys are stamped when their transaction writes
+     * them but only become visible when it commits, so each poll looks back by the sync overlap as well.
+     */
+    @Scheduled(initialDelayString = "${sku.key-filter.sync-interval:PT1S}",
+            fixedDelayString = "${sku.key-filter.sync-interval:PT1S}")
+    public void sync() {
+        Timestamp from = syncedThrough;
+        if (properties.isEnabled() && filter != null && from != null) {
+            WorkloadRoutingDataSource.runWith(Workload.MAINTENANCE, () -> syncFrom(from));
+        }
+    }
+
+    private void syncFrom(Timestamp from) {
+        long started = System.nanoTime();
+        Timestamp polledAt = jdbcTemplate.queryForObject("SELECT now()", Timestamp.class);
+        Timestamp since = new Timestamp(from.getTime() - properties.getSyncOverlap().toMillis());
+        jdbcTemplate.query("SELECT upc, sku_code FROM sku_keys WHERE updated_at > ?", (ResultSet rs) -> {
+            String upc = rs.getString(1);
+            if (upc != null) {
+                put(UPC_PREFIX + upc);
+            }
+            put(SKU_CODE_PREFIX + rs.getString(2));
+        }, since);
+        syncedThrough = polledAt;
+        syncedAtNanos = started;
+    }
+
+    private boolean mightContain(String key) {
+        BloomFilter current = filter;
+        if (current == null || !properties.isEnabled()
+                || System.nanoTime() - syncedAtNanos > properties.getMaxStaleness().toNanos()) {
+            return true;
+        }
+        if (current.mightContain(key)) {
+            present.increment();
+            return true;
+        }
+        absent.increment();
+        return false;
+    }
+
+    private void put(String key) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        recentKeys.add(key);
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(key);
+        }
+    }
+
+    private double observedFalsePositiveRate() {
+        double negatives = falsePositives.count() + absent.count();
+        return negatives == 0 ? 0 : falsePositives.count() / negatives;
+    }
+}
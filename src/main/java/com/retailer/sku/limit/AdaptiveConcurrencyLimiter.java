@@ -0,0 +1,94 @@
+package com.retailer.sku.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+public class AdaptiveConcurrencyLimiter {
+
+    private final ConcurrencyLimitProperties properties;
+    private final GradientLimit limit;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Map<RequestPriority, Counter> rejected = new EnumMap<>(RequestPriority.class);
+    private final Map<RequestPriority, Timer> latency = new EnumMap<>(RequestPriority.class);
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.limit = new GradientLimit(properties);
+
+        Gauge.builder("sku.concurrency.limit", limit, GradientLimit::getLimit)
+                .description("Current adaptive concurrency limit")
+                .register(meterRegistry);
+        Gauge.builder("sku.concurrency.inflight", inflight, AtomicInteger::get)
+                .description("Requests currently admitted by the concurrency limiter")
+                .register(meterRegistry);
+        Gauge.builder("sku.concurrency.rtt.baseline", limit, l -> l.getLongRttNanos() / 1_000_000)
+                .description("Long-term latency baseline used by the limiter")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        for (RequestPriority priority : RequestPriority.values()) {
+            String tag = priority.name().toLowerCase();
+            rejected.put(priority, Counter.builder("sku.concurrency.rejected")
+                    .description("Requests shed by the concurrency limiter")
+                    .tag("priority", tag)
+                    .register(meterRegistry));
+            latency.put(priority, Timer.builder("sku.concurrency.admitted")
+                    .description("Latency of requests admitted by the concurrency limiter")
+                    .tag("priority", tag)
+                    .register(meterRegistry));
+        }
+    }
+
+    public Permit tryAcquire(RequestPriority priority) {
+        int allowed = allowed(priority);
+        while (true) {
+            int current = inflight.get();
+            if (current >= allowed) {
+                rejected.get(priority).increment();
+                return null;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return new Permit(priority, System.nanoTime(), current + 1);
+            }
+        }
+    }
+
+    public int getLimit() {
+        return limit.getLimit();
+    }
+
+    private int allowed(RequestPriority priority) {
+        double share = properties.getShares().getOrDefault(priority, 1.0);
+        return Math.max(1, (int) Math.ceil(limit.getLimit() * share));
+    }
+
+    public final class Permit {
+
+        private final RequestPriority priority;
+        private final long startNanos;
+        private final int inflightAtStart;
+
+        private Permit(RequestPriority priority, long startNanos, int inflightAtStart) {
+            this.priority = priority;
+            this.startNanos = startNanos;
+            this.inflightAtStart = inflightAtStart;
+        }
+
+        public void release(boolean dropped) {
+            long rtt = System.nanoTime() - startNanos;
+            inflight.decrementAndGet();
+            latency.get(priority).record(rtt, TimeUnit.NANOSECONDS);
+            limit.onSample(Math.max(rtt, 1), inflightAtStart, dropped);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.retailer.sku.limit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.retailer.sku.exception.ProblemDetail;
+import io.opentelemetry.api.trace.Span;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Instant;
+import java.util.regex.Pattern;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String API_PREFIX = "/api/v1/skus";
+    private static final String PROBLEM_BASE_URI = "https://api.retailer.com/problems/";
+    private static final Pattern POINT_LOOKUP = Pattern.compile(
+            "^/api/v1/skus/(upc/[^/]+|pos/[^/]+|code/[^/]+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12})$");
+    private static final String KEY_LOOKUP = API_PREFIX + "/lookup";
+    private static final Pattern BATCH = Pattern.compile("^/api/v1/skus/(batch|bulk-update|batch-jobs)(/.*)?$");
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ConcurrencyLimitProperties properties;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || !request.getRequestURI().startsWith(API_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestPriority priority = classify(request);
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire(priority);
+        if (permit == null) {
+            reject(request, response, priority);
+            return;
+        }
+
+        boolean dropped = true;
+        try {
+            chain.doFilter(request, response);
+            dropped = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            permit.release(dropped);
+        }
+    }
+
+    RequestPriority classify(HttpServletRequest request) {
+        RequestPriority route = classifyRoute(request);
+        // The header is client-controlled, so it can only lower a request below its route's class; a batch
+        // caller claiming CRITICAL would otherwise compete for the share reserved for point lookups
+        String header = request.getHeader(properties.getPriorityHeader());
+        if (header != null) {
+            try {
+                RequestPriority requested = RequestPriority.valueOf(header.trim().toUpperCase());
+                return requested.compareTo(route) > 0 ? requested : route;
+            } catch (IllegalArgumentException e) {
+                log.debug("Ignoring unknown request priority {}", header);
+            }
+        }
+        return route;
+    }
+
+    private static RequestPriority classifyRoute(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        if (BATCH.matcher(path).matches()) {
+            return RequestPriority.LOW;
+        }
+        if (HttpMethod.GET.matches(request.getMethod()) && POINT_LOOKUP.matcher(path).matches()) {
+            return RequestPriority.CRITICAL;
+        }
+        // Client SDKs coalesce point lookups into this call, so it carries the same traffic
+        if (HttpMethod.POST.matches(request.getMethod()) && KEY_LOOKUP.equals(path)) {
+            return RequestPriority.CRITICAL;
+        }
+        return RequestPriority.NORMAL;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, RequestPriority priority)
+            throws IOException {
+        HttpStatus status = priority == RequestPriority.CRITICAL
+                ? HttpStatus.SERVICE_UNAVAILABLE
+                : HttpStatus.TOO_MANY_REQUESTS;
+        log.warn("Shedding {} request {} {} at concurrency limit {}",
+                priority, request.getMethod(), request.getRequestURI(), limiter.getLimit());
+
+        ProblemDetail problem = ProblemDetail.builder()
+                .type(URI.create(PROBLEM_BASE_URI + "overloaded"))
+                .title("Service Overloaded")
+                .status(status.value())
+                .detail("The service is at capacity for " + priority.name().toLowerCase()
+                        + " priority requests, retry later")
+                .instance(URI.create(request.getRequestURI()))
+                .traceId(traceId())
+                .timestamp(Instant.now())
+                .build();
+
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(properties.getRetryAfter().toSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), problem);
+    }
+
+    private static String traceId() {
+        Span currentSpan = Span.current();
+        return currentSpan.getSpanContext().isValid() ? currentSpan.getSpanContext().getTraceId() : null;
+    }
+}
@@ -0,0 +1,38 @@
+package com.retailer.sku.limit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "sku.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+
+    private int initialLimit = 20;
+
+    private int minLimit = 4;
+
+    private int maxLimit = 200;
+
+    private double smoothing = 0.2;
+
+    private double rttTolerance = 2.0;
+
+    private int longWindow = 600;
+
+    private double backoffRatio = 0.9;
+
+    private String priorityHeader = "X-Request-Priority";
+
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    private Map<RequestPriority, Double> shares = new EnumMap<>(Map.of(
+            RequestPriority.CRITICAL, 1.0,
+            RequestPriority.NORMAL, 0.75,
+            RequestPriority.LOW, 0.4));
+}
@@ -0,0 +1,56 @@
+package com.retailer.sku.limit;
+
+class GradientLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double rttTolerance;
+    private final double longAlpha;
+    private final double backoffRatio;
+
+    private double limit;
+    private double longRtt;
+
+    GradientLimit(ConcurrencyLimitProperties properties) {
+        this.minLimit = properties.getMinLimit();
+        this.maxLimit = properties.getMaxLimit();
+        this.smoothing = properties.getSmoothing();
+        this.rttTolerance = properties.getRttTolerance();
+        this.longAlpha = 2.0 / (properties.getLongWindow() + 1);
+        this.backoffRatio = properties.getBackoffRatio();
+        this.limit = properties.getInitialLimit();
+    }
+
+    synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    synchronized double getLongRttNanos() {
+        return longRtt;
+    }
+
+    synchronized void onSample(long rttNanos, int inflight, boolean dropped) {
+        if (dropped) {
+            limit = clamp(limit * backoffRatio);
+            return;
+        }
+
+        longRtt = longRtt == 0 ? rttNanos : longRtt + longAlpha * (rttNanos - longRtt);
+        if (longRtt / rttNanos > 2) {
+            // Latency dropped well below the baseline; let the baseline catch up instead of over-admitting.
+            longRtt *= 0.95;
+        }
+        if (inflight < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRtt / rttNanos));
+        double target = limit * gradient + Math.sqrt(limit);
+        limit = clamp(limit * (1 - smoothing) + target * smoothing);
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
@@ -0,0 +1,7 @@
+package com.retailer.sku.limit;
+
+public enum RequestPriority {
+    CRITICAL,
+    NORMAL,
+    LOW
+}
@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.PartitionKey;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.type.SqlTypes;
 
@@ -18,9 +19,8 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "skus", indexes = {
-        @Index(name = "idx_sku_code", columnList = "skuCode", unique = true),
-        @Index(name = "idx_sku_upc", columnList = "upc", unique = true),
-        @Index(name = "idx_sku_category", columnList = "category"),
+        @Index(name = "idx_sku_code", columnList = "skuCode"),
+        @Index(name = "idx_sku_upc", columnList = "upc"),
         @Index(name = "idx_sku_status", columnList = "status"),
         @Index(name = "idx_sku_brand", columnList = "brand")
 })
@@ -34,10 +34,11 @@ public class Sku {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
-    @Column(nullable = false, unique = true, length = 50)
+    // Unique across the catalog through sku_keys; the partitioned skus table cannot enforce it
+    @Column(nullable = false, length = 50)
     private String skuCode;
 
-    @Column(unique = true, length = 12)
+    @Column(length = 12)
     private String upc;
 
     @Column(nullable = false, length = 255)
@@ -49,6 +50,7 @@ public class Sku {
     @Column(length = 100)
     private String brand;
 
+    @PartitionKey
     @Column(nullable = false, length = 50)
     private String category;
 
@@ -0,0 +1,35 @@
+package com.retailer.sku.pos;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "sku.pos-index")
+public class PosIndexProperties {
+
+    private boolean enabled = true;
+
+    private long expectedUpcs = 1_000_000;
+
+    // Direct buffers count against -XX:MaxDirectMemorySize, which defaults to the maximum heap size
+    private DataSize maxOffHeap = DataSize.ofGigabytes(2);
+
+    private DataSize chunkSize = DataSize.ofMegabytes(64);
+
+    private Duration rebuildInterval = Duration.ofHours(1);
+
+    // Longest a write committed by another instance is served stale
+    private Duration syncInterval = Duration.ofSeconds(1);
+
+    // updated_at is stamped by the writer's clock, so this must exceed the longest write transaction plus the
+    // clock skew between instances, or the rows it commits are missed until the next rebuild
+    private Duration syncOverlap = Duration.ofSeconds(30);
+
+    // Without a successful sync for this long, lookups fall through to the database
+    private Duration maxStaleness = Duration.ofSeconds(10);
+
+    private int fetchSize = 10_000;
+}
@@ -0,0 +1,74 @@
+package com.retailer.sku.pos;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Comparator;
+
+/**
+ * Answers register scans straight from the off-heap UPC index, bypassing dispatch, the service layer and Jackson.
+ * UPCs the index does not hold fall through to the controller, which reads the database.
+ */
+@Component
+@RequiredArgsConstructor
+public class PosLookupFilter extends OncePerRequestFilter {
+
+    private static final String POS_PATH = "/api/v1/skus/pos/";
+    private static final ThreadLocal<byte[]> BODY = ThreadLocal.withInitial(() -> new byte[UpcHashTable.MAX_BODY_BYTES]);
+
+    private final PosUpcIndex posUpcIndex;
+    private final PosIndexProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || !HttpMethod.GET.matches(request.getMethod())
+                || !request.getRequestURI().startsWith(POS_PATH)
+                || !acceptsJson(request.getHeader(HttpHeaders.ACCEPT));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String uri = request.getRequestURI();
+        long upc = UpcHashTable.parseUpc(uri, POS_PATH.length(), uri.length());
+        byte[] body = BODY.get();
+        int length = upc < 0 ? -1 : posUpcIndex.render(upc, body);
+        if (length < 0) {
+            chain.doFilter(request, response);
+            return;
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(length);
+        ServletOutputStream out = response.getOutputStream();
+        out.write(body, 0, length);
+        out.flush();
+    }
+
+    private static boolean acceptsJson(String accept) {
+        if (accept == null || accept.isBlank() || accept.equals(MediaType.APPLICATION_JSON_VALUE)
+                || accept.equals(MediaType.ALL_VALUE)) {
+            return true;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream()
+                    .max(Comparator.comparingDouble(MediaType::getQualityValue))
+                    .map(preferred -> preferred.includes(MediaType.APPLICATION_JSON))
+                    .orElse(true);
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+}
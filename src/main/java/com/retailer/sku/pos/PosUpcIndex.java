@@ -0,0 +1,302 @@
+package com.retailer.sku.pos;
+
+import com.retailer.sku.bulkhead.Workload;
+import com.retailer.sku.bulkhead.WorkloadRoutingDataSource;
+import com.retailer.sku.model.entity.Sku;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Off-heap UPC index serving POS lookups. Writes made by this instance are applied when they commit; writes made
+ * anywhere else are picked up by polling skus.updated_at, so a lookup can be stale for at most the sync interval.
+ * If syncing stops succeeding for longer than max-staleness, lookups fall through to the database. A UPC moved
+ * off a SKU by another instance keeps resolving at its old value until the next rebuild, since the poll only sees
+ * the row's current UPC.
+ */
+@Component
+@Slf4j
+@EnableConfigurationProperties(PosIndexProperties.class)
+public class PosUpcIndex {
+
+    private static final String POS_COLUMNS = "s.upc, s.sku_code, s.name, s.price, s.status";
+
+    record Write(long previousUpc, long upc, byte[] record) {
+    }
+
+    private final PosIndexProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService rebuildExecutor;
+    private final Counter hits;
+    private final Counter misses;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+
+    private volatile UpcHashTable table;
+    // Database time up to which skus changes are known to be in the table
+    private volatile Timestamp syncedThrough;
+    private volatile long syncedAtNanos;
+    // Writes applied while a rebuild scans; replayed into the new table before it is swapped in (guarded by this)
+    private List<Write> rebuildLog;
+
+    public PosUpcIndex(PosIndexProperties properties, JdbcTemplate jdbcTemplate,
+                       TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sku-pos-index-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        hits = Counter.builder("sku.pos.lookups")
+                .description("POS lookups served from the off-heap UPC index")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        misses = Counter.builder("sku.pos.lookups")
+                .description("POS lookups served from the off-heap UPC index")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("sku.pos.upcs", this, index -> index.table != null ? index.table.size() : 0)
+                .description("UPCs in the off-heap POS index")
+                .register(meterRegistry);
+        Gauge.builder("sku.pos.offheap.bytes", this, index -> index.table != null ? index.table.offHeapBytes() : 0)
+                .description("Direct memory held by the POS index")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("sku.pos.garbage.bytes", this, index -> index.table != null ? index.table.garbageBytes() : 0)
+                .description("Superseded POS records awaiting the next rebuild")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Writes the POS JSON body for a UPC into {@code target}; returns its length, or -1 if the UPC is not indexed.
+     */
+    public int render(long upc, byte[] target) {
+        UpcHashTable current = table;
+        boolean usable = current != null && properties.isEnabled()
+                && System.nanoTime() - syncedAtNanos <= properties.getMaxStaleness().toNanos();
+        int length = usable ? current.render(upc, target) : -1;
+        (length < 0 ? misses : hits).increment();
+        return length;
+    }
+
+    public void update(Sku sku) {
+        update(sku, null);
+    }
+
+    /**
+     * Applies a SKU write once its transaction commits; {@code previousUpc} is dropped if the UPC changed.
+     */
+    public void update(Sku sku, String previousUpc) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long upc = UpcHashTable.parseUpc(sku.getUpc());
+        Write write = new Write(UpcHashTable.parseUpc(previousUpc), upc,
+                upc < 0 ? null : UpcHashTable.encode(sku.getSkuCode(), sku.getName(), sku.getPrice(), sku.getStatus()));
+        afterCommit(() -> apply(write));
+    }
+
+    /**
+     * Reloads the POS fields of SKUs changed by set-based updates, which never materialize the entities.
+     */
+    public void refresh(Collection<UUID> ids) {
+        if (!properties.isEnabled() || ids.isEmpty()) {
+            return;
+        }
+        // Read inside the writing transaction so the changed rows are visible; apply only once they commit
+        Object[] keys = ids.toArray();
+        List<Write> writes = new ArrayList<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("SELECT " + POS_COLUMNS
+                    + " FROM sku_keys k JOIN skus s ON s.id = k.id AND s.category = k.category"
+                    + " WHERE k.id = ANY(?) AND k.upc IS NOT NULL");
+            statement.setArray(1, connection.createArrayOf("uuid", keys));
+            return statement;
+        }, (ResultSet rs) -> {
+            long upc = UpcHashTable.parseUpc(rs.getString(1));
+            if (upc >= 0) {
+                writes.add(new Write(-1, upc, encode(rs)));
+            }
+        });
+        afterCommit(() -> writes.forEach(this::apply));
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${sku.pos-index.rebuild-interval:PT1H}")
+    public void rebuild() {
+        if (!properties.isEnabled() || !rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            WorkloadRoutingDataSource.runWith(Workload.MAINTENANCE, this::rebuildTable);
+        } finally {
+            synchronized (this) {
+                rebuildLog = null;
+            }
+            rebuilding.set(false);
+        }
+    }
+
+    private void rebuildTable() {
+        long started = System.nanoTime();
+        Timestamp scanStarted = jdbcTemplate.queryForObject("SELECT now()", Timestamp.class);
+        synchronized (this) {
+            rebuildLog = new ArrayList<>();
+        }
+
+        Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM sku_keys WHERE upc IS NOT NULL", Long.class);
+        long expected = Math.max(properties.getExpectedUpcs(), (rows != null ? rows : 0) * 5 / 4);
+        UpcHashTable rebuilt = new UpcHashTable(expected, (int) properties.getChunkSize().toBytes(),
+                properties.getMaxOffHeap().toBytes());
+
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement("SELECT " + POS_COLUMNS + " FROM skus s WHERE s.upc IS NOT NULL",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(properties.getFetchSize());
+            return statement;
+        }, (ResultSet rs) -> {
+            long upc = UpcHashTable.parseUpc(rs.getString(1));
+            byte[] record = upc < 0 ? null : encode(rs);
+            if (record != null && !rebuilt.put(upc, record)) {
+                throw new IllegalStateException("POS index exceeded its off-heap budget of "
+                        + properties.getMaxOffHeap() + " after " + rebuilt.size() + " UPCs");
+            }
+        }));
+
+        synchronized (this) {
+            rebuildLog.forEach(write -> applyTo(rebuilt, write));
+            table = rebuilt;
+        }
+        if (syncedThrough == null || scanStarted.after(syncedThrough)) {
+            syncedThrough = scanStarted;
+            syncedAtNanos = started;
+        }
+        log.info("Rebuilt POS UPC index with {} UPCs in {} MB off-heap in {} ms", rebuilt.size(),
+                rebuilt.offHeapBytes() >> 20, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Applies SKU writes committed since the last sync by any instance. Rows are stamped when their transaction
+     * writes them but only become visible when it commits, so each poll looks back by the sync overlap as well.
+     */
+    @Scheduled(initialDelayString = "${sku.pos-index.sync-interval:PT1S}",
+            fixedDelayString = "${sku.pos-index.sync-interval:PT1S}")
+    public void sync() {
+        Timestamp from = syncedThrough;
+        if (properties.isEnabled() && table != null && from != null) {
+            WorkloadRoutingDataSource.runWith(Workload.MAINTENANCE, () -> syncFrom(from));
+        }
+    }
+
+    private void syncFrom(Timestamp from) {
+        long started = System.nanoTime();
+        Timestamp polledAt = jdbcTemplate.queryForObject("SELECT now()", Timestamp.class);
+        Timestamp since = new Timestamp(from.getTime() - properties.getSyncOverlap().toMillis());
+        List<Write> writes = new ArrayList<>();
+        jdbcTemplate.query("SELECT " + POS_COLUMNS + " FROM skus s WHERE s.updated_at > ? AND s.upc IS NOT NULL",
+                (ResultSet rs) -> {
+                    long upc = UpcHashTable.parseUpc(rs.getString(1));
+                    if (upc >= 0) {
+                        writes.add(new Write(-1, upc, encode(rs)));
+                    }
+                }, since);
+        writes.forEach(this::applyChanged);
+        syncedThrough = polledAt;
+        syncedAtNanos = started;
+    }
+
+    // A row stays in the poll window for the whole overlap; putting an unchanged record again only adds garbage
+    private synchronized void applyChanged(Write write) {
+        UpcHashTable current = table;
+        if (rebuildLog == null && current != null && current.holds(write.upc(), write.record())) {
+            return;
+        }
+        apply(write);
+    }
+
+    private synchronized void apply(Write write) {
+        if (rebuildLog != null) {
+            rebuildLog.add(write);
+        }
+        UpcHashTable current = table;
+        if (current == null) {
+            return;
+        }
+        // A table that cannot take the write must not keep serving the old record; misses fall back to the database.
+        if (!applyTo(current, write) || current.garbageBytes() > current.recordBytes() / 2) {
+            requestRebuild();
+        }
+    }
+
+    private static boolean applyTo(UpcHashTable target, Write write) {
+        if (write.previousUpc() >= 0 && write.previousUpc() != write.upc()) {
+            target.remove(write.previousUpc());
+        }
+        if (write.upc() < 0) {
+            return true;
+        }
+        if (write.record() == null || !target.put(write.upc(), write.record())) {
+            target.remove(write.upc());
+            return write.record() == null;
+        }
+        return true;
+    }
+
+    private void requestRebuild() {
+        if (rebuildQueued.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                rebuildQueued.set(false);
+                rebuild();
+            });
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static byte[] encode(ResultSet rs) throws SQLException {
+        BigDecimal price = rs.getBigDecimal(4);
+        return UpcHashTable.encode(rs.getString(2), rs.getString(3), price, rs.getString(5));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+}
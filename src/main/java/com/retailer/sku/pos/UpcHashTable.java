@@ -0,0 +1,311 @@
+package com.retailer.sku.pos;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash table from 12-digit UPC to a POS record, kept entirely in direct buffers.
+ * One writer at a time (callers synchronize); readers are lock-free and never allocate.
+ */
+final class UpcHashTable {
+
+    static final int UPC_DIGITS = 12;
+    static final int MAX_BODY_BYTES = 4096;
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+    private static final int SLOT_BYTES = 16;
+    private static final int MAX_CAPACITY = 1 << 26;
+    private static final double MAX_LOAD = 0.7;
+    private static final long REMOVED = -1;
+    private static final int NULL_FIELD = 0xFFFF;
+
+    private static final byte[] UPC_FIELD = ascii("{\"upc\":\"");
+    private static final byte[] SKU_CODE_FIELD = ascii("\",\"skuCode\":");
+    private static final byte[] NAME_FIELD = ascii(",\"name\":");
+    private static final byte[] PRICE_FIELD = ascii(",\"price\":");
+    private static final byte[] STATUS_FIELD = ascii(",\"status\":");
+    private static final byte[] NULL = ascii("null");
+    private static final byte[][] FIELDS = {SKU_CODE_FIELD, NAME_FIELD, PRICE_FIELD, STATUS_FIELD};
+    private static final int PRICE = 2;
+
+    private final ByteBuffer slots;
+    private final int mask;
+    private final int shift;
+    private final int maxSlotsUsed;
+    private final int chunkBytes;
+    private final long maxBytes;
+
+    // Record storage is append-only; replaced records stay behind as garbage until the next rebuild.
+    private volatile ByteBuffer[] chunks = new ByteBuffer[0];
+    private int writePosition;
+    private int slotsUsed;
+    private int live;
+    private long recordBytes;
+    private long garbageBytes;
+
+    UpcHashTable(long expectedUpcs, int chunkBytes, long maxBytes) {
+        long wanted = (long) Math.ceil(Math.max(1, expectedUpcs) / MAX_LOAD);
+        int capacity = wanted >= MAX_CAPACITY ? MAX_CAPACITY
+                : Math.max(16, 1 << (32 - Integer.numberOfLeadingZeros((int) wanted - 1)));
+        if ((long) capacity * SLOT_BYTES > maxBytes) {
+            throw new IllegalArgumentException("UPC index for " + expectedUpcs + " keys exceeds the off-heap budget of "
+                    + maxBytes + " bytes");
+        }
+        this.slots = ByteBuffer.allocateDirect(capacity * SLOT_BYTES).order(ByteOrder.nativeOrder());
+        this.mask = capacity - 1;
+        this.shift = 64 - Integer.numberOfTrailingZeros(capacity);
+        this.maxSlotsUsed = (int) (capacity * MAX_LOAD);
+        this.chunkBytes = chunkBytes;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Encodes the POS fields as JSON-escaped UTF-8, so a lookup only has to copy bytes around them.
+     */
+    static byte[] encode(String skuCode, String name, BigDecimal price, String status) {
+        JsonStringEncoder encoder = JsonStringEncoder.getInstance();
+        byte[][] fields = {
+                skuCode == null ? null : encoder.quoteAsUTF8(skuCode),
+                name == null ? null : encoder.quoteAsUTF8(name),
+                price == null ? null : price.toString().getBytes(StandardCharsets.US_ASCII),
+                status == null ? null : encoder.quoteAsUTF8(status)
+        };
+        int length = 0;
+        for (byte[] field : fields) {
+            length += 2 + (field == null ? 0 : field.length);
+        }
+        if (length > MAX_BODY_BYTES - 128) {
+            return null;
+        }
+        byte[] record = new byte[length];
+        int position = 0;
+        for (byte[] field : fields) {
+            int fieldLength = field == null ? NULL_FIELD : field.length;
+            record[position++] = (byte) (fieldLength >>> 8);
+            record[position++] = (byte) fieldLength;
+            if (field != null) {
+                System.arraycopy(field, 0, record, position, field.length);
+                position += field.length;
+            }
+        }
+        return record;
+    }
+
+    /**
+     * Parses a 12-digit UPC without allocating; returns -1 for anything else.
+     */
+    static long parseUpc(CharSequence text, int from, int to) {
+        if (to - from != UPC_DIGITS) {
+            return -1;
+        }
+        long upc = 0;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            upc = upc * 10 + (c - '0');
+        }
+        return upc;
+    }
+
+    static long parseUpc(String upc) {
+        return upc == null ? -1 : parseUpc(upc, 0, upc.length());
+    }
+
+    /**
+     * Inserts or replaces the record for a UPC. Returns false when the table or the off-heap budget is exhausted.
+     */
+    boolean put(long upc, byte[] record) {
+        int slot = find(upc);
+        boolean present = slot >= 0;
+        if (!present && slotsUsed >= maxSlotsUsed) {
+            return false;
+        }
+        long reference = append(record);
+        if (reference == 0) {
+            return false;
+        }
+        if (present) {
+            long previous = (long) LONGS.getAcquire(slots, slot * SLOT_BYTES + 8);
+            if (previous != REMOVED) {
+                garbageBytes += recordLength(previous);
+            } else {
+                live++;
+            }
+            LONGS.setRelease(slots, slot * SLOT_BYTES + 8, reference);
+            return true;
+        }
+        slot = ~slot;
+        // The record reference is published before the key, so a reader that sees the key sees a record.
+        LONGS.setRelease(slots, slot * SLOT_BYTES + 8, reference);
+        LONGS.setRelease(slots, slot * SLOT_BYTES, upc + 1);
+        slotsUsed++;
+        live++;
+        return true;
+    }
+
+    void remove(long upc) {
+        int slot = find(upc);
+        if (slot < 0) {
+            return;
+        }
+        long previous = (long) LONGS.getAcquire(slots, slot * SLOT_BYTES + 8);
+        if (previous != REMOVED) {
+            garbageBytes += recordLength(previous);
+            live--;
+            LONGS.setRelease(slots, slot * SLOT_BYTES + 8, REMOVED);
+        }
+    }
+
+    boolean contains(long upc) {
+        return reference(upc) != 0;
+    }
+
+    /**
+     * Whether the UPC is indexed with exactly this record, in which case putting it again would only add garbage.
+     */
+    boolean holds(long upc, byte[] record) {
+        long reference = reference(upc);
+        if (reference == 0 || recordLength(reference) != record.length) {
+            return false;
+        }
+        ByteBuffer chunk = chunks[(int) ((reference - 1) >>> 32)];
+        return chunk.slice((int) (reference - 1), record.length).equals(ByteBuffer.wrap(record));
+    }
+
+    /**
+     * Writes the JSON body for a UPC into {@code target} and returns its length, or -1 when the UPC is not indexed.
+     */
+    int render(long upc, byte[] target) {
+        long reference = reference(upc);
+        if (reference == 0) {
+            return -1;
+        }
+        ByteBuffer chunk = chunks[(int) ((reference - 1) >>> 32)];
+        int position = (int) (reference - 1);
+
+        int length = copy(UPC_FIELD, target, 0);
+        for (int i = UPC_DIGITS - 1; i >= 0; i--, upc /= 10) {
+            target[length + i] = (byte) ('0' + upc % 10);
+        }
+        length += UPC_DIGITS;
+        for (int field = 0; field < FIELDS.length; field++) {
+            length = copy(FIELDS[field], target, length);
+            int fieldLength = ((chunk.get(position) & 0xFF) << 8) | (chunk.get(position + 1) & 0xFF);
+            position += 2;
+            if (fieldLength == NULL_FIELD) {
+                length = copy(NULL, target, length);
+                continue;
+            }
+            boolean quoted = field != PRICE;
+            if (quoted) {
+                target[length++] = '"';
+            }
+            chunk.get(position, target, length, fieldLength);
+            position += fieldLength;
+            length += fieldLength;
+            if (quoted) {
+                target[length++] = '"';
+            }
+        }
+        target[length++] = '}';
+        return length;
+    }
+
+    int size() {
+        return live;
+    }
+
+    long offHeapBytes() {
+        return slots.capacity() + (long) chunks.length * chunkBytes;
+    }
+
+    long garbageBytes() {
+        return garbageBytes;
+    }
+
+    long recordBytes() {
+        return recordBytes;
+    }
+
+    private long reference(long upc) {
+        if (upc < 0) {
+            return 0;
+        }
+        long key = upc + 1;
+        for (int slot = hash(upc); ; slot = (slot + 1) & mask) {
+            long stored = (long) LONGS.getAcquire(slots, slot * SLOT_BYTES);
+            if (stored == 0) {
+                return 0;
+            }
+            if (stored == key) {
+                long reference = (long) LONGS.getAcquire(slots, slot * SLOT_BYTES + 8);
+                return reference == REMOVED ? 0 : reference;
+            }
+        }
+    }
+
+    // Slot holding the UPC, or the complement of the empty slot where it would go
+    private int find(long upc) {
+        long key = upc + 1;
+        for (int slot = hash(upc); ; slot = (slot + 1) & mask) {
+            long stored = (long) LONGS.get(slots, slot * SLOT_BYTES);
+            if (stored == 0) {
+                return ~slot;
+            }
+            if (stored == key) {
+                return slot;
+            }
+        }
+    }
+
+    private int hash(long upc) {
+        return (int) ((upc * 0x9E3779B97F4A7C15L) >>> shift);
+    }
+
+    private long append(byte[] record) {
+        ByteBuffer[] current = chunks;
+        if (current.length == 0 || writePosition + record.length > chunkBytes) {
+            if (offHeapBytes() + chunkBytes > maxBytes) {
+                return 0;
+            }
+            current = Arrays.copyOf(current, current.length + 1);
+            current[current.length - 1] = ByteBuffer.allocateDirect(chunkBytes);
+            chunks = current;
+            writePosition = 0;
+        }
+        current[current.length - 1].put(writePosition, record);
+        long reference = ((long) (current.length - 1) << 32 | writePosition) + 1;
+        writePosition += record.length;
+        recordBytes += record.length;
+        return reference;
+    }
+
+    private int recordLength(long reference) {
+        ByteBuffer chunk = chunks[(int) ((reference - 1) >>> 32)];
+        int start = (int) (reference - 1);
+        int position = start;
+        for (int field = 0; field < 4; field++) {
+            int fieldLength = ((chunk.get(position) & 0xFF) << 8) | (chunk.get(position + 1) & 0xFF);
+            position += 2 + (fieldLength == NULL_FIELD ? 0 : fieldLength);
+        }
+        return position - start;
+    }
+
+    private static int copy(byte[] source, byte[] target, int at) {
+        System.arraycopy(source, 0, target, at, source.length);
+        return at + source.length;
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+}
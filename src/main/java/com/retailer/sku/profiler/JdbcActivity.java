@@ -0,0 +1,63 @@
+package com.retailer.sku.profiler;
+
+/**
+ * Statements, time and rows the profiling proxy saw on the current thread between {@link #begin()} and
+ * {@link #end()}. Activities nest: an inner one is also counted in the one it was started within.
+ */
+public final class JdbcActivity {
+
+    private static final ThreadLocal<JdbcActivity> CURRENT = new ThreadLocal<>();
+
+    private final JdbcActivity parent;
+    private long statements;
+    private long nanos;
+    private long rows;
+
+    private JdbcActivity(JdbcActivity parent) {
+        this.parent = parent;
+    }
+
+    public static JdbcActivity begin() {
+        JdbcActivity activity = new JdbcActivity(CURRENT.get());
+        CURRENT.set(activity);
+        return activity;
+    }
+
+    public void end() {
+        if (parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(parent);
+            parent.statements += statements;
+            parent.nanos += nanos;
+            parent.rows += rows;
+        }
+    }
+
+    public static void recordStatement(long elapsedNanos) {
+        JdbcActivity activity = CURRENT.get();
+        if (activity != null) {
+            activity.statements++;
+            activity.nanos += elapsedNanos;
+        }
+    }
+
+    public static void recordRows(long count) {
+        JdbcActivity activity = CURRENT.get();
+        if (activity != null) {
+            activity.rows += count;
+        }
+    }
+
+    public long statements() {
+        return statements;
+    }
+
+    public long nanos() {
+        return nanos;
+    }
+
+    public long rows() {
+        return rows;
+    }
+}
@@ -0,0 +1,49 @@
+package com.retailer.sku.profiler;
+
+import com.retailer.sku.bulkhead.Workload;
+import com.retailer.sku.bulkhead.WorkloadRoutingDataSource;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+@Component
+public class ProfilingDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<QueryShapeProfiler> profiler;
+    private final boolean enabled;
+
+    public ProfilingDataSourcePostProcessor(ObjectProvider<QueryShapeProfiler> profiler, Environment environment) {
+        this.profiler = profiler;
+        this.enabled = Binder.get(environment).bind("sku.query-profiler.enabled", Boolean.class).orElse(true);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!enabled || !(bean instanceof DataSource target)) {
+            return bean;
+        }
+        // Plans are captured on the explain thread, where no workload is set; left to the routing data source
+        // they would take write connections, so they go to the search pool explicitly
+        DataSource explainSource = target instanceof WorkloadRoutingDataSource routing
+                ? routing.dataSource(Workload.SEARCH)
+                : target;
+        // Class-based proxy so injection points typed to the concrete pool or routing data source still match
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAdvice((MethodInterceptor) invocation -> {
+            Object result = invocation.proceed();
+            if (result instanceof Connection connection && invocation.getMethod().getName().equals("getConnection")) {
+                return ProfilingJdbc.wrap(connection, profiler.getObject(), explainSource);
+            }
+            return result;
+        });
+        return factory.getProxy(target.getClass().getClassLoader());
+    }
+}
@@ -0,0 +1,246 @@
+package com.retailer.sku.profiler;
+
+import javax.sql.DataSource;
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+final class ProfilingJdbc {
+
+    private ProfilingJdbc() {
+    }
+
+    static Connection wrap(Connection connection, QueryShapeProfiler profiler, DataSource explainSource) {
+        return proxy(Connection.class, new ConnectionHandler(connection, profiler, explainSource));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(ProfilingJdbc.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private abstract static class DelegatingHandler implements InvocationHandler {
+
+        final Object target;
+
+        DelegatingHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "toString" -> "Profiling" + target;
+                default -> handle(proxy, method, args);
+            };
+        }
+
+        abstract Object handle(Object proxy, Method method, Object[] args) throws Throwable;
+    }
+
+    private static final class ConnectionHandler extends DelegatingHandler {
+
+        private final QueryShapeProfiler profiler;
+        private final DataSource explainSource;
+
+        ConnectionHandler(Connection target, QueryShapeProfiler profiler, DataSource explainSource) {
+            super(target);
+            this.profiler = profiler;
+            this.explainSource = explainSource;
+        }
+
+        @Override
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = ProfilingJdbc.invoke(target, method, args);
+            return switch (method.getName()) {
+                case "createStatement" -> proxy(Statement.class,
+                        new StatementHandler(result, null, profiler, explainSource));
+                case "prepareStatement" -> proxy(PreparedStatement.class,
+                        new StatementHandler(result, (String) args[0], profiler, explainSource));
+                case "prepareCall" -> proxy(CallableStatement.class,
+                        new StatementHandler(result, (String) args[0], profiler, null));
+                default -> result;
+            };
+        }
+    }
+
+    private static final class StatementHandler extends DelegatingHandler {
+
+        private final String preparedSql;
+        private final QueryShape preparedShape;
+        private final QueryShapeProfiler profiler;
+        private final DataSource explainSource;
+        private final Map<Integer, QueryShapeProfiler.Binding> bindings = new TreeMap<>();
+        private boolean replayable = true;
+        private boolean batched;
+        private String batchSql;
+        private ResultSetHandler openResultSet;
+
+        StatementHandler(Object target, String preparedSql, QueryShapeProfiler profiler, DataSource explainSource) {
+            super(target);
+            this.preparedSql = preparedSql;
+            this.preparedShape = preparedSql == null ? null : profiler.shapeOf(preparedSql);
+            this.profiler = profiler;
+            this.explainSource = explainSource;
+        }
+
+        @Override
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute(method, args);
+            }
+            if (name.equals("getResultSet")) {
+                Object result = ProfilingJdbc.invoke(target, method, args);
+                return result == null ? null : wrapResultSet((ResultSet) result, preparedShape);
+            }
+            if (name.startsWith("set") && args != null && args.length > 1 && args[0] instanceof Integer index) {
+                bind(method, args, index);
+            } else if (name.equals("clearParameters")) {
+                bindings.clear();
+                replayable = true;
+            } else if (name.equals("addBatch")) {
+                batched = true;
+                if (batchSql == null && args != null && args.length == 1) {
+                    batchSql = (String) args[0];
+                }
+            } else if (name.equals("clearBatch")) {
+                batched = false;
+                batchSql = null;
+            } else if (name.equals("close") && openResultSet != null) {
+                openResultSet.report();
+            }
+            return ProfilingJdbc.invoke(target, method, args);
+        }
+
+        private void bind(Method method, Object[] args, int index) {
+            for (Object arg : args) {
+                if (arg instanceof InputStream || arg instanceof Reader || arg instanceof Blob || arg instanceof Clob) {
+                    replayable = false;
+                }
+            }
+            bindings.put(index, new QueryShapeProfiler.Binding(method, args.clone()));
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            String sql = args != null && args.length > 0 && args[0] instanceof String direct ? direct
+                    : preparedSql != null ? preparedSql : batchSql;
+            if (sql == null) {
+                return ProfilingJdbc.invoke(target, method, args);
+            }
+            QueryShape shape = sql.equals(preparedSql) ? preparedShape : profiler.shapeOf(sql);
+            List<QueryShapeProfiler.Binding> replay = !replayable || batched ? null
+                    : preparedSql == null ? List.of() : new ArrayList<>(bindings.values());
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = ProfilingJdbc.invoke(target, method, args);
+            } catch (Throwable e) {
+                long elapsed = System.nanoTime() - start;
+                JdbcActivity.recordStatement(elapsed);
+                profiler.record(shape, sql, elapsed, true, null, null);
+                throw e;
+            }
+            long elapsed = System.nanoTime() - start;
+            JdbcActivity.recordStatement(elapsed);
+            profiler.record(shape, sql, elapsed, false, replay, explainSource);
+            if (method.getName().startsWith("executeBatch") || method.getName().startsWith("executeLargeBatch")) {
+                batched = false;
+                batchSql = null;
+            }
+            if (result instanceof ResultSet rs) {
+                return wrapResultSet(rs, shape);
+            }
+            if (result instanceof Integer count && count > 0) {
+                addRows(shape, count);
+            } else if (result instanceof Long count && count > 0) {
+                addRows(shape, count);
+            } else if (result instanceof int[] counts) {
+                for (int count : counts) {
+                    addRows(shape, Math.max(count, 0));
+                }
+            } else if (result instanceof long[] counts) {
+                for (long count : counts) {
+                    addRows(shape, Math.max(count, 0));
+                }
+            }
+            return result;
+        }
+
+        private Object wrapResultSet(ResultSet rs, QueryShape shape) {
+            if (shape == null) {
+                return rs;
+            }
+            if (openResultSet != null) {
+                openResultSet.report();
+            }
+            openResultSet = new ResultSetHandler(rs, shape);
+            return proxy(ResultSet.class, openResultSet);
+        }
+    }
+
+    private static final class ResultSetHandler extends DelegatingHandler {
+
+        private final QueryShape shape;
+        private long rows;
+        private boolean reported;
+
+        ResultSetHandler(ResultSet target, QueryShape shape) {
+            super(target);
+            this.shape = shape;
+        }
+
+        @Override
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = ProfilingJdbc.invoke(target, method, args);
+            switch (method.getName()) {
+                case "next" -> {
+                    if (Boolean.TRUE.equals(result)) {
+                        rows++;
+                    } else {
+                        report();
+                    }
+                }
+                case "close" -> report();
+                default -> {
+                }
+            }
+            return result;
+        }
+
+        private void report() {
+            if (!reported) {
+                reported = true;
+                addRows(shape, rows);
+            }
+        }
+    }
+
+    private static void addRows(QueryShape shape, long rows) {
+        shape.addRows(rows);
+        JdbcActivity.recordRows(rows);
+    }
+}
@@ -0,0 +1,27 @@
+package com.retailer.sku.profiler;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "sku.query-profiler")
+public class QueryProfilerProperties {
+
+    private boolean enabled = true;
+
+    private int maxShapes = 500;
+
+    private int maxSqlLength = 4000;
+
+    private boolean explainEnabled = true;
+
+    private Duration slowThreshold = Duration.ofMillis(250);
+
+    private Duration explainInterval = Duration.ofMinutes(5);
+
+    private Duration explainTimeout = Duration.ofSeconds(10);
+
+    private int plansPerShape = 3;
+}
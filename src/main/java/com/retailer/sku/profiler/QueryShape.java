@@ -0,0 +1,103 @@
+package com.retailer.sku.profiler;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+final class QueryShape {
+
+    // Bucket i counts executions that took less than 2^i microseconds; the last bucket is open-ended.
+    private static final int BUCKETS = 28;
+
+    private final String id;
+    private final String sql;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+    private final AtomicLong lastExplainNanos = new AtomicLong(Long.MIN_VALUE);
+    private final Deque<QueryShapeProfiler.Plan> plans = new ConcurrentLinkedDeque<>();
+
+    QueryShape(String id, String sql) {
+        this.id = id;
+        this.sql = sql;
+    }
+
+    String id() {
+        return id;
+    }
+
+    String sql() {
+        return sql;
+    }
+
+    void record(long nanos, boolean error) {
+        calls.increment();
+        if (error) {
+            errors.increment();
+        }
+        totalNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+        long micros = nanos / 1_000;
+        int bucket = micros == 0 ? 0 : Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+        histogram.incrementAndGet(bucket);
+    }
+
+    void addRows(long count) {
+        rows.add(count);
+    }
+
+    boolean claimExplain(long now, long intervalNanos) {
+        long last = lastExplainNanos.get();
+        return (last == Long.MIN_VALUE || now - last >= intervalNanos) && lastExplainNanos.compareAndSet(last, now);
+    }
+
+    void addPlan(QueryShapeProfiler.Plan plan, int limit) {
+        plans.addFirst(plan);
+        while (plans.size() > limit) {
+            plans.pollLast();
+        }
+    }
+
+    QueryShapeProfiler.ShapeSummary summary(boolean includePlans) {
+        long count = calls.sum();
+        long total = totalNanos.sum();
+        long[] buckets = new long[BUCKETS];
+        Map<String, Long> distribution = new LinkedHashMap<>();
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = histogram.get(i);
+            if (buckets[i] > 0) {
+                distribution.put(i == BUCKETS - 1 ? "+Inf" : "le_" + upperBoundMillis(i) + "ms", buckets[i]);
+            }
+        }
+        return new QueryShapeProfiler.ShapeSummary(id, sql, count, errors.sum(), rows.sum(),
+                total / 1e6, count == 0 ? 0 : total / 1e6 / count, maxNanos.get() / 1e6,
+                percentileMillis(buckets, count, 0.50), percentileMillis(buckets, count, 0.95),
+                percentileMillis(buckets, count, 0.99), distribution,
+                includePlans ? new ArrayList<>(plans) : List.of());
+    }
+
+    private double percentileMillis(long[] buckets, long count, double quantile) {
+        long rank = (long) Math.ceil(quantile * count);
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank && seen > 0) {
+                return Math.min(upperBoundMillis(i), maxNanos.get() / 1e6);
+            }
+        }
+        return 0;
+    }
+
+    private static double upperBoundMillis(int bucket) {
+        return (1L << bucket) / 1e3;
+    }
+}
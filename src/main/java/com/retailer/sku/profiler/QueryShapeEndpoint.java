@@ -0,0 +1,43 @@
+package com.retailer.sku.profiler;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+
+@Component
+@Endpoint(id = "queryshapes")
+@RequiredArgsConstructor
+public class QueryShapeEndpoint {
+
+    private final QueryShapeProfiler profiler;
+
+    @ReadOperation
+    public List<QueryShapeProfiler.ShapeSummary> shapes(@Nullable String sort, @Nullable Integer limit) {
+        Comparator<QueryShapeProfiler.ShapeSummary> order = switch (sort == null ? "total" : sort) {
+            case "mean" -> Comparator.comparingDouble(QueryShapeProfiler.ShapeSummary::meanMillis);
+            case "max" -> Comparator.comparingDouble(QueryShapeProfiler.ShapeSummary::maxMillis);
+            case "p99" -> Comparator.comparingDouble(QueryShapeProfiler.ShapeSummary::p99Millis);
+            case "calls" -> Comparator.comparingLong(QueryShapeProfiler.ShapeSummary::calls);
+            case "rows" -> Comparator.comparingLong(QueryShapeProfiler.ShapeSummary::rows);
+            default -> Comparator.comparingDouble(QueryShapeProfiler.ShapeSummary::totalMillis);
+        };
+        return profiler.summaries(order.reversed(), limit == null ? 50 : limit);
+    }
+
+    @ReadOperation
+    public QueryShapeProfiler.ShapeSummary shape(@Selector String id) {
+        return profiler.summary(id);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        profiler.reset();
+    }
+}
@@ -0,0 +1,168 @@
+package com.retailer.sku.profiler;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+@Component
+@Slf4j
+@EnableConfigurationProperties(QueryProfilerProperties.class)
+public class QueryShapeProfiler {
+
+    public record Plan(Instant capturedAt, double elapsedMillis, String plan) {
+    }
+
+    public record ShapeSummary(String id, String sql, long calls, long errors, long rows, double totalMillis,
+                               double meanMillis, double maxMillis, double p50Millis, double p95Millis,
+                               double p99Millis, Map<String, Long> histogram, List<Plan> plans) {
+    }
+
+    record Binding(Method method, Object[] args) {
+    }
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.$])\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final String OVERFLOW_SQL = "<other shapes>";
+
+    private final QueryProfilerProperties properties;
+    private final Cache<String, QueryShape> shapesBySql;
+    private final Map<String, QueryShape> shapes = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor explainExecutor;
+
+    public QueryShapeProfiler(QueryProfilerProperties properties) {
+        this.properties = properties;
+        this.shapesBySql = Caffeine.newBuilder().maximumSize(10L * properties.getMaxShapes()).build();
+        this.explainExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(16), runnable -> {
+                    Thread thread = new Thread(runnable, "sku-query-explain");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    public List<ShapeSummary> summaries(Comparator<ShapeSummary> order, int limit) {
+        return shapes.values().stream()
+                .map(shape -> shape.summary(false))
+                .sorted(order)
+                .limit(limit)
+                .toList();
+    }
+
+    public ShapeSummary summary(String id) {
+        return shapes.values().stream()
+                .filter(shape -> shape.id().equals(id))
+                .findFirst()
+                .map(shape -> shape.summary(true))
+                .orElse(null);
+    }
+
+    public void reset() {
+        shapes.clear();
+        shapesBySql.invalidateAll();
+    }
+
+    QueryShape shapeOf(String sql) {
+        return shapesBySql.get(sql, raw -> {
+            String normalized = normalize(raw);
+            if (normalized.length() > properties.getMaxSqlLength()) {
+                normalized = normalized.substring(0, properties.getMaxSqlLength());
+            }
+            QueryShape existing = shapes.get(normalized);
+            if (existing != null) {
+                return existing;
+            }
+            String key = shapes.size() < properties.getMaxShapes() ? normalized : OVERFLOW_SQL;
+            return shapes.computeIfAbsent(key, sqlKey -> new QueryShape(shapeId(sqlKey), sqlKey));
+        });
+    }
+
+    void record(QueryShape shape, String sql, long nanos, boolean error, List<Binding> bindings,
+                DataSource explainSource) {
+        shape.record(nanos, error);
+        if (!error && bindings != null && explainSource != null && properties.isExplainEnabled()
+                && nanos >= properties.getSlowThreshold().toNanos() && isExplainable(sql)
+                && shape.claimExplain(System.nanoTime(), properties.getExplainInterval().toNanos())) {
+            explainExecutor.execute(() -> explain(shape, sql, nanos, bindings, explainSource));
+        }
+    }
+
+    static String normalize(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = PARAMETER_LIST.matcher(normalized).replaceAll("(?...)");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    // EXPLAIN ANALYZE runs the statement again, so only plain reads are sampled, inside a read-only
+    // transaction that is rolled back, with its own statement timeout.
+    private void explain(QueryShape shape, String sql, long nanos, List<Binding> bindings, DataSource explainSource) {
+        StringBuilder plan = new StringBuilder();
+        try (Connection connection = explainSource.getConnection()) {
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+            try (Statement timeout = connection.createStatement()) {
+                timeout.execute("SET LOCAL statement_timeout = " + properties.getExplainTimeout().toMillis());
+            }
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN (ANALYZE, BUFFERS) " + sql)) {
+                for (Binding binding : bindings) {
+                    binding.method().invoke(statement, binding.args());
+                }
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        // Quoted constants in the plan are the bound values of a real request; only their
+                        // position is kept
+                        plan.append(STRING_LITERAL.matcher(rs.getString(1)).replaceAll("?")).append('\n');
+                    }
+                }
+            } finally {
+                connection.rollback();
+            }
+            shape.addPlan(new Plan(Instant.now(), nanos / 1e6, plan.toString()), properties.getPlansPerShape());
+            log.debug("Captured plan for query shape {} ({} ms)", shape.id(), nanos / 1_000_000);
+        } catch (Exception e) {
+            log.debug("Could not explain query shape {}: {}", shape.id(), e.getMessage());
+        }
+    }
+
+    private static boolean isExplainable(String sql) {
+        String head = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return (head.startsWith("select") || head.startsWith("with")) && !head.contains(" for update")
+                && !head.contains(" for share") && !head.contains(" for no key update");
+    }
+
+    private static String shapeId(String sql) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < sql.length(); i++) {
+            hash ^= sql.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return Long.toHexString(hash);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        explainExecutor.shutdownNow();
+    }
+}
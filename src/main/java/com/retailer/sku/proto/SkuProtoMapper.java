@@ -0,0 +1,230 @@
+package com.retailer.sku.proto;
+
+import com.google.protobuf.Timestamp;
+import com.retailer.sku.exception.ProblemDetail;
+import com.retailer.sku.model.dto.DimensionsDto;
+import com.retailer.sku.model.dto.SkuRequest;
+import com.retailer.sku.model.dto.SkuResponse;
+import com.retailer.sku.model.dto.SkuUpdateRequest;
+import com.retailer.sku.proto.v1.Dimensions;
+import com.retailer.sku.proto.v1.Problem;
+import com.retailer.sku.proto.v1.Sku;
+import com.retailer.sku.proto.v1.SkuInput;
+import com.retailer.sku.proto.v1.SkuList;
+import com.retailer.sku.proto.v1.SkuPage;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+public class SkuProtoMapper {
+
+    public Sku toProto(SkuResponse response) {
+        Sku.Builder builder = Sku.newBuilder()
+                .setId(response.getId() != null ? response.getId().toString() : "")
+                .setSkuCode(nullToEmpty(response.getSkuCode()))
+                .setName(nullToEmpty(response.getName()))
+                .setCategory(nullToEmpty(response.getCategory()))
+                .setStatus(nullToEmpty(response.getStatus()));
+
+        if (response.getUpc() != null) {
+            builder.setUpc(response.getUpc());
+        }
+        if (response.getDescription() != null) {
+            builder.setDescription(response.getDescription());
+        }
+        if (response.getBrand() != null) {
+            builder.setBrand(response.getBrand());
+        }
+        if (response.getSubcategory() != null) {
+            builder.setSubcategory(response.getSubcategory());
+        }
+        if (response.getPrice() != null) {
+            builder.setPrice(response.getPrice().toPlainString());
+        }
+        if (response.getCost() != null) {
+            builder.setCost(response.getCost().toPlainString());
+        }
+        if (response.getUnitOfMeasure() != null) {
+            builder.setUnitOfMeasure(response.getUnitOfMeasure());
+        }
+        if (response.getQuantityPerUnit() != null) {
+            builder.setQuantityPerUnit(response.getQuantityPerUnit());
+        }
+        if (response.getWeight() != null) {
+            builder.setWeight(response.getWeight().toPlainString());
+        }
+        if (response.getDimensions() != null) {
+            builder.setDimensions(toProto(response.getDimensions()));
+        }
+        if (response.getTags() != null) {
+            builder.addAllTags(response.getTags());
+        }
+        if (response.getAttributes() != null) {
+            builder.putAllAttributes(response.getAttributes());
+        }
+        if (response.getCreatedAt() != null) {
+            builder.setCreatedAt(toTimestamp(response.getCreatedAt()));
+        }
+        if (response.getUpdatedAt() != null) {
+            builder.setUpdatedAt(toTimestamp(response.getUpdatedAt()));
+        }
+        if (response.getVersion() != null) {
+            builder.setVersion(response.getVersion());
+        }
+        return builder.build();
+    }
+
+    public SkuList toProtoList(List<SkuResponse> responses) {
+        SkuList.Builder builder = SkuList.newBuilder();
+        responses.forEach(response -> builder.addSkus(toProto(response)));
+        return builder.build();
+    }
+
+    public SkuPage toProtoPage(Page<SkuResponse> page) {
+        SkuPage.Builder builder = SkuPage.newBuilder()
+                .setNumber(page.getNumber())
+                .setSize(page.getSize())
+                .setTotalElements(page.getTotalElements())
+                .setTotalPages(page.getTotalPages());
+        page.getContent().forEach(response -> builder.addContent(toProto(response)));
+        return builder.build();
+    }
+
+    public Problem toProto(ProblemDetail problem) {
+        Problem.Builder builder = Problem.newBuilder()
+                .setType(problem.getType() != null ? problem.getType().toString() : "")
+                .setTitle(nullToEmpty(problem.getTitle()))
+                .setStatus(problem.getStatus());
+
+        if (problem.getDetail() != null) {
+            builder.setDetail(problem.getDetail());
+        }
+        if (problem.getInstance() != null) {
+            builder.setInstance(problem.getInstance().toString());
+        }
+        if (problem.getTraceId() != null) {
+            builder.setTraceId(problem.getTraceId());
+        }
+        if (problem.getTimestamp() != null) {
+            builder.setTimestamp(toTimestamp(problem.getTimestamp()));
+        }
+        if (problem.getErrors() != null) {
+            problem.getErrors().forEach((field, message) -> builder.putErrors(field, String.valueOf(message)));
+        }
+        return builder.build();
+    }
+
+    public SkuResponse fromProto(Sku sku) {
+        return SkuResponse.builder()
+                .id(sku.getId().isEmpty() ? null : UUID.fromString(sku.getId()))
+                .skuCode(sku.getSkuCode())
+                .upc(sku.hasUpc() ? sku.getUpc() : null)
+                .name(sku.getName())
+                .description(sku.hasDescription() ? sku.getDescription() : null)
+                .brand(sku.hasBrand() ? sku.getBrand() : null)
+                .category(sku.getCategory())
+                .subcategory(sku.hasSubcategory() ? sku.getSubcategory() : null)
+                .price(sku.hasPrice() ? new BigDecimal(sku.getPrice()) : null)
+                .cost(sku.hasCost() ? new BigDecimal(sku.getCost()) : null)
+                .unitOfMeasure(sku.hasUnitOfMeasure() ? sku.getUnitOfMeasure() : null)
+                .quantityPerUnit(sku.hasQuantityPerUnit() ? sku.getQuantityPerUnit() : null)
+                .weight(sku.hasWeight() ? new BigDecimal(sku.getWeight()) : null)
+                .dimensions(sku.hasDimensions() ? fromProto(sku.getDimensions()) : null)
+                .status(sku.getStatus())
+                .tags(sku.getTagsCount() > 0 ? List.copyOf(sku.getTagsList()) : null)
+                .attributes(sku.getAttributesCount() > 0 ? sku.getAttributesMap() : null)
+                .createdAt(sku.hasCreatedAt() ? toInstant(sku.getCreatedAt()) : null)
+                .updatedAt(sku.hasUpdatedAt() ? toInstant(sku.getUpdatedAt()) : null)
+                .version(sku.getVersion())
+                .build();
+    }
+
+    public SkuRequest toSkuRequest(SkuInput input) {
+        return SkuRequest.builder()
+                .upc(input.hasUpc() ? input.getUpc() : null)
+                .name(input.hasName() ? input.getName() : null)
+                .description(input.hasDescription() ? input.getDescription() : null)
+                .brand(input.hasBrand() ? input.getBrand() : null)
+                .category(input.hasCategory() ? input.getCategory() : null)
+                .subcategory(input.hasSubcategory() ? input.getSubcategory() : null)
+                .price(input.hasPrice() ? toDecimal(input.getPrice()) : null)
+                .cost(input.hasCost() ? toDecimal(input.getCost()) : null)
+                .unitOfMeasure(input.hasUnitOfMeasure() ? input.getUnitOfMeasure() : null)
+                .quantityPerUnit(input.hasQuantityPerUnit() ? input.getQuantityPerUnit() : null)
+                .weight(input.hasWeight() ? toDecimal(input.getWeight()) : null)
+                .dimensions(input.hasDimensions() ? fromProto(input.getDimensions()) : null)
+                .tags(input.getTagsCount() > 0 ? List.copyOf(input.getTagsList()) : null)
+                .attributes(input.getAttributesCount() > 0 ? input.getAttributesMap() : null)
+                .build();
+    }
+
+    public SkuUpdateRequest toSkuUpdateRequest(SkuInput input) {
+        return SkuUpdateRequest.builder()
+                .upc(input.hasUpc() ? input.getUpc() : null)
+                .name(input.hasName() ? input.getName() : null)
+                .description(input.hasDescription() ? input.getDescription() : null)
+                .brand(input.hasBrand() ? input.getBrand() : null)
+                .category(input.hasCategory() ? input.getCategory() : null)
+                .subcategory(input.hasSubcategory() ? input.getSubcategory() : null)
+                .price(input.hasPrice() ? toDecimal(input.getPrice()) : null)
+                .cost(input.hasCost() ? toDecimal(input.getCost()) : null)
+                .unitOfMeasure(input.hasUnitOfMeasure() ? input.getUnitOfMeasure() : null)
+                .quantityPerUnit(input.hasQuantityPerUnit() ? input.getQuantityPerUnit() : null)
+                .weight(input.hasWeight() ? toDecimal(input.getWeight()) : null)
+                .dimensions(input.hasDimensions() ? fromProto(input.getDimensions()) : null)
+                .status(input.hasStatus() ? input.getStatus() : null)
+                .tags(input.getTagsCount() > 0 ? List.copyOf(input.getTagsList()) : null)
+                .attributes(input.getAttributesCount() > 0 ? input.getAttributesMap() : null)
+                .build();
+    }
+
+    public BigDecimal toDecimal(String value) {
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid decimal value: " + value);
+        }
+    }
+
+    private Dimensions toProto(DimensionsDto dimensions) {
+        Dimensions.Builder builder = Dimensions.newBuilder();
+        if (dimensions.getLength() != null) {
+            builder.setLength(dimensions.getLength().toPlainString());
+        }
+        if (dimensions.getWidth() != null) {
+            builder.setWidth(dimensions.getWidth().toPlainString());
+        }
+        if (dimensions.getHeight() != null) {
+            builder.setHeight(dimensions.getHeight().toPlainString());
+        }
+        return builder.build();
+    }
+
+    private DimensionsDto fromProto(Dimensions dimensions) {
+        return DimensionsDto.builder()
+                .length(dimensions.hasLength() ? toDecimal(dimensions.getLength()) : null)
+                .width(dimensions.hasWidth() ? toDecimal(dimensions.getWidth()) : null)
+                .height(dimensions.hasHeight() ? toDecimal(dimensions.getHeight()) : null)
+                .build();
+    }
+
+    private static Timestamp toTimestamp(Instant instant) {
+        return Timestamp.newBuilder()
+                .setSeconds(instant.getEpochSecond())
+                .setNanos(instant.getNano())
+                .build();
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos());
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
@@ -0,0 +1,88 @@
+package com.retailer.sku.proto;
+
+import com.google.protobuf.Message;
+import com.retailer.sku.exception.ProblemDetail;
+import com.retailer.sku.model.dto.SkuResponse;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+public class SkuProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType PROTOBUF = new MediaType("application", "x-protobuf");
+
+    private final SkuProtoMapper protoMapper;
+
+    public SkuProtobufHttpMessageConverter(SkuProtoMapper protoMapper) {
+        super(PROTOBUF);
+        this.protoMapper = protoMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return SkuResponse.class.isAssignableFrom(clazz)
+                || ProblemDetail.class.isAssignableFrom(clazz)
+                || Page.class.isAssignableFrom(clazz)
+                || List.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        if (!canWrite(mediaType)) {
+            return false;
+        }
+        if (SkuResponse.class.isAssignableFrom(clazz) || ProblemDetail.class.isAssignableFrom(clazz)) {
+            return true;
+        }
+        if (Page.class.isAssignableFrom(clazz) || List.class.isAssignableFrom(clazz)) {
+            ResolvableType resolvable = type != null ? ResolvableType.forType(type) : ResolvableType.forClass(clazz);
+            Class<?> element = resolvable.as(Page.class.isAssignableFrom(clazz) ? Page.class : List.class)
+                    .resolveGeneric(0);
+            return element != null && SkuResponse.class.isAssignableFrom(element);
+        }
+        return false;
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage) throws IOException {
+        Message message;
+        if (body instanceof SkuResponse response) {
+            message = protoMapper.toProto(response);
+        } else if (body instanceof ProblemDetail problem) {
+            message = protoMapper.toProto(problem);
+        } else if (body instanceof Page<?> page) {
+            message = protoMapper.toProtoPage((Page<SkuResponse>) page);
+        } else if (body instanceof List<?> list) {
+            message = protoMapper.toProtoList((List<SkuResponse>) list);
+        } else {
+            throw new HttpMessageNotWritableException("Cannot write " + body.getClass().getName() + " as protobuf");
+        }
+        outputMessage.getHeaders().setContentLength(message.getSerializedSize());
+        message.writeTo(outputMessage.getBody());
+    }
+}
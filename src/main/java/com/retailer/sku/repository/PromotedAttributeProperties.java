@@ -0,0 +1,25 @@
+package com.retailer.sku.repository;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "sku.search")
+public class PromotedAttributeProperties {
+
+    public enum Type {
+        TEXT,
+        NUMERIC
+    }
+
+    // Attribute keys with an expression index from the migrations, and how that index reads the value.
+    // Listing a key without an index is harmless but leaves its filters unindexed.
+    private Map<String, Type> promotedAttributes = new LinkedHashMap<>(Map.of(
+            "grade", Type.TEXT,
+            "treatment_type", Type.TEXT,
+            "finish", Type.TEXT,
+            "voltage", Type.NUMERIC));
+}
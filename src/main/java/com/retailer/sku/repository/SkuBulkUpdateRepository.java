@@ -0,0 +1,109 @@
+package com.retailer.sku.repository;
+
+import com.retailer.sku.model.dto.BulkSkuUpdateItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class SkuBulkUpdateRepository {
+
+    public record SkuVersion(UUID id, String skuCode, long version) {
+    }
+
+    // One statement per chunk: the items are shipped as parallel arrays and joined back to skus,
+    // so Postgres applies the whole chunk with a single plan and index probe per key. Going through
+    // sku_keys gives each key its category, so only that key's partition is probed.
+    private static final String UPDATE_TEMPLATE = """
+            UPDATE skus s
+            SET price = COALESCE(v.price, s.price),
+                cost = COALESCE(v.cost, s.cost),
+                status = COALESCE(v.status, s.status),
+                version = s.version + 1,
+                updated_at = NOW()
+            FROM unnest(?, ?, ?, ?, ?) AS v(key, price, cost, status, expected_version)
+            JOIN sku_keys k ON k.%s = v.key
+            WHERE s.id = k.id AND s.category = k.category
+              AND (v.expected_version IS NULL OR s.version = v.expected_version)
+            RETURNING s.id, s.sku_code, s.version
+            """;
+
+    private static final String UPDATE_BY_ID = UPDATE_TEMPLATE.formatted("id");
+    private static final String UPDATE_BY_SKU_CODE = UPDATE_TEMPLATE.formatted("sku_code");
+
+    private static final String VERSIONS_TEMPLATE = """
+            SELECT s.id, s.sku_code, s.version
+            FROM sku_keys k
+            JOIN skus s ON s.id = k.id AND s.category = k.category
+            WHERE k.%s = ANY(?)
+            """;
+
+    private static final String VERSIONS_BY_ID = VERSIONS_TEMPLATE.formatted("id");
+    private static final String VERSIONS_BY_SKU_CODE = VERSIONS_TEMPLATE.formatted("sku_code");
+
+    private static final RowMapper<SkuVersion> SKU_VERSION_MAPPER = (rs, rowNum) -> new SkuVersion(
+            rs.getObject("id", UUID.class), rs.getString("sku_code"), rs.getLong("version"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<SkuVersion> updateById(List<BulkSkuUpdateItem> items) {
+        return update(UPDATE_BY_ID, "uuid", items.stream().map(BulkSkuUpdateItem::getId).toArray(), items);
+    }
+
+    public List<SkuVersion> updateBySkuCode(List<BulkSkuUpdateItem> items) {
+        return update(UPDATE_BY_SKU_CODE, "varchar", items.stream().map(BulkSkuUpdateItem::getSkuCode).toArray(), items);
+    }
+
+    public List<SkuVersion> findVersionsById(Collection<UUID> ids) {
+        return selectVersions(VERSIONS_BY_ID, "uuid", ids.toArray());
+    }
+
+    public List<SkuVersion> findVersionsBySkuCode(Collection<String> skuCodes) {
+        return selectVersions(VERSIONS_BY_SKU_CODE, "varchar", skuCodes.toArray());
+    }
+
+    private List<SkuVersion> update(String sql, String keyType, Object[] keys, List<BulkSkuUpdateItem> items) {
+        if (items.isEmpty()) {
+            return List.of();
+        }
+        BigDecimal[] prices = items.stream().map(BulkSkuUpdateItem::getPrice).toArray(BigDecimal[]::new);
+        BigDecimal[] costs = items.stream().map(BulkSkuUpdateItem::getCost).toArray(BigDecimal[]::new);
+        String[] statuses = items.stream().map(BulkSkuUpdateItem::getStatus).toArray(String[]::new);
+        Long[] expectedVersions = items.stream().map(BulkSkuUpdateItem::getExpectedVersion).toArray(Long[]::new);
+
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            Array[] arrays = {
+                    connection.createArrayOf(keyType, keys),
+                    connection.createArrayOf("numeric", prices),
+                    connection.createArrayOf("numeric", costs),
+                    connection.createArrayOf("varchar", statuses),
+                    connection.createArrayOf("int8", expectedVersions)
+            };
+            for (int i = 0; i < arrays.length; i++) {
+                statement.setArray(i + 1, arrays[i]);
+            }
+            return statement;
+        }, SKU_VERSION_MAPPER);
+    }
+
+    private List<SkuVersion> selectVersions(String sql, String keyType, Object[] keys) {
+        if (keys.length == 0) {
+            return List.of();
+        }
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setArray(1, connection.createArrayOf(keyType, keys));
+            return statement;
+        }, SKU_VERSION_MAPPER);
+    }
+}
@@ -3,6 +3,7 @@ package com.retailer.sku.repository;
 import com.retailer.sku.model.entity.Sku;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -10,19 +11,44 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
 public interface SkuRepository extends JpaRepository<Sku, UUID>, JpaSpecificationExecutor<Sku> {
 
-    Optional<Sku> findBySkuCode(String skuCode);
+    // skus is partitioned by category: key lookups resolve the category through sku_keys first,
+    // so the executor only probes one partition instead of every partition's index.
+    @Override
+    @Query(value = "SELECT s.* FROM skus s WHERE s.id = :id " +
+            "AND s.category = (SELECT k.category FROM sku_keys k WHERE k.id = :id)", nativeQuery = true)
+    Optional<Sku> findById(@Param("id") UUID id);
 
-    Optional<Sku> findByUpc(String upc);
+    @Query(value = "SELECT s.* FROM skus s WHERE s.sku_code = :skuCode " +
+            "AND s.category = (SELECT k.category FROM sku_keys k WHERE k.sku_code = :skuCode)", nativeQuery = true)
+    Optional<Sku> findBySkuCode(@Param("skuCode") String skuCode);
 
-    boolean existsBySkuCode(String skuCode);
+    @Query(value = "SELECT s.* FROM skus s WHERE s.upc = :upc " +
+            "AND s.category = (SELECT k.category FROM sku_keys k WHERE k.upc = :upc)", nativeQuery = true)
+    Optional<Sku> findByUpc(@Param("upc") String upc);
 
-    boolean existsByUpc(String upc);
+    // Joining on sku_keys gives each id its category, so every row is fetched from its own partition
+    @Query(value = "SELECT s.* FROM skus s JOIN sku_keys k ON k.id = s.id AND k.category = s.category " +
+            "WHERE k.id IN (:ids)", nativeQuery = true)
+    List<Sku> findAllByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query(value = "SELECT s.* FROM skus s JOIN sku_keys k ON k.id = s.id AND k.category = s.category " +
+            "WHERE k.sku_code IN (:skuCodes)", nativeQuery = true)
+    List<Sku> findAllBySkuCodeIn(@Param("skuCodes") Collection<String> skuCodes);
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM sku_keys WHERE sku_code = :skuCode)", nativeQuery = true)
+    boolean existsBySkuCode(@Param("skuCode") String skuCode);
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM sku_keys WHERE upc = :upc)", nativeQuery = true)
+    boolean existsByUpc(@Param("upc") String upc);
 
     Page<Sku> findByCategory(String category, Pageable pageable);
 
@@ -32,25 +58,49 @@ public interface SkuRepository extends JpaRepository<Sku, UUID>, JpaSpecificatio
 
     Page<Sku> findByBrand(String brand, Pageable pageable);
 
-    @Query("SELECT s FROM Sku s WHERE " +
-            "(:category IS NULL OR s.category = :category) AND " +
-            "(:status IS NULL OR s.status = :status) AND " +
-            "(:brand IS NULL OR s.brand = :brand) AND " +
-            "(:minPrice IS NULL OR s.price >= :minPrice) AND " +
-            "(:maxPrice IS NULL OR s.price <= :maxPrice)")
-    Page<Sku> findByFilters(
-            @Param("category") String category,
-            @Param("status") String status,
-            @Param("brand") String brand,
-            @Param("minPrice") BigDecimal minPrice,
-            @Param("maxPrice") BigDecimal maxPrice,
-            Pageable pageable);
+    // Only the criteria that are set end up in the SQL: "(:category IS NULL OR category = :category)"
+    // cannot be pruned once Postgres switches to a generic plan for the prepared statement.
+    default Page<Sku> findByFilters(
+            String category,
+            String status,
+            String brand,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Pageable pageable) {
+        return findAll(SkuSpecifications.withFilters(category, status, brand, minPrice, maxPrice), pageable);
+    }
 
     @Query("SELECT s FROM Sku s WHERE " +
             "LOWER(s.name) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
             "LOWER(s.description) LIKE LOWER(CONCAT('%', :query, '%'))")
     Page<Sku> searchByNameOrDescription(@Param("query") String query, Pageable pageable);
 
-    @Query("SELECT COALESCE(MAX(CAST(SUBSTRING(s.skuCode, LENGTH(:prefix) + 2) AS integer)), 0) FROM Sku s WHERE s.skuCode LIKE :prefix || '-%'")
+    // Containment in the box [0, bound] on (shortest, middle, longest, weight) uses idx_sku_fit; results come
+    // back nearest to the bound first, i.e. the snuggest fits, straight from the GiST index without a sort.
+    @Query(value = "SELECT s.* FROM skus s WHERE s.status = 'ACTIVE' " +
+            "AND sku_fit_point(s.dimension_length, s.dimension_width, s.dimension_height, s.weight) " +
+            "<@ cube(CAST(ARRAY[0, 0, 0, 0] AS float8[]), " +
+            "CAST(ARRAY[:shortest, :middle, :longest, :maxWeight] AS float8[])) " +
+            "ORDER BY sku_fit_point(s.dimension_length, s.dimension_width, s.dimension_height, s.weight) " +
+            "<-> cube(CAST(ARRAY[:shortest, :middle, :longest, :maxWeight] AS float8[]))", nativeQuery = true)
+    Slice<Sku> findFitting(@Param("shortest") BigDecimal shortest, @Param("middle") BigDecimal middle,
+                           @Param("longest") BigDecimal longest, @Param("maxWeight") BigDecimal maxWeight,
+                           Pageable pageable);
+
+    @Query(value = "SELECT s.* FROM skus s WHERE s.status = 'ACTIVE' AND s.category = :category " +
+            "AND sku_fit_point(s.dimension_length, s.dimension_width, s.dimension_height, s.weight) " +
+            "<@ cube(CAST(ARRAY[0, 0, 0, 0] AS float8[]), " +
+            "CAST(ARRAY[:shortest, :middle, :longest, :maxWeight] AS float8[])) " +
+            "ORDER BY sku_fit_point(s.dimension_length, s.dimension_width, s.dimension_height, s.weight) " +
+            "<-> cube(CAST(ARRAY[:shortest, :middle, :longest, :maxWeight] AS float8[]))", nativeQuery = true)
+    Slice<Sku> findFittingInCategory(@Param("category") String category, @Param("shortest") BigDecimal shortest,
+                                     @Param("middle") BigDecimal middle, @Param("longest") BigDecimal longest,
+                                     @Param("maxWeight") BigDecimal maxWeight, Pageable pageable);
+
+    @Query(value = "SELECT k.upc FROM sku_keys k WHERE k.upc IN (:upcs)", nativeQuery = true)
+    Set<String> findExistingUpcs(@Param("upcs") Collection<String> upcs);
+
+    @Query(value = "SELECT COALESCE(MAX(CAST(SUBSTRING(k.sku_code FROM LENGTH(:prefix) + 2) AS integer)), 0) " +
+            "FROM sku_keys k WHERE k.sku_code LIKE :prefix || '-%'", nativeQuery = true)
     Integer findMaxSequenceByPrefix(@Param("prefix") String prefix);
 }
@@ -1,16 +1,29 @@
 package com.retailer.sku.repository;
 
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.retailer.sku.model.dto.SkuSearchCriteria;
 import com.retailer.sku.model.entity.Sku;
+import com.retailer.sku.repository.PromotedAttributeProperties.Type;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 public class SkuSpecifications {
 
     public static Specification<Sku> withSearchCriteria(SkuSearchCriteria criteria) {
+        return withSearchCriteria(criteria, Map.of());
+    }
+
+    public static Specification<Sku> withSearchCriteria(SkuSearchCriteria criteria,
+                                                        Map<String, Type> promotedAttributes) {
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
 
@@ -47,7 +60,79 @@ public class SkuSpecifications {
                 predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("price"), criteria.getMaxPrice()));
             }
 
+            if (criteria.getAttributes() != null) {
+                criteria.getAttributes().forEach((key, value) -> predicates.add(
+                        attributeEquals(root, criteriaBuilder, key, value, promotedAttributes.get(key))));
+            }
+
+            if (criteria.getMinAttributes() != null) {
+                criteria.getMinAttributes().forEach((key, min) -> predicates.add(
+                        criteriaBuilder.greaterThanOrEqualTo(numericAttribute(root, criteriaBuilder, key), min)));
+            }
+
+            if (criteria.getMaxAttributes() != null) {
+                criteria.getMaxAttributes().forEach((key, max) -> predicates.add(
+                        criteriaBuilder.lessThanOrEqualTo(numericAttribute(root, criteriaBuilder, key), max)));
+            }
+
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
     }
+
+    public static Specification<Sku> withFilters(String category, String status, String brand,
+                                                 BigDecimal minPrice, BigDecimal maxPrice) {
+        return withSearchCriteria(SkuSearchCriteria.builder()
+                .category(category)
+                .status(status)
+                .brand(brand)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .build());
+    }
+
+    // Promoted keys are compared through the same accessor expression their index was built on (V6)
+    private static Predicate attributeEquals(Root<Sku> root, CriteriaBuilder criteriaBuilder, String key,
+                                             String value, Type promoted) {
+        if (promoted == Type.TEXT) {
+            return criteriaBuilder.equal(criteriaBuilder.function("sku_attribute_text", String.class,
+                    root.get("attributes"), criteriaBuilder.literal(key)), value);
+        }
+        if (promoted == Type.NUMERIC && isNumber(value)) {
+            return criteriaBuilder.equal(numericAttribute(root, criteriaBuilder, key), new BigDecimal(value.trim()));
+        }
+        // Anything else is a containment test, served by the GIN index on attributes. Containment compares JSON
+        // types, so a value that reads as a number or boolean also matches attributes stored in that form
+        List<Predicate> forms = new ArrayList<>();
+        forms.add(contains(root, criteriaBuilder, JsonNodeFactory.instance.objectNode().put(key, value)));
+        if (isNumber(value)) {
+            forms.add(contains(root, criteriaBuilder,
+                    JsonNodeFactory.instance.objectNode().put(key, new BigDecimal(value.trim()))));
+        }
+        if (value.equals("true") || value.equals("false")) {
+            forms.add(contains(root, criteriaBuilder,
+                    JsonNodeFactory.instance.objectNode().put(key, Boolean.parseBoolean(value))));
+        }
+        return forms.size() == 1 ? forms.get(0) : criteriaBuilder.or(forms.toArray(new Predicate[0]));
+    }
+
+    private static Predicate contains(Root<Sku> root, CriteriaBuilder criteriaBuilder, ObjectNode document) {
+        return criteriaBuilder.isTrue(criteriaBuilder.function("jsonb_contains", Boolean.class,
+                root.get("attributes"), criteriaBuilder.literal(document.toString())));
+    }
+
+    // Values that are not plain decimal numbers read as NULL and never match a range
+    private static Expression<BigDecimal> numericAttribute(Root<Sku> root, CriteriaBuilder criteriaBuilder,
+                                                           String key) {
+        return criteriaBuilder.function("sku_attribute_numeric", BigDecimal.class,
+                root.get("attributes"), criteriaBuilder.literal(key));
+    }
+
+    private static boolean isNumber(String value) {
+        try {
+            new BigDecimal(value.trim());
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
 }
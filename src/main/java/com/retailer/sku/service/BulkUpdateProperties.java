@@ -0,0 +1,11 @@
+package com.retailer.sku.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "sku.bulk-update")
+public class BulkUpdateProperties {
+
+    private int chunkSize = 1000;
+}
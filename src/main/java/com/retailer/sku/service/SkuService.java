@@ -3,9 +3,11 @@ package com.retailer.sku.service;
 import com.retailer.sku.model.dto.*;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface SkuService {
@@ -14,12 +16,16 @@ public interface SkuService {
 
     List<SkuResponse> createSkusBatch(List<SkuRequest> requests);
 
+    List<BatchJobItemResult> createSkusChunk(List<SkuRequest> requests);
+
     SkuResponse getSkuById(UUID id);
 
     SkuResponse getSkuByCode(String skuCode);
 
     SkuResponse getSkuByUpc(String upc);
 
+    List<SkuResponse> lookupSkus(List<UUID> ids, List<String> skuCodes);
+
     Page<SkuResponse> getAllSkus(Pageable pageable);
 
     Page<SkuResponse> getSkusByFilters(
@@ -32,9 +38,28 @@ public interface SkuService {
 
     Page<SkuResponse> searchSkus(SkuSearchCriteria criteria, Pageable pageable);
 
+    Slice<SkuResponse> findSkusThatFit(
+            BigDecimal length,
+            BigDecimal width,
+            BigDecimal height,
+            BigDecimal maxWeight,
+            String category,
+            Pageable pageable);
+
     SkuResponse updateSku(UUID id, SkuRequest request);
 
     SkuResponse partialUpdateSku(UUID id, SkuUpdateRequest request);
 
+    /**
+     * Applies patches to many SKUs in one transaction, each only if the SKU is still at its expected version;
+     * reports every id as UPDATED, CONFLICT or NOT_FOUND.
+     */
+    List<BulkSkuUpdateResult> partialUpdateSkusChunk(Map<UUID, SkuUpdateRequest> requests,
+                                                     Map<UUID, Long> expectedVersions);
+
+    long getSkuVersion(UUID id);
+
     void deleteSku(UUID id);
+
+    BulkSkuUpdateResponse bulkUpdateSkus(List<BulkSkuUpdateItem> items);
 }
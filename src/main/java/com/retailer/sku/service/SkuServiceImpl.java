@@ -1,34 +1,58 @@
 package com.retailer.sku.service;
 
+import com.retailer.sku.bulkhead.Bulkhead;
+import com.retailer.sku.bulkhead.Workload;
 import com.retailer.sku.exception.DuplicateSkuException;
 import com.retailer.sku.exception.SkuNotFoundException;
+import com.retailer.sku.keyfilter.SkuKeyIndex;
 import com.retailer.sku.model.dto.*;
 import com.retailer.sku.model.entity.Sku;
+import com.retailer.sku.pos.PosUpcIndex;
+import com.retailer.sku.repository.PromotedAttributeProperties;
+import com.retailer.sku.repository.SkuBulkUpdateRepository;
+import com.retailer.sku.repository.SkuBulkUpdateRepository.SkuVersion;
 import com.retailer.sku.repository.SkuRepository;
 import com.retailer.sku.repository.SkuSpecifications;
+import com.retailer.sku.singleflight.SingleFlight;
+import com.retailer.sku.suggest.SkuSuggestIndex;
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.StatusCode;
 import io.opentelemetry.api.trace.Tracer;
 import io.opentelemetry.context.Scope;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional
+@Transactional(timeoutString = "${sku.query-budgets.write:15}")
+@EnableConfigurationProperties({BulkUpdateProperties.class, PromotedAttributeProperties.class})
 public class SkuServiceImpl implements SkuService {
 
     private static final String RETAILER_PREFIX = "THD";
@@ -48,10 +72,20 @@ public class SkuServiceImpl implements SkuService {
     private final SkuRepository skuRepository;
     private final SkuMapper skuMapper;
     private final Tracer tracer;
+    private final SkuBulkUpdateRepository skuBulkUpdateRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BulkUpdateProperties bulkUpdateProperties;
+    private final EntityManager entityManager;
+    private final SkuKeyIndex skuKeyIndex;
+    private final SkuSuggestIndex skuSuggestIndex;
+    private final PosUpcIndex posUpcIndex;
+    private final PromotedAttributeProperties promotedAttributeProperties;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final Map<String, AtomicInteger> sequenceCounters = new ConcurrentHashMap<>();
 
     @Override
+    @Bulkhead(Workload.WRITE)
     public SkuResponse createSku(SkuRequest request) {
         Span span = tracer.spanBuilder("sku.create")
                 .setAttribute("sku.category", request.getCategory())
@@ -68,6 +102,9 @@ public class SkuServiceImpl implements SkuService {
             span.setAttribute("sku.code", skuCode);
 
             Sku savedSku = skuRepository.save(sku);
+            skuKeyIndex.add(savedSku);
+            skuSuggestIndex.update(savedSku);
+            posUpcIndex.update(savedSku);
             span.addEvent("sku.persisted");
 
             log.info("Created SKU with code: {}", skuCode);
@@ -82,6 +119,7 @@ public class SkuServiceImpl implements SkuService {
     }
 
     @Override
+    @Bulkhead(Workload.WRITE)
     public List<SkuResponse> createSkusBatch(List<SkuRequest> requests) {
         Span span = tracer.spanBuilder("sku.batch.create")
                 .setAttribute(AttributeKey.longKey("batch.size"), (long) requests.size())
@@ -98,6 +136,9 @@ public class SkuServiceImpl implements SkuService {
                     .toList();
 
             List<Sku> savedSkus = skuRepository.saveAll(skus);
+            savedSkus.forEach(skuKeyIndex::add);
+            savedSkus.forEach(skuSuggestIndex::update);
+            savedSkus.forEach(posUpcIndex::update);
             span.addEvent("batch.persisted");
 
             log.info("Created {} SKUs in batch", savedSkus.size());
@@ -112,7 +153,52 @@ public class SkuServiceImpl implements SkuService {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Bulkhead(Workload.WRITE)
+    public List<BatchJobItemResult> createSkusChunk(List<SkuRequest> requests) {
+        List<String> upcs = requests.stream()
+                .map(SkuRequest::getUpc)
+                .filter(upc -> upc != null)
+                .toList();
+        Set<String> takenUpcs = upcs.isEmpty() ? new HashSet<>() : new HashSet<>(skuRepository.findExistingUpcs(upcs));
+
+        List<BatchJobItemResult> results = new ArrayList<>(requests.size());
+        List<Sku> skus = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            SkuRequest request = requests.get(i);
+            BatchJobItemResult result = BatchJobItemResult.builder().index(i).build();
+            results.add(result);
+            if (request.getUpc() != null && !takenUpcs.add(request.getUpc())) {
+                result.setOutcome(BatchJobItemResult.FAILED);
+                result.setError("SKU with UPC " + request.getUpc() + " already exists");
+                continue;
+            }
+            Sku sku = skuMapper.toEntity(request);
+            sku.setSkuCode(generateSkuCode(request.getCategory()));
+            skus.add(sku);
+        }
+
+        List<Sku> savedSkus = skuRepository.saveAllAndFlush(skus);
+        savedSkus.forEach(skuKeyIndex::add);
+        savedSkus.forEach(skuSuggestIndex::update);
+        savedSkus.forEach(posUpcIndex::update);
+        entityManager.clear();
+
+        int saved = 0;
+        for (BatchJobItemResult result : results) {
+            if (result.getOutcome() == null) {
+                Sku sku = savedSkus.get(saved++);
+                result.setOutcome(BatchJobItemResult.CREATED);
+                result.setId(sku.getId());
+                result.setSkuCode(sku.getSkuCode());
+            }
+        }
+        return results;
+    }
+
+    @Override
+    @SingleFlight
+    @Bulkhead(Workload.LOOKUP)
+    @Transactional(readOnly = true, timeoutString = "${sku.query-budgets.lookup:2}")
     public SkuResponse getSkuById(UUID id) {
         return skuRepository.findById(id)
                 .map(skuMapper::toResponse)
@@ -120,30 +206,71 @@ public class SkuServiceImpl implements SkuService {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @SingleFlight
+    @Bulkhead(Workload.LOOKUP)
+    @Transactional(readOnly = true, timeoutString = "${sku.query-budgets.lookup:2}")
     public SkuResponse getSkuByCode(String skuCode) {
+        if (!skuKeyIndex.mightContainSkuCode(skuCode)) {
+            throw new SkuNotFoundException("SKU not found with code: " + skuCode);
+        }
         return skuRepository.findBySkuCode(skuCode)
                 .map(skuMapper::toResponse)
-                .orElseThrow(() -> new SkuNotFoundException("SKU not found with code: " + skuCode));
+                .orElseThrow(() -> {
+                    skuKeyIndex.recordFalsePositive();
+                    return new SkuNotFoundException("SKU not found with code: " + skuCode);
+                });
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @SingleFlight
+    @Bulkhead(Workload.LOOKUP)
+    @Transactional(readOnly = true, timeoutString = "${sku.query-budgets.lookup:2}")
     public SkuResponse getSkuByUpc(String upc) {
+        if (!skuKeyIndex.mightContainUpc(upc)) {
+            throw new SkuNotFoundException("SKU not found with UPC: " + upc);
+        }
         return skuRepository.findByUpc(upc)
                 .map(skuMapper::toResponse)
-                .orElseThrow(() -> new SkuNotFoundException("SKU not found with UPC: " + upc));
+                .orElseThrow(() -> {
+                    skuKeyIndex.recordFalsePositive();
+                    return new SkuNotFoundException("SKU not found with UPC: " + upc);
+                });
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Bulkhead(Workload.LOOKUP)
+    @Transactional(readOnly = true, timeoutString = "${sku.query-budgets.lookup:2}")
+    public List<SkuResponse> lookupSkus(List<UUID> ids, List<String> skuCodes) {
+        Map<UUID, Sku> found = new LinkedHashMap<>();
+        if (ids != null && !ids.isEmpty()) {
+            skuRepository.findAllByIdIn(new HashSet<>(ids)).forEach(sku -> found.put(sku.getId(), sku));
+        }
+        if (skuCodes != null) {
+            List<String> candidates = skuCodes.stream()
+                    .distinct()
+                    .filter(skuKeyIndex::mightContainSkuCode)
+                    .toList();
+            if (!candidates.isEmpty()) {
+                skuRepository.findAllBySkuCodeIn(candidates).forEach(sku -> found.putIfAbsent(sku.getId(), sku));
+            }
+        }
+        return found.values().stream()
+                .map(skuMapper::toResponse)
+                .toList();
+    }
+
+    @Override
+    @Bulkhead(Workload.SEARCH)
+    @Transactional(readOnly = true, timeoutString = "${sku.query-budgets.search:5}")
     public Page<SkuResponse> getAllSkus(Pageable pageable) {
         return skuRepository.findAll(pageable)
                 .map(skuMapper::toResponse);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @SingleFlight
+    @Bulkhead(Workload.SEARCH)
+    @Transactional(readOnly = true, timeoutString = "${sku.query-budgets.search:5}")
     public Page<SkuResponse> getSkusByFilters(
             String category,
             String status,
@@ -156,13 +283,43 @@ public class SkuServiceImpl implements SkuService {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @SingleFlight
+    @Bulkhead(Workload.SEARCH)
+    @Transactional(readOnly = true, timeoutString = "${sku.query-budgets.search:5}")
     public Page<SkuResponse> searchSkus(SkuSearchCriteria criteria, Pageable pageable) {
-        return skuRepository.findAll(SkuSpecifications.withSearchCriteria(criteria), pageable)
+        return skuRepository.findAll(SkuSpecifications.withSearchCriteria(criteria,
+                        promotedAttributeProperties.getPromotedAttributes()), pageable)
                 .map(skuMapper::toResponse);
     }
 
     @Override
+    @Bulkhead(Workload.SEARCH)
+    @Transactional(readOnly = true, timeoutString = "${sku.query-budgets.search:5}")
+    public Slice<SkuResponse> findSkusThatFit(
+            BigDecimal length,
+            BigDecimal width,
+            BigDecimal height,
+            BigDecimal maxWeight,
+            String category,
+            Pageable pageable) {
+        BigDecimal[] box = {length, width, height};
+        for (BigDecimal value : List.of(length, width, height, maxWeight)) {
+            if (value.signum() <= 0) {
+                throw new IllegalArgumentException("Box dimensions and max weight must be positive");
+            }
+        }
+        Arrays.sort(box);
+
+        // Results are ordered by fit, so a requested sort is not applied
+        Pageable page = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        Slice<Sku> skus = category != null
+                ? skuRepository.findFittingInCategory(category, box[0], box[1], box[2], maxWeight, page)
+                : skuRepository.findFitting(box[0], box[1], box[2], maxWeight, page);
+        return skus.map(skuMapper::toResponse);
+    }
+
+    @Override
+    @Bulkhead(Workload.WRITE)
     public SkuResponse updateSku(UUID id, SkuRequest request) {
         Span span = tracer.spanBuilder("sku.update")
                 .setAttribute("sku.id", id.toString())
@@ -171,6 +328,7 @@ public class SkuServiceImpl implements SkuService {
         try (Scope scope = span.makeCurrent()) {
             Sku existingSku = skuRepository.findById(id)
                     .orElseThrow(() -> new SkuNotFoundException("SKU not found with id: " + id));
+            String previousUpc = existingSku.getUpc();
 
             if (request.getUpc() != null && !request.getUpc().equals(existingSku.getUpc())) {
                 validateUpcUniqueness(request.getUpc());
@@ -183,6 +341,11 @@ public class SkuServiceImpl implements SkuService {
             updatedSku.setCreatedAt(existingSku.getCreatedAt());
 
             Sku savedSku = skuRepository.save(updatedSku);
+            skuRepository.flush();
+            skuKeyIndex.add(savedSku);
+            skuSuggestIndex.update(savedSku);
+            posUpcIndex.update(savedSku, previousUpc);
+            eventPublisher.publishEvent(new SkuWrittenEvent(savedSku.getId(), savedSku.getVersion(), null));
             span.addEvent("sku.updated");
 
             log.info("Updated SKU: {}", savedSku.getSkuCode());
@@ -197,6 +360,7 @@ public class SkuServiceImpl implements SkuService {
     }
 
     @Override
+    @Bulkhead(Workload.WRITE)
     public SkuResponse partialUpdateSku(UUID id, SkuUpdateRequest request) {
         Span span = tracer.spanBuilder("sku.partial.update")
                 .setAttribute("sku.id", id.toString())
@@ -205,6 +369,7 @@ public class SkuServiceImpl implements SkuService {
         try (Scope scope = span.makeCurrent()) {
             Sku existingSku = skuRepository.findById(id)
                     .orElseThrow(() -> new SkuNotFoundException("SKU not found with id: " + id));
+            String previousUpc = existingSku.getUpc();
 
             if (request.getUpc() != null && !request.getUpc().equals(existingSku.getUpc())) {
                 validateUpcUniqueness(request.getUpc());
@@ -212,6 +377,11 @@ public class SkuServiceImpl implements SkuService {
 
             skuMapper.updateEntityFromRequest(request, existingSku);
             Sku savedSku = skuRepository.save(existingSku);
+            skuRepository.flush();
+            skuKeyIndex.add(savedSku);
+            skuSuggestIndex.update(savedSku);
+            posUpcIndex.update(savedSku, previousUpc);
+            eventPublisher.publishEvent(new SkuWrittenEvent(savedSku.getId(), savedSku.getVersion(), request));
             span.addEvent("sku.partially.updated");
 
             log.info("Partially updated SKU: {}", savedSku.getSkuCode());
@@ -226,6 +396,50 @@ public class SkuServiceImpl implements SkuService {
     }
 
     @Override
+    @Bulkhead(Workload.WRITE)
+    public List<BulkSkuUpdateResult> partialUpdateSkusChunk(Map<UUID, SkuUpdateRequest> requests,
+                                                            Map<UUID, Long> expectedVersions) {
+        Map<UUID, BulkSkuUpdateResult> results = new LinkedHashMap<>();
+        List<Sku> current = new ArrayList<>();
+        for (Sku sku : skuRepository.findAllByIdIn(requests.keySet())) {
+            if (sku.getVersion().equals(expectedVersions.get(sku.getId()))) {
+                skuMapper.updateEntityFromRequest(requests.get(sku.getId()), sku);
+                current.add(sku);
+            } else {
+                results.put(sku.getId(), BulkSkuUpdateResult.builder().id(sku.getId()).skuCode(sku.getSkuCode())
+                        .version(sku.getVersion()).outcome(BulkSkuUpdateResult.CONFLICT).build());
+            }
+        }
+
+        // A write committed between the load and the flush fails the whole chunk with an optimistic lock error
+        List<Sku> savedSkus = skuRepository.saveAllAndFlush(current);
+        savedSkus.forEach(skuSuggestIndex::update);
+        savedSkus.forEach(posUpcIndex::update);
+        entityManager.clear();
+        for (Sku sku : savedSkus) {
+            results.put(sku.getId(), BulkSkuUpdateResult.builder().id(sku.getId()).skuCode(sku.getSkuCode())
+                    .version(sku.getVersion()).outcome(BulkSkuUpdateResult.UPDATED).build());
+        }
+        for (UUID id : requests.keySet()) {
+            results.putIfAbsent(id, BulkSkuUpdateResult.builder().id(id).outcome(BulkSkuUpdateResult.NOT_FOUND).build());
+        }
+
+        log.info("Applied buffered updates to {} of {} SKUs", savedSkus.size(), requests.size());
+        return new ArrayList<>(results.values());
+    }
+
+    @Override
+    @Bulkhead(Workload.LOOKUP)
+    @Transactional(readOnly = true, timeoutString = "${sku.query-budgets.lookup:2}")
+    public long getSkuVersion(UUID id) {
+        return skuBulkUpdateRepository.findVersionsById(List.of(id)).stream()
+                .findFirst()
+                .map(SkuVersion::version)
+                .orElseThrow(() -> new SkuNotFoundException("SKU not found with id: " + id));
+    }
+
+    @Override
+    @Bulkhead(Workload.WRITE)
     public void deleteSku(UUID id) {
         Span span = tracer.spanBuilder("sku.delete")
                 .setAttribute("sku.id", id.toString())
@@ -237,6 +451,11 @@ public class SkuServiceImpl implements SkuService {
 
             sku.setStatus("DISCONTINUED");
             skuRepository.save(sku);
+            skuRepository.flush();
+            skuSuggestIndex.update(sku);
+            posUpcIndex.update(sku);
+            eventPublisher.publishEvent(new SkuWrittenEvent(sku.getId(), sku.getVersion(),
+                    SkuUpdateRequest.builder().status(sku.getStatus()).build()));
             span.addEvent("sku.soft.deleted");
 
             log.info("Soft deleted SKU: {}", sku.getSkuCode());
@@ -249,6 +468,114 @@ public class SkuServiceImpl implements SkuService {
         }
     }
 
+    @Override
+    @Bulkhead(Workload.WRITE)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkSkuUpdateResponse bulkUpdateSkus(List<BulkSkuUpdateItem> items) {
+        Span span = tracer.spanBuilder("sku.bulk.update")
+                .setAttribute(AttributeKey.longKey("batch.size"), (long) items.size())
+                .startSpan();
+
+        try (Scope scope = span.makeCurrent()) {
+            rejectDuplicateKeys(items);
+
+            BulkSkuUpdateResult[] results = new BulkSkuUpdateResult[items.size()];
+            int chunkSize = bulkUpdateProperties.getChunkSize();
+            for (int from = 0; from < items.size(); from += chunkSize) {
+                int offset = from;
+                List<BulkSkuUpdateItem> chunk = items.subList(from, Math.min(from + chunkSize, items.size()));
+                transactionTemplate.executeWithoutResult(status -> applyBulkChunk(chunk, offset, results));
+            }
+
+            Map<String, Long> outcomes = Arrays.stream(results)
+                    .collect(Collectors.groupingBy(BulkSkuUpdateResult::getOutcome, Collectors.counting()));
+            BulkSkuUpdateResponse response = BulkSkuUpdateResponse.builder()
+                    .updated(outcomes.getOrDefault(BulkSkuUpdateResult.UPDATED, 0L).intValue())
+                    .conflicts(outcomes.getOrDefault(BulkSkuUpdateResult.CONFLICT, 0L).intValue())
+                    .notFound(outcomes.getOrDefault(BulkSkuUpdateResult.NOT_FOUND, 0L).intValue())
+                    .results(Arrays.asList(results))
+                    .build();
+            span.addEvent("bulk.applied");
+
+            log.info("Bulk update applied: {} updated, {} conflicts, {} not found",
+                    response.getUpdated(), response.getConflicts(), response.getNotFound());
+            return response;
+        } catch (Exception e) {
+            span.recordException(e);
+            span.setStatus(StatusCode.ERROR, e.getMessage());
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    private void applyBulkChunk(List<BulkSkuUpdateItem> chunk, int offset, BulkSkuUpdateResult[] results) {
+        List<BulkSkuUpdateItem> byId = chunk.stream().filter(item -> item.getId() != null).toList();
+        List<BulkSkuUpdateItem> bySkuCode = chunk.stream().filter(item -> item.getId() == null).toList();
+
+        Map<UUID, SkuVersion> updatedById = index(skuBulkUpdateRepository.updateById(byId), SkuVersion::id);
+        Map<String, SkuVersion> updatedBySkuCode =
+                index(skuBulkUpdateRepository.updateBySkuCode(bySkuCode), SkuVersion::skuCode);
+
+        Map<UUID, SkuVersion> currentById = index(skuBulkUpdateRepository.findVersionsById(byId.stream()
+                .map(BulkSkuUpdateItem::getId)
+                .filter(id -> !updatedById.containsKey(id))
+                .toList()), SkuVersion::id);
+        Map<String, SkuVersion> currentBySkuCode = index(skuBulkUpdateRepository.findVersionsBySkuCode(bySkuCode.stream()
+                .map(BulkSkuUpdateItem::getSkuCode)
+                .filter(skuCode -> !updatedBySkuCode.containsKey(skuCode))
+                .toList()), SkuVersion::skuCode);
+
+        List<UUID> updatedIds = new ArrayList<>(updatedById.keySet());
+        updatedBySkuCode.values().forEach(version -> updatedIds.add(version.id()));
+        posUpcIndex.refresh(updatedIds);
+        skuSuggestIndex.refresh(updatedIds);
+
+        for (int i = 0; i < chunk.size(); i++) {
+            BulkSkuUpdateItem item = chunk.get(i);
+            SkuVersion updated = item.getId() != null
+                    ? updatedById.get(item.getId())
+                    : updatedBySkuCode.get(item.getSkuCode());
+            SkuVersion current = item.getId() != null
+                    ? currentById.get(item.getId())
+                    : currentBySkuCode.get(item.getSkuCode());
+            if (updated != null) {
+                eventPublisher.publishEvent(new SkuWrittenEvent(updated.id(), updated.version(),
+                        SkuUpdateRequest.builder().price(item.getPrice()).cost(item.getCost())
+                                .status(item.getStatus()).build()));
+            }
+
+            BulkSkuUpdateResult.BulkSkuUpdateResultBuilder result = BulkSkuUpdateResult.builder()
+                    .index(offset + i)
+                    .id(item.getId())
+                    .skuCode(item.getSkuCode());
+            if (updated != null) {
+                result.id(updated.id()).skuCode(updated.skuCode()).version(updated.version())
+                        .outcome(BulkSkuUpdateResult.UPDATED);
+            } else if (current != null) {
+                result.id(current.id()).skuCode(current.skuCode()).version(current.version())
+                        .outcome(BulkSkuUpdateResult.CONFLICT);
+            } else {
+                result.outcome(BulkSkuUpdateResult.NOT_FOUND);
+            }
+            results[offset + i] = result.build();
+        }
+    }
+
+    private static void rejectDuplicateKeys(List<BulkSkuUpdateItem> items) {
+        Set<Object> keys = new HashSet<>();
+        for (BulkSkuUpdateItem item : items) {
+            Object key = item.getId() != null ? item.getId() : item.getSkuCode();
+            if (!keys.add(key)) {
+                throw new IllegalArgumentException("SKU " + key + " appears more than once in the bulk update");
+            }
+        }
+    }
+
+    private static <K> Map<K, SkuVersion> index(List<SkuVersion> versions, Function<SkuVersion, K> key) {
+        return versions.stream().collect(Collectors.toMap(key, Function.identity(), (first, second) -> first));
+    }
+
     private String generateSkuCode(String category) {
         String prefix = RETAILER_PREFIX + "-" + category;
 
@@ -261,6 +588,7 @@ public class SkuServiceImpl implements SkuService {
         return String.format("%s-%07d", prefix, sequence);
     }
 
+    // Always asks the database: a key filter miss can be a key another instance wrote moments ago
     private void validateUpcUniqueness(String upc) {
         if (upc != null && skuRepository.existsByUpc(upc)) {
             throw new DuplicateSkuException("SKU with UPC " + upc + " already exists");
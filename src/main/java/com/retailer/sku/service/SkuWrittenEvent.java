@@ -0,0 +1,12 @@
+package com.retailer.sku.service;
+
+import com.retailer.sku.model.dto.SkuUpdateRequest;
+
+import java.util.UUID;
+
+/**
+ * Published inside the transaction of a synchronous write to an existing SKU. {@code changes} holds the fields
+ * the write set, or is null when the whole row was replaced; {@code version} is the version the write produced.
+ */
+public record SkuWrittenEvent(UUID id, Long version, SkuUpdateRequest changes) {
+}
@@ -0,0 +1,33 @@
+package com.retailer.sku.singleflight;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+
+/**
+ * Runs outside the bulkhead and transaction advice, so callers that join an in-flight fetch take neither a
+ * bulkhead slot nor a connection.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 50)
+@RequiredArgsConstructor
+public class SingleFlightAspect {
+
+    private final SingleFlightGroup group;
+
+    @Around("@annotation(com.retailer.sku.singleflight.SingleFlight)")
+    public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+        // A caller inside its own transaction may have uncommitted changes the shared result would not see
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        return group.call(joinPoint.getSignature().getName(), Arrays.asList(joinPoint.getArgs()),
+                joinPoint::proceed);
+    }
+}
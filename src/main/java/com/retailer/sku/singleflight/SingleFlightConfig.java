@@ -0,0 +1,23 @@
+package com.retailer.sku.singleflight;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "sku.single-flight", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(SingleFlightProperties.class)
+public class SingleFlightConfig {
+
+    @Bean
+    public SingleFlightGroup singleFlightGroup(SingleFlightProperties properties, MeterRegistry meterRegistry) {
+        return new SingleFlightGroup(properties, meterRegistry);
+    }
+
+    @Bean
+    public SingleFlightAspect singleFlightAspect(SingleFlightGroup singleFlightGroup) {
+        return new SingleFlightAspect(singleFlightGroup);
+    }
+}
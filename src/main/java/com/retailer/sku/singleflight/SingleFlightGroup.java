@@ -0,0 +1,120 @@
+package com.retailer.sku.singleflight;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks in-flight calls by operation and arguments. The first caller for a key runs the call on its own
+ * thread; callers arriving before it finishes wait for its result, or rethrow its exception. The key is
+ * released before the result is published, so a caller arriving afterwards starts a fresh fetch.
+ */
+public class SingleFlightGroup {
+
+    @FunctionalInterface
+    public interface Invocation {
+        Object proceed() throws Throwable;
+    }
+
+    private record Key(String operation, List<Object> arguments) {
+    }
+
+    private static final class Flight {
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private final AtomicInteger followers = new AtomicInteger();
+    }
+
+    private record Meters(Counter leaders, Counter followers, Counter timeouts, DistributionSummary callersPerFetch) {
+    }
+
+    private final SingleFlightProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<Key, Flight> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+
+    public SingleFlightGroup(SingleFlightProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Object call(String operation, List<Object> arguments, Invocation invocation) throws Throwable {
+        Key key = new Key(operation, arguments);
+        Meters operationMeters = meters.computeIfAbsent(operation, this::register);
+        Flight flight = new Flight();
+        Flight leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            leader.followers.incrementAndGet();
+            operationMeters.followers().increment();
+            return await(leader, operation, operationMeters);
+        }
+
+        operationMeters.leaders().increment();
+        try {
+            Object result = invocation.proceed();
+            land(key, flight, operationMeters);
+            flight.result.complete(result);
+            return result;
+        } catch (Throwable t) {
+            land(key, flight, operationMeters);
+            flight.result.completeExceptionally(t);
+            throw t;
+        }
+    }
+
+    int inFlight() {
+        return inFlight.size();
+    }
+
+    private void land(Key key, Flight flight, Meters operationMeters) {
+        inFlight.remove(key, flight);
+        operationMeters.callersPerFetch().record(1 + flight.followers.get());
+    }
+
+    private Object await(Flight flight, String operation, Meters operationMeters) throws Throwable {
+        try {
+            return flight.result.get(properties.getMaxWait().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (TimeoutException e) {
+            operationMeters.timeouts().increment();
+            throw new QueryTimeoutException("Gave up after " + properties.getMaxWait()
+                    + " waiting for an in-flight " + operation + " call");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    private Meters register(String operation) {
+        return new Meters(
+                Counter.builder("sku.singleflight.calls")
+                        .description("Read calls by whether they ran the fetch or joined one in flight")
+                        .tag("operation", operation)
+                        .tag("role", "leader")
+                        .register(meterRegistry),
+                Counter.builder("sku.singleflight.calls")
+                        .description("Read calls by whether they ran the fetch or joined one in flight")
+                        .tag("operation", operation)
+                        .tag("role", "follower")
+                        .register(meterRegistry),
+                Counter.builder("sku.singleflight.timeouts")
+                        .description("Callers that stopped waiting for an in-flight fetch")
+                        .tag("operation", operation)
+                        .register(meterRegistry),
+                // The mean is the coalescing ratio: callers served per database fetch
+                DistributionSummary.builder("sku.singleflight.callers.per.fetch")
+                        .description("Callers served by one fetch, including the one that ran it")
+                        .tag("operation", operation)
+                        .register(meterRegistry));
+    }
+}
@@ -0,0 +1,17 @@
+package com.retailer.sku.singleflight;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "sku.single-flight")
+public class SingleFlightProperties {
+
+    private boolean enabled = true;
+
+    // Safety net for callers waiting on another request's fetch; the leader is already bounded by its
+    // bulkhead timeout, so this only fires if that one hangs
+    private Duration maxWait = Duration.ofSeconds(15);
+}
@@ -0,0 +1,233 @@
+package com.retailer.sku.snapshot;
+
+import com.retailer.catalog.snapshot.CatalogSnapshot;
+import com.retailer.catalog.snapshot.CatalogSnapshotWriter;
+import com.retailer.sku.bulkhead.Workload;
+import com.retailer.sku.bulkhead.WorkloadRoutingDataSource;
+import com.retailer.sku.exception.SnapshotNotFoundException;
+import com.retailer.sku.model.dto.CatalogSnapshotResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Writes the catalog to snapshot files that clients download instead of paging through the API. Generation scans
+ * the whole catalog twice in one transaction, holding its connection for as long as that takes, so it runs on the
+ * maintenance pool rather than a pool serving requests.
+ */
+@Component
+@Slf4j
+@EnableConfigurationProperties(SnapshotProperties.class)
+public class CatalogSnapshotService {
+
+    private static final String FILE_PREFIX = "catalog-";
+    private static final String FILE_SUFFIX = ".snap";
+
+    // Records are written in SKU code order, so a record's index is its rank by SKU code under the same ordering
+    private static final String RECORDS_SQL = """
+            SELECT id, upc, sku_code, name, brand, category, status, price, updated_at
+            FROM skus ORDER BY sku_code COLLATE "C"
+            """;
+    private static final String UPC_INDEX_SQL = """
+            SELECT upc, record FROM (
+                SELECT upc, row_number() OVER (ORDER BY sku_code COLLATE "C") - 1 AS record FROM skus
+            ) ranked
+            WHERE upc IS NOT NULL ORDER BY upc COLLATE "C"
+            """;
+
+    private final SnapshotProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate snapshotTransaction;
+    private final ExecutorService generator;
+    private final AtomicBoolean generating = new AtomicBoolean();
+
+    private volatile CatalogSnapshotResponse latest;
+
+    public CatalogSnapshotService(SnapshotProperties properties, JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        // All three queries must see the same catalog for the indexes to point at the right records
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        snapshotTransaction.setReadOnly(true);
+        this.generator = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sku-catalog-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.latest = properties.isEnabled() ? findExisting() : null;
+    }
+
+    public CatalogSnapshotResponse latest() {
+        CatalogSnapshotResponse current = latest;
+        if (current == null) {
+            throw new SnapshotNotFoundException("No catalog snapshot has been generated yet");
+        }
+        return current;
+    }
+
+    /**
+     * The file described by {@code snapshot}, so a download's tag and bytes come from the same snapshot even if a
+     * newer one is published in between.
+     */
+    public Path file(CatalogSnapshotResponse snapshot) {
+        return properties.getDirectory().resolve(snapshot.getFileName());
+    }
+
+    /**
+     * Starts a snapshot in the background unless one is already being written.
+     */
+    public void requestGeneration() {
+        generator.execute(this::generate);
+    }
+
+    @Scheduled(initialDelayString = "${sku.snapshot.initial-delay:PT1M}", fixedDelayString = "${sku.snapshot.interval:PT6H}")
+    public void generate() {
+        if (!properties.isEnabled() || !generating.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            latest = write();
+            prune();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write catalog snapshot", e);
+        } finally {
+            generating.set(false);
+        }
+    }
+
+    private CatalogSnapshotResponse write() throws IOException {
+        long started = System.nanoTime();
+        Files.createDirectories(properties.getDirectory());
+        Path target = properties.getDirectory().resolve(FILE_PREFIX + System.currentTimeMillis() + FILE_SUFFIX);
+
+        WorkloadRoutingDataSource.runWith(Workload.MAINTENANCE, () -> snapshotTransaction.executeWithoutResult(status -> {
+            long[] counts = jdbcTemplate.queryForObject("SELECT COUNT(*), COUNT(upc) FROM skus",
+                    (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)});
+            try (CatalogSnapshotWriter writer = CatalogSnapshotWriter.create(target, Math.toIntExact(counts[0]),
+                    Math.toIntExact(counts[1]))) {
+                AtomicLong catalogVersion = new AtomicLong();
+                stream(RECORDS_SQL, rs -> {
+                    Timestamp updatedAt = rs.getTimestamp(9);
+                    String skuCode = rs.getString(3);
+                    int record = writer.append(rs.getObject(1, UUID.class), rs.getString(2), skuCode,
+                            rs.getString(4), rs.getString(5), rs.getString(6), rs.getString(7), rs.getBigDecimal(8),
+                            updatedAt != null ? updatedAt.toInstant() : null);
+                    writer.appendSkuCodeIndex(skuCode, record);
+                    if (updatedAt != null) {
+                        catalogVersion.accumulateAndGet(updatedAt.getTime(), Math::max);
+                    }
+                });
+                stream(UPC_INDEX_SQL, rs -> writer.appendUpcIndex(rs.getString(1), rs.getInt(2)));
+                writer.commit(catalogVersion.get());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+
+        CatalogSnapshotResponse written = describe(target);
+        log.info("Wrote catalog snapshot {} with {} SKUs ({} bytes) in {} ms", written.getFileName(),
+                written.getSkus(), written.getBytes(), (System.nanoTime() - started) / 1_000_000);
+        return written;
+    }
+
+    private void stream(String sql, RowWriter rowWriter) {
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(properties.getFetchSize());
+            return statement;
+        }, (ResultSet rs) -> {
+            try {
+                rowWriter.write(rs);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void prune() throws IOException {
+        List<Path> snapshots = list();
+        for (Path stale : snapshots.subList(0, Math.max(0, snapshots.size() - properties.getRetained()))) {
+            Files.deleteIfExists(stale);
+        }
+    }
+
+    // Oldest first; the file name carries the creation time
+    private List<Path> list() throws IOException {
+        if (!Files.isDirectory(properties.getDirectory())) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(properties.getDirectory())) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX);
+                    })
+                    .sorted(Comparator.comparing((Path file) -> file.getFileName().toString().length())
+                            .thenComparing(file -> file.getFileName().toString()))
+                    .toList();
+        }
+    }
+
+    private CatalogSnapshotResponse findExisting() {
+        try {
+            List<Path> snapshots = list();
+            for (int i = snapshots.size() - 1; i >= 0; i--) {
+                try {
+                    return describe(snapshots.get(i));
+                } catch (IOException e) {
+                    log.warn("Ignoring unreadable catalog snapshot {}: {}", snapshots.get(i), e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not list catalog snapshots in {}: {}", properties.getDirectory(), e.getMessage());
+        }
+        return null;
+    }
+
+    private static CatalogSnapshotResponse describe(Path file) throws IOException {
+        CatalogSnapshot snapshot = CatalogSnapshot.open(file);
+        return CatalogSnapshotResponse.builder()
+                .fileName(file.getFileName().toString())
+                .formatVersion(snapshot.formatVersion())
+                .skus(snapshot.size())
+                .upcs(snapshot.upcCount())
+                .bytes(Files.size(file))
+                .catalogVersion(snapshot.catalogVersion())
+                .contentId(snapshot.contentId())
+                .createdAt(snapshot.createdAt())
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        generator.shutdownNow();
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(ResultSet rs) throws IOException, SQLException;
+    }
+}
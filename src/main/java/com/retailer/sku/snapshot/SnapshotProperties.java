@@ -0,0 +1,22 @@
+package com.retailer.sku.snapshot;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "sku.snapshot")
+public class SnapshotProperties {
+
+    private boolean enabled = true;
+
+    private Path directory = Path.of("snapshots");
+
+    private Duration interval = Duration.ofHours(6);
+
+    private int retained = 3;
+
+    private int fetchSize = 10_000;
+}
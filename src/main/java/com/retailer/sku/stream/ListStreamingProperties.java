@@ -0,0 +1,12 @@
+package com.retailer.sku.stream;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "sku.list-streaming")
+public class ListStreamingProperties {
+
+    // Rows the driver pulls per round trip; without it the Postgres driver buffers the whole result
+    private int fetchSize = 500;
+}
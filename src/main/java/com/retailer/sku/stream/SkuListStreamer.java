@@ -0,0 +1,160 @@
+package com.retailer.sku.stream;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.retailer.sku.bulkhead.Bulkhead;
+import com.retailer.sku.bulkhead.Workload;
+import com.retailer.sku.model.dto.SkuSearchCriteria;
+import com.retailer.sku.model.entity.Sku;
+import com.retailer.sku.repository.PromotedAttributeProperties;
+import com.retailer.sku.repository.SkuSpecifications;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Writes a page of SKUs as JSON straight from a projection of the columns a list row needs, without entities,
+ * DTOs or a page object in between. The filter is {@code SkuSpecifications.withSearchCriteria} itself, so both
+ * list paths always match the same rows. Rows carry the same fields as {@code SkuResponse}; the envelope only
+ * says which page this is and whether another follows, so no count query runs.
+ */
+@Component
+@EnableConfigurationProperties(ListStreamingProperties.class)
+public class SkuListStreamer {
+
+    // Selected in this order and written under the same names as the SkuResponse fields they feed; the
+    // embedded dimensions are selected as one column per part
+    private static final List<String> FIELDS = List.of("id", "skuCode", "upc", "name", "description", "brand",
+            "category", "subcategory", "price", "cost", "unitOfMeasure", "quantityPerUnit", "weight", "dimensions",
+            "status", "tags", "attributes", "createdAt", "updatedAt", "version");
+    private static final String DIMENSIONS = "dimensions";
+    private static final List<String> DIMENSION_PARTS = List.of("length", "width", "height");
+
+    private final ListStreamingProperties properties;
+    private final PromotedAttributeProperties promotedAttributeProperties;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public SkuListStreamer(ListStreamingProperties properties, PromotedAttributeProperties promotedAttributeProperties,
+                           EntityManager entityManager, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.promotedAttributeProperties = promotedAttributeProperties;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Streams the page to {@code out} on the calling thread, which must own {@code out}. The connection is held
+     * until the last row is written, so a slow reader keeps its search bulkhead permit for as long; once the
+     * first bytes are sent a failure can only abort the response, not turn it into an error status.
+     */
+    @Bulkhead(value = Workload.SEARCH, inline = true)
+    @Transactional(readOnly = true, timeoutString = "${sku.query-budgets.search:5}")
+    public void search(SkuSearchCriteria criteria, Pageable pageable, OutputStream out) throws IOException {
+        CriteriaQuery<Object[]> query = query(criteria, pageable);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+             Stream<Object[]> rows = entityManager.createQuery(query)
+                     .setFirstResult(Math.toIntExact(pageable.getOffset()))
+                     // The extra row only answers hasNext
+                     .setMaxResults(pageable.getPageSize() + 1)
+                     .setHint(HibernateHints.HINT_FETCH_SIZE, properties.getFetchSize())
+                     .setHint(HibernateHints.HINT_READ_ONLY, true)
+                     .getResultStream()) {
+            generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            // A response cut short by a failure must not be completed into valid JSON on close
+            generator.configure(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT, false);
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("items");
+
+            int written = 0;
+            Iterator<Object[]> iterator = rows.iterator();
+            while (written < pageable.getPageSize() && iterator.hasNext()) {
+                writeRow(generator, iterator.next());
+                written++;
+            }
+            boolean hasNext = iterator.hasNext();
+
+            generator.writeEndArray();
+            generator.writeNumberField("page", pageable.getPageNumber());
+            generator.writeNumberField("size", pageable.getPageSize());
+            generator.writeNumberField("numberOfElements", written);
+            generator.writeBooleanField("hasNext", hasNext);
+            generator.writeEndObject();
+        }
+    }
+
+    private CriteriaQuery<Object[]> query(SkuSearchCriteria criteria, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = criteriaBuilder.createQuery(Object[].class);
+        Root<Sku> root = query.from(Sku.class);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String field : FIELDS) {
+            if (field.equals(DIMENSIONS)) {
+                DIMENSION_PARTS.forEach(part -> selections.add(root.get(DIMENSIONS).get(part)));
+            } else {
+                selections.add(root.get(field));
+            }
+        }
+        query.multiselect(selections);
+        query.where(SkuSpecifications.withSearchCriteria(criteria, promotedAttributeProperties.getPromotedAttributes())
+                .toPredicate(root, query, criteriaBuilder));
+
+        // Unknown properties fail in root.get, which surfaces as a bad request
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : pageable.getSort()) {
+            orders.add(order.isAscending()
+                    ? criteriaBuilder.asc(root.get(order.getProperty()))
+                    : criteriaBuilder.desc(root.get(order.getProperty())));
+        }
+        // Ties broken by id so consecutive pages neither repeat nor skip rows
+        orders.add(criteriaBuilder.asc(root.get("id")));
+        query.orderBy(orders);
+        return query;
+    }
+
+    // Values are written by the same ObjectMapper that serializes SkuResponse, so both list paths agree on format
+    private static void writeRow(JsonGenerator generator, Object[] row) throws IOException {
+        generator.writeStartObject();
+        int column = 0;
+        for (String field : FIELDS) {
+            if (field.equals(DIMENSIONS)) {
+                writeDimensions(generator, row, column);
+                column += DIMENSION_PARTS.size();
+            } else {
+                generator.writeObjectField(field, row[column++]);
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    // An embedded value with every column null loads as null, as it does for the entity
+    private static void writeDimensions(JsonGenerator generator, Object[] row, int from) throws IOException {
+        if (row[from] == null && row[from + 1] == null && row[from + 2] == null) {
+            generator.writeNullField(DIMENSIONS);
+            return;
+        }
+        generator.writeObjectFieldStart(DIMENSIONS);
+        for (int i = 0; i < DIMENSION_PARTS.size(); i++) {
+            generator.writeObjectField(DIMENSION_PARTS.get(i), row[from + i]);
+        }
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,337 @@
+package com.retailer.sku.suggest;
+
+import com.retailer.sku.bulkhead.Workload;
+import com.retailer.sku.bulkhead.WorkloadRoutingDataSource;
+import com.retailer.sku.model.dto.SkuSuggestion;
+import com.retailer.sku.model.entity.Sku;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Type-ahead suggestions from an in-memory prefix index, rebuilt on an interval. Writes made by this instance
+ * are applied when they commit; writes made anywhere else are picked up by polling skus.updated_at, so a rename
+ * or discontinued SKU can keep being suggested for at most the sync interval. If syncing stops succeeding,
+ * suggestions fall behind until it recovers or the next rebuild.
+ */
+@Component
+@Slf4j
+@EnableConfigurationProperties(SuggestProperties.class)
+public class SkuSuggestIndex {
+
+    private static final String SUGGEST_COLUMNS = "id, name, sku_code, brand, status";
+
+    private static final Comparator<SuggestIndex.Hit> RANKING = Comparator
+            .comparingLong(SuggestIndex.Hit::weight).reversed()
+            .thenComparing(SuggestIndex.Hit::text, String.CASE_INSENSITIVE_ORDER);
+
+    record PendingSku(UUID id, String name, String skuCode, String brand, boolean active, long recordedAt) {
+
+        boolean sameAs(String name, String skuCode, String brand, boolean active) {
+            return Objects.equals(this.name, name) && Objects.equals(this.skuCode, skuCode)
+                    && Objects.equals(this.brand, brand) && this.active == active;
+        }
+
+        Set<String> keys() {
+            Set<String> keys = new HashSet<>();
+            if (active) {
+                SuggestIndex.addKeys(name, keys);
+                SuggestIndex.addKeys(skuCode, keys);
+                SuggestIndex.addKeys(brand, keys);
+            }
+            return keys;
+        }
+    }
+
+    private final SuggestProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService rebuildExecutor;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+
+    // Writes since the last rebuild; they shadow the indexed version of the same SKU (writers hold this)
+    private final Map<UUID, PendingSku> pending = new ConcurrentHashMap<>();
+    // Active pending SKUs by prefix key, so a lookup only checks the few that can match
+    private final Map<String, Set<UUID>> pendingByKey = new ConcurrentHashMap<>();
+    private volatile SuggestIndex index = SuggestIndex.EMPTY;
+    // Database time up to which skus changes are known to be in the index or pending
+    private volatile Timestamp syncedThrough;
+
+    public SkuSuggestIndex(SuggestProperties properties, JdbcTemplate jdbcTemplate,
+                           TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sku-suggest-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("sku.suggest.skus", this, suggestIndex -> suggestIndex.index.skuCount())
+                .description("SKUs in the suggest index")
+                .register(meterRegistry);
+        Gauge.builder("sku.suggest.entries", this, suggestIndex -> suggestIndex.index.entryCount())
+                .description("Word-prefix entries in the suggest index")
+                .register(meterRegistry);
+        Gauge.builder("sku.suggest.pending", pending, Map::size)
+                .description("SKU writes not yet folded into the suggest index")
+                .register(meterRegistry);
+    }
+
+    public List<SkuSuggestion> suggest(String prefix, Integer limit) {
+        String normalized = SuggestIndex.normalize(prefix);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        int size = limit == null ? properties.getDefaultLimit() : Math.max(1, Math.min(limit, properties.getMaxLimit()));
+
+        SuggestIndex current = index;
+        List<SuggestIndex.Hit> hits = new ArrayList<>(current.lookup(normalized, size,
+                sku -> !pending.isEmpty() && pending.containsKey(current.id(sku))));
+        if (!pending.isEmpty()) {
+            addPendingHits(normalized, hits);
+        }
+        return hits.stream()
+                .sorted(RANKING)
+                .limit(size)
+                .map(SkuSuggestIndex::toSuggestion)
+                .toList();
+    }
+
+    public void update(Sku sku) {
+        if (!properties.isEnabled() || sku.getId() == null) {
+            return;
+        }
+        UUID id = sku.getId();
+        String name = sku.getName();
+        String skuCode = sku.getSkuCode();
+        String brand = sku.getBrand();
+        boolean active = !"DISCONTINUED".equals(sku.getStatus());
+        // Only committed writes become visible to suggestions
+        afterCommit(() -> apply(id, name, skuCode, brand, active));
+    }
+
+    /**
+     * Reloads the suggest fields of SKUs changed by set-based updates, which never materialize the entities.
+     */
+    public void refresh(Collection<UUID> ids) {
+        if (!properties.isEnabled() || ids.isEmpty()) {
+            return;
+        }
+        // Read inside the writing transaction so the changed rows are visible; apply only once they commit
+        Object[] keys = ids.toArray();
+        List<Runnable> writes = new ArrayList<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "SELECT " + SUGGEST_COLUMNS + " FROM skus WHERE id = ANY(?)");
+            statement.setArray(1, connection.createArrayOf("uuid", keys));
+            return statement;
+        }, (ResultSet rs) -> {
+            UUID id = rs.getObject(1, UUID.class);
+            String name = rs.getString(2);
+            String skuCode = rs.getString(3);
+            String brand = rs.getString(4);
+            boolean active = !"DISCONTINUED".equals(rs.getString(5));
+            writes.add(() -> apply(id, name, skuCode, brand, active));
+        });
+        afterCommit(() -> writes.forEach(Runnable::run));
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${sku.suggest.rebuild-interval:PT15M}")
+    public void rebuild() {
+        if (!properties.isEnabled() || !rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            WorkloadRoutingDataSource.runWith(Workload.MAINTENANCE, this::rebuildIndex);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private void rebuildIndex() {
+        long started = System.nanoTime();
+        Timestamp scanStarted = jdbcTemplate.queryForObject("SELECT now()", Timestamp.class);
+        SuggestIndex.Builder builder = new SuggestIndex.Builder();
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement("""
+                            SELECT s.id, s.name, s.sku_code, s.brand, COALESCE(h.hits, 0)
+                            FROM skus s LEFT JOIN sku_hot_keys h ON h.sku_id = s.id
+                            WHERE s.status <> 'DISCONTINUED'
+                            """,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(properties.getFetchSize());
+            return statement;
+        }, (ResultSet rs) -> {
+            builder.addSku(rs.getObject(1, UUID.class), rs.getString(2), rs.getString(3), rs.getString(4),
+                    rs.getLong(5));
+        }));
+        SuggestIndex rebuilt = builder.build();
+        index = rebuilt;
+
+        // Writes committed before the scan started are in the snapshot; later ones stay pending.
+        synchronized (this) {
+            for (Iterator<PendingSku> skus = pending.values().iterator(); skus.hasNext(); ) {
+                PendingSku sku = skus.next();
+                if (sku.recordedAt() - started < 0) {
+                    skus.remove();
+                    removeKeys(sku, Set.of());
+                }
+            }
+        }
+        if (syncedThrough == null || scanStarted.after(syncedThrough)) {
+            syncedThrough = scanStarted;
+        }
+
+        log.info("Rebuilt SKU suggest index with {} SKUs and {} entries in {} ms",
+                rebuilt.skuCount(), rebuilt.entryCount(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Picks up SKU writes committed since the last sync by any instance. Rows are stamped when their transaction
+     * writes them but only become visible when it commits, so each poll looks back by the sync overlap as well.
+     */
+    @Scheduled(initialDelayString = "${sku.suggest.sync-interval:PT5S}",
+            fixedDelayString = "${sku.suggest.sync-interval:PT5S}")
+    public void sync() {
+        Timestamp from = syncedThrough;
+        if (properties.isEnabled() && from != null) {
+            WorkloadRoutingDataSource.runWith(Workload.MAINTENANCE, () -> syncFrom(from));
+        }
+    }
+
+    private void syncFrom(Timestamp from) {
+        Timestamp polledAt = jdbcTemplate.queryForObject("SELECT now()", Timestamp.class);
+        Timestamp since = new Timestamp(from.getTime() - properties.getSyncOverlap().toMillis());
+        jdbcTemplate.query("SELECT " + SUGGEST_COLUMNS + " FROM skus WHERE updated_at > ?", (ResultSet rs) -> {
+            UUID id = rs.getObject(1, UUID.class);
+            String name = rs.getString(2);
+            String skuCode = rs.getString(3);
+            String brand = rs.getString(4);
+            boolean active = !"DISCONTINUED".equals(rs.getString(5));
+            // A row stays in the poll window for the whole overlap; an unchanged one must not stay pending longer
+            PendingSku current = pending.get(id);
+            if (current == null || !current.sameAs(name, skuCode, brand, active)) {
+                apply(id, name, skuCode, brand, active);
+            }
+        }, since);
+        syncedThrough = polledAt;
+    }
+
+    private void apply(UUID id, String name, String skuCode, String brand, boolean active) {
+        PendingSku sku = new PendingSku(id, name, skuCode, brand, active, System.nanoTime());
+        synchronized (this) {
+            PendingSku previous = pending.put(id, sku);
+            Set<String> keys = sku.keys();
+            keys.forEach(key -> pendingByKey.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(id));
+            if (previous != null) {
+                removeKeys(previous, keys);
+            }
+        }
+        if (pending.size() > properties.getMaxPendingUpdates() && rebuildQueued.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                rebuildQueued.set(false);
+                if (pending.size() > properties.getMaxPendingUpdates()) {
+                    rebuild();
+                }
+            });
+        }
+    }
+
+    // Caller holds this
+    private void removeKeys(PendingSku sku, Set<String> kept) {
+        for (String key : sku.keys()) {
+            if (!kept.contains(key)) {
+                pendingByKey.computeIfPresent(key, (k, ids) -> ids.remove(sku.id()) && ids.isEmpty() ? null : ids);
+            }
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void addPendingHits(String prefix, List<SuggestIndex.Hit> hits) {
+        Set<String> brands = new HashSet<>();
+        for (SuggestIndex.Hit hit : hits) {
+            if (hit.kind() == SuggestIndex.BRAND) {
+                brands.add(hit.text().toLowerCase(Locale.ROOT));
+            }
+        }
+        Set<UUID> candidates = pendingByKey.get(SuggestIndex.key(prefix));
+        if (candidates == null) {
+            return;
+        }
+        for (UUID id : candidates) {
+            PendingSku sku = pending.get(id);
+            if (sku == null || !sku.active()) {
+                continue;
+            }
+            if (SuggestIndex.matches(sku.name(), prefix)) {
+                hits.add(new SuggestIndex.Hit(SuggestIndex.NAME, sku.name(), sku.id(), sku.skuCode(), 0));
+            } else if (SuggestIndex.matches(sku.skuCode(), prefix)) {
+                hits.add(new SuggestIndex.Hit(SuggestIndex.SKU_CODE, sku.skuCode(), sku.id(), sku.skuCode(), 0));
+            }
+            if (SuggestIndex.matches(sku.brand(), prefix) && brands.add(sku.brand().strip().toLowerCase(Locale.ROOT))) {
+                hits.add(new SuggestIndex.Hit(SuggestIndex.BRAND, sku.brand().strip(), null, null, 0));
+            }
+        }
+    }
+
+    private static SkuSuggestion toSuggestion(SuggestIndex.Hit hit) {
+        return SkuSuggestion.builder()
+                .type(switch (hit.kind()) {
+                    case SuggestIndex.BRAND -> SkuSuggestion.BRAND;
+                    case SuggestIndex.SKU_CODE -> SkuSuggestion.SKU_CODE;
+                    default -> SkuSuggestion.NAME;
+                })
+                .text(hit.text())
+                .id(hit.id())
+                .skuCode(hit.skuCode())
+                .score(hit.weight())
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+}
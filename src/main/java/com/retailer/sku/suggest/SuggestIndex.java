@@ -0,0 +1,482 @@
+package com.retailer.sku.suggest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.IntPredicate;
+
+/**
+ * Immutable prefix index over SKU names, SKU codes and brands. Texts live in one UTF-8 pool; every word start
+ * of a text is an entry (text id and byte offset packed into a long), sorted by the case-folded suffix, so a
+ * prefix maps to one contiguous entry range. A max-tree over blocks of entries finds the heaviest matches in
+ * a range without scanning all of it.
+ */
+final class SuggestIndex {
+
+    static final byte NAME = 0;
+    static final byte SKU_CODE = 1;
+    static final byte BRAND = 2;
+
+    static final SuggestIndex EMPTY = new Builder().build();
+
+    private static final int BLOCK = 64;
+    private static final int KEY_BYTES = 3;
+
+    record Hit(byte kind, String text, UUID id, String skuCode, long weight) {
+    }
+
+    private final byte[] pool;
+    private final int[] offsets;
+    private final byte[] kinds;
+    private final int[] owners;
+    private final long[] weights;
+    private final long[] idMost;
+    private final long[] idLeast;
+    private final int[] codeTexts;
+    private final long[] entries;
+    private final long[] blockMax;
+    private final int leaves;
+
+    private SuggestIndex(Builder builder) {
+        this.pool = Arrays.copyOf(builder.pool, builder.poolSize);
+        this.offsets = Arrays.copyOf(builder.offsets, builder.texts + 1);
+        this.kinds = Arrays.copyOf(builder.kinds, builder.texts);
+        this.owners = Arrays.copyOf(builder.owners, builder.texts);
+        this.weights = Arrays.copyOf(builder.weights, builder.texts);
+        this.idMost = Arrays.copyOf(builder.idMost, builder.skus);
+        this.idLeast = Arrays.copyOf(builder.idLeast, builder.skus);
+        this.codeTexts = Arrays.copyOf(builder.codeTexts, builder.skus);
+        this.entries = sortEntries(builder.entries, builder.entryCount);
+
+        int blocks = (entries.length + BLOCK - 1) / BLOCK;
+        this.leaves = Integer.highestOneBit(Math.max(1, blocks - 1)) << 1;
+        this.blockMax = new long[2 * leaves];
+        Arrays.fill(blockMax, -1);
+        for (int i = 0; i < entries.length; i++) {
+            int leaf = leaves + i / BLOCK;
+            blockMax[leaf] = Math.max(blockMax[leaf], weight(entries[i]));
+        }
+        for (int node = leaves - 1; node > 0; node--) {
+            blockMax[node] = Math.max(blockMax[2 * node], blockMax[2 * node + 1]);
+        }
+    }
+
+    int skuCount() {
+        return idMost.length;
+    }
+
+    int entryCount() {
+        return entries.length;
+    }
+
+    UUID id(int sku) {
+        return new UUID(idMost[sku], idLeast[sku]);
+    }
+
+    /**
+     * Heaviest texts with a word starting with {@code prefix}, at most one per SKU or brand. SKUs rejected by
+     * {@code skipSku} are ignored.
+     */
+    List<Hit> lookup(String prefix, int limit, IntPredicate skipSku) {
+        byte[] folded = fold(prefix);
+        int lo = bound(folded, false);
+        int hi = bound(folded, true);
+        if (lo >= hi || limit <= 0) {
+            return List.of();
+        }
+
+        TopK top = new TopK(limit, skipSku);
+        int firstFull = (lo + BLOCK - 1) / BLOCK;
+        int lastFull = hi / BLOCK;
+        if (firstFull >= lastFull) {
+            top.scan(lo, hi);
+        } else {
+            top.scan(lo, firstFull * BLOCK);
+            top.scan(lastFull * BLOCK, hi);
+            PriorityQueue<Integer> nodes = new PriorityQueue<>((a, b) -> Long.compare(blockMax[b], blockMax[a]));
+            collectNodes(1, 0, leaves, firstFull, lastFull, nodes);
+            while (!nodes.isEmpty()) {
+                int node = nodes.poll();
+                if (blockMax[node] < 0 || !top.accepts(blockMax[node])) {
+                    break;
+                }
+                if (node >= leaves) {
+                    int block = node - leaves;
+                    top.scan(block * BLOCK, Math.min(entries.length, (block + 1) * BLOCK));
+                } else {
+                    nodes.add(2 * node);
+                    nodes.add(2 * node + 1);
+                }
+            }
+        }
+        return top.hits();
+    }
+
+    static boolean matches(String text, String prefix) {
+        if (text == null) {
+            return false;
+        }
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        byte[] folded = fold(prefix);
+        for (int start = 0; start < bytes.length; start++) {
+            if (isWordStart(bytes, 0, start) && startsWith(bytes, start, bytes.length, folded)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds the keys a text is found under outside the index: the first one to three folded bytes at each of its
+     * word starts. Every prefix {@link #matches} accepts has its {@link #key} among them.
+     */
+    static void addKeys(String text, Set<String> keys) {
+        if (text == null) {
+            return;
+        }
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        for (int start = 0; start < bytes.length; start++) {
+            if (isWordStart(bytes, 0, start)) {
+                byte[] key = new byte[Math.min(KEY_BYTES, bytes.length - start)];
+                for (int i = 0; i < key.length; i++) {
+                    key[i] = (byte) fold(bytes[start + i]);
+                    keys.add(new String(key, 0, i + 1, StandardCharsets.ISO_8859_1));
+                }
+            }
+        }
+    }
+
+    static String key(String prefix) {
+        byte[] folded = fold(prefix);
+        return new String(folded, 0, Math.min(KEY_BYTES, folded.length), StandardCharsets.ISO_8859_1);
+    }
+
+    // Case folding is ASCII only, the same rule the sorted entries use
+    static String normalize(String prefix) {
+        return prefix.strip().replaceAll("\\s+", " ");
+    }
+
+    private void collectNodes(int node, int from, int to, int lo, int hi, PriorityQueue<Integer> nodes) {
+        if (hi <= from || to <= lo) {
+            return;
+        }
+        if (lo <= from && to <= hi) {
+            nodes.add(node);
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        collectNodes(2 * node, from, mid, lo, hi, nodes);
+        collectNodes(2 * node + 1, mid, to, lo, hi, nodes);
+    }
+
+    private int bound(byte[] prefix, boolean upper) {
+        int lo = 0;
+        int hi = entries.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int cmp = comparePrefix(entries[mid], prefix);
+            if (cmp < 0 || (upper && cmp == 0)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private int comparePrefix(long entry, byte[] prefix) {
+        int text = text(entry);
+        int position = offsets[text] + offset(entry);
+        int end = offsets[text + 1];
+        for (int i = 0; i < prefix.length; i++, position++) {
+            if (position == end) {
+                return -1;
+            }
+            int cmp = fold(pool[position]) - (prefix[i] & 0xff);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return 0;
+    }
+
+    private int compareEntries(long a, long b) {
+        int textA = text(a);
+        int textB = text(b);
+        int i = offsets[textA] + offset(a);
+        int j = offsets[textB] + offset(b);
+        int endA = offsets[textA + 1];
+        int endB = offsets[textB + 1];
+        for (; i < endA && j < endB; i++, j++) {
+            int cmp = fold(pool[i]) - fold(pool[j]);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        int cmp = Integer.compare(endA - i, endB - j);
+        return cmp != 0 ? cmp : Long.compare(a, b);
+    }
+
+    // Primitive sort on the first four folded bytes, then the comparator only orders entries sharing them
+    private long[] sortEntries(long[] unsorted, int count) {
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = ((leadingBytes(unsorted[i]) << 32) | i) ^ Long.MIN_VALUE;
+        }
+        Arrays.sort(keys);
+        long[] sorted = new long[count];
+        for (int i = 0; i < count; i++) {
+            sorted[i] = unsorted[(int) keys[i]];
+        }
+        for (int from = 0; from < count; ) {
+            int to = from + 1;
+            while (to < count && keys[to] >>> 32 == keys[from] >>> 32) {
+                to++;
+            }
+            if (to - from > 1) {
+                sort(sorted, from, to - 1);
+            }
+            from = to;
+        }
+        return sorted;
+    }
+
+    private long leadingBytes(long entry) {
+        int text = text(entry);
+        int position = offsets[text] + offset(entry);
+        int end = offsets[text + 1];
+        long bytes = 0;
+        for (int i = 0; i < 4; i++, position++) {
+            bytes = (bytes << 8) | (position < end ? fold(pool[position]) : 0);
+        }
+        return bytes;
+    }
+
+    private void sort(long[] values, int from, int to) {
+        while (to - from > 16) {
+            long pivot = values[(from + to) >>> 1];
+            int i = from;
+            int j = to;
+            while (i <= j) {
+                while (compareEntries(values[i], pivot) < 0) {
+                    i++;
+                }
+                while (compareEntries(values[j], pivot) > 0) {
+                    j--;
+                }
+                if (i <= j) {
+                    long swap = values[i];
+                    values[i++] = values[j];
+                    values[j--] = swap;
+                }
+            }
+            // Recurse into the smaller side to bound the stack depth
+            if (j - from < to - i) {
+                sort(values, from, j);
+                from = i;
+            } else {
+                sort(values, i, to);
+                to = j;
+            }
+        }
+        for (int i = from + 1; i <= to; i++) {
+            long value = values[i];
+            int j = i - 1;
+            while (j >= from && compareEntries(values[j], value) > 0) {
+                values[j + 1] = values[j];
+                j--;
+            }
+            values[j + 1] = value;
+        }
+    }
+
+    private long weight(long entry) {
+        return weights[text(entry)];
+    }
+
+    private String text(int text) {
+        return new String(pool, offsets[text], offsets[text + 1] - offsets[text], StandardCharsets.UTF_8);
+    }
+
+    private Hit hit(int text) {
+        int owner = owners[text];
+        if (owner < 0) {
+            return new Hit(BRAND, text(text), null, null, weights[text]);
+        }
+        return new Hit(kinds[text], text(text), id(owner), text(codeTexts[owner]), weights[text]);
+    }
+
+    private static int text(long entry) {
+        return (int) (entry >>> 16);
+    }
+
+    private static int offset(long entry) {
+        return (int) (entry & 0xffff);
+    }
+
+    private static int fold(byte value) {
+        return value >= 'A' && value <= 'Z' ? value + ('a' - 'A') : value & 0xff;
+    }
+
+    private static byte[] fold(String prefix) {
+        byte[] bytes = normalize(prefix).getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) fold(bytes[i]);
+        }
+        return bytes;
+    }
+
+    private static boolean startsWith(byte[] bytes, int from, int end, byte[] folded) {
+        if (end - from < folded.length) {
+            return false;
+        }
+        for (int i = 0; i < folded.length; i++) {
+            if (fold(bytes[from + i]) != (folded[i] & 0xff)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWordStart(byte[] bytes, int textStart, int position) {
+        if (position == textStart) {
+            return true;
+        }
+        return isWordByte(bytes[position]) && !isWordByte(bytes[position - 1]);
+    }
+
+    private static boolean isWordByte(byte value) {
+        return value < 0 || Character.isLetterOrDigit(value);
+    }
+
+    private final class TopK {
+
+        private final int limit;
+        private final IntPredicate skipSku;
+        private final Map<Integer, Integer> byTarget = new HashMap<>();
+        private final PriorityQueue<Integer> heap = new PriorityQueue<>((a, b) -> Long.compare(weights[a], weights[b]));
+
+        TopK(int limit, IntPredicate skipSku) {
+            this.limit = limit;
+            this.skipSku = skipSku;
+        }
+
+        // Ties go to the match found first, so equally weighted blocks are not all scanned
+        boolean accepts(long weight) {
+            return heap.size() < limit || weight > weights[heap.peek()];
+        }
+
+        void scan(int from, int to) {
+            for (int i = from; i < to; i++) {
+                int text = text(entries[i]);
+                int owner = owners[text];
+                if (!accepts(weights[text]) || (owner >= 0 && skipSku.test(owner))) {
+                    continue;
+                }
+                // SKUs are keyed by slot, brands by text id
+                int target = owner >= 0 ? owner : -1 - text;
+                if (byTarget.putIfAbsent(target, text) != null) {
+                    continue;
+                }
+                heap.add(text);
+                if (heap.size() > limit) {
+                    int evicted = heap.poll();
+                    byTarget.remove(owners[evicted] >= 0 ? owners[evicted] : -1 - evicted);
+                }
+            }
+        }
+
+        List<Hit> hits() {
+            List<Hit> hits = new ArrayList<>(heap.size());
+            for (int text : heap) {
+                hits.add(hit(text));
+            }
+            return hits;
+        }
+    }
+
+    static final class Builder {
+
+        private byte[] pool = new byte[1024];
+        private int poolSize;
+        private int[] offsets = new int[65];
+        private byte[] kinds = new byte[64];
+        private int[] owners = new int[64];
+        private long[] weights = new long[64];
+        private int texts;
+        private long[] idMost = new long[32];
+        private long[] idLeast = new long[32];
+        private int[] codeTexts = new int[32];
+        private int skus;
+        private long[] entries = new long[256];
+        private int entryCount;
+        private final Map<String, Integer> brands = new HashMap<>();
+
+        Builder addSku(UUID id, String name, String skuCode, String brand, long weight) {
+            if (skus == idMost.length) {
+                idMost = Arrays.copyOf(idMost, skus * 2);
+                idLeast = Arrays.copyOf(idLeast, skus * 2);
+                codeTexts = Arrays.copyOf(codeTexts, skus * 2);
+            }
+            int sku = skus++;
+            idMost[sku] = id.getMostSignificantBits();
+            idLeast[sku] = id.getLeastSignificantBits();
+            if (name != null && !name.isBlank()) {
+                addText(name, NAME, sku, weight);
+            }
+            codeTexts[sku] = addText(skuCode, SKU_CODE, sku, weight);
+            if (brand != null && !brand.isBlank()) {
+                String key = normalize(brand).toLowerCase(Locale.ROOT);
+                Integer text = brands.get(key);
+                if (text == null) {
+                    brands.put(key, addText(brand.strip(), BRAND, -1, weight));
+                } else {
+                    weights[text] += weight;
+                }
+            }
+            return this;
+        }
+
+        SuggestIndex build() {
+            return new SuggestIndex(this);
+        }
+
+        private int addText(String value, byte kind, int owner, long weight) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            int length = Math.min(bytes.length, 0xffff);
+            if (texts == kinds.length) {
+                kinds = Arrays.copyOf(kinds, texts * 2);
+                owners = Arrays.copyOf(owners, texts * 2);
+                weights = Arrays.copyOf(weights, texts * 2);
+                offsets = Arrays.copyOf(offsets, texts * 2 + 1);
+            }
+            if (poolSize + length > pool.length) {
+                pool = Arrays.copyOf(pool, Math.max(pool.length * 2, poolSize + length));
+            }
+            System.arraycopy(bytes, 0, pool, poolSize, length);
+            int text = texts++;
+            kinds[text] = kind;
+            owners[text] = owner;
+            weights[text] = weight;
+            offsets[text] = poolSize;
+            for (int i = 0; i < length; i++) {
+                if (isWordStart(pool, poolSize, poolSize + i)) {
+                    if (entryCount == entries.length) {
+                        entries = Arrays.copyOf(entries, entryCount * 2);
+                    }
+                    entries[entryCount++] = ((long) text << 16) | i;
+                }
+            }
+            poolSize += length;
+            offsets[texts] = poolSize;
+            return text;
+        }
+    }
+}
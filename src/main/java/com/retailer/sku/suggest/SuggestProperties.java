@@ -0,0 +1,30 @@
+package com.retailer.sku.suggest;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "sku.suggest")
+public class SuggestProperties {
+
+    private boolean enabled = true;
+
+    private int defaultLimit = 10;
+
+    private int maxLimit = 50;
+
+    private Duration rebuildInterval = Duration.ofMinutes(15);
+
+    // Longest a write committed by another instance is suggested stale
+    private Duration syncInterval = Duration.ofSeconds(5);
+
+    // updated_at is stamped by the writer's clock, so this must exceed the longest write transaction plus the
+    // clock skew between instances
+    private Duration syncOverlap = Duration.ofSeconds(30);
+
+    private int maxPendingUpdates = 5000;
+
+    private int fetchSize = 10_000;
+}
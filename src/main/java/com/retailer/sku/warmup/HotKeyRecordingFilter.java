@@ -0,0 +1,46 @@
+package com.retailer.sku.warmup;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+@RequiredArgsConstructor
+public class HotKeyRecordingFilter extends OncePerRequestFilter {
+
+    static final String WARMUP_HEADER = "X-Warmup";
+
+    private static final Pattern SKU_BY_ID = Pattern.compile(
+            "^/api/v1/skus/([0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12})$");
+
+    private final HotKeyStore hotKeyStore;
+    private final WarmupProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || !HttpMethod.GET.matches(request.getMethod())
+                || request.getHeader(WARMUP_HEADER) != null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        chain.doFilter(request, response);
+
+        Matcher matcher = SKU_BY_ID.matcher(request.getRequestURI());
+        if (matcher.matches() && response.getStatus() == HttpServletResponse.SC_OK) {
+            hotKeyStore.record(UUID.fromString(matcher.group(1)));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.retailer.sku.warmup;
+
+import com.retailer.sku.bulkhead.Workload;
+import com.retailer.sku.bulkhead.WorkloadRoutingDataSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+@Slf4j
+@EnableConfigurationProperties(WarmupProperties.class)
+public class HotKeyStore {
+
+    private final WarmupProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile ConcurrentHashMap<UUID, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public HotKeyStore(WarmupProperties properties, JdbcTemplate jdbcTemplate) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void record(UUID id) {
+        ConcurrentHashMap<UUID, LongAdder> current = pending;
+        LongAdder hits = current.get(id);
+        if (hits == null) {
+            if (current.size() >= properties.getMaxTrackedKeys()) {
+                return;
+            }
+            hits = current.computeIfAbsent(id, key -> new LongAdder());
+        }
+        hits.increment();
+    }
+
+    public List<UUID> topKeys(int limit) {
+        Instant since = Instant.now().minus(properties.getHotKeyRetention());
+        return WorkloadRoutingDataSource.callWith(Workload.MAINTENANCE, () -> jdbcTemplate.queryForList("""
+                SELECT h.sku_id FROM sku_hot_keys h
+                JOIN skus s ON s.id = h.sku_id
+                WHERE h.last_requested_at >= ?
+                ORDER BY h.hits DESC
+                LIMIT ?
+                """, UUID.class, Timestamp.from(since), limit));
+    }
+
+    @Scheduled(initialDelayString = "${sku.warmup.hot-key-flush-interval:PT1M}",
+            fixedDelayString = "${sku.warmup.hot-key-flush-interval:PT1M}")
+    public void flush() {
+        Map<UUID, LongAdder> drained = pending;
+        pending = new ConcurrentHashMap<>();
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = new ArrayList<>(drained.size());
+        drained.forEach((id, hits) -> rows.add(new Object[]{id, hits.sum()}));
+        WorkloadRoutingDataSource.runWith(Workload.MAINTENANCE, () -> write(rows));
+    }
+
+    private void write(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO sku_hot_keys (sku_id, hits, last_requested_at) VALUES (?, ?, NOW())
+                ON CONFLICT (sku_id) DO UPDATE
+                SET hits = sku_hot_keys.hits + EXCLUDED.hits, last_requested_at = EXCLUDED.last_requested_at
+                """, rows);
+        int pruned = jdbcTemplate.update("DELETE FROM sku_hot_keys WHERE last_requested_at < ?",
+                Timestamp.from(Instant.now().minus(properties.getHotKeyRetention())));
+
+        log.debug("Flushed {} hot keys, pruned {}", rows.size(), pruned);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Could not flush hot keys on shutdown: {}", e.getMessage());
+        }
+    }
+}
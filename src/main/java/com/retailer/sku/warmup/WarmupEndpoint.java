@@ -0,0 +1,19 @@
+package com.retailer.sku.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "warmup")
+@RequiredArgsConstructor
+public class WarmupEndpoint {
+
+    private final WarmupRunner warmupRunner;
+
+    @ReadOperation
+    public WarmupRunner.Progress progress() {
+        return warmupRunner.progress();
+    }
+}
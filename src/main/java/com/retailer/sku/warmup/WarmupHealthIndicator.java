@@ -0,0 +1,23 @@
+package com.retailer.sku.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private final WarmupRunner warmupRunner;
+
+    @Override
+    public Health health() {
+        WarmupRunner.Progress progress = warmupRunner.progress();
+        return (progress.ready() ? Health.up() : Health.outOfService())
+                .withDetail("phase", progress.phase())
+                .withDetail("elapsedMillis", progress.elapsedMillis())
+                .withDetail("budgetMillis", progress.budgetMillis())
+                .build();
+    }
+}
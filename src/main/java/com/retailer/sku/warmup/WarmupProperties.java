@@ -0,0 +1,29 @@
+package com.retailer.sku.warmup;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "sku.warmup")
+public class WarmupProperties {
+
+    private boolean enabled = true;
+
+    private Duration timeBudget = Duration.ofSeconds(90);
+
+    private boolean preopenConnections = true;
+
+    private int hotKeys = 2000;
+
+    private int requestRounds = 500;
+
+    private int concurrency = 4;
+
+    private int maxTrackedKeys = 100_000;
+
+    private Duration hotKeyFlushInterval = Duration.ofMinutes(1);
+
+    private Duration hotKeyRetention = Duration.ofDays(7);
+}
@@ -0,0 +1,273 @@
+package com.retailer.sku.warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.retailer.sku.bulkhead.WorkloadRoutingDataSource;
+import com.retailer.sku.limit.ConcurrencyLimitProperties;
+import com.retailer.sku.limit.RequestPriority;
+import com.retailer.sku.proto.SkuProtobufHttpMessageConverter;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+@Component
+@Slf4j
+public class WarmupRunner {
+
+    public enum Phase {
+        PENDING, CONNECTIONS, HOT_KEYS, REQUEST_MIX, COMPLETED, BUDGET_EXHAUSTED, FAILED, DISABLED
+    }
+
+    public record Progress(Phase phase, boolean ready, Instant startedAt, Instant completedAt,
+                           long elapsedMillis, long budgetMillis, int connectionsOpened,
+                           int hotKeysLoaded, int hotKeysTotal, int requestsSent, int requestsFailed,
+                           int roundsCompleted, int roundsPlanned) {
+    }
+
+    private record Seed(String id, String skuCode, String upc, String category, String term) {
+    }
+
+    private static final String MISSING_UPC = "000000000000";
+
+    private final WarmupProperties properties;
+    private final DataSource dataSource;
+    private final HotKeyStore hotKeyStore;
+    private final RestClient.Builder restClientBuilder;
+    private final ConcurrencyLimitProperties concurrencyLimitProperties;
+
+    private final AtomicInteger connectionsOpened = new AtomicInteger();
+    private final AtomicInteger hotKeysLoaded = new AtomicInteger();
+    private final AtomicInteger requestsSent = new AtomicInteger();
+    private final AtomicInteger requestsFailed = new AtomicInteger();
+    private final AtomicInteger roundsCompleted = new AtomicInteger();
+
+    private volatile Phase phase = Phase.PENDING;
+    private volatile Instant startedAt;
+    private volatile Instant completedAt;
+    private volatile int hotKeysTotal;
+
+    public WarmupRunner(WarmupProperties properties, DataSource dataSource, HotKeyStore hotKeyStore,
+                        RestClient.Builder restClientBuilder, ConcurrencyLimitProperties concurrencyLimitProperties) {
+        this.properties = properties;
+        this.dataSource = dataSource;
+        this.hotKeyStore = hotKeyStore;
+        this.restClientBuilder = restClientBuilder;
+        this.concurrencyLimitProperties = concurrencyLimitProperties;
+    }
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        if (!properties.isEnabled()) {
+            phase = Phase.DISABLED;
+            return;
+        }
+        Integer port = event.getApplicationContext() instanceof WebServerApplicationContext web
+                && web.getWebServer() != null ? web.getWebServer().getPort() : null;
+        Thread thread = new Thread(() -> run(port), "sku-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // The readiness group stays OUT_OF_SERVICE until warmup ends; the time budget caps that even if a phase hangs.
+    public boolean isReady() {
+        return switch (phase) {
+            case COMPLETED, BUDGET_EXHAUSTED, FAILED, DISABLED -> true;
+            case PENDING -> false;
+            default -> budgetExpired();
+        };
+    }
+
+    public Progress progress() {
+        Instant started = startedAt;
+        Instant end = completedAt != null ? completedAt : Instant.now();
+        return new Progress(phase, isReady(), started, completedAt,
+                started != null ? Duration.between(started, end).toMillis() : 0,
+                properties.getTimeBudget().toMillis(), connectionsOpened.get(),
+                hotKeysLoaded.get(), hotKeysTotal, requestsSent.get(), requestsFailed.get(),
+                roundsCompleted.get(), properties.getRequestRounds());
+    }
+
+    void run(Integer port) {
+        startedAt = Instant.now();
+        try {
+            if (properties.isPreopenConnections()) {
+                phase = Phase.CONNECTIONS;
+                preopenConnections();
+            }
+            if (port != null && !budgetExpired()) {
+                RestClient client = restClientBuilder.clone()
+                        .baseUrl("http://localhost:" + port + "/api/v1/skus")
+                        .defaultHeader(HotKeyRecordingFilter.WARMUP_HEADER, "true")
+                        .defaultHeader(concurrencyLimitProperties.getPriorityHeader(), RequestPriority.LOW.name())
+                        .build();
+                phase = Phase.HOT_KEYS;
+                preloadHotKeys(client);
+                phase = Phase.REQUEST_MIX;
+                replayRequestMix(client);
+            }
+            phase = budgetExpired() ? Phase.BUDGET_EXHAUSTED : Phase.COMPLETED;
+        } catch (RuntimeException e) {
+            log.warn("Warmup failed in phase {}: {}", phase, e.getMessage());
+            phase = Phase.FAILED;
+        } finally {
+            completedAt = Instant.now();
+        }
+        log.info("Warmup {} in {} ms: {} connections, {}/{} hot keys, {} requests ({} failed)",
+                phase, Duration.between(startedAt, completedAt).toMillis(), connectionsOpened.get(),
+                hotKeysLoaded.get(), hotKeysTotal, requestsSent.get(), requestsFailed.get());
+    }
+
+    // Borrowing every connection at once forces each pool to its maximum size; they stay idle until idle-timeout.
+    private void preopenConnections() {
+        for (HikariDataSource pool : pools()) {
+            List<Connection> held = new ArrayList<>();
+            try {
+                while (held.size() < pool.getMaximumPoolSize() && !budgetExpired()) {
+                    held.add(pool.getConnection());
+                    connectionsOpened.incrementAndGet();
+                }
+            } catch (SQLException e) {
+                log.warn("Could not pre-open connections for pool {}: {}", pool.getPoolName(), e.getMessage());
+            } finally {
+                for (Connection connection : held) {
+                    try {
+                        connection.close();
+                    } catch (SQLException e) {
+                        log.debug("Failed to return warmup connection", e);
+                    }
+                }
+            }
+        }
+    }
+
+    private List<HikariDataSource> pools() {
+        try {
+            if (dataSource.isWrapperFor(WorkloadRoutingDataSource.class)) {
+                return dataSource.unwrap(WorkloadRoutingDataSource.class).getResolvedDataSources().values().stream()
+                        .filter(HikariDataSource.class::isInstance)
+                        .map(HikariDataSource.class::cast)
+                        .toList();
+            }
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return List.of(dataSource.unwrap(HikariDataSource.class));
+            }
+        } catch (SQLException e) {
+            log.warn("Could not resolve connection pools: {}", e.getMessage());
+        }
+        return List.of();
+    }
+
+    private void preloadHotKeys(RestClient client) {
+        List<UUID> keys = hotKeyStore.topKeys(properties.getHotKeys());
+        hotKeysTotal = keys.size();
+        parallel(keys.size(), index -> {
+            if (send(client, MediaType.APPLICATION_JSON, "/{id}", keys.get(index))) {
+                hotKeysLoaded.incrementAndGet();
+            }
+        });
+    }
+
+    private void replayRequestMix(RestClient client) {
+        List<Seed> seeds = seeds(client);
+        parallel(properties.getRequestRounds(), round -> {
+            send(client, MediaType.APPLICATION_JSON, "?page={page}&size=20", round % 5);
+            send(client, MediaType.APPLICATION_JSON, "/upc/{upc}", MISSING_UPC);
+            if (!seeds.isEmpty()) {
+                Seed seed = seeds.get(round % seeds.size());
+                send(client, MediaType.APPLICATION_JSON, "/{id}", seed.id());
+                send(client, SkuProtobufHttpMessageConverter.PROTOBUF, "/{id}", seed.id());
+                send(client, MediaType.APPLICATION_JSON, "/code/{skuCode}", seed.skuCode());
+                if (seed.upc() != null) {
+                    send(client, MediaType.APPLICATION_JSON, "/upc/{upc}", seed.upc());
+                }
+                send(client, MediaType.APPLICATION_JSON, "?category={category}&status=ACTIVE&size=20",
+                        seed.category());
+                send(client, MediaType.APPLICATION_JSON, "/search?query={query}&category={category}&size=20",
+                        seed.term(), seed.category());
+            }
+            roundsCompleted.incrementAndGet();
+        });
+    }
+
+    private List<Seed> seeds(RestClient client) {
+        JsonNode page = client.get().uri("?size=50").accept(MediaType.APPLICATION_JSON).retrieve().body(JsonNode.class);
+        requestsSent.incrementAndGet();
+        List<Seed> seeds = new ArrayList<>();
+        if (page != null) {
+            for (JsonNode sku : page.path("content")) {
+                String name = sku.path("name").asText("");
+                String term = name.isBlank() ? "a" : name.split("\\s+")[0];
+                seeds.add(new Seed(sku.path("id").asText(), sku.path("skuCode").asText(),
+                        sku.hasNonNull("upc") ? sku.get("upc").asText() : null,
+                        sku.path("category").asText(), term));
+            }
+        }
+        return seeds;
+    }
+
+    private boolean send(RestClient client, MediaType accept, String uri, Object... uriVariables) {
+        if (budgetExpired()) {
+            return false;
+        }
+        requestsSent.incrementAndGet();
+        try {
+            int status = client.get().uri(uri, uriVariables).accept(accept)
+                    .exchange((request, response) -> response.getStatusCode().value());
+            if (status >= 500) {
+                requestsFailed.incrementAndGet();
+            }
+            return status == 200;
+        } catch (RuntimeException e) {
+            requestsFailed.incrementAndGet();
+            log.debug("Warmup request {} failed: {}", uri, e.getMessage());
+            return false;
+        }
+    }
+
+    private void parallel(int tasks, IntConsumer task) {
+        AtomicInteger next = new AtomicInteger();
+        int workers = Math.max(1, Math.min(properties.getConcurrency(), tasks));
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        for (int i = 0; i < workers; i++) {
+            executor.execute(() -> {
+                int index;
+                while (!budgetExpired() && (index = next.getAndIncrement()) < tasks) {
+                    task.accept(index);
+                }
+            });
+        }
+        executor.shutdown();
+        try {
+            long remaining = properties.getTimeBudget().toMillis() - Duration.between(startedAt, Instant.now()).toMillis();
+            if (!executor.awaitTermination(Math.max(remaining, 0), TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean budgetExpired() {
+        Instant started = startedAt;
+        return started != null && Duration.between(started, Instant.now()).compareTo(properties.getTimeBudget()) >= 0;
+    }
+}
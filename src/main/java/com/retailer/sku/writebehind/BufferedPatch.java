@@ -0,0 +1,9 @@
+package com.retailer.sku.writebehind;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Merged patch for one SKU and the version the SKU was at when the patch was first buffered.
+ */
+record BufferedPatch(long version, ObjectNode patch) {
+}
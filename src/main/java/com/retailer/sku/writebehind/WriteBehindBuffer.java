@@ -0,0 +1,423 @@
+package com.retailer.sku.writebehind;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.retailer.sku.exception.BulkheadRejectedException;
+import com.retailer.sku.model.dto.BulkSkuUpdateResult;
+import com.retailer.sku.model.dto.SkuUpdateRequest;
+import com.retailer.sku.service.SkuService;
+import com.retailer.sku.service.SkuWrittenEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Buffers partial updates that only touch the configured write-behind fields. Patches are journaled before
+ * they are acknowledged, merged per SKU so the last value of each field wins, and applied in chunked
+ * transactions on an interval or once enough SKUs are pending, giving each SKU one version bump per flush.
+ * Each patch is pinned to the version the SKU was at when it was buffered and only applied if the SKU is still
+ * at that version, so a write made elsewhere in the meantime is never overwritten with older values.
+ */
+@Component
+@Slf4j
+@EnableConfigurationProperties(WriteBehindProperties.class)
+public class WriteBehindBuffer implements SmartLifecycle {
+
+    // Key fields move rows between partitions and need uniqueness checks, so they are always applied in-line
+    private static final Set<String> KEY_FIELDS = Set.of("upc", "category");
+
+    private final WriteBehindProperties properties;
+    private final SkuService skuService;
+    private final ObjectMapper objectMapper;
+    private final Object lock = new Object();
+    private final AtomicBoolean flushing = new AtomicBoolean();
+    private final Counter submitted;
+    private final Counter coalesced;
+    private final Counter applied;
+    private final Counter missing;
+    private final Counter requeued;
+    private final Counter failed;
+    private final Counter conflicts;
+    private final Counter superseded;
+    private final Timer flushTimer;
+
+    private Map<UUID, BufferedPatch> pending = new LinkedHashMap<>();
+    // Base versions of the patches being applied by the running flush
+    private Map<UUID, Long> inFlight = Map.of();
+    private WriteBehindJournal journal;
+    private volatile ScheduledExecutorService flusher;
+
+    public WriteBehindBuffer(WriteBehindProperties properties, SkuService skuService, ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.skuService = skuService;
+        // Absent fields must not overwrite earlier patches when merged
+        this.objectMapper = objectMapper.copy().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        this.submitted = Counter.builder("sku.writebehind.submitted")
+                .description("Partial updates acknowledged into the write-behind buffer")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("sku.writebehind.coalesced")
+                .description("Buffered partial updates merged into a patch already pending for the same SKU")
+                .register(meterRegistry);
+        this.applied = flushed(meterRegistry, "applied");
+        this.missing = flushed(meterRegistry, "missing");
+        this.requeued = flushed(meterRegistry, "requeued");
+        this.failed = flushed(meterRegistry, "failed");
+        this.conflicts = flushed(meterRegistry, "conflict");
+        this.superseded = Counter.builder("sku.writebehind.superseded")
+                .description("Buffered patches dropped because the SKU was written synchronously before the flush")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("sku.writebehind.flush")
+                .description("Time to apply one batch of buffered patches")
+                .register(meterRegistry);
+        Gauge.builder("sku.writebehind.pending", this, WriteBehindBuffer::pendingCount)
+                .description("SKUs with a buffered patch not yet written to the database")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Journals and buffers the update if write-behind is running and every field it sets is eligible.
+     * Returns false when the caller should apply the update synchronously instead; throws
+     * {@link com.retailer.sku.exception.SkuNotFoundException} rather than acknowledging an update to an unknown SKU.
+     */
+    public boolean submit(UUID id, SkuUpdateRequest request) {
+        ObjectNode patch = objectMapper.valueToTree(request);
+        if (!isRunning() || !isEligible(patch)) {
+            return false;
+        }
+        long version = skuService.getSkuVersion(id);
+
+        boolean flushNow;
+        synchronized (lock) {
+            if (journal == null) {
+                return false;
+            }
+            BufferedPatch current = pending.get(id);
+            // While a flush is applying this SKU a newer version may be our own write; the flush rebases the merge
+            boolean merge = current != null && (current.version() == version || inFlight.containsKey(id));
+            try {
+                journal.append(id, merge ? current.version() : version, patch);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to journal write-behind patch for SKU " + id, e);
+            }
+            if (merge) {
+                current.patch().setAll(patch);
+                coalesced.increment();
+            } else {
+                if (current != null) {
+                    // The SKU was written elsewhere after the pending patch was buffered
+                    superseded.increment();
+                }
+                pending.put(id, new BufferedPatch(version, patch));
+            }
+            flushNow = pending.size() >= properties.getMaxPending();
+        }
+        submitted.increment();
+
+        ScheduledExecutorService current = flusher;
+        if (flushNow && current != null) {
+            try {
+                current.execute(this::flushAndLog);
+            } catch (RejectedExecutionException e) {
+                // Stopping; the final flush picks the patch up
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Applies everything pending at the time of the call. Patches that fail for a transient reason are
+     * re-journaled and kept for the next flush; patches for deleted SKUs or with permanent errors are dropped.
+     */
+    public void flush() {
+        if (!flushing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Map<UUID, BufferedPatch> batch;
+            long sealed;
+            synchronized (lock) {
+                if (pending.isEmpty() || journal == null) {
+                    return;
+                }
+                sealed = journal.rotate();
+                batch = pending;
+                pending = new LinkedHashMap<>();
+                Map<UUID, Long> versions = new HashMap<>();
+                batch.forEach((id, patch) -> versions.put(id, patch.version()));
+                inFlight = versions;
+            }
+
+            Map<UUID, BufferedPatch> retry = new LinkedHashMap<>();
+            Map<UUID, Long> appliedVersions = new HashMap<>();
+            try {
+                flushTimer.record(() -> {
+                    List<UUID> ids = new ArrayList<>(batch.keySet());
+                    for (int from = 0; from < ids.size(); from += properties.getChunkSize()) {
+                        Map<UUID, BufferedPatch> chunk = new LinkedHashMap<>();
+                        for (UUID id : ids.subList(from, Math.min(ids.size(), from + properties.getChunkSize()))) {
+                            chunk.put(id, batch.get(id));
+                        }
+                        apply(chunk, retry, appliedVersions);
+                    }
+                });
+            } finally {
+                synchronized (lock) {
+                    inFlight = Map.of();
+                }
+            }
+
+            synchronized (lock) {
+                for (Map.Entry<UUID, Long> entry : appliedVersions.entrySet()) {
+                    // Patches buffered during the flush saw the version this flush replaced
+                    BufferedPatch newer = pending.get(entry.getKey());
+                    if (newer != null && newer.version() == batch.get(entry.getKey()).version()) {
+                        BufferedPatch rebased = new BufferedPatch(entry.getValue(), newer.patch());
+                        pending.put(entry.getKey(), rebased);
+                        journal.append(entry.getKey(), rebased.version(), rebased.patch());
+                    }
+                }
+                for (Map.Entry<UUID, BufferedPatch> entry : retry.entrySet()) {
+                    // Patches buffered during the flush are newer than the one being retried
+                    BufferedPatch merged = entry.getValue();
+                    BufferedPatch newer = pending.get(entry.getKey());
+                    if (newer != null && newer.version() != merged.version()) {
+                        superseded.increment();
+                        continue;
+                    }
+                    if (newer != null) {
+                        merged.patch().setAll(newer.patch());
+                    }
+                    pending.put(entry.getKey(), merged);
+                    journal.append(entry.getKey(), merged.version(), merged.patch());
+                }
+                journal.deleteThrough(sealed);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to rotate write-behind journal", e);
+        } finally {
+            flushing.set(false);
+        }
+    }
+
+    /**
+     * Called once a synchronous write to a SKU has committed. Fields it set are dropped from the pending patch;
+     * the rest still apply on top of it if the write was the only one since the patch was buffered, otherwise
+     * the whole patch is dropped.
+     */
+    @TransactionalEventListener
+    public void onSkuWritten(SkuWrittenEvent event) {
+        synchronized (lock) {
+            BufferedPatch current = pending.get(event.id());
+            if (current == null || journal == null) {
+                return;
+            }
+            ObjectNode remaining = current.patch().deepCopy();
+            if (event.changes() == null) {
+                remaining.removeAll();
+            } else {
+                List<String> written = new ArrayList<>();
+                objectMapper.valueToTree(event.changes()).fieldNames().forEachRemaining(written::add);
+                remaining.remove(written);
+            }
+            boolean rebase = !remaining.isEmpty() && event.version() != null
+                    && event.version() == current.version() + 1;
+            try {
+                if (rebase) {
+                    journal.append(event.id(), event.version(), remaining);
+                    pending.put(event.id(), new BufferedPatch(event.version(), remaining));
+                } else {
+                    journal.append(event.id(), current.version(), objectMapper.createObjectNode());
+                    pending.remove(event.id());
+                    superseded.increment();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to journal superseded write-behind patch for SKU "
+                        + event.id(), e);
+            }
+        }
+    }
+
+    public int pendingCount() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+
+    private boolean isEligible(ObjectNode patch) {
+        if (patch.isEmpty()) {
+            return false;
+        }
+        for (Iterator<String> fields = patch.fieldNames(); fields.hasNext(); ) {
+            String field = fields.next();
+            if (KEY_FIELDS.contains(field) || !properties.getFields().contains(field)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void apply(Map<UUID, BufferedPatch> chunk, Map<UUID, BufferedPatch> retry,
+                       Map<UUID, Long> appliedVersions) {
+        try {
+            Map<UUID, SkuUpdateRequest> requests = new LinkedHashMap<>();
+            Map<UUID, Long> expectedVersions = new HashMap<>();
+            chunk.forEach((id, patch) -> {
+                requests.put(id, objectMapper.convertValue(patch.patch(), SkuUpdateRequest.class));
+                expectedVersions.put(id, patch.version());
+            });
+            int conflicted = 0;
+            int notFound = 0;
+            for (BulkSkuUpdateResult result : skuService.partialUpdateSkusChunk(requests, expectedVersions)) {
+                switch (result.getOutcome()) {
+                    case BulkSkuUpdateResult.UPDATED -> appliedVersions.put(result.getId(), result.getVersion());
+                    case BulkSkuUpdateResult.CONFLICT -> conflicted++;
+                    default -> notFound++;
+                }
+            }
+            applied.increment(chunk.size() - conflicted - notFound);
+            conflicts.increment(conflicted);
+            missing.increment(notFound);
+            if (conflicted > 0 || notFound > 0) {
+                log.warn("Dropped {} write-behind patches for SKUs changed since they were buffered and {} for "
+                        + "SKUs that no longer exist", conflicted, notFound);
+            }
+        } catch (RuntimeException e) {
+            if (isTransient(e)) {
+                log.warn("Write-behind flush of {} SKUs deferred: {}", chunk.size(), e.getMessage());
+                retry.putAll(chunk);
+                requeued.increment(chunk.size());
+            } else if (chunk.size() > 1) {
+                log.warn("Write-behind chunk of {} SKUs failed, retrying SKU by SKU: {}", chunk.size(), e.getMessage());
+                chunk.forEach((id, patch) -> apply(Map.of(id, patch), retry, appliedVersions));
+            } else {
+                log.error("Dropping write-behind patch {} for SKU {}", chunk.values().iterator().next(),
+                        chunk.keySet().iterator().next(), e);
+                failed.increment();
+            }
+        }
+    }
+
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof BulkheadRejectedException
+                || e instanceof TransientDataAccessException
+                || e instanceof CannotCreateTransactionException;
+    }
+
+    private void flushAndLog() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Write-behind flush failed", e);
+        }
+    }
+
+    @Override
+    public void start() {
+        WriteBehindJournal recovered = new WriteBehindJournal(properties.getDirectory(), objectMapper);
+        try {
+            Map<UUID, BufferedPatch> patches = recovered.recover();
+            synchronized (lock) {
+                pending.putAll(patches);
+                journal = recovered;
+            }
+            if (!patches.isEmpty()) {
+                log.info("Recovered write-behind patches for {} SKUs from {}", patches.size(),
+                        properties.getDirectory());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to recover write-behind journal in " + properties.getDirectory(), e);
+        }
+
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sku-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getFlushInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::flushAndLog, interval, interval, TimeUnit.MILLISECONDS);
+        flusher = executor;
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor = flusher;
+        if (executor == null) {
+            return;
+        }
+        flusher = null;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(properties.getShutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Write-behind flush still running at shutdown");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        flushAndLog();
+        synchronized (lock) {
+            if (!pending.isEmpty()) {
+                log.warn("Write-behind patches for {} SKUs left in the journal for the next start", pending.size());
+            }
+            pending.clear();
+            try {
+                journal.close();
+            } catch (IOException e) {
+                log.warn("Failed to close write-behind journal: {}", e.getMessage());
+            }
+            journal = null;
+        }
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return properties.isEnabled();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return flusher != null;
+    }
+
+    // Starts before and stops after the web server (DEFAULT_PHASE - 2048), so the journal is replayed before
+    // traffic arrives and the final flush sees every acknowledged patch
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private static Counter flushed(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("sku.writebehind.flushed")
+                .description("Buffered SKU patches processed by a flush")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
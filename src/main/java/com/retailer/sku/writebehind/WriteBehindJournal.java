@@ -0,0 +1,158 @@
+package com.retailer.sku.writebehind;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Append-only log of acknowledged write-behind patches, one JSON line per patch. Every append is forced to
+ * disk before it returns. A patch at the same base version as the pending one merges into it, a patch at another
+ * version replaces it and an empty patch drops it. A flush seals the active file and deletes it once its patches are in the database,
+ * so whatever files exist at startup hold exactly the patches that may not have been applied.
+ */
+@Slf4j
+class WriteBehindJournal implements Closeable {
+
+    private static final String FILE_PREFIX = "journal-";
+    private static final String FILE_SUFFIX = ".log";
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+
+    private FileChannel active;
+    private long activeSequence;
+
+    WriteBehindJournal(Path directory, ObjectMapper objectMapper) {
+        this.directory = directory;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Replays every journal file oldest first, merging patches per SKU, and compacts the result into a new
+     * active file.
+     */
+    Map<UUID, BufferedPatch> recover() throws IOException {
+        Files.createDirectories(directory);
+        List<Path> files = list();
+        Map<UUID, BufferedPatch> patches = new LinkedHashMap<>();
+        for (Path file : files) {
+            replay(file, patches);
+        }
+
+        open(files.isEmpty() ? 1 : sequence(files.get(files.size() - 1)) + 1);
+        for (Map.Entry<UUID, BufferedPatch> entry : patches.entrySet()) {
+            write(entry.getKey(), entry.getValue().version(), entry.getValue().patch());
+        }
+        active.force(false);
+        for (Path file : files) {
+            Files.delete(file);
+        }
+        return patches;
+    }
+
+    void append(UUID id, long version, ObjectNode patch) throws IOException {
+        write(id, version, patch);
+        active.force(false);
+    }
+
+    /**
+     * Closes the active file and starts the next one; returns the sequence of the file that was sealed.
+     */
+    long rotate() throws IOException {
+        long sealed = activeSequence;
+        active.close();
+        open(sealed + 1);
+        return sealed;
+    }
+
+    void deleteThrough(long sequence) throws IOException {
+        for (Path file : list()) {
+            if (sequence(file) <= sequence) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        active.close();
+    }
+
+    private void write(UUID id, long version, ObjectNode patch) throws IOException {
+        ObjectNode record = objectMapper.createObjectNode().put("id", id.toString()).put("version", version);
+        record.set("patch", patch);
+        ByteBuffer bytes = ByteBuffer.wrap((objectMapper.writeValueAsString(record) + "\n")
+                .getBytes(StandardCharsets.UTF_8));
+        while (bytes.hasRemaining()) {
+            active.write(bytes);
+        }
+    }
+
+    private void open(long sequence) throws IOException {
+        active = FileChannel.open(directory.resolve(String.format("%s%019d%s", FILE_PREFIX, sequence, FILE_SUFFIX)),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        activeSequence = sequence;
+    }
+
+    private void replay(Path file, Map<UUID, BufferedPatch> patches) throws IOException {
+        String[] lines = new String(Files.readAllBytes(file), StandardCharsets.UTF_8).split("\n");
+        for (String line : lines) {
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonNode record;
+            try {
+                record = objectMapper.readTree(line);
+            } catch (IOException e) {
+                // Appends are forced one at a time, so only a torn final line can fail to parse, and its
+                // caller was never acknowledged
+                log.warn("Ignoring unreadable tail of write-behind journal {}: {}", file, e.getMessage());
+                return;
+            }
+            UUID id = UUID.fromString(record.get("id").asText());
+            // Journals written before versions were recorded replay as conflicts rather than blind overwrites
+            long version = record.path("version").asLong(-1);
+            ObjectNode patch = (ObjectNode) record.get("patch");
+            BufferedPatch current = patches.get(id);
+            if (patch.isEmpty()) {
+                patches.remove(id);
+            } else if (current != null && current.version() == version) {
+                current.patch().setAll(patch);
+            } else {
+                patches.put(id, new BufferedPatch(version, patch));
+            }
+        }
+    }
+
+    // Sequences are zero-padded, so name order is sequence order
+    private List<Path> list() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long sequence(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()));
+    }
+}
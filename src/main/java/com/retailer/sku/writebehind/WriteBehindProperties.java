@@ -0,0 +1,31 @@
+package com.retailer.sku.writebehind;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@Data
+@ConfigurationProperties(prefix = "sku.write-behind")
+public class WriteBehindProperties {
+
+    private boolean enabled = false;
+
+    // A patch is buffered only if every field it sets is listed here; upc and category never qualify
+    private Set<String> fields = new LinkedHashSet<>(List.of("price", "cost", "status", "attributes"));
+
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    // Distinct SKUs pending before a flush starts ahead of the interval
+    private int maxPending = 1000;
+
+    private int chunkSize = 200;
+
+    private Path directory = Path.of("write-behind");
+
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+}
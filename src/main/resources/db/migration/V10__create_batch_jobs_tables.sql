@@ -0,0 +1,33 @@
+-- Asynchronous batch create jobs and their per-item results, shared by all instances so a job's progress can
+-- be read from any of them and survives a restart. The instance running a job renews heartbeat_at until it
+-- finishes; a job whose heartbeat lapses lost its instance and is marked FAILED.
+
+CREATE TABLE IF NOT EXISTS batch_jobs (
+    id UUID PRIMARY KEY,
+    status VARCHAR(32) NOT NULL,
+    total_items INTEGER NOT NULL,
+    processed_items INTEGER NOT NULL DEFAULT 0,
+    succeeded INTEGER NOT NULL DEFAULT 0,
+    failed INTEGER NOT NULL DEFAULT 0,
+    submitted_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    started_at TIMESTAMP WITH TIME ZONE,
+    completed_at TIMESTAMP WITH TIME ZONE,
+    heartbeat_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    expires_at TIMESTAMP WITH TIME ZONE
+);
+
+CREATE INDEX idx_batch_jobs_expires_at ON batch_jobs(expires_at);
+CREATE INDEX idx_batch_jobs_heartbeat_at ON batch_jobs(heartbeat_at) WHERE completed_at IS NULL;
+
+CREATE TABLE IF NOT EXISTS batch_job_results (
+    job_id UUID NOT NULL REFERENCES batch_jobs(id) ON DELETE CASCADE,
+    item_index INTEGER NOT NULL,
+    outcome VARCHAR(32) NOT NULL,
+    sku_id UUID,
+    sku_code VARCHAR(50),
+    error TEXT,
+    CONSTRAINT pk_batch_job_results PRIMARY KEY (job_id, item_index)
+);
+
+COMMENT ON TABLE batch_jobs IS 'Batch create jobs, readable from every instance until expires_at';
+COMMENT ON TABLE batch_job_results IS 'Per-item outcomes of batch create jobs, written as each chunk finishes';
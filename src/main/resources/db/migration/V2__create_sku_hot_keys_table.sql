@@ -0,0 +1,11 @@
+-- Request counts per SKU, used to preload the most requested SKUs during warmup
+
+CREATE TABLE IF NOT EXISTS sku_hot_keys (
+    sku_id UUID PRIMARY KEY,
+    hits BIGINT NOT NULL DEFAULT 0,
+    last_requested_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX idx_sku_hot_keys_hits ON sku_hot_keys(hits DESC);
+
+COMMENT ON TABLE sku_hot_keys IS 'Most requested SKUs, shared by all instances for warmup';
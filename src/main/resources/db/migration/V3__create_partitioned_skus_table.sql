@@ -0,0 +1,150 @@
+-- SKU Management Service - Partitioned skus, phase 1
+-- Creates skus_partitioned (LIST by category) next to skus and keeps it in sync with triggers,
+-- so existing rows can be copied online with CALL backfill_skus_partitioned() before V4 swaps the tables.
+
+-- Global key registry: partitioned tables only support unique constraints that include the partition key,
+-- so uniqueness of id, sku_code and upc across categories is enforced here. It also maps every key to its
+-- category, which lets lookups by id, code or UPC prune to a single partition.
+CREATE TABLE IF NOT EXISTS sku_keys (
+    id UUID PRIMARY KEY,
+    sku_code VARCHAR(50) NOT NULL UNIQUE,
+    upc VARCHAR(12) UNIQUE,
+    category VARCHAR(50) NOT NULL
+);
+
+CREATE OR REPLACE FUNCTION sku_keys_sync() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO sku_keys (id, sku_code, upc, category) VALUES (NEW.id, NEW.sku_code, NEW.upc, NEW.category);
+        RETURN NEW;
+    ELSIF TG_OP = 'UPDATE' THEN
+        UPDATE sku_keys SET sku_code = NEW.sku_code, upc = NEW.upc, category = NEW.category WHERE id = OLD.id;
+        RETURN NEW;
+    END IF;
+    DELETE FROM sku_keys WHERE id = OLD.id;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Writes are blocked by the trigger lock until this migration commits; only the narrow key columns are copied.
+CREATE TRIGGER trg_sku_keys_insert AFTER INSERT ON skus
+    FOR EACH ROW EXECUTE FUNCTION sku_keys_sync();
+CREATE TRIGGER trg_sku_keys_update AFTER UPDATE ON skus
+    FOR EACH ROW WHEN (OLD.sku_code IS DISTINCT FROM NEW.sku_code OR OLD.upc IS DISTINCT FROM NEW.upc
+        OR OLD.category IS DISTINCT FROM NEW.category)
+    EXECUTE FUNCTION sku_keys_sync();
+CREATE TRIGGER trg_sku_keys_delete AFTER DELETE ON skus
+    FOR EACH ROW EXECUTE FUNCTION sku_keys_sync();
+
+INSERT INTO sku_keys (id, sku_code, upc, category)
+SELECT id, sku_code, upc, category FROM skus;
+
+-- Same column order as skus, so rows can be copied with SELECT *
+CREATE TABLE IF NOT EXISTS skus_partitioned (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    sku_code VARCHAR(50) NOT NULL,
+    upc VARCHAR(12),
+    name VARCHAR(255) NOT NULL,
+    description TEXT,
+    brand VARCHAR(100),
+    category VARCHAR(50) NOT NULL,
+    subcategory VARCHAR(50),
+    price NUMERIC(10, 2),
+    cost NUMERIC(10, 2),
+    unit_of_measure VARCHAR(20),
+    quantity_per_unit INTEGER,
+    weight NUMERIC(10, 2),
+    dimension_length NUMERIC(10, 2),
+    dimension_width NUMERIC(10, 2),
+    dimension_height NUMERIC(10, 2),
+    status VARCHAR(20) NOT NULL DEFAULT 'ACTIVE',
+    tags JSONB,
+    attributes JSONB,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    version BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT pk_skus_partitioned PRIMARY KEY (id, category),
+    CONSTRAINT chk_skus_partitioned_status CHECK (status IN ('ACTIVE', 'DISCONTINUED', 'SEASONAL')),
+    CONSTRAINT chk_skus_partitioned_price_positive CHECK (price IS NULL OR price >= 0),
+    CONSTRAINT chk_skus_partitioned_cost_positive CHECK (cost IS NULL OR cost >= 0),
+    CONSTRAINT chk_skus_partitioned_weight_positive CHECK (weight IS NULL OR weight >= 0),
+    CONSTRAINT chk_skus_partitioned_quantity_positive CHECK (quantity_per_unit IS NULL OR quantity_per_unit >= 1)
+) PARTITION BY LIST (category);
+
+-- One partition per category code used in SKU codes; anything else lands in the default partition
+CREATE TABLE IF NOT EXISTS skus_lbr PARTITION OF skus_partitioned FOR VALUES IN ('LBR');
+CREATE TABLE IF NOT EXISTS skus_plb PARTITION OF skus_partitioned FOR VALUES IN ('PLB');
+CREATE TABLE IF NOT EXISTS skus_elc PARTITION OF skus_partitioned FOR VALUES IN ('ELC');
+CREATE TABLE IF NOT EXISTS skus_hrd PARTITION OF skus_partitioned FOR VALUES IN ('HRD');
+CREATE TABLE IF NOT EXISTS skus_pnt PARTITION OF skus_partitioned FOR VALUES IN ('PNT');
+CREATE TABLE IF NOT EXISTS skus_gar PARTITION OF skus_partitioned FOR VALUES IN ('GAR');
+CREATE TABLE IF NOT EXISTS skus_apl PARTITION OF skus_partitioned FOR VALUES IN ('APL');
+CREATE TABLE IF NOT EXISTS skus_flr PARTITION OF skus_partitioned FOR VALUES IN ('FLR');
+CREATE TABLE IF NOT EXISTS skus_kit PARTITION OF skus_partitioned FOR VALUES IN ('KIT');
+CREATE TABLE IF NOT EXISTS skus_tol PARTITION OF skus_partitioned FOR VALUES IN ('TOL');
+CREATE TABLE IF NOT EXISTS skus_default PARTITION OF skus_partitioned DEFAULT;
+
+-- Category-leading indexes are not needed: the partition itself is the category filter
+CREATE INDEX idx_skus_partitioned_code ON skus_partitioned(sku_code);
+CREATE INDEX idx_skus_partitioned_upc ON skus_partitioned(upc);
+CREATE INDEX idx_skus_partitioned_status ON skus_partitioned(status);
+CREATE INDEX idx_skus_partitioned_brand ON skus_partitioned(brand);
+CREATE INDEX idx_skus_partitioned_name ON skus_partitioned(name);
+CREATE INDEX idx_skus_partitioned_price ON skus_partitioned(price);
+CREATE INDEX idx_skus_partitioned_created_at ON skus_partitioned(created_at DESC);
+CREATE INDEX idx_skus_partitioned_tags ON skus_partitioned USING GIN (tags);
+CREATE INDEX idx_skus_partitioned_attributes ON skus_partitioned USING GIN (attributes);
+
+-- Mirror every write on skus into skus_partitioned while the backfill runs
+CREATE OR REPLACE FUNCTION skus_partitioned_mirror() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        DELETE FROM skus_partitioned WHERE id = OLD.id AND category = OLD.category;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        INSERT INTO skus_partitioned VALUES (NEW.*) ON CONFLICT DO NOTHING;
+        RETURN NEW;
+    END IF;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_skus_partitioned_mirror AFTER INSERT OR UPDATE OR DELETE ON skus
+    FOR EACH ROW EXECUTE FUNCTION skus_partitioned_mirror();
+
+-- Backfill watermark: rows with id <= last_id have been copied, later changes to them are mirrored
+CREATE TABLE IF NOT EXISTS skus_partitioned_backfill (
+    singleton BOOLEAN PRIMARY KEY DEFAULT TRUE CHECK (singleton),
+    last_id UUID NOT NULL
+);
+
+INSERT INTO skus_partitioned_backfill (last_id) VALUES ('00000000-0000-0000-0000-000000000000');
+
+-- Resumable, committing after every batch; run with CALL outside of a transaction block.
+-- FOR SHARE keeps a concurrent update or delete of a row from racing with its copy.
+CREATE OR REPLACE PROCEDURE backfill_skus_partitioned(batch_size INTEGER DEFAULT 5000) AS $$
+DECLARE
+    watermark UUID;
+    copied INTEGER;
+BEGIN
+    LOOP
+        SELECT last_id INTO watermark FROM skus_partitioned_backfill;
+
+        WITH batch AS (
+            SELECT * FROM skus WHERE id > watermark ORDER BY id LIMIT batch_size FOR SHARE
+        ), inserted AS (
+            INSERT INTO skus_partitioned SELECT * FROM batch ON CONFLICT DO NOTHING
+        )
+        SELECT COUNT(*), (SELECT id FROM batch ORDER BY id DESC LIMIT 1) INTO copied, watermark FROM batch;
+
+        EXIT WHEN copied = 0;
+
+        UPDATE skus_partitioned_backfill SET last_id = watermark;
+        COMMIT;
+        RAISE NOTICE 'Copied % rows up to %', copied, watermark;
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+COMMENT ON TABLE sku_keys IS 'Globally unique SKU keys and their category, used for uniqueness and partition routing';
+COMMENT ON TABLE skus_partitioned IS 'Stock Keeping Units partitioned by category, swapped in for skus by V4';
@@ -0,0 +1,72 @@
+-- SKU Management Service - Partitioned skus, phase 2
+-- Copies the rows the backfill has not reached yet and swaps skus_partitioned in for skus.
+-- On a fresh or small database this runs straight after V3; for large tables run
+-- CALL backfill_skus_partitioned() first so the exclusive lock below only covers a short catch-up.
+
+LOCK TABLE skus IN ACCESS EXCLUSIVE MODE;
+
+INSERT INTO skus_partitioned
+SELECT * FROM skus WHERE id > (SELECT last_id FROM skus_partitioned_backfill)
+ON CONFLICT DO NOTHING;
+
+DROP TRIGGER trg_skus_partitioned_mirror ON skus;
+DROP TABLE skus;
+
+DROP PROCEDURE backfill_skus_partitioned(INTEGER);
+DROP FUNCTION skus_partitioned_mirror();
+DROP TABLE skus_partitioned_backfill;
+
+ALTER TABLE skus_partitioned RENAME TO skus;
+ALTER TABLE skus RENAME CONSTRAINT pk_skus_partitioned TO pk_skus;
+ALTER TABLE skus RENAME CONSTRAINT chk_skus_partitioned_status TO chk_sku_status;
+ALTER TABLE skus RENAME CONSTRAINT chk_skus_partitioned_price_positive TO chk_sku_price_positive;
+ALTER TABLE skus RENAME CONSTRAINT chk_skus_partitioned_cost_positive TO chk_sku_cost_positive;
+ALTER TABLE skus RENAME CONSTRAINT chk_skus_partitioned_weight_positive TO chk_sku_weight_positive;
+ALTER TABLE skus RENAME CONSTRAINT chk_skus_partitioned_quantity_positive TO chk_sku_quantity_positive;
+ALTER INDEX idx_skus_partitioned_code RENAME TO idx_sku_code;
+ALTER INDEX idx_skus_partitioned_upc RENAME TO idx_sku_upc;
+ALTER INDEX idx_skus_partitioned_status RENAME TO idx_sku_status;
+ALTER INDEX idx_skus_partitioned_brand RENAME TO idx_sku_brand;
+ALTER INDEX idx_skus_partitioned_name RENAME TO idx_sku_name;
+ALTER INDEX idx_skus_partitioned_price RENAME TO idx_sku_price;
+ALTER INDEX idx_skus_partitioned_created_at RENAME TO idx_sku_created_at;
+ALTER INDEX idx_skus_partitioned_tags RENAME TO idx_sku_tags;
+ALTER INDEX idx_skus_partitioned_attributes RENAME TO idx_sku_attributes;
+
+-- Rows moving between partitions on a category change fire the delete and insert triggers
+CREATE TRIGGER trg_sku_keys_insert AFTER INSERT ON skus
+    FOR EACH ROW EXECUTE FUNCTION sku_keys_sync();
+CREATE TRIGGER trg_sku_keys_update AFTER UPDATE ON skus
+    FOR EACH ROW WHEN (OLD.sku_code IS DISTINCT FROM NEW.sku_code OR OLD.upc IS DISTINCT FROM NEW.upc
+        OR OLD.category IS DISTINCT FROM NEW.category)
+    EXECUTE FUNCTION sku_keys_sync();
+CREATE TRIGGER trg_sku_keys_delete AFTER DELETE ON skus
+    FOR EACH ROW EXECUTE FUNCTION sku_keys_sync();
+
+-- Moves a category out of the default partition into its own partition. Holds an exclusive lock on
+-- skus_default while the rows are moved.
+CREATE OR REPLACE PROCEDURE create_sku_category_partition(category_code TEXT) AS $$
+DECLARE
+    partition_name TEXT := 'skus_' || lower(category_code);
+BEGIN
+    EXECUTE format('CREATE TABLE %I (LIKE skus INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name);
+    EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I CHECK (category = %L)',
+                   partition_name, partition_name || '_category', category_code);
+
+    LOCK TABLE skus_default IN ACCESS EXCLUSIVE MODE;
+    EXECUTE format('INSERT INTO %I SELECT * FROM skus_default WHERE category = %L', partition_name, category_code);
+    -- Deleting from the default partition drops the keys, they are restored once the partition is attached
+    DELETE FROM skus_default WHERE category = category_code;
+
+    EXECUTE format('ALTER TABLE skus ATTACH PARTITION %I FOR VALUES IN (%L)', partition_name, category_code);
+    EXECUTE format('INSERT INTO sku_keys (id, sku_code, upc, category) SELECT id, sku_code, upc, category FROM %I',
+                   partition_name);
+END;
+$$ LANGUAGE plpgsql;
+
+COMMENT ON TABLE skus IS 'Stock Keeping Units for retail product management, partitioned by category';
+COMMENT ON COLUMN skus.sku_code IS 'External SKU code in format THD-{CATEGORY}-{SEQUENCE}';
+COMMENT ON COLUMN skus.upc IS 'Universal Product Code (12 digits)';
+COMMENT ON COLUMN skus.status IS 'SKU lifecycle status: ACTIVE, DISCONTINUED, SEASONAL';
+COMMENT ON COLUMN skus.tags IS 'Searchable product tags stored as JSONB array';
+COMMENT ON COLUMN skus.attributes IS 'Flexible key-value attributes stored as JSONB object';
@@ -0,0 +1,26 @@
+-- SKU Management Service - Dimension/weight fit search
+-- An item fits a box in some axis-aligned orientation exactly when its sorted dimensions are each no
+-- larger than the box's sorted dimensions, so rotations reduce to one containment test on
+-- (shortest, middle, longest, weight). The point is indexed with GiST on the cube type.
+-- This is an expression index rather than a stored generated column: adding a stored column would
+-- rewrite every partition under an exclusive lock, and the partition maintenance procedure copies rows
+-- with SELECT *.
+
+CREATE EXTENSION IF NOT EXISTS cube;
+
+-- STRICT: SKUs without all three dimensions and a weight map to NULL and never match a fit query
+CREATE OR REPLACE FUNCTION sku_fit_point(length NUMERIC, width NUMERIC, height NUMERIC, weight NUMERIC)
+    RETURNS cube AS $$
+    SELECT cube(ARRAY[
+        LEAST(length, width, height),
+        length + width + height - LEAST(length, width, height) - GREATEST(length, width, height),
+        GREATEST(length, width, height),
+        weight]::float8[])
+$$ LANGUAGE sql IMMUTABLE STRICT PARALLEL SAFE;
+
+CREATE INDEX idx_sku_fit ON skus
+    USING GIST (sku_fit_point(dimension_length, dimension_width, dimension_height, weight))
+    WHERE status = 'ACTIVE';
+
+COMMENT ON FUNCTION sku_fit_point(NUMERIC, NUMERIC, NUMERIC, NUMERIC)
+    IS 'Sorted dimensions and weight of a SKU as a 4-D point, indexed by idx_sku_fit';
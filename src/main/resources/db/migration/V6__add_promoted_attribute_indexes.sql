@@ -0,0 +1,27 @@
+-- SKU Management Service - Promoted attribute keys
+-- A few attribute keys are filtered on often enough to need B-tree indexes. They are promoted with
+-- expression indexes over the accessor functions below rather than stored generated columns, for the
+-- same reasons as idx_sku_fit. Search queries call the same functions with the key as a constant, so
+-- the planner matches them to these indexes. Keep sku.search.promoted-attributes in step with this list.
+
+CREATE OR REPLACE FUNCTION sku_attribute_text(attributes JSONB, attribute_key TEXT)
+    RETURNS TEXT AS $$
+    SELECT attributes ->> attribute_key
+$$ LANGUAGE sql IMMUTABLE PARALLEL SAFE;
+
+-- Values that are not plain decimal numbers map to NULL, so one bad value cannot fail a range query
+CREATE OR REPLACE FUNCTION sku_attribute_numeric(attributes JSONB, attribute_key TEXT)
+    RETURNS NUMERIC AS $$
+    SELECT CASE WHEN attributes ->> attribute_key ~ '^\s*[-+]?(\d+(\.\d*)?|\.\d+)\s*$'
+                THEN (attributes ->> attribute_key)::NUMERIC END
+$$ LANGUAGE sql IMMUTABLE PARALLEL SAFE;
+
+CREATE INDEX idx_sku_attr_grade ON skus (sku_attribute_text(attributes, 'grade'));
+CREATE INDEX idx_sku_attr_treatment_type ON skus (sku_attribute_text(attributes, 'treatment_type'));
+CREATE INDEX idx_sku_attr_finish ON skus (sku_attribute_text(attributes, 'finish'));
+CREATE INDEX idx_sku_attr_voltage ON skus (sku_attribute_numeric(attributes, 'voltage'));
+
+COMMENT ON FUNCTION sku_attribute_text(JSONB, TEXT)
+    IS 'Attribute value as text; indexed per promoted key by idx_sku_attr_*';
+COMMENT ON FUNCTION sku_attribute_numeric(JSONB, TEXT)
+    IS 'Attribute value as a number, NULL if not numeric; indexed per promoted key by idx_sku_attr_*';
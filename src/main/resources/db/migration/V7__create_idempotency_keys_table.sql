@@ -0,0 +1,18 @@
+-- Responses to create requests sent with an Idempotency-Key header, replayed when a client retries the
+-- same request. A row without a status code is a claim held by the instance executing the first attempt.
+
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idempotency_key VARCHAR(255) PRIMARY KEY,
+    request_hash BYTEA NOT NULL,
+    status_code INTEGER,
+    content_type VARCHAR(255),
+    location TEXT,
+    response_body BYTEA,
+    locked_until TIMESTAMP WITH TIME ZONE NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys(expires_at);
+
+COMMENT ON TABLE idempotency_keys IS 'Stored responses for idempotent create retries, shared by all instances';
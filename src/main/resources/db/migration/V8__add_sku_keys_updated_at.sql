@@ -0,0 +1,25 @@
+-- SKU Management Service - Key change feed
+-- Each instance keeps a key filter over sku_keys and polls this column for keys written since its last poll,
+-- so keys created by other instances or by the reactive service reach every filter within the sync interval
+-- instead of at the next rebuild.
+
+ALTER TABLE sku_keys ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW();
+
+CREATE INDEX IF NOT EXISTS idx_sku_keys_updated_at ON sku_keys (updated_at);
+
+CREATE OR REPLACE FUNCTION sku_keys_sync() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO sku_keys (id, sku_code, upc, category) VALUES (NEW.id, NEW.sku_code, NEW.upc, NEW.category);
+        RETURN NEW;
+    ELSIF TG_OP = 'UPDATE' THEN
+        UPDATE sku_keys SET sku_code = NEW.sku_code, upc = NEW.upc, category = NEW.category, updated_at = NOW()
+        WHERE id = OLD.id;
+        RETURN NEW;
+    END IF;
+    DELETE FROM sku_keys WHERE id = OLD.id;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+COMMENT ON COLUMN sku_keys.updated_at IS 'Start of the transaction that last wrote the keys, polled by the key filters';
@@ -0,0 +1,6 @@
+-- SKU Management Service - SKU change feed
+-- Each instance keeps a POS index over skus and polls this column for rows written since its last poll, so
+-- prices and statuses changed by other instances or by the reactive service reach every index within the sync
+-- interval instead of at the next rebuild.
+
+CREATE INDEX IF NOT EXISTS idx_sku_updated_at ON skus (updated_at);
@@ -0,0 +1,160 @@
+package com.retailer.sku.batch;
+
+import com.retailer.sku.exception.BatchJobNotFoundException;
+import com.retailer.sku.exception.BulkheadRejectedException;
+import com.retailer.sku.model.dto.BatchJobItemResult;
+import com.retailer.sku.model.dto.BatchJobResponse;
+import com.retailer.sku.model.dto.SkuRequest;
+import com.retailer.sku.service.SkuService;
+import io.opentelemetry.api.OpenTelemetry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchJobServiceTest {
+
+    @Mock
+    private SkuService skuService;
+
+    @Mock
+    private BatchJobStore store;
+
+    private BatchJobService batchJobService;
+
+    @BeforeEach
+    void setUp() {
+        BatchJobProperties properties = new BatchJobProperties();
+        properties.setChunkSize(2);
+        properties.setWorkerThreads(1);
+        batchJobService = new BatchJobService(skuService, store, OpenTelemetry.noop().getTracer("test"), properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchJobService.shutdown();
+    }
+
+    @Test
+    void submit_AllChunksSucceed_CompletesWithPerItemResults() throws Exception {
+        when(skuService.createSkusChunk(anyList())).thenAnswer(invocation -> created(invocation.getArgument(0)));
+
+        BatchJobResponse queued = batchJobService.submit(requests(5));
+        BatchJobResponse finished = awaitCompletion();
+
+        assertThat(finished.getJobId()).isEqualTo(queued.getJobId());
+        assertThat(finished.getStatus()).isEqualTo("COMPLETED");
+        assertThat(finished.getSucceeded()).isEqualTo(5);
+        assertThat(storedResults()).extracting(BatchJobItemResult::getIndex).containsExactly(0, 1, 2, 3, 4);
+        verify(skuService, times(3)).createSkusChunk(anyList());
+        verify(store).create(any());
+        verify(store, times(3)).recordChunk(any(), anyList());
+    }
+
+    @Test
+    void submit_ChunkFails_RetriesItemsIndividually() throws Exception {
+        List<SkuRequest> requests = requests(4);
+        SkuRequest conflicting = requests.get(1);
+        when(skuService.createSkusChunk(anyList())).thenAnswer(invocation -> {
+            List<SkuRequest> chunk = invocation.getArgument(0);
+            if (chunk.contains(conflicting)) {
+                throw new DataIntegrityViolationException("duplicate key");
+            }
+            return created(chunk);
+        });
+
+        batchJobService.submit(requests);
+        BatchJobResponse finished = awaitCompletion();
+
+        assertThat(finished.getStatus()).isEqualTo("COMPLETED_WITH_ERRORS");
+        assertThat(finished.getSucceeded()).isEqualTo(3);
+        assertThat(finished.getFailed()).isEqualTo(1);
+        assertThat(storedResults().get(1).getOutcome()).isEqualTo(BatchJobItemResult.FAILED);
+        verify(skuService, times(2)).createSkusChunk(argThat(chunk -> chunk.contains(conflicting)));
+    }
+
+    @Test
+    void submit_ChunkTimesOut_MarksItemsIndeterminateWithoutRetry() throws Exception {
+        List<SkuRequest> requests = requests(4);
+        SkuRequest slow = requests.get(0);
+        when(skuService.createSkusChunk(anyList())).thenAnswer(invocation -> {
+            List<SkuRequest> chunk = invocation.getArgument(0);
+            if (chunk.contains(slow)) {
+                throw new BulkheadRejectedException("The write call did not complete within PT10S",
+                        Duration.ofSeconds(1), true);
+            }
+            return created(chunk);
+        });
+
+        batchJobService.submit(requests);
+        BatchJobResponse finished = awaitCompletion();
+
+        assertThat(finished.getStatus()).isEqualTo("COMPLETED_WITH_ERRORS");
+        assertThat(storedResults()).extracting(BatchJobItemResult::getOutcome)
+                .containsExactly(BatchJobItemResult.INDETERMINATE, BatchJobItemResult.INDETERMINATE,
+                        BatchJobItemResult.CREATED, BatchJobItemResult.CREATED);
+        verify(skuService, times(1)).createSkusChunk(argThat(chunk -> chunk.contains(slow)));
+    }
+
+    @Test
+    void getJob_UnknownId_ThrowsException() {
+        assertThatThrownBy(() -> batchJobService.getJob(UUID.randomUUID(), true))
+                .isInstanceOf(BatchJobNotFoundException.class);
+    }
+
+    private BatchJobResponse awaitCompletion() {
+        ArgumentCaptor<BatchJob> finished = ArgumentCaptor.forClass(BatchJob.class);
+        verify(store, timeout(Duration.ofSeconds(5).toMillis())).finish(finished.capture());
+        return finished.getValue().toResponse();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<BatchJobItemResult> storedResults() {
+        ArgumentCaptor<List<BatchJobItemResult>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(store, atLeastOnce()).recordChunk(any(), chunks.capture());
+        return chunks.getAllValues().stream()
+                .flatMap(List::stream)
+                .sorted(Comparator.comparingInt(BatchJobItemResult::getIndex))
+                .toList();
+    }
+
+    private static List<SkuRequest> requests(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> SkuRequest.builder()
+                        .name("Product " + i)
+                        .category("LBR")
+                        .price(BigDecimal.TEN)
+                        .upc(String.format("%012d", i))
+                        .build())
+                .toList();
+    }
+
+    private static List<BatchJobItemResult> created(List<SkuRequest> chunk) {
+        return IntStream.range(0, chunk.size())
+                .mapToObj(i -> BatchJobItemResult.builder()
+                        .index(i)
+                        .outcome(BatchJobItemResult.CREATED)
+                        .id(UUID.randomUUID())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,131 @@
+package com.retailer.sku.bulkhead;
+
+import com.retailer.sku.exception.BulkheadRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkheadExecutorsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BulkheadExecutors executors;
+
+    @BeforeEach
+    void setUp() {
+        BulkheadProperties properties = new BulkheadProperties();
+        properties.getPools().put(Workload.SEARCH,
+                new BulkheadProperties.Pool(1, 1, Duration.ofSeconds(1), 1, 1, Duration.ofMillis(200), null));
+        meterRegistry = new SimpleMeterRegistry();
+        executors = new BulkheadExecutors(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executors.close();
+    }
+
+    @Test
+    void call_RoutesWorkloadToDataSourceKey() throws Throwable {
+        Object workload = executors.call(Workload.LOOKUP, WorkloadRoutingDataSource::currentWorkload);
+
+        assertThat(workload).isEqualTo(Workload.LOOKUP);
+        assertThat(WorkloadRoutingDataSource.currentWorkload()).isNull();
+    }
+
+    @Test
+    void callWith_OutsideAndInsideBulkheadCall_KeepsOuterWorkload() throws Throwable {
+        assertThat(WorkloadRoutingDataSource.callWith(Workload.MAINTENANCE, WorkloadRoutingDataSource::currentWorkload))
+                .isEqualTo(Workload.MAINTENANCE);
+        assertThat(WorkloadRoutingDataSource.currentWorkload()).isNull();
+
+        Object nested = executors.call(Workload.WRITE, () -> WorkloadRoutingDataSource.callWith(Workload.MAINTENANCE,
+                WorkloadRoutingDataSource::currentWorkload));
+        assertThat(nested).isEqualTo(Workload.WRITE);
+    }
+
+    @Test
+    void call_QueueFull_RejectsWithoutTouchingOtherWorkloads() throws Throwable {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture.runAsync(() -> callQuietly(release));
+        CompletableFuture.runAsync(() -> callQuietly(release));
+        Thread.sleep(50);
+
+        assertThatThrownBy(() -> executors.call(Workload.SEARCH, () -> "third"))
+                .isInstanceOf(BulkheadRejectedException.class);
+        assertThat(executors.call(Workload.LOOKUP, () -> "lookup")).isEqualTo("lookup");
+        assertThat(meterRegistry.get("sku.bulkhead.rejected").tag("workload", "search").counter().count())
+                .isEqualTo(1.0);
+        release.countDown();
+    }
+
+    @Test
+    void call_ExceedsTimeout_ThrowsRejected() {
+        assertThatThrownBy(() -> executors.call(Workload.SEARCH, () -> {
+            Thread.sleep(1000);
+            return null;
+        })).isInstanceOf(BulkheadRejectedException.class).hasMessageContaining("did not complete")
+                .hasFieldOrPropertyWithValue("indeterminate", true);
+    }
+
+    @Test
+    void callInline_RunsOnCallerThreadAndRejectsBeyondPermits() throws Throwable {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Object> holder = CompletableFuture.supplyAsync(() -> {
+            try {
+                return executors.callInline(Workload.SEARCH, () -> {
+                    started.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return WorkloadRoutingDataSource.currentWorkload();
+                });
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> executors.callInline(Workload.SEARCH, () -> "second"))
+                .isInstanceOf(BulkheadRejectedException.class)
+                .hasFieldOrPropertyWithValue("indeterminate", false);
+        release.countDown();
+
+        assertThat(holder.get(5, TimeUnit.SECONDS)).isEqualTo(Workload.SEARCH);
+        Thread caller = Thread.currentThread();
+        assertThat(executors.callInline(Workload.SEARCH, Thread::currentThread)).isSameAs(caller);
+        assertThat(WorkloadRoutingDataSource.currentWorkload()).isNull();
+    }
+
+    @Test
+    void call_WriteWithoutTimeout_WaitsForOutcome() throws Throwable {
+        Object result = executors.call(Workload.WRITE, () -> {
+            Thread.sleep(300);
+            return "committed";
+        });
+
+        assertThat(result).isEqualTo("committed");
+        assertThat(meterRegistry.get("sku.bulkhead.timeouts").tag("workload", "write").counter().count()).isZero();
+    }
+
+    @Test
+    void call_MethodThrows_PropagatesOriginalException() {
+        assertThatThrownBy(() -> executors.call(Workload.WRITE, () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+    }
+
+    private void callQuietly(CountDownLatch release) {
+        try {
+            executors.call(Workload.SEARCH, () -> release.await(1, TimeUnit.SECONDS));
+        } catch (Throwable ignored) {
+        }
+    }
+}
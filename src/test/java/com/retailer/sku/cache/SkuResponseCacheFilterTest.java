@@ -0,0 +1,116 @@
+package com.retailer.sku.cache;
+
+import com.retailer.sku.exception.SkuNotFoundException;
+import com.retailer.sku.service.SkuService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SkuResponseCacheFilterTest {
+
+    private static final String BODY = "{\"name\":\"Test Product\"}";
+
+    @Mock
+    private SkuService skuService;
+
+    private SkuResponseCacheFilter filter;
+    private UUID skuId;
+    private FilterChain controller;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        filter = new SkuResponseCacheFilter(
+                new SkuResponseBodyCache(properties, new SimpleMeterRegistry()), skuService, properties);
+        skuId = UUID.randomUUID();
+        controller = mock(FilterChain.class);
+        lenient().doAnswer(invocation -> {
+            HttpServletResponse response = invocation.getArgument(1);
+            response.setStatus(200);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(controller).doFilter(any(), any());
+    }
+
+    @Test
+    void doFilter_SameVersion_ServesCachedBodyWithoutController() throws Exception {
+        when(skuService.getSkuVersion(skuId)).thenReturn(1L);
+
+        MockHttpServletResponse first = perform("application/json");
+        MockHttpServletResponse second = perform("application/json");
+
+        assertThat(first.getContentAsString()).isEqualTo(BODY);
+        assertThat(second.getContentAsString()).isEqualTo(BODY);
+        assertThat(second.getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+        verify(controller, times(1)).doFilter(any(), any());
+    }
+
+    @Test
+    void doFilter_VersionChanged_InvalidatesEntry() throws Exception {
+        when(skuService.getSkuVersion(skuId)).thenReturn(1L, 2L);
+
+        perform("application/json");
+        perform("application/json");
+
+        verify(controller, times(2)).doFilter(any(), any());
+    }
+
+    @Test
+    void doFilter_IfNoneMatchCurrentVersion_ReturnsNotModified() throws Exception {
+        when(skuService.getSkuVersion(skuId)).thenReturn(4L);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/skus/" + skuId);
+        request.addHeader("If-None-Match", "W/\"4\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, controller);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader("ETag")).isEqualTo("W/\"4\"");
+        verify(controller, never()).doFilter(any(), any());
+    }
+
+    @Test
+    void doFilter_UnknownSku_PassesThrough() throws Exception {
+        when(skuService.getSkuVersion(skuId)).thenThrow(new SkuNotFoundException("SKU not found with id: " + skuId));
+
+        perform(null);
+        perform(null);
+
+        verify(controller, times(2)).doFilter(any(), any());
+    }
+
+    @Test
+    void doFilter_BinaryAccept_BypassesCache() throws Exception {
+        perform("application/cbor");
+
+        verify(skuService, never()).getSkuVersion(any());
+        verify(controller).doFilter(any(), any());
+    }
+
+    private MockHttpServletResponse perform(String accept) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/skus/" + skuId);
+        if (accept != null) {
+            request.addHeader("Accept", accept);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, controller);
+        return response;
+    }
+}
@@ -3,23 +3,44 @@ package com.retailer.sku.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.retailer.sku.exception.GlobalExceptionHandler;
 import com.retailer.sku.exception.SkuNotFoundException;
+import com.retailer.sku.model.dto.BulkSkuUpdateItem;
+import com.retailer.sku.model.dto.BulkSkuUpdateRequest;
+import com.retailer.sku.model.dto.BulkSkuUpdateResponse;
+import com.retailer.sku.model.dto.BulkSkuUpdateResult;
+import com.retailer.sku.model.dto.SkuLookupRequest;
 import com.retailer.sku.model.dto.SkuRequest;
 import com.retailer.sku.model.dto.SkuResponse;
+import com.retailer.sku.model.dto.SkuSearchCriteria;
+import com.retailer.sku.model.dto.SkuUpdateRequest;
 import com.retailer.sku.service.SkuService;
+import com.retailer.sku.stream.SkuListStreamer;
+import com.retailer.sku.writebehind.WriteBehindBuffer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -30,6 +51,12 @@ class SkuControllerTest {
     @Mock
     private SkuService skuService;
 
+    @Mock
+    private WriteBehindBuffer writeBehindBuffer;
+
+    @Mock
+    private SkuListStreamer skuListStreamer;
+
     @InjectMocks
     private SkuController skuController;
 
@@ -43,6 +70,7 @@ class SkuControllerTest {
     void setUp() {
         mockMvc = MockMvcBuilders.standaloneSetup(skuController)
                 .setControllerAdvice(new GlobalExceptionHandler())
+                .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
                 .build();
         objectMapper = new ObjectMapper();
 
@@ -105,6 +133,72 @@ class SkuControllerTest {
                 .andExpect(jsonPath("$.name").value("Test Product"));
     }
 
+    @Test
+    void getSkuById_MatchingIfNoneMatch_ReturnsNotModified() throws Exception {
+        skuResponse.setVersion(3L);
+        when(skuService.getSkuById(skuId)).thenReturn(skuResponse);
+
+        mockMvc.perform(get("/api/v1/skus/{id}", skuId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"3\""));
+        mockMvc.perform(get("/api/v1/skus/{id}", skuId).header("If-None-Match", "W/\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void partialUpdateSku_PreferRespondAsync_ReturnsAcceptedWhenBuffered() throws Exception {
+        SkuUpdateRequest priceChange = SkuUpdateRequest.builder().price(new BigDecimal("9.49")).build();
+        when(writeBehindBuffer.submit(eq(skuId), any(SkuUpdateRequest.class))).thenReturn(true);
+
+        mockMvc.perform(patch("/api/v1/skus/{id}", skuId)
+                        .header("Prefer", "wait=5, respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(priceChange)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Preference-Applied", "respond-async"));
+        mockMvc.perform(patch("/api/v1/skus/{id}", skuId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(priceChange)))
+                .andExpect(status().isOk());
+
+        verify(writeBehindBuffer).submit(eq(skuId), any(SkuUpdateRequest.class));
+        verify(skuService).partialUpdateSku(eq(skuId), any(SkuUpdateRequest.class));
+    }
+
+    @Test
+    void searchSkus_AttributeFilters_PassedAsTypedCriteria() throws Exception {
+        ArgumentCaptor<SkuSearchCriteria> criteria = ArgumentCaptor.forClass(SkuSearchCriteria.class);
+        when(skuService.searchSkus(criteria.capture(), any(Pageable.class))).thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 20), 0));
+
+        mockMvc.perform(get("/api/v1/skus/search")
+                        .param("attribute", "finish:Satin, Brushed", "grade:#2")
+                        .param("attributeMin", "voltage:110")
+                        .param("attributeMax", "voltage: 240"))
+                .andExpect(status().isOk());
+
+        assertThat(criteria.getValue().getAttributes())
+                .containsExactly(entry("finish", "Satin, Brushed"), entry("grade", "#2"));
+        assertThat(criteria.getValue().getMinAttributes()).containsEntry("voltage", new BigDecimal("110"));
+        assertThat(criteria.getValue().getMaxAttributes()).containsEntry("voltage", new BigDecimal("240"));
+
+        mockMvc.perform(get("/api/v1/skus/search").param("attributeMin", "voltage:high"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/skus/search").param("attribute", "grade"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void lookupSkus_TooManyIds_ReturnsBadRequest() throws Exception {
+        List<UUID> ids = Stream.generate(UUID::randomUUID).limit(501).toList();
+
+        mockMvc.perform(post("/api/v1/skus/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(SkuLookupRequest.builder().ids(ids).build())))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(skuService);
+    }
+
     @Test
     void getSkuById_NonExistingSku_ReturnsNotFound() throws Exception {
         when(skuService.getSkuById(skuId)).thenThrow(new SkuNotFoundException("SKU not found"));
@@ -114,6 +208,15 @@ class SkuControllerTest {
                 .andExpect(jsonPath("$.title").value("SKU Not Found"));
     }
 
+    @Test
+    void getSkuById_QueryTimeout_ReturnsServiceUnavailable() throws Exception {
+        when(skuService.getSkuById(skuId)).thenThrow(new QueryTimeoutException("canceling statement"));
+
+        mockMvc.perform(get("/api/v1/skus/{id}", skuId))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.title").value("Query Timeout"));
+    }
+
     @Test
     void getSkuByCode_ExistingSku_ReturnsOk() throws Exception {
         String skuCode = "THD-LBR-0000001";
@@ -162,4 +265,36 @@ class SkuControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.name").value("Test Product"));
     }
+
+    @Test
+    void bulkUpdateSkus_ValidRequest_ReturnsOk() throws Exception {
+        BulkSkuUpdateRequest request = BulkSkuUpdateRequest.builder()
+                .items(List.of(BulkSkuUpdateItem.builder().id(skuId).price(new BigDecimal("9.99")).build()))
+                .build();
+        BulkSkuUpdateResponse response = BulkSkuUpdateResponse.builder()
+                .updated(1)
+                .results(List.of(BulkSkuUpdateResult.builder()
+                        .index(0).id(skuId).outcome(BulkSkuUpdateResult.UPDATED).version(2L).build()))
+                .build();
+        when(skuService.bulkUpdateSkus(anyList())).thenReturn(response);
+
+        mockMvc.perform(post("/api/v1/skus/bulk-update")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.results[0].outcome").value("UPDATED"));
+    }
+
+    @Test
+    void bulkUpdateSkus_ItemWithoutChanges_ReturnsBadRequest() throws Exception {
+        BulkSkuUpdateRequest request = BulkSkuUpdateRequest.builder()
+                .items(List.of(BulkSkuUpdateItem.builder().id(skuId).build()))
+                .build();
+
+        mockMvc.perform(post("/api/v1/skus/bulk-update")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
 }
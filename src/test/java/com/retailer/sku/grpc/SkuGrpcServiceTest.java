@@ -0,0 +1,148 @@
+package com.retailer.sku.grpc;
+
+import com.retailer.sku.exception.SkuNotFoundException;
+import com.retailer.sku.model.dto.SkuResponse;
+import com.retailer.sku.proto.SkuProtoMapper;
+import com.retailer.sku.proto.v1.*;
+import com.retailer.sku.service.SkuService;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SkuGrpcServiceTest {
+
+    @Mock
+    private SkuService skuService;
+
+    private Server server;
+    private ManagedChannel channel;
+    private SkuServiceGrpc.SkuServiceBlockingStub blockingStub;
+    private SkuServiceGrpc.SkuServiceStub asyncStub;
+    private SkuResponse skuResponse;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        GrpcServerProperties properties = new GrpcServerProperties();
+        properties.setLookupPrefetch(2);
+        SkuGrpcService grpcService = new SkuGrpcService(skuService, new SkuProtoMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(), properties);
+
+        String serverName = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(serverName).directExecutor().addService(grpcService).build().start();
+        channel = InProcessChannelBuilder.forName(serverName).directExecutor().build();
+        blockingStub = SkuServiceGrpc.newBlockingStub(channel);
+        asyncStub = SkuServiceGrpc.newStub(channel);
+
+        skuResponse = SkuResponse.builder()
+                .id(UUID.randomUUID())
+                .skuCode("THD-LBR-0000001")
+                .name("Test Product")
+                .category("LBR")
+                .price(new BigDecimal("10.99"))
+                .upc("012345678901")
+                .status("ACTIVE")
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    void getSku_ByUpc_ReturnsSku() {
+        when(skuService.getSkuByUpc("012345678901")).thenReturn(skuResponse);
+
+        Sku sku = blockingStub.getSku(SkuKey.newBuilder().setUpc("012345678901").build());
+
+        assertThat(sku.getSkuCode()).isEqualTo("THD-LBR-0000001");
+        assertThat(sku.getPrice()).isEqualTo("10.99");
+    }
+
+    @Test
+    void getSku_NonExistingSku_ReturnsNotFound() {
+        when(skuService.getSkuByCode("THD-LBR-9999999")).thenThrow(new SkuNotFoundException("SKU not found"));
+
+        assertThatThrownBy(() -> blockingStub.getSku(SkuKey.newBuilder().setSkuCode("THD-LBR-9999999").build()))
+                .isInstanceOf(StatusRuntimeException.class)
+                .extracting(e -> ((StatusRuntimeException) e).getStatus().getCode())
+                .isEqualTo(Status.Code.NOT_FOUND);
+    }
+
+    @Test
+    void createSku_InvalidInput_ReturnsInvalidArgument() {
+        SkuInput input = SkuInput.newBuilder().setName("").setCategory("INVALID").build();
+
+        assertThatThrownBy(() -> blockingStub.createSku(input))
+                .isInstanceOf(StatusRuntimeException.class)
+                .extracting(e -> ((StatusRuntimeException) e).getStatus().getCode())
+                .isEqualTo(Status.Code.INVALID_ARGUMENT);
+        verify(skuService, never()).createSku(any());
+    }
+
+    @Test
+    void streamLookup_MixedKeys_StreamsResultsInOrder() throws Exception {
+        when(skuService.getSkuByUpc("012345678901")).thenReturn(skuResponse);
+        when(skuService.getSkuByUpc("000000000000")).thenThrow(new SkuNotFoundException("SKU not found"));
+        when(skuService.getSkuByCode("THD-LBR-0000001")).thenReturn(skuResponse);
+
+        List<LookupResponse> responses = new CopyOnWriteArrayList<>();
+        CountDownLatch completed = new CountDownLatch(1);
+        StreamObserver<LookupRequest> requests = asyncStub.streamLookup(new StreamObserver<>() {
+            @Override
+            public void onNext(LookupResponse value) {
+                responses.add(value);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                completed.countDown();
+            }
+
+            @Override
+            public void onCompleted() {
+                completed.countDown();
+            }
+        });
+
+        requests.onNext(lookup("1", SkuKey.newBuilder().setUpc("012345678901")));
+        requests.onNext(lookup("2", SkuKey.newBuilder().setUpc("000000000000")));
+        requests.onNext(lookup("3", SkuKey.newBuilder().setSkuCode("THD-LBR-0000001")));
+        requests.onCompleted();
+
+        assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(responses).extracting(LookupResponse::getCorrelationId).containsExactly("1", "2", "3");
+        assertThat(responses.get(0).getSku().getUpc()).isEqualTo("012345678901");
+        assertThat(responses.get(1).getError().getCode()).isEqualTo("NOT_FOUND");
+        assertThat(responses.get(2).hasSku()).isTrue();
+    }
+
+    private static LookupRequest lookup(String correlationId, SkuKey.Builder key) {
+        return LookupRequest.newBuilder().setCorrelationId(correlationId).setKey(key).build();
+    }
+}
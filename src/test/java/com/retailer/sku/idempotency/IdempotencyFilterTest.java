@@ -0,0 +1,206 @@
+package com.retailer.sku.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.retailer.sku.exception.GlobalExceptionHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class IdempotencyFilterTest {
+
+    private static final String KEY = "3f1c8a2e-retry";
+    private static final String CREATED = "{\"id\":\"created\"}";
+
+    private IdempotencyStore store;
+    private IdempotencyFilter filter;
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        store = mock(IdempotencyStore.class);
+        when(store.claim(anyString(), any())).thenReturn(true);
+        filter = new IdempotencyFilter(store, new IdempotencyProperties(),
+                new ObjectMapper().registerModule(new JavaTimeModule()), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void doFilter_RetryWithSamePayload_ReplaysStoredResponse() throws Exception {
+        MockHttpServletResponse first = send("{\"name\":\"Hammer\"}", creating());
+        IdempotencyStore.Entry stored = completedEntry();
+        when(store.cached(KEY)).thenReturn(stored);
+
+        MockHttpServletResponse retry = send("{\"name\":\"Hammer\"}", creating());
+
+        assertThat(executions).hasValue(1);
+        assertThat(first.getStatus()).isEqualTo(201);
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getContentAsString()).isEqualTo(CREATED);
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    void doFilter_SameKeyDifferentPayload_Returns422() throws Exception {
+        send("{\"name\":\"Hammer\"}", creating());
+        IdempotencyStore.Entry stored = completedEntry();
+        when(store.cached(KEY)).thenReturn(stored);
+
+        MockHttpServletResponse retry = send("{\"name\":\"Wrench\"}", creating());
+
+        assertThat(executions).hasValue(1);
+        assertThat(retry.getStatus()).isEqualTo(422);
+        assertThat(retry.getContentAsString()).contains("idempotency-key-reused");
+    }
+
+    @Test
+    void doFilter_ConcurrentDuplicate_WaitsForFirstExecution() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain slow = (request, response) -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new ServletException(e);
+            }
+            creating().doFilter(request, response);
+        };
+
+        CompletableFuture<MockHttpServletResponse> first = CompletableFuture.supplyAsync(() -> sendUnchecked(slow));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<MockHttpServletResponse> duplicate =
+                CompletableFuture.supplyAsync(() -> sendUnchecked(creating()));
+        Thread.sleep(100);
+        assertThat(duplicate).isNotDone();
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo(CREATED);
+        MockHttpServletResponse waited = duplicate.get(5, TimeUnit.SECONDS);
+        assertThat(waited.getStatus()).isEqualTo(201);
+        assertThat(waited.getContentAsString()).isEqualTo(CREATED);
+        assertThat(waited.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(executions).hasValue(1);
+        verify(store, times(1)).claim(eq(KEY), any());
+    }
+
+    @Test
+    void doFilter_ServerError_ReleasesKeyForRetry() throws Exception {
+        FilterChain failing = (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(503);
+        };
+
+        send("{\"name\":\"Hammer\"}", failing);
+        send("{\"name\":\"Hammer\"}", creating());
+
+        assertThat(executions).hasValue(2);
+        verify(store).release(KEY);
+        verify(store, times(1)).complete(eq(KEY), any());
+    }
+
+    @Test
+    void doFilter_OutcomeUnknown_HoldsKeyInsteadOfReleasing() throws Exception {
+        FilterChain timedOut = (request, response) -> {
+            executions.incrementAndGet();
+            request.setAttribute(GlobalExceptionHandler.OUTCOME_UNKNOWN_ATTRIBUTE, true);
+            ((HttpServletResponse) response).setStatus(503);
+        };
+
+        MockHttpServletResponse response = send("{\"name\":\"Hammer\"}", timedOut);
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        verify(store).hold(eq(KEY), any());
+        verify(store, never()).release(anyString());
+        verify(store, never()).complete(anyString(), any());
+    }
+
+    @Test
+    void doFilter_NonBlockingRead_DeliversBufferedBody() throws Exception {
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        AtomicBoolean allRead = new AtomicBoolean();
+        FilterChain nonBlocking = (request, response) -> {
+            ServletInputStream input = request.getInputStream();
+            input.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    while (input.isReady() && !input.isFinished()) {
+                        received.write(input.read());
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    allRead.set(true);
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                }
+            });
+            creating().doFilter(request, response);
+        };
+
+        send("{\"name\":\"Hammer\"}", nonBlocking);
+
+        assertThat(received.toString(StandardCharsets.UTF_8)).isEqualTo("{\"name\":\"Hammer\"}");
+        assertThat(allRead).isTrue();
+    }
+
+    private FilterChain creating() {
+        return (request, response) -> {
+            executions.incrementAndGet();
+            request.getInputStream().readAllBytes();
+            HttpServletResponse http = (HttpServletResponse) response;
+            http.setStatus(201);
+            http.setContentType("application/json");
+            http.getOutputStream().write(CREATED.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private IdempotencyStore.Entry completedEntry() {
+        ArgumentCaptor<IdempotencyStore.Entry> captor = ArgumentCaptor.forClass(IdempotencyStore.Entry.class);
+        verify(store).complete(eq(KEY), captor.capture());
+        return captor.getValue();
+    }
+
+    private MockHttpServletResponse sendUnchecked(FilterChain chain) {
+        try {
+            return send("{\"name\":\"Hammer\"}", chain);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private MockHttpServletResponse send(String body, FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/skus");
+        request.addHeader("Idempotency-Key", KEY);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
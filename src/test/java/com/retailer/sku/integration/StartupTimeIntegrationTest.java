@@ -0,0 +1,106 @@
+package com.retailer.sku.integration;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.AbstractWaitStrategy;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+@Tag("startup")
+class StartupTimeIntegrationTest {
+
+    private static final Duration MAX_TIME_TO_FIRST_REQUEST =
+            Duration.ofSeconds(Long.getLong("startup.max-seconds", 60));
+
+    private static Network network;
+    private static PostgreSQLContainer<?> postgres;
+
+    @BeforeAll
+    static void startDatabase() {
+        network = Network.newNetwork();
+        postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+                .withNetwork(network)
+                .withNetworkAliases("postgres")
+                .withDatabaseName("skudb")
+                .withUsername("sku_user")
+                .withPassword("sku_password");
+        postgres.start();
+    }
+
+    @AfterAll
+    static void stopDatabase() {
+        postgres.stop();
+        network.close();
+    }
+
+    static Stream<String> images() {
+        String images = System.getProperty("startup.images", "");
+        assumeFalse(images.isBlank(), "No images given, set -PstartupImages=jvm=sku-service:latest,...");
+        return Arrays.stream(images.split(",")).map(String::trim).filter(image -> !image.isEmpty());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("images")
+    void timeToFirstRequest(String modeAndImage) throws Exception {
+        String[] parts = modeAndImage.split("=", 2);
+        String mode = parts.length == 2 ? parts[0] : modeAndImage;
+        String image = parts.length == 2 ? parts[1] : modeAndImage;
+
+        try (GenericContainer<?> app = new GenericContainer<>(image)
+                .withNetwork(network)
+                .withEnv("SPRING_DATASOURCE_URL", "jdbc:postgresql://postgres:5432/skudb")
+                .withEnv("SPRING_DATASOURCE_USERNAME", "sku_user")
+                .withEnv("SPRING_DATASOURCE_PASSWORD", "sku_password")
+                .withEnv("OTEL_SDK_DISABLED", "true")
+                .withEnv("MANAGEMENT_OTLP_METRICS_EXPORT_ENABLED", "false")
+                .withExposedPorts(8080)
+                .waitingFor(new AbstractWaitStrategy() {
+                    @Override
+                    protected void waitUntilReady() {
+                    }
+                })) {
+
+            long started = System.nanoTime();
+            app.start();
+            Duration elapsed = awaitFirstRequest(app, started);
+
+            System.out.printf("time-to-first-request mode=%s image=%s millis=%d%n", mode, image, elapsed.toMillis());
+            assertThat(elapsed).isLessThan(MAX_TIME_TO_FIRST_REQUEST);
+        }
+    }
+
+    private static Duration awaitFirstRequest(GenericContainer<?> app, long started) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+        URI uri = URI.create("http://" + app.getHost() + ":" + app.getMappedPort(8080) + "/api/v1/skus?size=1");
+        long deadline = started + MAX_TIME_TO_FIRST_REQUEST.multipliedBy(2).toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+                        HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return Duration.ofNanos(System.nanoTime() - started);
+                }
+            } catch (IOException e) {
+                // Not listening yet.
+            }
+            Thread.sleep(20);
+        }
+        return Duration.ofNanos(System.nanoTime() - started);
+    }
+}
@@ -0,0 +1,126 @@
+package com.retailer.sku.jfr;
+
+import com.retailer.sku.model.dto.SkuRequest;
+import com.retailer.sku.model.dto.SkuResponse;
+import com.retailer.sku.profiler.JdbcActivity;
+import com.retailer.sku.service.SkuService;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SkuOperationEventAspectTest {
+
+    @TempDir
+    Path directory;
+
+    private Recording recording;
+    private SkuService skuService;
+    private SkuService advised;
+
+    @BeforeEach
+    void setUp() {
+        recording = new Recording();
+        recording.enable(SkuOperationEvent.class).withThreshold(Duration.ZERO);
+        recording.start();
+
+        skuService = mock(SkuService.class);
+        AspectJProxyFactory factory = new AspectJProxyFactory(skuService);
+        factory.addAspect(new SkuOperationEventAspect());
+        advised = factory.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        recording.close();
+    }
+
+    @Test
+    void record_BatchCreate_CapturesCategoryBatchSizeAndJdbcActivity() throws Exception {
+        when(skuService.createSkusBatch(anyList())).thenAnswer(invocation -> {
+            JdbcActivity.recordStatement(Duration.ofMillis(2).toNanos());
+            JdbcActivity.recordStatement(Duration.ofMillis(3).toNanos());
+            JdbcActivity.recordRows(3);
+            return List.of();
+        });
+
+        advised.createSkusBatch(List.of(request("TOL"), request("TOL"), request("TOL")));
+
+        RecordedEvent event = single(events());
+        assertThat(event.getString("operation")).isEqualTo("createSkusBatch");
+        assertThat(event.getString("category")).isEqualTo("TOL");
+        assertThat(event.getInt("batchSize")).isEqualTo(3);
+        assertThat(event.getLong("statements")).isEqualTo(2);
+        assertThat(event.getLong("rows")).isEqualTo(3);
+        assertThat(event.getDuration("dbTime")).isEqualTo(Duration.ofMillis(5));
+        assertThat(event.getBoolean("failed")).isFalse();
+    }
+
+    @Test
+    void summarize_FailedAndMixedOperations_GroupedPerOperation() throws Exception {
+        when(skuService.createSku(any())).thenReturn(SkuResponse.builder().build());
+        when(skuService.getSkuById(any())).thenThrow(new QueryTimeoutException("statement timeout"));
+
+        advised.createSku(request("PLB"));
+        advised.createSku(request("ELC"));
+        assertThatThrownBy(() -> advised.getSkuById(UUID.randomUUID())).isInstanceOf(QueryTimeoutException.class);
+
+        List<RecordedEvent> events = events();
+        assertThat(events).extracting(event -> event.getString("category")).contains("PLB", "ELC");
+        assertThat(events).filteredOn(event -> event.getBoolean("failed"))
+                .extracting(event -> event.getString("exception"))
+                .containsExactly(QueryTimeoutException.class.getName());
+
+        Path file = directory.resolve("summary.jfr");
+        recording.dump(file);
+        List<RecordingAnalyzer.OperationSummary> summaries = RecordingAnalyzer.summarize(file);
+        assertThat(summaries).extracting(RecordingAnalyzer.OperationSummary::operation)
+                .containsExactlyInAnyOrder("createSku", "getSkuById");
+        assertThat(summaries).filteredOn(summary -> summary.operation().equals("createSku"))
+                .singleElement()
+                .satisfies(summary -> {
+                    assertThat(summary.count()).isEqualTo(2);
+                    assertThat(summary.failed()).isZero();
+                    assertThat(summary.batchItems()).isEqualTo(2);
+                });
+        assertThat(summaries).filteredOn(summary -> summary.operation().equals("getSkuById"))
+                .singleElement()
+                .satisfies(summary -> assertThat(summary.failed()).isEqualTo(1));
+    }
+
+    private List<RecordedEvent> events() throws Exception {
+        Path file = directory.resolve(UUID.randomUUID() + ".jfr");
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(SkuOperationEvent.NAME))
+                .toList();
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events) {
+        assertThat(events).hasSize(1);
+        return events.get(0);
+    }
+
+    private static SkuRequest request(String category) {
+        return SkuRequest.builder().name("Claw Hammer").category(category).upc("012345678905")
+                .price(BigDecimal.TEN).build();
+    }
+}
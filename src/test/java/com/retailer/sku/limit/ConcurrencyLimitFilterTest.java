@@ -0,0 +1,106 @@
+package com.retailer.sku.limit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTest {
+
+    private ConcurrencyLimitProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private AdaptiveConcurrencyLimiter limiter;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ConcurrencyLimitProperties();
+        properties.setInitialLimit(10);
+        properties.setMinLimit(2);
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new AdaptiveConcurrencyLimiter(properties, meterRegistry);
+        filter = new ConcurrencyLimitFilter(limiter, properties, new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @Test
+    void classify_Routes_AssignsPriority() {
+        assertThat(filter.classify(new MockHttpServletRequest("GET", "/api/v1/skus/upc/012345678901")))
+                .isEqualTo(RequestPriority.CRITICAL);
+        assertThat(filter.classify(new MockHttpServletRequest("POST", "/api/v1/skus/lookup")))
+                .isEqualTo(RequestPriority.CRITICAL);
+        assertThat(filter.classify(new MockHttpServletRequest("GET", "/api/v1/skus/search")))
+                .isEqualTo(RequestPriority.NORMAL);
+        assertThat(filter.classify(new MockHttpServletRequest("POST", "/api/v1/skus/batch-jobs")))
+                .isEqualTo(RequestPriority.LOW);
+
+        MockHttpServletRequest overridden = new MockHttpServletRequest("GET", "/api/v1/skus/search");
+        overridden.addHeader("X-Request-Priority", "low");
+        assertThat(filter.classify(overridden)).isEqualTo(RequestPriority.LOW);
+    }
+
+    @Test
+    void classify_HeaderAboveRouteClass_CappedAtRouteClass() {
+        MockHttpServletRequest batch = new MockHttpServletRequest("POST", "/api/v1/skus/batch-jobs");
+        batch.addHeader("X-Request-Priority", "critical");
+        assertThat(filter.classify(batch)).isEqualTo(RequestPriority.LOW);
+
+        MockHttpServletRequest search = new MockHttpServletRequest("GET", "/api/v1/skus/search");
+        search.addHeader("X-Request-Priority", "CRITICAL");
+        assertThat(filter.classify(search)).isEqualTo(RequestPriority.NORMAL);
+
+        MockHttpServletRequest lookup = new MockHttpServletRequest("GET", "/api/v1/skus/upc/012345678901");
+        lookup.addHeader("X-Request-Priority", "normal");
+        assertThat(filter.classify(lookup)).isEqualTo(RequestPriority.NORMAL);
+    }
+
+    @Test
+    void tryAcquire_LowShareExhausted_ShedsLowButAdmitsCritical() {
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire(RequestPriority.LOW)).isNotNull();
+        }
+
+        assertThat(limiter.tryAcquire(RequestPriority.LOW)).isNull();
+        assertThat(limiter.tryAcquire(RequestPriority.CRITICAL)).isNotNull();
+        assertThat(meterRegistry.get("sku.concurrency.rejected").tag("priority", "low").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void doFilter_LimitReached_Returns429WithRetryAfter() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire(RequestPriority.LOW);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/skus/batch"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    void onSample_LatencyInflates_ShrinksLimit() {
+        GradientLimit limit = new GradientLimit(properties);
+        for (int i = 0; i < 200; i++) {
+            limit.onSample(TimeUnit.MILLISECONDS.toNanos(10), limit.getLimit(), false);
+        }
+        int healthy = limit.getLimit();
+
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(TimeUnit.MILLISECONDS.toNanos(200), limit.getLimit(), false);
+        }
+
+        assertThat(healthy).isGreaterThan(10);
+        assertThat(limit.getLimit()).isLessThan(healthy / 2);
+    }
+}
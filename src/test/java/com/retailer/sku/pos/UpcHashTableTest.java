@@ -0,0 +1,99 @@
+package com.retailer.sku.pos;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.retailer.sku.model.dto.PosSkuResponse;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UpcHashTableTest {
+
+    private static final int CHUNK_BYTES = 1 << 16;
+
+    private final byte[] body = new byte[UpcHashTable.MAX_BODY_BYTES];
+
+    @Test
+    void render_IndexedUpc_MatchesJacksonBody() throws Exception {
+        UpcHashTable table = new UpcHashTable(100, CHUNK_BYTES, 1 << 20);
+        PosSkuResponse expected = PosSkuResponse.builder()
+                .upc("012345678901")
+                .skuCode("THD-LBR-0000001")
+                .name("2\" x 4\" Stud – Kiln Dried\t#2")
+                .price(new BigDecimal("8.99"))
+                .status("ACTIVE")
+                .build();
+
+        table.put(12345678901L, UpcHashTable.encode(expected.getSkuCode(), expected.getName(),
+                expected.getPrice(), expected.getStatus()));
+        int length = table.render(UpcHashTable.parseUpc("012345678901"), body);
+
+        assertThat(new String(body, 0, length, StandardCharsets.UTF_8))
+                .isEqualTo(new ObjectMapper().writeValueAsString(expected));
+    }
+
+    @Test
+    void put_ReplacedAndRemoved_ServesLatestState() {
+        UpcHashTable table = new UpcHashTable(100, CHUNK_BYTES, 1 << 20);
+
+        table.put(1L, UpcHashTable.encode("THD-LBR-0000001", "Old", BigDecimal.ONE, "ACTIVE"));
+        table.put(1L, UpcHashTable.encode("THD-LBR-0000001", "New", null, "ACTIVE"));
+
+        String rendered = new String(body, 0, table.render(1L, body), StandardCharsets.UTF_8);
+        assertThat(rendered).contains("\"name\":\"New\"", "\"price\":null");
+        assertThat(table.size()).isEqualTo(1);
+        assertThat(table.garbageBytes()).isPositive();
+
+        table.remove(1L);
+        assertThat(table.render(1L, body)).isEqualTo(-1);
+        assertThat(table.size()).isZero();
+
+        table.put(1L, UpcHashTable.encode("THD-LBR-0000001", "Back", null, "ACTIVE"));
+        assertThat(table.contains(1L)).isTrue();
+        assertThat(table.size()).isEqualTo(1);
+    }
+
+    @Test
+    void holds_SameAndChangedRecord_ComparesStoredBytes() {
+        UpcHashTable table = new UpcHashTable(100, CHUNK_BYTES, 1 << 20);
+        byte[] record = UpcHashTable.encode("THD-LBR-0000001", "Stud", new BigDecimal("8.99"), "ACTIVE");
+        table.put(1L, record);
+
+        assertThat(table.holds(1L, UpcHashTable.encode("THD-LBR-0000001", "Stud", new BigDecimal("8.99"), "ACTIVE")))
+                .isTrue();
+        assertThat(table.holds(1L, UpcHashTable.encode("THD-LBR-0000001", "Stud", new BigDecimal("9.49"), "ACTIVE")))
+                .isFalse();
+        assertThat(table.holds(2L, record)).isFalse();
+
+        table.remove(1L);
+        assertThat(table.holds(1L, record)).isFalse();
+    }
+
+    @Test
+    void put_TableAtCapacity_ReturnsFalse() {
+        UpcHashTable table = new UpcHashTable(1, CHUNK_BYTES, 1 << 20);
+        byte[] record = UpcHashTable.encode("THD-LBR-0000001", "Lumber", BigDecimal.TEN, "ACTIVE");
+
+        int inserted = 0;
+        while (table.put(inserted, record)) {
+            inserted++;
+        }
+
+        assertThat(inserted).isPositive().isLessThan(16);
+        assertThat(table.put(0, record)).isTrue();
+        for (long upc = 0; upc < inserted; upc++) {
+            assertThat(table.contains(upc)).isTrue();
+        }
+        assertThat(table.contains(inserted)).isFalse();
+    }
+
+    @Test
+    void parseUpc_NotTwelveDigits_ReturnsNegative() {
+        assertThat(UpcHashTable.parseUpc("012345678901")).isEqualTo(12345678901L);
+        assertThat(UpcHashTable.parseUpc("01234567890")).isNegative();
+        assertThat(UpcHashTable.parseUpc("01234567890A")).isNegative();
+        assertThat(UpcHashTable.parseUpc(null)).isNegative();
+    }
+}
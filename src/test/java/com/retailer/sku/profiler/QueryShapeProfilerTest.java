@@ -0,0 +1,125 @@
+package com.retailer.sku.profiler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QueryShapeProfilerTest {
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Mock
+    private DataSource explainSource;
+
+    private QueryProfilerProperties properties;
+    private QueryShapeProfiler profiler;
+
+    @BeforeEach
+    void setUp() {
+        properties = new QueryProfilerProperties();
+        profiler = new QueryShapeProfiler(properties);
+    }
+
+    @Test
+    void normalize_LiteralsAndInLists_CollapseToOneShape() {
+        String first = QueryShapeProfiler.normalize(
+                "SELECT * FROM skus\n WHERE category = 'HRD' AND price > 10.5 AND id IN (?, ?, ?) LIMIT 20");
+        String second = QueryShapeProfiler.normalize(
+                "SELECT * FROM skus WHERE category = 'O''Neil' AND price > 3 AND id IN (?,?) LIMIT 50");
+
+        assertThat(first).isEqualTo("SELECT * FROM skus WHERE category = ? AND price > ? AND id IN (?...) LIMIT ?");
+        assertThat(second).isEqualTo(first);
+        assertThat(QueryShapeProfiler.normalize("SELECT s1_0.id FROM skus s1_0")).isEqualTo("SELECT s1_0.id FROM skus s1_0");
+    }
+
+    @Test
+    void wrap_PreparedQuery_RecordsCallsRowsAndLatency() throws Exception {
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, false, true, true, false);
+
+        Connection profiled = ProfilingJdbc.wrap(connection, profiler, null);
+        for (int i = 0; i < 2; i++) {
+            try (PreparedStatement ps = profiled.prepareStatement("SELECT * FROM skus WHERE upc = ?")) {
+                ps.setString(1, "012345678905");
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        rs.getString(1);
+                    }
+                }
+            }
+        }
+
+        List<QueryShapeProfiler.ShapeSummary> shapes = profiler.summaries(Comparator.comparing(QueryShapeProfiler.ShapeSummary::sql), 10);
+        assertThat(shapes).hasSize(1);
+        QueryShapeProfiler.ShapeSummary summary = shapes.get(0);
+        assertThat(summary.calls()).isEqualTo(2);
+        assertThat(summary.rows()).isEqualTo(4);
+        assertThat(summary.errors()).isZero();
+        assertThat(summary.histogram().values().stream().mapToLong(Long::longValue).sum()).isEqualTo(2);
+        assertThat(summary.p99Millis()).isLessThanOrEqualTo(summary.maxMillis());
+    }
+
+    @Test
+    void record_SlowSelect_CapturesPlanOncePerInterval() throws Exception {
+        properties.setSlowThreshold(Duration.ofMillis(1));
+        when(explainSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(mock(Statement.class));
+        when(connection.prepareStatement("EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM skus WHERE upc = ?")).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getString(1)).thenReturn(
+                "Index Scan using idx_sku_upc on skus_hrd  Index Cond: ((upc)::text = '012345678905'::text)");
+
+        String sql = "SELECT * FROM skus WHERE upc = ?";
+        QueryShape shape = profiler.shapeOf(sql);
+        List<QueryShapeProfiler.Binding> bindings = List.of(new QueryShapeProfiler.Binding(
+                PreparedStatement.class.getMethod("setString", int.class, String.class), new Object[]{1, "012345678905"}));
+        profiler.record(shape, sql, Duration.ofMillis(5).toNanos(), false, bindings, explainSource);
+        profiler.record(shape, sql, Duration.ofMillis(5).toNanos(), false, bindings, explainSource);
+
+        verify(explainSource, timeout(2000)).getConnection();
+        verify(connection, timeout(2000)).close();
+        verify(connection).rollback();
+        verify(statement).setString(1, "012345678905");
+        verify(connection).setReadOnly(true);
+        verify(explainSource, times(1)).getConnection();
+        assertThat(profiler.summary(shape.id()).plans()).singleElement()
+                .satisfies(plan -> assertThat(plan.plan()).contains("idx_sku_upc", "= ?::text")
+                        .doesNotContain("012345678905"));
+    }
+
+    @Test
+    void record_SlowUpdate_IsNeverExplained() {
+        properties.setSlowThreshold(Duration.ofMillis(1));
+        String sql = "UPDATE skus SET price = ? WHERE id = ?";
+
+        profiler.record(profiler.shapeOf(sql), sql, Duration.ofSeconds(1).toNanos(), false, List.of(), explainSource);
+
+        verifyNoInteractions(explainSource);
+        assertThat(profiler.summary(profiler.shapeOf(sql).id()).calls()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,95 @@
+package com.retailer.sku.proto;
+
+import com.retailer.sku.model.dto.DimensionsDto;
+import com.retailer.sku.model.dto.SkuResponse;
+import com.retailer.sku.proto.v1.Sku;
+import com.retailer.sku.proto.v1.SkuPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SkuProtobufHttpMessageConverterTest {
+
+    private SkuProtobufHttpMessageConverter converter;
+    private SkuResponse skuResponse;
+
+    @BeforeEach
+    void setUp() {
+        converter = new SkuProtobufHttpMessageConverter(new SkuProtoMapper());
+
+        skuResponse = SkuResponse.builder()
+                .id(UUID.randomUUID())
+                .skuCode("THD-LBR-0000001")
+                .upc("012345678901")
+                .name("Test Product")
+                .category("LBR")
+                .price(new BigDecimal("10.90"))
+                .dimensions(DimensionsDto.builder().length(new BigDecimal("96.00")).build())
+                .status("ACTIVE")
+                .tags(List.of("outdoor"))
+                .attributes(Map.of("grade", "#2"))
+                .createdAt(Instant.parse("2024-01-15T10:30:00.123Z"))
+                .version(3L)
+                .build();
+    }
+
+    @Test
+    void canWrite_SkuTypes_ReturnsTrue() {
+        assertThat(converter.canWrite(SkuResponse.class, SkuResponse.class, SkuProtobufHttpMessageConverter.PROTOBUF))
+                .isTrue();
+        assertThat(converter.canWrite(new ParameterizedTypeReference<Page<SkuResponse>>() {
+        }.getType(), PageImpl.class, SkuProtobufHttpMessageConverter.PROTOBUF)).isTrue();
+        assertThat(converter.canWrite(new ParameterizedTypeReference<List<SkuResponse>>() {
+        }.getType(), List.class, SkuProtobufHttpMessageConverter.PROTOBUF)).isTrue();
+    }
+
+    @Test
+    void canWrite_OtherTypesOrMediaTypes_ReturnsFalse() {
+        assertThat(converter.canWrite(new ParameterizedTypeReference<List<String>>() {
+        }.getType(), List.class, SkuProtobufHttpMessageConverter.PROTOBUF)).isFalse();
+        assertThat(converter.canWrite(SkuResponse.class, SkuResponse.class, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(converter.canRead(SkuResponse.class, null, SkuProtobufHttpMessageConverter.PROTOBUF)).isFalse();
+    }
+
+    @Test
+    void write_SkuResponse_RoundTripsThroughSchema() throws Exception {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        converter.write(skuResponse, SkuResponse.class, SkuProtobufHttpMessageConverter.PROTOBUF, output);
+
+        Sku sku = Sku.parseFrom(output.getBodyAsBytes());
+        assertThat(sku.getSkuCode()).isEqualTo("THD-LBR-0000001");
+        assertThat(sku.getPrice()).isEqualTo("10.90");
+        assertThat(sku.hasBrand()).isFalse();
+        assertThat(new SkuProtoMapper().fromProto(sku)).isEqualTo(skuResponse);
+        assertThat(output.getHeaders().getContentType()).isEqualTo(SkuProtobufHttpMessageConverter.PROTOBUF);
+    }
+
+    @Test
+    void write_Page_IncludesPagingMetadata() throws Exception {
+        Page<SkuResponse> page = new PageImpl<>(List.of(skuResponse), PageRequest.of(2, 1), 10);
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        converter.write(page, new ParameterizedTypeReference<Page<SkuResponse>>() {
+        }.getType(), SkuProtobufHttpMessageConverter.PROTOBUF, output);
+
+        SkuPage skuPage = SkuPage.parseFrom(output.getBodyAsBytes());
+        assertThat(skuPage.getContentCount()).isEqualTo(1);
+        assertThat(skuPage.getNumber()).isEqualTo(2);
+        assertThat(skuPage.getTotalElements()).isEqualTo(10);
+        assertThat(skuPage.getTotalPages()).isEqualTo(10);
+    }
+}
@@ -2,30 +2,55 @@ package com.retailer.sku.service;
 
 import com.retailer.sku.exception.DuplicateSkuException;
 import com.retailer.sku.exception.SkuNotFoundException;
+import com.retailer.sku.keyfilter.SkuKeyIndex;
+import com.retailer.sku.model.dto.BatchJobItemResult;
+import com.retailer.sku.model.dto.BulkSkuUpdateItem;
+import com.retailer.sku.model.dto.BulkSkuUpdateResponse;
+import com.retailer.sku.model.dto.BulkSkuUpdateResult;
 import com.retailer.sku.model.dto.SkuRequest;
 import com.retailer.sku.model.dto.SkuResponse;
 import com.retailer.sku.model.dto.SkuUpdateRequest;
 import com.retailer.sku.model.entity.Sku;
+import com.retailer.sku.pos.PosUpcIndex;
+import com.retailer.sku.repository.PromotedAttributeProperties;
+import com.retailer.sku.repository.SkuBulkUpdateRepository;
+import com.retailer.sku.repository.SkuBulkUpdateRepository.SkuVersion;
 import com.retailer.sku.repository.SkuRepository;
+import com.retailer.sku.suggest.SkuSuggestIndex;
+import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanBuilder;
 import io.opentelemetry.api.trace.Tracer;
 import io.opentelemetry.context.Scope;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -50,6 +75,33 @@ class SkuServiceImplTest {
     @Mock
     private Scope scope;
 
+    @Mock
+    private SkuBulkUpdateRepository skuBulkUpdateRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private BulkUpdateProperties bulkUpdateProperties;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private SkuKeyIndex skuKeyIndex;
+
+    @Mock
+    private SkuSuggestIndex skuSuggestIndex;
+
+    @Mock
+    private PosUpcIndex posUpcIndex;
+
+    @Mock
+    private PromotedAttributeProperties promotedAttributeProperties;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private SkuServiceImpl skuService;
 
@@ -99,6 +151,9 @@ class SkuServiceImplTest {
         lenient().when(spanBuilder.setAttribute(anyString(), anyString())).thenReturn(spanBuilder);
         lenient().when(spanBuilder.startSpan()).thenReturn(span);
         lenient().when(span.makeCurrent()).thenReturn(scope);
+
+        lenient().when(skuKeyIndex.mightContainUpc(anyString())).thenReturn(true);
+        lenient().when(skuKeyIndex.mightContainSkuCode(anyString())).thenReturn(true);
     }
 
     @Test
@@ -178,6 +233,7 @@ class SkuServiceImplTest {
         skuService.deleteSku(skuId);
 
         verify(skuRepository).save(argThat(s -> "DISCONTINUED".equals(s.getStatus())));
+        verify(skuSuggestIndex).update(sku);
     }
 
     @Test
@@ -204,4 +260,143 @@ class SkuServiceImplTest {
         verify(skuMapper).updateEntityFromRequest(eq(updateRequest), any(Sku.class));
         verify(skuRepository).save(any(Sku.class));
     }
+
+    @Test
+    void partialUpdateSkusChunk_VersionMoved_ReportsConflictWithoutApplying() {
+        sku.setVersion(5L);
+        UUID missingId = UUID.randomUUID();
+        SkuUpdateRequest patch = SkuUpdateRequest.builder().price(new BigDecimal("3.99")).build();
+        when(skuRepository.findAllByIdIn(Set.of(skuId, missingId))).thenReturn(List.of(sku));
+        when(skuRepository.saveAllAndFlush(List.of())).thenReturn(List.of());
+
+        List<BulkSkuUpdateResult> results = skuService.partialUpdateSkusChunk(
+                Map.of(skuId, patch, missingId, patch), Map.of(skuId, 4L, missingId, 1L));
+
+        assertThat(results).extracting(BulkSkuUpdateResult::getId, BulkSkuUpdateResult::getOutcome)
+                .containsExactlyInAnyOrder(
+                        tuple(skuId, BulkSkuUpdateResult.CONFLICT),
+                        tuple(missingId, BulkSkuUpdateResult.NOT_FOUND));
+        verify(skuMapper, never()).updateEntityFromRequest(any(), any());
+    }
+
+    @Test
+    void bulkUpdateSkus_MixedItems_ReportsOutcomePerItem() {
+        UUID staleId = UUID.randomUUID();
+        List<BulkSkuUpdateItem> items = List.of(
+                BulkSkuUpdateItem.builder().id(skuId).price(new BigDecimal("12.49")).build(),
+                BulkSkuUpdateItem.builder().id(staleId).status("INACTIVE").expectedVersion(1L).build(),
+                BulkSkuUpdateItem.builder().skuCode("THD-LBR-9999999").price(BigDecimal.ONE).build());
+
+        lenient().when(spanBuilder.setAttribute(any(AttributeKey.class), any())).thenReturn(spanBuilder);
+        when(bulkUpdateProperties.getChunkSize()).thenReturn(1000);
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(skuBulkUpdateRepository.updateById(anyList()))
+                .thenReturn(List.of(new SkuVersion(skuId, "THD-LBR-0000001", 4L)));
+        when(skuBulkUpdateRepository.updateBySkuCode(anyList())).thenReturn(List.of());
+        when(skuBulkUpdateRepository.findVersionsById(List.of(staleId)))
+                .thenReturn(List.of(new SkuVersion(staleId, "THD-LBR-0000002", 3L)));
+        when(skuBulkUpdateRepository.findVersionsBySkuCode(List.of("THD-LBR-9999999"))).thenReturn(List.of());
+
+        BulkSkuUpdateResponse response = skuService.bulkUpdateSkus(items);
+
+        assertThat(response.getUpdated()).isEqualTo(1);
+        assertThat(response.getConflicts()).isEqualTo(1);
+        assertThat(response.getNotFound()).isEqualTo(1);
+        assertThat(response.getResults()).extracting(BulkSkuUpdateResult::getOutcome)
+                .containsExactly(BulkSkuUpdateResult.UPDATED, BulkSkuUpdateResult.CONFLICT,
+                        BulkSkuUpdateResult.NOT_FOUND);
+        assertThat(response.getResults().get(1).getVersion()).isEqualTo(3L);
+        verify(posUpcIndex).refresh(List.of(skuId));
+        verify(skuSuggestIndex).refresh(List.of(skuId));
+        verify(eventPublisher).publishEvent(new SkuWrittenEvent(skuId, 4L,
+                SkuUpdateRequest.builder().price(new BigDecimal("12.49")).build()));
+    }
+
+    @Test
+    void bulkUpdateSkus_DuplicateKeys_ThrowsException() {
+        List<BulkSkuUpdateItem> items = List.of(
+                BulkSkuUpdateItem.builder().id(skuId).price(BigDecimal.ONE).build(),
+                BulkSkuUpdateItem.builder().id(skuId).status("ACTIVE").build());
+
+        lenient().when(spanBuilder.setAttribute(any(AttributeKey.class), any())).thenReturn(spanBuilder);
+
+        assertThatThrownBy(() -> skuService.bulkUpdateSkus(items))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(skuBulkUpdateRepository);
+    }
+
+    @Test
+    void createSkusChunk_DuplicateUpc_FailsOnlyThatItem() {
+        SkuRequest second = SkuRequest.builder().name("Second").category("LBR").upc("012345678902").build();
+        SkuRequest repeated = SkuRequest.builder().name("Repeated").category("LBR").upc("012345678902").build();
+
+        when(skuRepository.findExistingUpcs(anyList())).thenReturn(Set.of("012345678901"));
+        when(skuMapper.toEntity(any(SkuRequest.class))).thenReturn(sku);
+        when(skuRepository.findMaxSequenceByPrefix(anyString())).thenReturn(0);
+        when(skuRepository.saveAllAndFlush(anyList())).thenReturn(List.of(sku));
+
+        List<BatchJobItemResult> results = skuService.createSkusChunk(List.of(validRequest, second, repeated));
+
+        assertThat(results).extracting(BatchJobItemResult::getOutcome)
+                .containsExactly(BatchJobItemResult.FAILED, BatchJobItemResult.CREATED, BatchJobItemResult.FAILED);
+        assertThat(results.get(1).getId()).isEqualTo(skuId);
+        verify(entityManager).clear();
+    }
+
+    @Test
+    void getSkuByUpc_KeyFilterMiss_SkipsDatabase() {
+        when(skuKeyIndex.mightContainUpc("999999999999")).thenReturn(false);
+
+        assertThatThrownBy(() -> skuService.getSkuByUpc("999999999999"))
+                .isInstanceOf(SkuNotFoundException.class);
+        verifyNoInteractions(skuRepository);
+    }
+
+    @Test
+    void lookupSkus_IdsAndCodes_MergesWithoutDuplicates() {
+        when(skuKeyIndex.mightContainSkuCode("THD-LBR-9999999")).thenReturn(false);
+        when(skuRepository.findAllByIdIn(Set.of(skuId))).thenReturn(List.of(sku));
+        when(skuRepository.findAllBySkuCodeIn(List.of("THD-LBR-0000001"))).thenReturn(List.of(sku));
+        when(skuMapper.toResponse(sku)).thenReturn(skuResponse);
+
+        List<SkuResponse> responses = skuService.lookupSkus(List.of(skuId, skuId),
+                List.of("THD-LBR-0000001", "THD-LBR-9999999"));
+
+        assertThat(responses).containsExactly(skuResponse);
+    }
+
+    @Test
+    void createSku_KeyFilterMiss_StillChecksDatabase() {
+        // Another instance may have written the UPC after this instance's filter last synced
+        lenient().when(skuKeyIndex.mightContainUpc(anyString())).thenReturn(false);
+        when(skuRepository.existsByUpc("012345678901")).thenReturn(true);
+
+        assertThatThrownBy(() -> skuService.createSku(validRequest))
+                .isInstanceOf(DuplicateSkuException.class);
+        verify(skuRepository, never()).save(any(Sku.class));
+    }
+
+    @Test
+    void findSkusThatFit_UnsortedBox_QueriesSortedDimensionsWithoutSort() {
+        PageRequest unsorted = PageRequest.of(1, 10);
+        when(skuRepository.findFitting(new BigDecimal("4"), new BigDecimal("12"), new BigDecimal("30"),
+                new BigDecimal("15"), unsorted)).thenReturn(new SliceImpl<>(List.of(sku), unsorted, false));
+        when(skuMapper.toResponse(sku)).thenReturn(skuResponse);
+
+        Slice<SkuResponse> result = skuService.findSkusThatFit(new BigDecimal("12"), new BigDecimal("30"),
+                new BigDecimal("4"), new BigDecimal("15"), null, PageRequest.of(1, 10, Sort.by("name")));
+
+        assertThat(result.getContent()).containsExactly(skuResponse);
+    }
+
+    @Test
+    void findSkusThatFit_NonPositiveDimension_ThrowsException() {
+        assertThatThrownBy(() -> skuService.findSkusThatFit(BigDecimal.ZERO, BigDecimal.ONE, BigDecimal.ONE,
+                BigDecimal.ONE, "HRD", PageRequest.of(0, 20)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(skuRepository);
+    }
 }
@@ -0,0 +1,133 @@
+package com.retailer.sku.singleflight;
+
+import com.retailer.sku.exception.SkuNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightGroupTest {
+
+    private SingleFlightProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlightGroup group;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SingleFlightProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        group = new SingleFlightGroup(properties, meterRegistry);
+    }
+
+    @Test
+    void call_ConcurrentSameKey_SharesOneExecution() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Object>> results = List.of(
+                    callers.submit(() -> callBlocking("THD-LBR-0000001", executions, release)),
+                    callers.submit(() -> callBlocking("THD-LBR-0000001", executions, release)),
+                    callers.submit(() -> callBlocking("THD-LBR-0000001", executions, release)));
+            waitUntil(() -> followers() == 2.0);
+            Object other = call("THD-LBR-0000002", () -> "other");
+            release.countDown();
+
+            for (Future<Object> result : results) {
+                assertThat(result.get()).isEqualTo("result-1");
+            }
+            assertThat(other).isEqualTo("other");
+            assertThat(executions).hasValue(1);
+            assertThat(group.inFlight()).isZero();
+            assertThat(meterRegistry.get("sku.singleflight.callers.per.fetch").summary().max()).isEqualTo(3.0);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void call_LeaderFails_FollowersGetSameExceptionAndNextCallRetries() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        SkuNotFoundException notFound = new SkuNotFoundException("SKU not found with code: THD-LBR-0000001");
+        CompletableFuture<Object> leader = CompletableFuture.supplyAsync(() -> call(() -> {
+            release.await();
+            throw notFound;
+        }));
+        waitUntil(() -> group.inFlight() == 1);
+        CompletableFuture<Object> follower = CompletableFuture.supplyAsync(() -> call(() -> "unused"));
+        waitUntil(() -> followers() == 1.0);
+        release.countDown();
+
+        assertThatThrownBy(leader::join).hasCause(notFound);
+        assertThatThrownBy(follower::join).hasCause(notFound);
+        assertThat(call(() -> "found")).isEqualTo("found");
+    }
+
+    @Test
+    void call_LeaderHangs_FollowerTimesOut() throws Exception {
+        properties.setMaxWait(Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture.runAsync(() -> call(() -> {
+            release.await();
+            return "late";
+        }));
+        waitUntil(() -> group.inFlight() == 1);
+
+        try {
+            assertThatThrownBy(() -> call(() -> "unused"))
+                    .isInstanceOf(QueryTimeoutException.class);
+            assertThat(meterRegistry.get("sku.singleflight.timeouts").counter().count()).isEqualTo(1.0);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private double followers() {
+        Counter followers = meterRegistry.find("sku.singleflight.calls").tag("role", "follower").counter();
+        return followers == null ? 0 : followers.count();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within 5s").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private Object callBlocking(String skuCode, AtomicInteger executions, CountDownLatch release) {
+        return call(skuCode, () -> {
+            int execution = executions.incrementAndGet();
+            release.await();
+            return "result-" + execution;
+        });
+    }
+
+    private Object call(SingleFlightGroup.Invocation invocation) {
+        return call("THD-LBR-0000001", invocation);
+    }
+
+    private Object call(String skuCode, SingleFlightGroup.Invocation invocation) {
+        try {
+            return group.call("getSkuByCode", List.of(skuCode), invocation);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.retailer.sku.stream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.retailer.sku.model.dto.DimensionsDto;
+import com.retailer.sku.model.dto.SkuResponse;
+import com.retailer.sku.model.dto.SkuSearchCriteria;
+import com.retailer.sku.repository.PromotedAttributeProperties;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SkuListStreamerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private EntityManager entityManager;
+    private TypedQuery<Object[]> typedQuery;
+    private SkuListStreamer streamer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        entityManager = mock(EntityManager.class, RETURNS_DEEP_STUBS);
+        typedQuery = mock(TypedQuery.class, RETURNS_SELF);
+        when(entityManager.createQuery(any(CriteriaQuery.class))).thenReturn(typedQuery);
+        streamer = new SkuListStreamer(new ListStreamingProperties(), new PromotedAttributeProperties(),
+                entityManager, objectMapper);
+    }
+
+    @Test
+    void search_Rows_WrittenWithSkuResponseFields() throws Exception {
+        SkuResponse sku = SkuResponse.builder()
+                .id(UUID.randomUUID())
+                .skuCode("THD-LBR-0001234")
+                .upc("012345678901")
+                .name("2x4x8 \"Premium\" Lumber")
+                .category("LBR")
+                .price(new BigDecimal("8.99"))
+                .quantityPerUnit(1)
+                .dimensions(DimensionsDto.builder().length(new BigDecimal("96.00")).build())
+                .status("ACTIVE")
+                .tags(List.of("outdoor", "treated"))
+                .attributes(Map.of("grade", "#2"))
+                .createdAt(Instant.parse("2024-01-15T10:30:00.123456Z"))
+                .updatedAt(Instant.parse("2024-01-15T10:30:00Z"))
+                .version(3L)
+                .build();
+        when(typedQuery.getResultStream()).thenReturn(Stream.of(row(sku), row(sku)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        streamer.search(SkuSearchCriteria.builder().build(), PageRequest.of(2, 1, Sort.by("name")), out);
+
+        JsonNode page = objectMapper.readTree(out.toByteArray());
+        assertThat(page.get("items")).hasSize(1);
+        assertThat(page.get("items").get(0)).isEqualTo(objectMapper.readTree(objectMapper.writeValueAsString(sku)));
+        assertThat(page.get("page").asInt()).isEqualTo(2);
+        assertThat(page.get("numberOfElements").asInt()).isEqualTo(1);
+        assertThat(page.get("hasNext").asBoolean()).isTrue();
+        verify(typedQuery).setFirstResult(2);
+        verify(typedQuery).setMaxResults(2);
+    }
+
+    @Test
+    void search_LastPage_NoNext() throws Exception {
+        when(typedQuery.getResultStream()).thenReturn(Stream.<Object[]>of(new Object[22]));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        streamer.search(SkuSearchCriteria.builder().category("LBR").build(), PageRequest.of(0, 20), out);
+
+        JsonNode page = objectMapper.readTree(out.toByteArray());
+        assertThat(page.get("items").get(0).get("dimensions").isNull()).isTrue();
+        assertThat(page.get("numberOfElements").asInt()).isEqualTo(1);
+        assertThat(page.get("hasNext").asBoolean()).isFalse();
+    }
+
+    // Columns in the order SkuListStreamer selects them, dimensions expanded to its three parts
+    private static Object[] row(SkuResponse sku) {
+        return new Object[]{
+                sku.getId(), sku.getSkuCode(), sku.getUpc(), sku.getName(), sku.getDescription(), sku.getBrand(),
+                sku.getCategory(), sku.getSubcategory(), sku.getPrice(), sku.getCost(), sku.getUnitOfMeasure(),
+                sku.getQuantityPerUnit(), sku.getWeight(), sku.getDimensions().getLength(),
+                sku.getDimensions().getWidth(), sku.getDimensions().getHeight(), sku.getStatus(), sku.getTags(),
+                sku.getAttributes(), sku.getCreatedAt(), sku.getUpdatedAt(), sku.getVersion()};
+    }
+}
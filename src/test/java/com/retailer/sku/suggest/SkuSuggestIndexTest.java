@@ -0,0 +1,105 @@
+package com.retailer.sku.suggest;
+
+import com.retailer.sku.model.dto.SkuSuggestion;
+import com.retailer.sku.model.entity.Sku;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class SkuSuggestIndexTest {
+
+    @Test
+    void lookup_WordPrefix_MatchesNamesCodesAndBrandsIgnoringAsciiCase() {
+        SuggestIndex index = new SuggestIndex.Builder()
+                .addSku(UUID.randomUUID(), "Cordless Drill 20V", "THD-TOL-0000001", "DeWalt", 5)
+                .addSku(UUID.randomUUID(), "Drill Bit Set", "THD-TOL-0000002", "Bosch", 9)
+                .addSku(UUID.randomUUID(), "Hammer", "THD-HRD-0000003", "dewalt", 1)
+                .build();
+
+        assertThat(index.lookup("dri", 10, sku -> false))
+                .extracting(SuggestIndex.Hit::text)
+                .containsExactlyInAnyOrder("Cordless Drill 20V", "Drill Bit Set");
+        assertThat(index.lookup("DEW", 10, sku -> false))
+                .singleElement()
+                .satisfies(hit -> {
+                    assertThat(hit.kind()).isEqualTo(SuggestIndex.BRAND);
+                    assertThat(hit.weight()).isEqualTo(6);
+                });
+        assertThat(index.lookup("0000003", 10, sku -> false))
+                .extracting(SuggestIndex.Hit::skuCode)
+                .containsExactly("THD-HRD-0000003");
+        assertThat(index.lookup("drills", 10, sku -> false)).isEmpty();
+    }
+
+    @Test
+    void lookup_ManyMatches_ReturnsHeaviestWithoutDuplicates() {
+        SuggestIndex.Builder builder = new SuggestIndex.Builder();
+        IntStream.range(0, 5000).forEach(i ->
+                builder.addSku(UUID.randomUUID(), "Paint Roller " + i, "THD-PNT-" + i, null, i));
+        SuggestIndex index = builder.build();
+
+        List<SuggestIndex.Hit> hits = index.lookup("p", 5, sku -> false);
+
+        assertThat(hits).extracting(SuggestIndex.Hit::weight)
+                .containsExactlyInAnyOrder(4999L, 4998L, 4997L, 4996L, 4995L);
+    }
+
+    @Test
+    void suggest_CommittedWritesBeforeRebuild_ShadowIndexedVersion() {
+        SkuSuggestIndex suggestIndex = new SkuSuggestIndex(new SuggestProperties(), mock(JdbcTemplate.class),
+                mock(TransactionTemplate.class), new SimpleMeterRegistry());
+        Sku sku = Sku.builder()
+                .id(UUID.randomUUID())
+                .name("Garden Hose 50ft")
+                .skuCode("THD-GAR-0000001")
+                .brand("FlexiFlow")
+                .status("ACTIVE")
+                .build();
+
+        suggestIndex.update(sku);
+        List<SkuSuggestion> suggestions = suggestIndex.suggest("  hose ", null);
+
+        assertThat(suggestions).singleElement()
+                .satisfies(suggestion -> {
+                    assertThat(suggestion.getType()).isEqualTo(SkuSuggestion.NAME);
+                    assertThat(suggestion.getSkuCode()).isEqualTo("THD-GAR-0000001");
+                });
+        assertThat(suggestIndex.suggest("flexi", null)).extracting(SkuSuggestion::getType)
+                .containsExactly(SkuSuggestion.BRAND);
+
+        sku.setStatus("DISCONTINUED");
+        suggestIndex.update(sku);
+
+        assertThat(suggestIndex.suggest("hose", null)).isEmpty();
+    }
+
+    @Test
+    void suggest_PendingSkuRenamed_MatchesNewNameOnly() {
+        SkuSuggestIndex suggestIndex = new SkuSuggestIndex(new SuggestProperties(), mock(JdbcTemplate.class),
+                mock(TransactionTemplate.class), new SimpleMeterRegistry());
+        Sku sku = Sku.builder()
+                .id(UUID.randomUUID())
+                .name("Garden Hose 50ft")
+                .skuCode("THD-GAR-0000001")
+                .status("ACTIVE")
+                .build();
+        suggestIndex.update(sku);
+
+        sku.setName("Soaker Hose 50ft");
+        suggestIndex.update(sku);
+
+        assertThat(suggestIndex.suggest("gard", null)).isEmpty();
+        assertThat(suggestIndex.suggest("SOAKER h", null)).extracting(SkuSuggestion::getText)
+                .containsExactly("Soaker Hose 50ft");
+        assertThat(suggestIndex.suggest("hose 5", null)).extracting(SkuSuggestion::getText)
+                .containsExactly("Soaker Hose 50ft");
+    }
+}
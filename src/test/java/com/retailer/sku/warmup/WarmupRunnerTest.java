@@ -0,0 +1,92 @@
+package com.retailer.sku.warmup;
+
+import com.retailer.sku.limit.ConcurrencyLimitProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.client.RestClient;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WarmupRunnerTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private HikariDataSource pool;
+
+    @Mock
+    private HotKeyStore hotKeyStore;
+
+    private WarmupProperties properties;
+    private WarmupRunner warmupRunner;
+
+    @BeforeEach
+    void setUp() {
+        properties = new WarmupProperties();
+        warmupRunner = new WarmupRunner(properties, dataSource, hotKeyStore, RestClient.builder(),
+                new ConcurrencyLimitProperties());
+    }
+
+    @Test
+    void isReady_BeforeWarmupStarts_ReturnsFalse() {
+        assertThat(warmupRunner.isReady()).isFalse();
+        assertThat(warmupRunner.progress().phase()).isEqualTo(WarmupRunner.Phase.PENDING);
+    }
+
+    @Test
+    void run_WithoutWebServer_PreopensEveryPoolConnectionAndBecomesReady() throws Exception {
+        Connection connection = mock(Connection.class);
+        when(dataSource.isWrapperFor(any())).thenAnswer(invocation -> invocation.getArgument(0) == HikariDataSource.class);
+        when(dataSource.unwrap(HikariDataSource.class)).thenReturn(pool);
+        when(pool.getMaximumPoolSize()).thenReturn(3);
+        when(pool.getConnection()).thenReturn(connection);
+
+        warmupRunner.run(null);
+
+        WarmupRunner.Progress progress = warmupRunner.progress();
+        assertThat(progress.phase()).isEqualTo(WarmupRunner.Phase.COMPLETED);
+        assertThat(progress.ready()).isTrue();
+        assertThat(progress.connectionsOpened()).isEqualTo(3);
+        verify(connection, times(3)).close();
+    }
+
+    @Test
+    void run_BudgetAlreadySpent_StopsAndReportsBudgetExhausted() {
+        properties.setTimeBudget(Duration.ZERO);
+
+        warmupRunner.run(8080);
+
+        assertThat(warmupRunner.progress().phase()).isEqualTo(WarmupRunner.Phase.BUDGET_EXHAUSTED);
+        assertThat(warmupRunner.isReady()).isTrue();
+        verifyNoInteractions(hotKeyStore);
+    }
+
+    @Test
+    void hotKeyFilter_RecordsSuccessfulLookupsButNotWarmupTraffic() throws Exception {
+        HotKeyRecordingFilter filter = new HotKeyRecordingFilter(hotKeyStore, properties);
+        UUID id = UUID.randomUUID();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/skus/" + id),
+                new MockHttpServletResponse(), new MockFilterChain());
+        MockHttpServletRequest warmup = new MockHttpServletRequest("GET", "/api/v1/skus/" + id);
+        warmup.addHeader(HotKeyRecordingFilter.WARMUP_HEADER, "true");
+        filter.doFilter(warmup, new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(hotKeyStore, times(1)).record(id);
+    }
+}
@@ -0,0 +1,170 @@
+package com.retailer.sku.writebehind;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.retailer.sku.exception.SkuNotFoundException;
+import com.retailer.sku.model.dto.BulkSkuUpdateResult;
+import com.retailer.sku.model.dto.SkuUpdateRequest;
+import com.retailer.sku.service.SkuService;
+import com.retailer.sku.service.SkuWrittenEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+class WriteBehindBufferTest {
+
+    @TempDir
+    Path directory;
+
+    private final UUID skuId = UUID.randomUUID();
+    private WriteBehindProperties properties;
+    private SkuService skuService;
+    private WriteBehindBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new WriteBehindProperties();
+        properties.setDirectory(directory);
+        properties.setFlushInterval(Duration.ofHours(1));
+        skuService = mock(SkuService.class);
+        when(skuService.getSkuVersion(skuId)).thenReturn(3L);
+        buffer = start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        buffer.stop();
+    }
+
+    @Test
+    void submit_RepeatedPatches_MergedIntoOneUpdatePerSku() {
+        when(skuService.partialUpdateSkusChunk(anyMap(), anyMap())).thenReturn(List.of(updated(4L)));
+
+        assertThat(buffer.submit(skuId, SkuUpdateRequest.builder().price(new BigDecimal("9.99")).build())).isTrue();
+        assertThat(buffer.submit(skuId, SkuUpdateRequest.builder().status("SEASONAL").build())).isTrue();
+        assertThat(buffer.submit(skuId, SkuUpdateRequest.builder().price(new BigDecimal("8.49")).build())).isTrue();
+        buffer.flush();
+
+        SkuUpdateRequest applied = appliedPatches().get(skuId);
+        assertThat(applied.getPrice()).isEqualByComparingTo("8.49");
+        assertThat(applied.getStatus()).isEqualTo("SEASONAL");
+        assertThat(buffer.pendingCount()).isZero();
+    }
+
+    @Test
+    void submit_KeyOrUnlistedField_LeftForSynchronousUpdate() {
+        assertThat(buffer.submit(skuId, SkuUpdateRequest.builder().upc("012345678901").build())).isFalse();
+        assertThat(buffer.submit(skuId, SkuUpdateRequest.builder()
+                .price(new BigDecimal("9.99")).name("Renamed").build())).isFalse();
+        assertThat(buffer.pendingCount()).isZero();
+    }
+
+    @Test
+    void start_AfterCrash_ReplaysAcknowledgedPatches() {
+        buffer.submit(skuId, SkuUpdateRequest.builder().price(new BigDecimal("7.25")).build());
+        buffer.submit(skuId, SkuUpdateRequest.builder().attributes(Map.of("grade", "#1")).build());
+
+        // A second instance on the same directory sees only what the first one journaled
+        WriteBehindBuffer restarted = start();
+        when(skuService.partialUpdateSkusChunk(anyMap(), anyMap())).thenReturn(List.of(updated(4L)));
+        assertThat(restarted.pendingCount()).isEqualTo(1);
+        restarted.stop();
+
+        SkuUpdateRequest applied = appliedPatches().get(skuId);
+        assertThat(applied.getPrice()).isEqualByComparingTo("7.25");
+        assertThat(applied.getAttributes()).containsEntry("grade", "#1");
+    }
+
+    @Test
+    void flush_TransientFailure_KeepsPatchBehindNewerOnes() {
+        when(skuService.partialUpdateSkusChunk(anyMap(), anyMap()))
+                .thenThrow(new QueryTimeoutException("statement timeout"))
+                .thenReturn(List.of(updated(4L)));
+        buffer.submit(skuId, SkuUpdateRequest.builder().price(new BigDecimal("6.00")).cost(new BigDecimal("3.00")).build());
+
+        buffer.flush();
+        buffer.submit(skuId, SkuUpdateRequest.builder().price(new BigDecimal("6.50")).build());
+        assertThat(buffer.pendingCount()).isEqualTo(1);
+        buffer.flush();
+
+        SkuUpdateRequest applied = appliedPatches().get(skuId);
+        assertThat(applied.getPrice()).isEqualByComparingTo("6.50");
+        assertThat(applied.getCost()).isEqualByComparingTo("3.00");
+    }
+
+    @Test
+    void submit_UnknownSku_NotAcknowledged() {
+        UUID unknown = UUID.randomUUID();
+        when(skuService.getSkuVersion(unknown)).thenThrow(new SkuNotFoundException("SKU not found with id: " + unknown));
+
+        assertThatThrownBy(() -> buffer.submit(unknown, SkuUpdateRequest.builder().price(BigDecimal.ONE).build()))
+                .isInstanceOf(SkuNotFoundException.class);
+        assertThat(buffer.pendingCount()).isZero();
+    }
+
+    @Test
+    void onSkuWritten_SynchronousWrite_DropsWrittenFieldsAndRebasesTheRest() {
+        when(skuService.partialUpdateSkusChunk(anyMap(), anyMap())).thenReturn(List.of(updated(5L)));
+        buffer.submit(skuId, SkuUpdateRequest.builder().price(new BigDecimal("6.00")).status("SEASONAL").build());
+
+        buffer.onSkuWritten(new SkuWrittenEvent(skuId, 4L, SkuUpdateRequest.builder().price(new BigDecimal("7.00")).build()));
+        buffer.flush();
+
+        SkuUpdateRequest applied = appliedPatches().get(skuId);
+        assertThat(applied.getPrice()).isNull();
+        assertThat(applied.getStatus()).isEqualTo("SEASONAL");
+        assertThat(appliedVersions().get(skuId)).isEqualTo(4L);
+    }
+
+    @Test
+    void onSkuWritten_OtherWriteInBetween_DropsPatch() {
+        buffer.submit(skuId, SkuUpdateRequest.builder().status("SEASONAL").build());
+
+        // Version 5 means something else wrote version 4 after the patch was buffered at 3
+        buffer.onSkuWritten(new SkuWrittenEvent(skuId, 5L, SkuUpdateRequest.builder().name("Renamed").build()));
+        buffer.flush();
+
+        assertThat(buffer.pendingCount()).isZero();
+        verify(skuService, never()).partialUpdateSkusChunk(anyMap(), anyMap());
+    }
+
+    private WriteBehindBuffer start() {
+        WriteBehindBuffer started = new WriteBehindBuffer(properties, skuService, new ObjectMapper(),
+                new SimpleMeterRegistry());
+        started.start();
+        return started;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<UUID, SkuUpdateRequest> appliedPatches() {
+        ArgumentCaptor<Map<UUID, SkuUpdateRequest>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(skuService, atLeastOnce()).partialUpdateSkusChunk(captor.capture(), anyMap());
+        return captor.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<UUID, Long> appliedVersions() {
+        ArgumentCaptor<Map<UUID, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(skuService, atLeastOnce()).partialUpdateSkusChunk(anyMap(), captor.capture());
+        return captor.getValue();
+    }
+
+    private BulkSkuUpdateResult updated(long version) {
+        return BulkSkuUpdateResult.builder().id(skuId).version(version).outcome(BulkSkuUpdateResult.UPDATED).build();
+    }
+}